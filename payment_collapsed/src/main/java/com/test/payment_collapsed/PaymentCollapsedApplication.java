@@ -0,0 +1,70 @@
+package com.test.payment_collapsed;
+
+import com.example.regular_payment.RegularPaymentApplication;
+import com.test.payment_collapsed.configurations.InProcessPdsConfig;
+import com.test.payment_collapsed.configurations.PdsServicesInitializer;
+import com.test.payment_pbls.PaymentPblsApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PDS and PBLS in one JVM, for installations where the HTTP hop between them costs more than the work. Each runs in
+ * its own application context, with its own configuration file, environment prefix ({@code DAO_}, {@code PBLS_})
+ * and port, so neither sees the other's beans or endpoints. PBLS gets PDS's services and mappers as beans and calls
+ * them through in-process clients instead of {@code application.server.pds}.
+ *
+ * <p>Command line arguments prefixed with {@code --dao.} or {@code --pbls.} go to that context only, e.g.
+ * {@code --dao.spring.datasource.url=...}; the rest go to both.
+ */
+public class PaymentCollapsedApplication {
+
+    public static void main(String[] args) {
+
+        ConfigurableApplicationContext pds = new SpringApplicationBuilder(RegularPaymentApplication.class)
+                .properties("spring.config.name=payment_dao")
+                .environmentPrefix("dao")
+                .registerShutdownHook(false)
+                .run(args(args, "dao"));
+
+        ConfigurableApplicationContext pbls;
+
+        try {
+            pbls = new SpringApplicationBuilder(PaymentPblsApplication.class, InProcessPdsConfig.class)
+                    .properties("spring.config.name=payment_pbls")
+                    .profiles("collapsed")
+                    .environmentPrefix("pbls")
+                    .initializers(new PdsServicesInitializer(pds))
+                    .registerShutdownHook(false)
+                    .run(args(args, "pbls"));
+        } catch (RuntimeException e) {
+            pds.close();
+            throw e;
+        }
+
+        // PBLS stops taking requests before the PDS services it calls go away.
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            pbls.close();
+            pds.close();
+        }, "collapsed-shutdown"));
+    }
+
+    static String[] args(String[] args, String context) {
+
+        List<String> selected = new ArrayList<>();
+
+        for (String arg : args) {
+            String name = arg.replaceFirst("^--", "");
+
+            if (name.startsWith(context + ".")) {
+                selected.add("--" + name.substring(context.length() + 1));
+            } else if (!name.startsWith("dao.") && !name.startsWith("pbls.")) {
+                selected.add(arg);
+            }
+        }
+
+        return selected.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,83 @@
+package com.test.payment_collapsed.clients;
+
+import com.example.regular_payment.services.InstructionService;
+import com.example.regular_payment.utils.mappers.InstructionMapper;
+import com.test.payment_collapsed.mappers.WireMapper;
+import com.test.payment_pbls.clients.InstructionClient;
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionCreateDTO;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import com.test.payment_pbls.utils.singleflight.SingleFlight;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.test.payment_collapsed.clients.PdsCalls.call;
+
+/**
+ * {@link InstructionClient} that calls the PDS {@link InstructionService} in the same JVM, through the same mapper
+ * as {@code InstructionController} and without a JSON round trip. Failures surface as
+ * {@link CreationFailureException}, as they do from the HTTP client.
+ */
+@Component
+public class InProcessInstructionClient implements InstructionClient {
+
+    private final InstructionService instructionService;
+    private final InstructionMapper instructionMapper;
+    private final WireMapper wireMapper;
+    private final SingleFlight singleFlight;
+
+    @Autowired
+    public InProcessInstructionClient(InstructionService instructionService,
+                                      InstructionMapper instructionMapper,
+                                      WireMapper wireMapper,
+                                      SingleFlight singleFlight) {
+        this.instructionService = instructionService;
+        this.instructionMapper = instructionMapper;
+        this.wireMapper = wireMapper;
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public Instruction createInstruction(InstructionCreateDTO instructionCreateDTO) {
+        return call("Failed to save instruction in PDS.", () -> toPbls(
+                instructionService.saveInstruction(instructionMapper.toEntity(wireMapper.toPds(instructionCreateDTO)))));
+    }
+
+    @Override
+    public List<Instruction> createInstructionsBatch(List<InstructionCreateDTO> instructionCreateDTOs) {
+        return call("Failed to save instructions batch in PDS.", () -> toPbls(
+                instructionService.saveInstructionsBatch(instructionCreateDTOs.stream()
+                        .map(wireMapper::toPds)
+                        .map(instructionMapper::toEntity)
+                        .toList())));
+    }
+
+    @Override
+    public List<Instruction> getInstructionsForIin(String iin) {
+        return singleFlight.execute("instructions-by-iin", List.of(iin), () ->
+                call("Failed to search instruction in PDS.", () -> toPbls(instructionService.getInstructionsByIin(iin))));
+    }
+
+    @Override
+    public List<Instruction> getInstructionsForEdrpou(String edrpou) {
+        return singleFlight.execute("instructions-by-edrpou", List.of(edrpou), () ->
+                call("Failed to search instruction in PDS.", () -> toPbls(instructionService.getInstructionsByEdrpou(edrpou))));
+    }
+
+    @Override
+    public List<Instruction> getScheduledInstructions(int page, int size) {
+        return call("Failed to search instruction in PDS.", () ->
+                toPbls(instructionService.getScheduledInstructions(PageRequest.of(page, size)).getContent()));
+    }
+
+    private Instruction toPbls(com.example.regular_payment.models.Instruction instruction) {
+        return wireMapper.toPbls(instructionMapper.toDTO(instruction));
+    }
+
+    private List<Instruction> toPbls(List<com.example.regular_payment.models.Instruction> instructions) {
+        return instructions.stream().map(this::toPbls).toList();
+    }
+}
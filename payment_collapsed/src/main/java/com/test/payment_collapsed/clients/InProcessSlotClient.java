@@ -0,0 +1,29 @@
+package com.test.payment_collapsed.clients;
+
+import com.example.regular_payment.services.SlotService;
+import com.test.payment_pbls.clients.SlotClient;
+import com.test.payment_pbls.dtos.SlotAllocationDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static com.test.payment_collapsed.clients.PdsCalls.call;
+
+@Component
+public class InProcessSlotClient implements SlotClient {
+
+    private final SlotService slotService;
+
+    @Autowired
+    public InProcessSlotClient(SlotService slotService) {
+        this.slotService = slotService;
+    }
+
+    @Override
+    public List<OffsetDateTime> allocate(SlotAllocationDTO slotAllocationDTO) {
+        return call("Failed to allocate execution slots in PDS.", () ->
+                slotService.allocate(slotAllocationDTO.desired(), slotAllocationDTO.toleranceMinutes()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.test.payment_collapsed.clients;
+
+import com.example.regular_payment.services.TransactionService;
+import com.example.regular_payment.utils.mappers.TransactionMapper;
+import com.test.payment_collapsed.mappers.WireMapper;
+import com.test.payment_pbls.clients.TransactionClient;
+import com.test.payment_pbls.dtos.InstructionPaymentSummaryDTO;
+import com.test.payment_pbls.dtos.Transaction;
+import com.test.payment_pbls.dtos.TransactionDTO;
+import com.test.payment_pbls.utils.singleflight.SingleFlight;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.test.payment_collapsed.clients.PdsCalls.call;
+
+/**
+ * {@link TransactionClient} that calls the PDS {@link TransactionService} in the same JVM, like
+ * {@link InProcessInstructionClient}.
+ */
+@Component
+public class InProcessTransactionClient implements TransactionClient {
+
+    private final TransactionService transactionService;
+    private final TransactionMapper transactionMapper;
+    private final WireMapper wireMapper;
+    private final SingleFlight singleFlight;
+
+    @Autowired
+    public InProcessTransactionClient(TransactionService transactionService,
+                                      TransactionMapper transactionMapper,
+                                      WireMapper wireMapper,
+                                      SingleFlight singleFlight) {
+        this.transactionService = transactionService;
+        this.transactionMapper = transactionMapper;
+        this.wireMapper = wireMapper;
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public TransactionDTO createTransaction(Transaction transaction) {
+        return call("Failed to save transaction in PDS.", () -> toPbls(
+                transactionService.createTransaction(transactionMapper.toEntity(wireMapper.toPds(transaction)))));
+    }
+
+    @Override
+    public void revertTransaction(Long transactionId) {
+        call("Failed to revert transaction in PDS.", () -> {
+            transactionService.deleteTransaction(transactionId);
+            return null;
+        });
+    }
+
+    @Override
+    public List<TransactionDTO> getTransactionsByInstructionId(Long instructionId) {
+        return singleFlight.execute("transactions-by-instruction", List.of(instructionId), () ->
+                call("Failed to search transactions in PDS.", () ->
+                        transactionService.getTransactionsByInstruction(instructionId).stream().map(this::toPbls).toList()));
+    }
+
+    @Override
+    public InstructionPaymentSummaryDTO getPaymentSummary(Long instructionId) {
+        return singleFlight.execute("payment-summary", List.of(instructionId), () ->
+                call("Failed to search payment summary in PDS.", () ->
+                        wireMapper.toPbls(transactionMapper.toSummaryDTO(transactionService.getPaymentSummary(instructionId)))));
+    }
+
+    @Override
+    public List<TransactionDTO> createTransactionsBatch(List<Transaction> transactions) {
+        return call("Failed to save batch transactions in PDS.", () ->
+                transactionService.createTransactionsBatch(transactions.stream()
+                                .map(wireMapper::toPds)
+                                .map(transactionMapper::toEntity)
+                                .toList())
+                        .stream()
+                        .map(this::toPbls)
+                        .toList());
+    }
+
+    private TransactionDTO toPbls(com.example.regular_payment.models.Transaction transaction) {
+        return wireMapper.toPbls(transactionMapper.toDTO(transaction));
+    }
+}
@@ -0,0 +1,28 @@
+package com.test.payment_collapsed.clients;
+
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.Supplier;
+
+/**
+ * Turns a PDS failure into the {@link CreationFailureException} PBLS gets from its HTTP clients, where a 4xx or 5xx
+ * from PDS is a {@code RestClientException}. The cause is logged here, since the PBLS side only sees the message.
+ */
+@Slf4j
+final class PdsCalls {
+
+    private PdsCalls() {
+    }
+
+    static <T> T call(String message, Supplier<T> call) {
+        try {
+            return call.get();
+        } catch (CreationFailureException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.error(message, e);
+            throw new CreationFailureException(message);
+        }
+    }
+}
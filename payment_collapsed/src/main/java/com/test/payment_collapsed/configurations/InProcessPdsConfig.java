@@ -0,0 +1,15 @@
+package com.test.payment_collapsed.configurations;
+
+import com.test.payment_collapsed.clients.InProcessInstructionClient;
+import com.test.payment_collapsed.mappers.WireMapper;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * In-process clients for the PBLS context; its HTTP clients back off with
+ * {@code application.server.pds-transport=in-process} (payment_pbls-collapsed.properties).
+ */
+@Configuration
+@ComponentScan(basePackageClasses = {InProcessInstructionClient.class, WireMapper.class})
+public class InProcessPdsConfig {
+}
@@ -0,0 +1,35 @@
+package com.test.payment_collapsed.configurations;
+
+import com.example.regular_payment.services.InstructionService;
+import com.example.regular_payment.services.SlotService;
+import com.example.regular_payment.services.TransactionService;
+import com.example.regular_payment.utils.mappers.InstructionMapper;
+import com.example.regular_payment.utils.mappers.TransactionMapper;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Registers the PDS beans the in-process clients call in the PBLS context. They stay owned by the PDS context, which
+ * keeps their transactions, caches and repository observations; the PBLS context does not post-process or close them.
+ */
+public class PdsServicesInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    private final ConfigurableApplicationContext pds;
+
+    public PdsServicesInitializer(ConfigurableApplicationContext pds) {
+        this.pds = pds;
+    }
+
+    @Override
+    public void initialize(ConfigurableApplicationContext pbls) {
+
+        ConfigurableListableBeanFactory beanFactory = pbls.getBeanFactory();
+
+        beanFactory.registerSingleton("pdsInstructionService", pds.getBean(InstructionService.class));
+        beanFactory.registerSingleton("pdsTransactionService", pds.getBean(TransactionService.class));
+        beanFactory.registerSingleton("pdsSlotService", pds.getBean(SlotService.class));
+        beanFactory.registerSingleton("pdsInstructionMapper", pds.getBean(InstructionMapper.class));
+        beanFactory.registerSingleton("pdsTransactionMapper", pds.getBean(TransactionMapper.class));
+    }
+}
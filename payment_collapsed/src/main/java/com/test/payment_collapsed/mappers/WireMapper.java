@@ -0,0 +1,31 @@
+package com.test.payment_collapsed.mappers;
+
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionCreateDTO;
+import com.test.payment_pbls.dtos.InstructionPaymentSummaryDTO;
+import com.test.payment_pbls.dtos.Transaction;
+import com.test.payment_pbls.dtos.TransactionDTO;
+import com.test.payment_wire.InstructionDTO;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Converts between PBLS's and PDS's copies of the wire DTOs, field for field, so the in-process clients hand PDS
+ * what its controllers would have read from the request body and return what PBLS would have read from the response.
+ */
+@Mapper(componentModel = "spring")
+public interface WireMapper {
+
+    com.example.regular_payment.dtos.InstructionCreateDTO toPds(InstructionCreateDTO instructionCreateDTO);
+
+    Instruction toPbls(InstructionDTO instructionDTO);
+
+    com.example.regular_payment.dtos.TransactionCreateDTO toPds(Transaction transaction);
+
+    @Mapping(target = "transactions", ignore = true)
+    com.example.regular_payment.models.Instruction toPds(Instruction instruction);
+
+    TransactionDTO toPbls(com.example.regular_payment.dtos.TransactionDTO transactionDTO);
+
+    InstructionPaymentSummaryDTO toPbls(com.example.regular_payment.dtos.InstructionPaymentSummaryDTO summaryDTO);
+}
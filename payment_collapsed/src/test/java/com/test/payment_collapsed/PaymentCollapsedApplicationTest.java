@@ -0,0 +1,19 @@
+package com.test.payment_collapsed;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentCollapsedApplicationTest {
+
+    @Test
+    void args_shouldPassPrefixedArgumentsToTheirContextOnly() {
+
+        String[] args = {"--dao.server.port=9180", "--pbls.server.port=9181", "--management.tracing.sampling.probability=0.1"};
+
+        assertThat(PaymentCollapsedApplication.args(args, "dao"))
+                .containsExactly("--server.port=9180", "--management.tracing.sampling.probability=0.1");
+        assertThat(PaymentCollapsedApplication.args(args, "pbls"))
+                .containsExactly("--server.port=9181", "--management.tracing.sampling.probability=0.1");
+    }
+}
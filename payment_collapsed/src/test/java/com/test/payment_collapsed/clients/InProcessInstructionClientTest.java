@@ -0,0 +1,102 @@
+package com.test.payment_collapsed.clients;
+
+import com.example.regular_payment.services.InstructionService;
+import com.example.regular_payment.utils.mappers.InstructionMapperImpl;
+import com.test.payment_collapsed.mappers.WireMapperImpl;
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionCreateDTO;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import com.test.payment_pbls.utils.singleflight.SingleFlight;
+import com.test.payment_wire.InstructionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InProcessInstructionClientTest {
+
+    private static final OffsetDateTime NEXT = OffsetDateTime.parse("2025-12-01T10:00:00+02:00");
+
+    @Mock
+    private InstructionService instructionService;
+
+    private InProcessInstructionClient instructionClient;
+
+    @BeforeEach
+    void setUp() {
+        instructionClient = new InProcessInstructionClient(instructionService, new InstructionMapperImpl(),
+                new WireMapperImpl(), new SingleFlight(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void createInstruction_shouldSaveMappedEntityAndReturnPblsInstruction() {
+
+        when(instructionService.saveInstruction(any())).thenAnswer(invocation -> {
+            com.example.regular_payment.models.Instruction entity = invocation.getArgument(0);
+            entity.setId(100L);
+            return entity;
+        });
+
+        Instruction result = instructionClient.createInstruction(createDto());
+
+        ArgumentCaptor<com.example.regular_payment.models.Instruction> saved =
+                ArgumentCaptor.forClass(com.example.regular_payment.models.Instruction.class);
+        verify(instructionService).saveInstruction(saved.capture());
+
+        assertThat(saved.getValue().getPayerIin()).isEqualTo("1111111118");
+        assertThat(saved.getValue().getPeriodUnit()).isEqualTo(ChronoUnit.MONTHS);
+        assertThat(saved.getValue().getInstructionStatus())
+                .isEqualTo(InstructionStatus.ACTIVE);
+
+        assertThat(result.getId()).isEqualTo(100L);
+        assertThat(result.getAmount()).isEqualByComparingTo("100.50");
+        assertThat(result.getNextExecutionAt()).isEqualTo(NEXT);
+        assertThat(result.getInstructionStatus()).isEqualTo(InstructionStatus.ACTIVE);
+    }
+
+    @Test
+    void getScheduledInstructions_shouldReadRequestedPage() {
+
+        com.example.regular_payment.models.Instruction entity = new com.example.regular_payment.models.Instruction();
+        entity.setId(7L);
+
+        when(instructionService.getScheduledInstructions(PageRequest.of(2, 500)))
+                .thenReturn(new SliceImpl<>(List.of(entity), PageRequest.of(2, 500), false));
+
+        assertThat(instructionClient.getScheduledInstructions(2, 500)).extracting(Instruction::getId).containsExactly(7L);
+    }
+
+    @Test
+    void getInstructionsForIin_shouldThrowCreationFailure_WhenPdsFails() {
+
+        when(instructionService.getInstructionsByIin("1111111118")).thenThrow(new EntityNotFoundException("gone"));
+
+        assertThatThrownBy(() -> instructionClient.getInstructionsForIin("1111111118"))
+                .isInstanceOf(CreationFailureException.class)
+                .hasMessage("Failed to search instruction in PDS.");
+    }
+
+    private static InstructionCreateDTO createDto() {
+        return new InstructionCreateDTO("Taras", "Ivanko", "Tarasovich", "1111111118", "1234567812345678",
+                "UA123456789012345678901234567", "305299", "00000017", "Taras Ivanko", new BigDecimal("100.50"),
+                1, ChronoUnit.MONTHS, null, NEXT, InstructionStatus.ACTIVE);
+    }
+}
@@ -0,0 +1,91 @@
+package com.test.payment_collapsed.clients;
+
+import com.example.regular_payment.services.TransactionService;
+import com.example.regular_payment.utils.mappers.TransactionMapperImpl;
+import com.test.payment_collapsed.mappers.WireMapperImpl;
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.Transaction;
+import com.test.payment_pbls.dtos.TransactionDTO;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import com.test.payment_pbls.utils.singleflight.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InProcessTransactionClientTest {
+
+    private static final OffsetDateTime NOW = OffsetDateTime.parse("2025-12-01T10:00:00+02:00");
+
+    @Mock
+    private TransactionService transactionService;
+
+    private InProcessTransactionClient transactionClient;
+
+    @BeforeEach
+    void setUp() {
+        transactionClient = new InProcessTransactionClient(transactionService, new TransactionMapperImpl(),
+                new WireMapperImpl(), new SingleFlight(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void createTransactionsBatch_shouldPassAdvancedScheduleAndReturnSavedTransactions() {
+
+        Transaction transaction = transaction(42L);
+
+        when(transactionService.createTransactionsBatch(anyList())).thenAnswer(invocation -> {
+            List<com.example.regular_payment.models.Transaction> entities = invocation.getArgument(0);
+            assertThat(entities.getFirst().getInstruction().getNextExecutionAt()).isEqualTo(NOW.plusMonths(1));
+            entities.getFirst().setId(900L);
+            return entities;
+        });
+
+        List<TransactionDTO> result = transactionClient.createTransactionsBatch(List.of(transaction));
+
+        assertThat(result).singleElement().satisfies(saved -> {
+            assertThat(saved.id()).isEqualTo(900L);
+            assertThat(saved.instructionId()).isEqualTo(42L);
+            assertThat(saved.idempotencyId()).isEqualTo(transaction.getIdempotencyId());
+            assertThat(saved.transactionStatus()).isEqualTo("A");
+        });
+    }
+
+    @Test
+    void revertTransaction_shouldThrowCreationFailure_WhenPdsFails() {
+
+        doThrow(new IllegalStateException("boom")).when(transactionService).deleteTransaction(5L);
+
+        assertThatThrownBy(() -> transactionClient.revertTransaction(5L))
+                .isInstanceOf(CreationFailureException.class)
+                .hasMessage("Failed to revert transaction in PDS.");
+    }
+
+    private static Transaction transaction(Long instructionId) {
+        Instruction instruction = new Instruction();
+        instruction.setId(instructionId);
+        instruction.setLastExecutionAt(NOW);
+        instruction.setNextExecutionAt(NOW.plusMonths(1));
+
+        Transaction transaction = new Transaction();
+        transaction.setInstruction(instruction);
+        transaction.setIdempotencyId(UUID.randomUUID());
+        transaction.setAmount(new BigDecimal("100.50"));
+        transaction.setTransactionTime(NOW);
+        transaction.setTransactionStatus("A");
+        return transaction;
+    }
+}
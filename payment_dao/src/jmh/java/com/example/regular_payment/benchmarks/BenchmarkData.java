@@ -0,0 +1,72 @@
+package com.example.regular_payment.benchmarks;
+
+import com.example.regular_payment.models.Instruction;
+import com.example.regular_payment.models.Transaction;
+import com.test.payment_wire.InstructionStatus;
+import com.test.payment_wire.TransactionStatus;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Entities shaped like a page of the payment run: distinct ids, payers and amounts, one transaction each.
+ */
+final class BenchmarkData {
+
+    static final OffsetDateTime NOW = OffsetDateTime.of(2025, 11, 3, 9, 0, 0, 0, ZoneOffset.ofHours(2));
+
+    private BenchmarkData() {
+    }
+
+    static List<Instruction> instructions(int size) {
+
+        List<Instruction> instructions = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            Instruction instruction = new Instruction();
+            instruction.setId(1_000_000L + i);
+            instruction.setPayerFirstName("Тарас");
+            instruction.setPayerSecondName("Іванко");
+            instruction.setPayerPatronymic("Тарасович");
+            instruction.setPayerIin(String.valueOf(1_000_000_000L + i));
+            instruction.setPayerCardNumber(String.valueOf(4_000_000_000_000_000L + i));
+            instruction.setRecipientSettlementAccount("UA123456789012345678901234567");
+            instruction.setRecipientBankCode("305299");
+            instruction.setRecipientEdrpou("00000017");
+            instruction.setRecipientName("ТОВ Регулярні платежі");
+            instruction.setAmount(new BigDecimal("1250.75").add(BigDecimal.valueOf(i, 2)));
+            instruction.setPeriodValue(1);
+            instruction.setPeriodUnit(ChronoUnit.MONTHS);
+            instruction.setLastExecutionAt(NOW.minusMonths(1));
+            instruction.setNextExecutionAt(NOW);
+            instruction.setInstructionStatus(InstructionStatus.ACTIVE);
+            instructions.add(instruction);
+        }
+
+        return instructions;
+    }
+
+    static List<Transaction> transactions(List<Instruction> instructions) {
+
+        List<Transaction> transactions = new ArrayList<>(instructions.size());
+
+        for (Instruction instruction : instructions) {
+            Transaction transaction = new Transaction();
+            transaction.setId(instruction.getId() + 5_000_000L);
+            transaction.setInstruction(instruction);
+            transaction.setIdempotencyId(UUID.nameUUIDFromBytes((instruction.getId() + "/" + NOW.toInstant()).getBytes(StandardCharsets.UTF_8)));
+            transaction.setAmount(instruction.getAmount());
+            transaction.setTransactionTime(NOW);
+            transaction.setTransactionStatus(TransactionStatus.ACTIVE.getStatusCode());
+            transactions.add(transaction);
+        }
+
+        return transactions;
+    }
+}
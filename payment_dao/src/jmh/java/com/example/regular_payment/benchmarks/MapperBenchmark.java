@@ -0,0 +1,77 @@
+package com.example.regular_payment.benchmarks;
+
+import com.example.regular_payment.dtos.InstructionCreateDTO;
+import com.example.regular_payment.dtos.TransactionCreateDTO;
+import com.example.regular_payment.dtos.TransactionDTO;
+import com.example.regular_payment.models.Instruction;
+import com.example.regular_payment.models.Transaction;
+import com.example.regular_payment.utils.mappers.InstructionMapper;
+import com.example.regular_payment.utils.mappers.InstructionMapperImpl;
+import com.example.regular_payment.utils.mappers.TransactionMapper;
+import com.example.regular_payment.utils.mappers.TransactionMapperImpl;
+import com.test.payment_wire.InstructionDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * The MapStruct conversions of a batch, streamed the way the controllers do it: create DTOs to entities on the
+ * way in, entities to DTOs on the way out. The generated mappers have no dependencies, so they are instantiated
+ * directly instead of through Spring.
+ */
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"1000"})
+    public int size;
+
+    private final InstructionMapper instructionMapper = new InstructionMapperImpl();
+    private final TransactionMapper transactionMapper = new TransactionMapperImpl();
+
+    private List<Instruction> instructions;
+    private List<Transaction> transactions;
+    private List<InstructionCreateDTO> instructionCreateDTOs;
+    private List<TransactionCreateDTO> transactionCreateDTOs;
+
+    @Setup
+    public void setUp() {
+        instructions = BenchmarkData.instructions(size);
+        transactions = BenchmarkData.transactions(instructions);
+
+        instructionCreateDTOs = instructions.stream()
+                .map(i -> new InstructionCreateDTO(i.getPayerFirstName(), i.getPayerSecondName(), i.getPayerPatronymic(),
+                        i.getPayerIin(), i.getPayerCardNumber(), i.getRecipientSettlementAccount(), i.getRecipientBankCode(),
+                        i.getRecipientEdrpou(), i.getRecipientName(), i.getAmount(), i.getPeriodValue(), i.getPeriodUnit(),
+                        null, i.getNextExecutionAt(), i.getInstructionStatus()))
+                .toList();
+
+        transactionCreateDTOs = transactions.stream()
+                .map(t -> new TransactionCreateDTO(t.getInstruction(), t.getIdempotencyId(), t.getAmount(),
+                        t.getTransactionTime(), t.getTransactionStatus()))
+                .toList();
+    }
+
+    @Benchmark
+    public List<InstructionDTO> instructionsToDTO() {
+        return instructions.stream().map(instructionMapper::toDTO).toList();
+    }
+
+    @Benchmark
+    public List<Instruction> instructionsToEntity() {
+        return instructionCreateDTOs.stream().map(instructionMapper::toEntity).toList();
+    }
+
+    @Benchmark
+    public List<TransactionDTO> transactionsToDTO() {
+        return transactions.stream().map(transactionMapper::toDTO).toList();
+    }
+
+    @Benchmark
+    public List<Transaction> transactionsToEntity() {
+        return transactionCreateDTOs.stream().map(transactionMapper::toEntity).toList();
+    }
+}
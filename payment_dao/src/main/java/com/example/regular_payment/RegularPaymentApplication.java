@@ -1,10 +1,13 @@
 package com.example.regular_payment;
 
 
+import com.test.payment_wire.tracing.SpanLoggingConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
+@Import(SpanLoggingConfig.class)
 public class RegularPaymentApplication {
 
     static void main(String[] args) {
@@ -0,0 +1,64 @@
+package com.example.regular_payment.configurations;
+
+import com.example.regular_payment.utils.metrics.QueryMetricsListener;
+import com.example.regular_payment.utils.metrics.StatementCounter;
+import com.example.regular_payment.utils.metrics.StatementCountingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class DataSourceMetricsConfig {
+
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    public QueryMetricsListener queryMetricsListener(MeterRegistry meterRegistry,
+                                                     StatementCounter statementCounter,
+                                                     @Value("${application.datasource.slow-query-threshold:500ms}") Duration slowQueryThreshold) {
+        return new QueryMetricsListener(meterRegistry, statementCounter, slowQueryThreshold);
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementCountingFilter> statementCountingFilter(MeterRegistry meterRegistry,
+                                                                                   StatementCounter statementCounter,
+                                                                                   @Value("${application.datasource.statements-per-request-warn:100}") int warnThreshold) {
+
+        FilterRegistrationBean<StatementCountingFilter> registration =
+                new FilterRegistrationBean<>(new StatementCountingFilter(meterRegistry, statementCounter, warnThreshold));
+
+        registration.addUrlPatterns("/*");
+
+        return registration;
+    }
+
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<QueryMetricsListener> queryMetricsListener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(queryMetricsListener.getObject())
+                            .build();
+                }
+
+                return bean;
+            }
+        };
+    }
+}
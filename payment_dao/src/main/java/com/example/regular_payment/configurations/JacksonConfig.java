@@ -0,0 +1,36 @@
+package com.example.regular_payment.configurations;
+
+import com.example.regular_payment.dtos.InstructionCreateDTO;
+import com.example.regular_payment.dtos.TransactionCreateDTO;
+import com.example.regular_payment.dtos.TransactionDTO;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.test.payment_wire.WireJackson;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Blackbird for every PDS mapper, and the create and transaction batch types resolved before the first request.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return WireJackson.blackbird();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer wireTypesCustomizer() {
+
+        TypeFactory types = TypeFactory.defaultInstance();
+
+        return builder -> builder.postConfigurer(mapper -> WireJackson.preRegister(mapper,
+                types.constructCollectionType(List.class, InstructionCreateDTO.class),
+                types.constructCollectionType(List.class, TransactionCreateDTO.class),
+                types.constructCollectionType(List.class, TransactionDTO.class)));
+    }
+}
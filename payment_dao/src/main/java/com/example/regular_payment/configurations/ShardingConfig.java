@@ -0,0 +1,93 @@
+package com.example.regular_payment.configurations;
+
+import com.example.regular_payment.utils.sharding.ShardDataSources;
+import com.example.regular_payment.utils.sharding.ShardRoutingDataSource;
+import com.example.regular_payment.utils.sharding.ShardedSpringLiquibase;
+import com.test.payment_wire.aot.BuildTimeConditionCheck;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public static BuildTimeConditionCheck shardingBuildTimeCheck() {
+        return new BuildTimeConditionCheck("application.sharding.shards[0].url", null, "shardDataSources");
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "application.sharding.shards[0].url")
+    static class ShardedDataSourceConfig {
+
+        /**
+         * The shard pools are not beans, so Boot's pool metrics never see them; each one reports to the registry
+         * itself, as {@code hikaricp.connections.*} tagged {@code pool=shard-<n>}.
+         */
+        @Bean
+        public ShardDataSources shardDataSources(ShardingProperties shardingProperties, MeterRegistry meterRegistry) {
+
+            Map<Integer, DataSource> dataSources = new LinkedHashMap<>();
+
+            for (int index = 0; index < shardingProperties.getShards().size(); index++) {
+                ShardingProperties.Shard shard = shardingProperties.getShards().get(index);
+
+                HikariDataSource dataSource = DataSourceBuilder.create()
+                        .type(HikariDataSource.class)
+                        .url(shard.getUrl())
+                        .username(shard.getUsername())
+                        .password(shard.getPassword())
+                        .build();
+
+                dataSource.setPoolName("shard-" + index);
+                dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+                dataSource.addDataSourceProperty("reWriteBatchedInserts", true);
+                dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+                dataSources.put(index, dataSource);
+            }
+
+            return new ShardDataSources(dataSources);
+        }
+
+        @Bean
+        @Primary
+        public DataSource dataSource(ShardDataSources shardDataSources) {
+
+            ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+
+            routingDataSource.setTargetDataSources(new HashMap<>(shardDataSources.getDataSources()));
+            routingDataSource.setDefaultTargetDataSource(shardDataSources.getDataSources().get(0));
+            routingDataSource.afterPropertiesSet();
+
+            // The shard is chosen inside the service method, after the transaction has started,
+            // so the physical connection must not be fetched until the first statement.
+            return new LazyConnectionDataSourceProxy(routingDataSource);
+        }
+
+        @Bean
+        public ShardedSpringLiquibase liquibase(ShardDataSources shardDataSources,
+                                                @Value("${spring.liquibase.change-log}") String changeLog) {
+
+            ShardedSpringLiquibase liquibase = new ShardedSpringLiquibase(shardDataSources);
+
+            liquibase.setChangeLog(changeLog);
+
+            return liquibase;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.regular_payment.configurations;
+
+import com.example.regular_payment.utils.tracing.RepositoryObservationInterceptor;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Every call on a bean from the {@code repositories} package, Spring Data or JdbcTemplate based, gets its own span
+ * under the request that made it.
+ */
+@Configuration
+public class TracingConfig {
+
+    private static final String REPOSITORIES_PACKAGE = "com.example.regular_payment.repositories";
+
+    @Bean
+    public static BeanPostProcessor repositoryObservationPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+                String repository = repositoryName(bean);
+
+                if (repository == null) {
+                    return bean;
+                }
+
+                RepositoryObservationInterceptor interceptor =
+                        new RepositoryObservationInterceptor(observationRegistry.getObject(), repository);
+
+                if (bean instanceof Advised advised && !advised.isFrozen()) {
+                    advised.addAdvice(0, interceptor);
+                    return bean;
+                }
+
+                ProxyFactory proxyFactory = new ProxyFactory(bean);
+                proxyFactory.setProxyTargetClass(true);
+                proxyFactory.addAdvice(interceptor);
+
+                return proxyFactory.getProxy();
+            }
+        };
+    }
+
+    /**
+     * The simple name of the repository class, or of the repository interface a Spring Data proxy implements;
+     * {@code null} for anything else, including the repository factory beans.
+     */
+    static String repositoryName(Object bean) {
+
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+
+        if (REPOSITORIES_PACKAGE.equals(targetClass.getPackageName())) {
+            return targetClass.getSimpleName();
+        }
+
+        for (Class<?> type : ClassUtils.getAllInterfacesAsSet(bean)) {
+            if (REPOSITORIES_PACKAGE.equals(type.getPackageName())) {
+                return type.getSimpleName();
+            }
+        }
+
+        return null;
+    }
+}
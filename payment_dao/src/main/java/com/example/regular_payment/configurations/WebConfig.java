@@ -0,0 +1,36 @@
+package com.example.regular_payment.configurations;
+
+import com.test.payment_wire.http.GzipRequestFilter;
+import com.test.payment_wire.http.SmileConverters;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        // Takes the place of Spring's default Smile converter, behind JSON: Smile only when the caller asks for it.
+        return SmileConverters.create(objectMapperBuilder);
+    }
+
+    @Bean
+    public FilterRegistrationBean<GzipRequestFilter> gzipRequestFilter(
+            @Value("${application.compression.max-inflated-request-size:16MB}") DataSize maxInflatedRequestSize) {
+
+        FilterRegistrationBean<GzipRequestFilter> registration =
+                new FilterRegistrationBean<>(new GzipRequestFilter(maxInflatedRequestSize.toBytes()));
+
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+
+        return registration;
+    }
+}
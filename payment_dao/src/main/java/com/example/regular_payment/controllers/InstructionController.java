@@ -1,10 +1,10 @@
 package com.example.regular_payment.controllers;
 
 import com.example.regular_payment.dtos.InstructionCreateDTO;
-import com.example.regular_payment.dtos.InstructionDTO;
 import com.example.regular_payment.models.Instruction;
 import com.example.regular_payment.services.InstructionService;
 import com.example.regular_payment.utils.mappers.InstructionMapper;
+import com.test.payment_wire.InstructionDTO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -41,6 +41,18 @@ public class InstructionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<InstructionDTO>> createInstructionsBatch(@RequestBody List<InstructionCreateDTO> instructionCreateDTOs) {
+
+        List<Instruction> instructions = instructionCreateDTOs.stream().map(instructionMapper::toEntity).toList();
+
+        List<InstructionDTO> result = instructionService.saveInstructionsBatch(instructions).stream()
+                .map(instructionMapper::toDTO)
+                .toList();
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<InstructionDTO> updateInstruction(@PathVariable Long id, @RequestBody InstructionDTO instructionDTO) {
 
@@ -0,0 +1,60 @@
+package com.example.regular_payment.controllers;
+
+import com.example.regular_payment.services.ReportService;
+import com.example.regular_payment.utils.enums.ReportGranularity;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+
+@RestController
+@RequestMapping("/reports")
+public class ReportController {
+
+    private final ReportService reportService;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ReportController(ReportService reportService, ObjectMapper objectMapper) {
+        this.reportService = reportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/settlement/{edrpou}")
+    public ResponseEntity<StreamingResponseBody> getSettlementReport(
+            @PathVariable String edrpou,
+            @RequestParam(defaultValue = "DAY") ReportGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to
+    ) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Report window start must be before its end.");
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+
+                reportService.streamSettlementReport(edrpou, granularity, from, to, period -> {
+                    try {
+                        objectMapper.writeValue(generator, period);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                generator.writeEndArray();
+            }
+        };
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+}
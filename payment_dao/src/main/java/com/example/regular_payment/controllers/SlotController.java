@@ -0,0 +1,27 @@
+package com.example.regular_payment.controllers;
+
+import com.example.regular_payment.dtos.SlotAllocationDTO;
+import com.example.regular_payment.services.SlotService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/slots")
+public class SlotController {
+
+    private final SlotService slotService;
+
+    @Autowired
+    public SlotController(SlotService slotService) {
+        this.slotService = slotService;
+    }
+
+    @PostMapping("/allocate")
+    public ResponseEntity<List<OffsetDateTime>> allocate(@RequestBody SlotAllocationDTO slotAllocationDTO) {
+        return ResponseEntity.ok(slotService.allocate(slotAllocationDTO.desired(), slotAllocationDTO.toleranceMinutes()));
+    }
+}
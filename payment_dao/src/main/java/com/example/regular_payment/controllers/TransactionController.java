@@ -1,5 +1,6 @@
 package com.example.regular_payment.controllers;
 
+import com.example.regular_payment.dtos.InstructionPaymentSummaryDTO;
 import com.example.regular_payment.dtos.TransactionCreateDTO;
 import com.example.regular_payment.dtos.TransactionDTO;
 import com.example.regular_payment.models.Transaction;
@@ -75,6 +76,14 @@ public class TransactionController {
         return ResponseEntity.status(HttpStatus.OK).body(result);
     }
 
+    @GetMapping("/instruction/{instructionId}/summary")
+    public ResponseEntity<InstructionPaymentSummaryDTO> getPaymentSummary(@PathVariable Long instructionId) {
+
+        InstructionPaymentSummaryDTO result = transactionMapper.toSummaryDTO(transactionService.getPaymentSummary(instructionId));
+
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
     @PostMapping("/batch")
     public ResponseEntity<List<TransactionDTO>> createTransactionsBatch(@RequestBody List<TransactionCreateDTO> batchDtos) {
 
@@ -1,6 +1,7 @@
 package com.example.regular_payment.dtos;
 
-import com.example.regular_payment.utils.enums.InstructionStatus;
+import com.test.payment_wire.InstructionStatus;
+
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
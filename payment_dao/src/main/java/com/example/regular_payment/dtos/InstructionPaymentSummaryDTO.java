@@ -0,0 +1,14 @@
+package com.example.regular_payment.dtos;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+public record InstructionPaymentSummaryDTO(
+        Long instructionId,
+        long paymentCount,
+        BigDecimal totalAmount,
+        long reversedCount,
+        BigDecimal reversedAmount,
+        OffsetDateTime lastTransactionAt
+) {
+}
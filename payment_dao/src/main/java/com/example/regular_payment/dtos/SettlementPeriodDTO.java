@@ -0,0 +1,13 @@
+package com.example.regular_payment.dtos;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+public record SettlementPeriodDTO(
+        OffsetDateTime periodStart,
+        long paymentCount,
+        BigDecimal totalAmount,
+        long reversedCount,
+        BigDecimal reversedAmount
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.regular_payment.dtos;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public record SlotAllocationDTO(
+        List<OffsetDateTime> desired,
+        int toleranceMinutes
+) {
+}
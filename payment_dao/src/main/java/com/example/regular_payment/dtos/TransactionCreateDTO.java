@@ -4,10 +4,11 @@ import com.example.regular_payment.models.Instruction;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.UUID;
 
 public record TransactionCreateDTO(
         Instruction instruction,
-        String idempotencyId,
+        UUID idempotencyId,
         BigDecimal amount,
         OffsetDateTime transactionTime,
         String transactionStatus
@@ -1,6 +1,6 @@
 package com.example.regular_payment.models;
 
-import com.example.regular_payment.utils.enums.InstructionStatus;
+import com.test.payment_wire.InstructionStatus;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -0,0 +1,38 @@
+package com.example.regular_payment.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+@Entity
+@Getter
+@Setter
+@Table(name = "instruction_payment_summary")
+public class InstructionPaymentSummary {
+
+    @Id
+    @Column(name = "instruction_id")
+    private Long instructionId;
+
+    @Column(name = "payment_count")
+    private long paymentCount;
+
+    @Column(name = "total_amount")
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(name = "reversed_count")
+    private long reversedCount;
+
+    @Column(name = "reversed_amount")
+    private BigDecimal reversedAmount = BigDecimal.ZERO;
+
+    @Column(name = "last_transaction_at")
+    private OffsetDateTime lastTransactionAt;
+
+}
@@ -1,13 +1,14 @@
 package com.example.regular_payment.models;
 
-import com.example.regular_payment.utils.enums.TransactionStatus;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.test.payment_wire.TransactionStatus;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.UUID;
 
 @Setter
 @Getter
@@ -23,7 +24,7 @@ public class Transaction {
     @JoinColumn(name = "instruction_id")
     private Instruction instruction;
 
-    private String idempotencyId;
+    private UUID idempotencyId;
 
     private BigDecimal amount;
 
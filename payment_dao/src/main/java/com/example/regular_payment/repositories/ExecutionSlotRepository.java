@@ -0,0 +1,86 @@
+package com.example.regular_payment.repositories;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.SortedMap;
+
+/**
+ * Per-minute counters of how many instructions are due in that minute. Slots are addressed by epoch minute;
+ * a range is read as a dense {@code int[]} starting at {@code fromMinute}.
+ */
+@Repository
+public class ExecutionSlotRepository {
+
+    private static final String READ_RANGE_QUERY = """
+            SELECT slot_minute, occupancy FROM execution_slot
+            WHERE slot_minute BETWEEN :from AND :to
+            """;
+
+    private static final String ADJUST_QUERY = """
+            INSERT INTO execution_slot (slot_minute, occupancy) VALUES (:slot, GREATEST(:delta, 0))
+            ON CONFLICT (slot_minute) DO UPDATE SET occupancy = GREATEST(execution_slot.occupancy + :delta, 0)
+            """;
+
+    private static final String DELETE_BEFORE_QUERY = """
+            DELETE FROM execution_slot WHERE slot_minute < :before
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ExecutionSlotRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Occupancy of every minute of the range; minutes without a row count as empty.
+     */
+    public int[] readRange(long fromMinute, long toMinute) {
+
+        int[] occupancy = new int[Math.toIntExact(toMinute - fromMinute + 1)];
+
+        MapSqlParameterSource range = new MapSqlParameterSource()
+                .addValue("from", toTime(fromMinute))
+                .addValue("to", toTime(toMinute));
+
+        jdbcTemplate.query(READ_RANGE_QUERY, range, (RowCallbackHandler) row -> {
+            long minute = Math.floorDiv(row.getObject("slot_minute", OffsetDateTime.class).toEpochSecond(), 60);
+            occupancy[Math.toIntExact(minute - fromMinute)] = row.getInt("occupancy");
+        });
+
+        return occupancy;
+    }
+
+    /**
+     * Adds a delta to each slot, creating missing ones and never going below zero. Slots are written in minute
+     * order, so concurrent adjustments cannot deadlock.
+     */
+    public void adjust(SortedMap<Long, Integer> deltas) {
+
+        SqlParameterSource[] updates = deltas.entrySet().stream()
+                .map(delta -> new MapSqlParameterSource()
+                        .addValue("slot", toTime(delta.getKey()))
+                        .addValue("delta", delta.getValue()))
+                .toArray(SqlParameterSource[]::new);
+
+        if (updates.length > 0) {
+            jdbcTemplate.batchUpdate(ADJUST_QUERY, updates);
+        }
+    }
+
+    public int deleteBefore(OffsetDateTime before) {
+        return jdbcTemplate.update(DELETE_BEFORE_QUERY, new MapSqlParameterSource("before", before));
+    }
+
+    private static OffsetDateTime toTime(long epochMinute) {
+        return Instant.ofEpochSecond(epochMinute * 60).atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.regular_payment.repositories;
+
+import com.example.regular_payment.models.Instruction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JDBC batch insert for instructions. {@code payment_instruction.id} is an identity column, which stops
+ * Hibernate from batching inserts, so ids are reserved from the column's sequence in one round trip first.
+ */
+@Repository
+public class InstructionBatchRepository {
+
+    private static final String RESERVE_IDS_QUERY = """
+            SELECT nextval(pg_get_serial_sequence('payment_instruction', 'id'))
+            FROM generate_series(1, :count)
+            """;
+
+    private static final String INSERT_QUERY = """
+            INSERT INTO payment_instruction
+                (id, payer_first_name, payer_second_name, payer_patronymic, payer_iin, payer_card_number,
+                 recipient_settlement_account, recipient_bank_code, recipient_edrpou, recipient_name,
+                 amount, period_value, period_unit, instruction_status, last_execution_at, next_execution_at)
+            VALUES
+                (:id, :payerFirstName, :payerSecondName, :payerPatronymic, :payerIin, :payerCardNumber,
+                 :recipientSettlementAccount, :recipientBankCode, :recipientEdrpou, :recipientName,
+                 :amount, :periodValue, :periodUnit, :instructionStatus, :lastExecutionAt, :nextExecutionAt)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public InstructionBatchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<Instruction> insertAll(List<Instruction> instructions) {
+
+        if (instructions.isEmpty()) {
+            return instructions;
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList(RESERVE_IDS_QUERY,
+                new MapSqlParameterSource("count", instructions.size()), Long.class);
+
+        SqlParameterSource[] batch = new SqlParameterSource[instructions.size()];
+
+        for (int i = 0; i < instructions.size(); i++) {
+            Instruction instruction = instructions.get(i);
+            instruction.setId(ids.get(i));
+            batch[i] = toParameters(instruction);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_QUERY, batch);
+
+        return instructions;
+    }
+
+    private SqlParameterSource toParameters(Instruction instruction) {
+        return new MapSqlParameterSource()
+                .addValue("id", instruction.getId())
+                .addValue("payerFirstName", instruction.getPayerFirstName())
+                .addValue("payerSecondName", instruction.getPayerSecondName())
+                .addValue("payerPatronymic", instruction.getPayerPatronymic())
+                .addValue("payerIin", instruction.getPayerIin())
+                .addValue("payerCardNumber", instruction.getPayerCardNumber())
+                .addValue("recipientSettlementAccount", instruction.getRecipientSettlementAccount())
+                .addValue("recipientBankCode", instruction.getRecipientBankCode())
+                .addValue("recipientEdrpou", instruction.getRecipientEdrpou())
+                .addValue("recipientName", instruction.getRecipientName())
+                .addValue("amount", instruction.getAmount())
+                .addValue("periodValue", instruction.getPeriodValue())
+                .addValue("periodUnit", instruction.getPeriodUnit() == null ? null : instruction.getPeriodUnit().name())
+                .addValue("instructionStatus", instruction.getInstructionStatus() == null ? null : instruction.getInstructionStatus().name())
+                .addValue("lastExecutionAt", instruction.getLastExecutionAt())
+                .addValue("nextExecutionAt", instruction.getNextExecutionAt());
+    }
+}
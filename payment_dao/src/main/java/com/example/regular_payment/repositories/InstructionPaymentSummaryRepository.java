@@ -0,0 +1,33 @@
+package com.example.regular_payment.repositories;
+
+import com.example.regular_payment.models.InstructionPaymentSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+public interface InstructionPaymentSummaryRepository extends JpaRepository<InstructionPaymentSummary, Long> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO instruction_payment_summary AS s
+                (instruction_id, payment_count, total_amount, reversed_count, reversed_amount, last_transaction_at)
+            VALUES (:instructionId, :paymentCount, :totalAmount, :reversedCount, :reversedAmount,
+                    CAST(:lastTransactionAt AS TIMESTAMP WITH TIME ZONE))
+            ON CONFLICT (instruction_id) DO UPDATE SET
+                payment_count = s.payment_count + EXCLUDED.payment_count,
+                total_amount = s.total_amount + EXCLUDED.total_amount,
+                reversed_count = s.reversed_count + EXCLUDED.reversed_count,
+                reversed_amount = s.reversed_amount + EXCLUDED.reversed_amount,
+                last_transaction_at = GREATEST(s.last_transaction_at, EXCLUDED.last_transaction_at)
+            """, nativeQuery = true)
+    void accumulate(@Param("instructionId") Long instructionId,
+                    @Param("paymentCount") long paymentCount,
+                    @Param("totalAmount") BigDecimal totalAmount,
+                    @Param("reversedCount") long reversedCount,
+                    @Param("reversedAmount") BigDecimal reversedAmount,
+                    @Param("lastTransactionAt") OffsetDateTime lastTransactionAt);
+}
@@ -1,7 +1,7 @@
 package com.example.regular_payment.repositories;
 
 import com.example.regular_payment.models.Instruction;
-import com.example.regular_payment.utils.enums.InstructionStatus;
+import com.test.payment_wire.InstructionStatus;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
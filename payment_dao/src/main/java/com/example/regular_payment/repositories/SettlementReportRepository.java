@@ -0,0 +1,76 @@
+package com.example.regular_payment.repositories;
+
+import com.example.regular_payment.dtos.SettlementPeriodDTO;
+import com.example.regular_payment.utils.enums.ReportGranularity;
+import com.test.payment_wire.TransactionStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Repository
+public class SettlementReportRepository {
+
+    private static final String SETTLEMENT_QUERY = """
+            SELECT date_trunc(:unit, t.transaction_time, :zone) AS period_start,
+                   count(*) FILTER (WHERE t.transaction_status = :active) AS payment_count,
+                   coalesce(sum(t.amount) FILTER (WHERE t.transaction_status = :active), 0) AS total_amount,
+                   count(*) FILTER (WHERE t.transaction_status = :reversed) AS reversed_count,
+                   coalesce(sum(t.amount) FILTER (WHERE t.transaction_status = :reversed), 0) AS reversed_amount
+            FROM payment_instruction i
+            JOIN payment_transactions t ON t.instruction_id = i.id
+            WHERE i.recipient_edrpou = :edrpou
+              AND t.transaction_time >= :from
+              AND t.transaction_time < :to
+            GROUP BY 1
+            ORDER BY 1
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public SettlementReportRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<SettlementPeriodDTO> findPeriods(String edrpou, ReportGranularity granularity, ZoneId zoneId,
+                                                 OffsetDateTime from, OffsetDateTime to) {
+        List<SettlementPeriodDTO> periods = new ArrayList<>();
+        streamPeriods(edrpou, granularity, zoneId, from, to, periods::add);
+        return periods;
+    }
+
+    public void streamPeriods(String edrpou, ReportGranularity granularity, ZoneId zoneId,
+                              OffsetDateTime from, OffsetDateTime to, Consumer<SettlementPeriodDTO> consumer) {
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("unit", granularity.getTruncUnit())
+                .addValue("zone", zoneId.getId())
+                .addValue("active", TransactionStatus.ACTIVE.getStatusCode())
+                .addValue("reversed", TransactionStatus.REVERSED.getStatusCode())
+                .addValue("edrpou", edrpou)
+                .addValue("from", from)
+                .addValue("to", to);
+
+        jdbcTemplate.query(SETTLEMENT_QUERY, params, (RowCallbackHandler) rs -> consumer.accept(mapRow(rs)));
+    }
+
+    private SettlementPeriodDTO mapRow(ResultSet rs) throws SQLException {
+        return new SettlementPeriodDTO(
+                rs.getObject("period_start", OffsetDateTime.class),
+                rs.getLong("payment_count"),
+                rs.getBigDecimal("total_amount"),
+                rs.getLong("reversed_count"),
+                rs.getBigDecimal("reversed_amount")
+        );
+    }
+}
@@ -1,11 +1,63 @@
 package com.example.regular_payment.repositories;
 
 import com.example.regular_payment.models.Transaction;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
     List<Transaction> getTransactionsByInstruction_Id(Long instructionId);
+
+    Optional<Transaction> findByIdempotencyId(UUID idempotencyId);
+
+    /**
+     * {@code SELECT ... FOR UPDATE}: writers that derive summary deltas from the current status hold the row until
+     * they commit, so two reversals of the same transaction cannot both see it as active.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Transaction t WHERE t.id = :id")
+    Optional<Transaction> findByIdForUpdate(@Param("id") Long id);
+
+    List<Transaction> findAllByIdempotencyIdIn(Collection<UUID> idempotencyIds);
+
+    @Query("""
+            SELECT t FROM Transaction t JOIN FETCH t.instruction i
+            WHERE t.transactionTime < :horizon
+            ORDER BY i.id, t.id
+            """)
+    List<Transaction> findArchiveCandidates(@Param("horizon") OffsetDateTime horizon, Pageable pageable);
+
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryTransactionAdvisoryLock(@Param("key") long key);
+
+    /**
+     * Puts an archived row back into the hot table under its original id. A concurrent writer may have restored it
+     * first; the row is then left as it is and the caller reads it back with {@link #findByIdForUpdate}.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO payment_transactions
+                (id, instruction_id, idempotency_id, amount, transaction_status, transaction_time)
+            VALUES (:id, :instructionId, :idempotencyId, :amount, :transactionStatus,
+                    CAST(:transactionTime AS TIMESTAMP WITH TIME ZONE))
+            ON CONFLICT (id) DO NOTHING
+            """, nativeQuery = true)
+    void restore(@Param("id") Long id,
+                 @Param("instructionId") Long instructionId,
+                 @Param("idempotencyId") UUID idempotencyId,
+                 @Param("amount") BigDecimal amount,
+                 @Param("transactionStatus") String transactionStatus,
+                 @Param("transactionTime") OffsetDateTime transactionTime);
 }
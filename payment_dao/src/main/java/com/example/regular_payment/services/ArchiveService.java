@@ -0,0 +1,6 @@
+package com.example.regular_payment.services;
+
+public interface ArchiveService {
+
+    int archiveOldTransactions();
+}
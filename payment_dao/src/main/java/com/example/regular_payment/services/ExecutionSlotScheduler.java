@@ -0,0 +1,31 @@
+package com.example.regular_payment.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+
+@Slf4j
+@Service
+public class ExecutionSlotScheduler {
+
+    private final SlotService slotService;
+    private final Clock clock;
+
+    @Autowired
+    public ExecutionSlotScheduler(SlotService slotService, Clock clock) {
+        this.slotService = slotService;
+        this.clock = clock;
+    }
+
+    @Scheduled(cron = "${application.slots.prune-cron:0 15 3 * * *}")
+    public void pruneElapsedSlots() {
+
+        int deleted = slotService.pruneBefore(OffsetDateTime.now(clock).minusDays(1));
+
+        log.info("Pruned {} elapsed execution slots.", deleted);
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.regular_payment.services;
 
-import com.example.regular_payment.dtos.InstructionDTO;
 import com.example.regular_payment.models.Instruction;
+import com.test.payment_wire.InstructionDTO;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
@@ -12,6 +12,7 @@ import java.util.Map;
 public interface InstructionService {
 
     Instruction saveInstruction(Instruction instruction);
+    List<Instruction> saveInstructionsBatch(List<Instruction> instructions);
 
     Instruction updateInstruction(Long id, InstructionDTO instructionDTO);
 
@@ -0,0 +1,16 @@
+package com.example.regular_payment.services;
+
+import com.example.regular_payment.dtos.SettlementPeriodDTO;
+import com.example.regular_payment.utils.enums.ReportGranularity;
+
+import java.time.OffsetDateTime;
+import java.util.function.Consumer;
+
+public interface ReportService {
+
+    void streamSettlementReport(String edrpou, ReportGranularity granularity,
+                                OffsetDateTime from, OffsetDateTime to,
+                                Consumer<SettlementPeriodDTO> consumer);
+
+    void evictClosedPeriods(String edrpou, OffsetDateTime transactionTime);
+}
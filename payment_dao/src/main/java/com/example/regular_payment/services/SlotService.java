@@ -0,0 +1,13 @@
+package com.example.regular_payment.services;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface SlotService {
+
+    List<OffsetDateTime> allocate(List<OffsetDateTime> desired, int toleranceMinutes);
+
+    void track(List<OffsetDateTime> released, List<OffsetDateTime> occupied);
+
+    int pruneBefore(OffsetDateTime before);
+}
@@ -0,0 +1,39 @@
+package com.example.regular_payment.services;
+
+import com.example.regular_payment.utils.sharding.ShardTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class TransactionArchiveScheduler {
+
+    private final ArchiveService archiveService;
+    private final ShardTemplate shardTemplate;
+
+    @Autowired
+    public TransactionArchiveScheduler(ArchiveService archiveService, ShardTemplate shardTemplate) {
+        this.archiveService = archiveService;
+        this.shardTemplate = shardTemplate;
+    }
+
+    @Scheduled(cron = "${application.archive.cron:-}")
+    public void runArchiveProcess() {
+
+        log.info("Starting the transaction archive process...");
+
+        int total = 0;
+        int archived;
+
+        for (int shard : shardTemplate.allShards()) {
+            do {
+                archived = shardTemplate.execute(shard, archiveService::archiveOldTransactions);
+                total += archived;
+            } while (archived > 0);
+        }
+
+        log.info("The transaction archive process is complete, {} transactions archived.", total);
+    }
+}
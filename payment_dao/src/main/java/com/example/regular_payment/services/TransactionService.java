@@ -1,5 +1,6 @@
 package com.example.regular_payment.services;
 
+import com.example.regular_payment.models.InstructionPaymentSummary;
 import com.example.regular_payment.models.Transaction;
 
 import java.util.List;
@@ -17,4 +18,6 @@ public interface TransactionService {
     Transaction getTransaction(Long id);
 
     List<Transaction> getTransactionsByInstruction(Long instructionId);
+
+    InstructionPaymentSummary getPaymentSummary(Long instructionId);
 }
@@ -0,0 +1,77 @@
+package com.example.regular_payment.services.impl;
+
+import com.example.regular_payment.models.Transaction;
+import com.example.regular_payment.repositories.TransactionRepository;
+import com.example.regular_payment.services.ArchiveService;
+import com.example.regular_payment.utils.archive.TransactionArchive;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+public class ArchiveServiceImpl implements ArchiveService {
+
+    private static final long ARCHIVE_LOCK_KEY = 0x50545853L;
+
+    private final Clock clock;
+    private final TransactionRepository transactionRepository;
+    private final TransactionArchive transactionArchive;
+    private final Duration retention;
+    private final int batchSize;
+
+    @Autowired
+    public ArchiveServiceImpl(Clock clock,
+                              TransactionRepository transactionRepository,
+                              TransactionArchive transactionArchive,
+                              @Value("${application.archive.retention:400d}") Duration retention,
+                              @Value("${application.archive.batch-size:5000}") int batchSize) {
+        this.clock = clock;
+        this.transactionRepository = transactionRepository;
+        this.transactionArchive = transactionArchive;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public int archiveOldTransactions() {
+
+        if (!transactionRepository.tryTransactionAdvisoryLock(ARCHIVE_LOCK_KEY)) {
+            log.info("Transaction archiving is already running on another instance.");
+            return 0;
+        }
+
+        OffsetDateTime horizon = OffsetDateTime.now(clock).minus(retention);
+
+        List<Transaction> batch = transactionRepository.findArchiveCandidates(horizon, PageRequest.of(0, batchSize));
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // The segment is durable on disk before the rows are deleted; if the delete is rolled back
+        // the rows exist in both places and history reads prefer the hot copy.
+        try {
+            transactionArchive.append(batch);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write transaction archive segment", e);
+        }
+
+        transactionRepository.deleteAllByIdInBatch(batch.stream().map(Transaction::getId).toList());
+
+        log.info("Moved {} transactions older than {} to the archive.", batch.size(), horizon);
+
+        return batch.size();
+    }
+}
@@ -1,21 +1,29 @@
 package com.example.regular_payment.services.impl;
 
-import com.example.regular_payment.dtos.InstructionDTO;
 import com.example.regular_payment.models.Instruction;
+import com.example.regular_payment.repositories.InstructionBatchRepository;
 import com.example.regular_payment.repositories.InstructionRepository;
 import com.example.regular_payment.services.InstructionService;
-import com.example.regular_payment.utils.enums.InstructionStatus;
+import com.example.regular_payment.services.SlotService;
+import com.example.regular_payment.utils.changefeed.ChangeEvents;
+import com.example.regular_payment.utils.changefeed.ChangeFeedPublisher;
 import com.example.regular_payment.utils.exceptions.InstructionNotFoundException;
 
 import com.example.regular_payment.utils.mappers.InstructionMapper;
+import com.example.regular_payment.utils.sharding.ShardTemplate;
+import com.test.payment_wire.InstructionDTO;
+import com.test.payment_wire.InstructionStatus;
+import com.test.payment_wire.changefeed.ChangeType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -28,30 +36,103 @@ public class InstructionServiceImpl implements InstructionService {
     private final Clock clock;
     private final InstructionMapper instructionMapper;
     private final InstructionRepository instructionRepository;
+    private final InstructionBatchRepository instructionBatchRepository;
+    private final ShardTemplate shardTemplate;
+    private final ChangeFeedPublisher changeFeedPublisher;
+    private final SlotService slotService;
 
     @Autowired
     public InstructionServiceImpl(Clock clock,
                                   InstructionMapper instructionMapper,
-                                  InstructionRepository instructionRepository) {
+                                  InstructionRepository instructionRepository,
+                                  InstructionBatchRepository instructionBatchRepository,
+                                  ShardTemplate shardTemplate,
+                                  ChangeFeedPublisher changeFeedPublisher,
+                                  SlotService slotService) {
         this.clock = clock;
         this.instructionMapper = instructionMapper;
         this.instructionRepository = instructionRepository;
+        this.instructionBatchRepository = instructionBatchRepository;
+        this.shardTemplate = shardTemplate;
+        this.changeFeedPublisher = changeFeedPublisher;
+        this.slotService = slotService;
     }
 
     @Override
     @Transactional
     public Instruction saveInstruction(Instruction instruction) {
-        return instructionRepository.save(instruction);
+
+        shardTemplate.bind(shardTemplate.shardForIin(instruction.getPayerIin()));
+
+        Instruction savedInstruction = instructionRepository.save(instruction);
+
+        slotService.track(List.of(), Collections.singletonList(scheduledSlot(savedInstruction)));
+
+        changeFeedPublisher.publish(ChangeEvents.of(ChangeType.INSTRUCTION_CREATED, savedInstruction));
+
+        return savedInstruction;
+    }
+
+    @Override
+    @Transactional
+    public List<Instruction> saveInstructionsBatch(List<Instruction> instructions) {
+
+        if (instructions.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Integer, List<Instruction>> byShard = instructions.stream()
+                .collect(Collectors.groupingBy(instruction -> shardTemplate.shardForIin(instruction.getPayerIin())));
+
+        if (byShard.size() == 1) {
+            shardTemplate.bind(byShard.keySet().iterator().next());
+            return insertAndPublish(instructions);
+        }
+
+        // Ids are assigned in place, so the input list keeps the caller's order.
+        shardTemplate.scatter(byShard.keySet(), false, shard -> insertAndPublish(byShard.get(shard)));
+
+        return instructions;
+    }
+
+    private List<Instruction> insertAndPublish(List<Instruction> instructions) {
+
+        List<Instruction> inserted = instructionBatchRepository.insertAll(instructions);
+
+        slotService.track(List.of(), inserted.stream().map(InstructionServiceImpl::scheduledSlot).toList());
+
+        changeFeedPublisher.publishAll(inserted.stream()
+                .map(instruction -> ChangeEvents.of(ChangeType.INSTRUCTION_CREATED, instruction))
+                .toList());
+
+        return inserted;
     }
 
     @Override
     @Transactional
     public Instruction updateInstruction(Long id, InstructionDTO instructionDTO) {
+
+        if (instructionDTO.payerIin() != null
+                && shardTemplate.shardForIin(instructionDTO.payerIin()) != shardTemplate.shardForId(id)) {
+            throw new IllegalArgumentException("Payer IIN of instruction " + id + " cannot be moved to another shard.");
+        }
+
         Instruction existingInstruction = getInstruction(id);
+        OffsetDateTime previousSlot = scheduledSlot(existingInstruction);
 
         instructionMapper.updateEntityFromDto(instructionDTO, existingInstruction);
 
-        return instructionRepository.save(existingInstruction);
+        Instruction savedInstruction = instructionRepository.save(existingInstruction);
+
+        slotService.track(Collections.singletonList(previousSlot), Collections.singletonList(scheduledSlot(savedInstruction)));
+
+        changeFeedPublisher.publish(ChangeEvents.of(
+                savedInstruction.getInstructionStatus() == InstructionStatus.CANCELED
+                        ? ChangeType.INSTRUCTION_CANCELLED
+                        : ChangeType.INSTRUCTION_UPDATED,
+                savedInstruction));
+
+        return savedInstruction;
     }
 
     @Override
@@ -62,13 +143,19 @@ public class InstructionServiceImpl implements InstructionService {
             throw new InstructionNotFoundException("Instruction ID cannot be null");
         }
 
+        shardTemplate.bind(shardTemplate.shardForId(id));
+
         Instruction instruction = instructionRepository.findById(id)
                 .orElseThrow(() -> new InstructionNotFoundException("Instruction with ID " + id + " not found"));
 
+        OffsetDateTime previousSlot = scheduledSlot(instruction);
+
         instruction.setLastExecutionAt(lastExecutionAt);
         instruction.setNextExecutionAt(nextExecutionAt);
 
         instructionRepository.save(instruction);
+
+        slotService.track(Collections.singletonList(previousSlot), Collections.singletonList(scheduledSlot(instruction)));
     }
 
     @Override
@@ -82,6 +169,8 @@ public class InstructionServiceImpl implements InstructionService {
                 .map(Instruction::getId)
                 .collect(Collectors.toSet());
 
+        ids.forEach(id -> shardTemplate.bind(shardTemplate.shardForId(id)));
+
         Map<Long, Instruction> updatesMap = instructionsWithUpdates.stream()
                 .collect(Collectors.toMap(Instruction::getId, i -> i, (v1, v2) -> v1));
 
@@ -91,15 +180,20 @@ public class InstructionServiceImpl implements InstructionService {
             throw new InstructionNotFoundException("One or more instructions not found in batch update");
         }
 
+        List<OffsetDateTime> previousSlots = new ArrayList<>(dbInstructions.size());
+
         for (Instruction dbInstruction : dbInstructions) {
             Instruction updateData = updatesMap.get(dbInstruction.getId());
 
+            previousSlots.add(scheduledSlot(dbInstruction));
             dbInstruction.setLastExecutionAt(updateData.getLastExecutionAt());
             dbInstruction.setNextExecutionAt(updateData.getNextExecutionAt());
         }
 
         List<Instruction> savedInstructions = instructionRepository.saveAll(dbInstructions);
 
+        slotService.track(previousSlots, savedInstructions.stream().map(InstructionServiceImpl::scheduledSlot).toList());
+
         return savedInstructions.stream()
                 .collect(Collectors.toMap(Instruction::getId, i -> i));
     }
@@ -109,15 +203,23 @@ public class InstructionServiceImpl implements InstructionService {
     public void deleteInstruction(Long id) {
 
         Instruction existingInstruction = getInstruction(id);
+        OffsetDateTime previousSlot = scheduledSlot(existingInstruction);
 
         existingInstruction.setInstructionStatus(InstructionStatus.CANCELED);
 
         instructionRepository.save(existingInstruction);
+
+        slotService.track(Collections.singletonList(previousSlot), List.of());
+
+        changeFeedPublisher.publish(ChangeEvents.of(ChangeType.INSTRUCTION_CANCELLED, existingInstruction));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Instruction getInstruction(Long id) {
+
+        shardTemplate.bind(shardTemplate.shardForId(id));
+
         return instructionRepository.findById(id)
                 .orElseThrow(() -> new InstructionNotFoundException("Instruction with ID " + id + " not found in PDS."));
     }
@@ -125,18 +227,43 @@ public class InstructionServiceImpl implements InstructionService {
     @Override
     @Transactional(readOnly = true)
     public List<Instruction> getInstructionsByIin(String payerIin) {
+
+        shardTemplate.bind(shardTemplate.shardForIin(payerIin));
+
         return instructionRepository.getInstructionsByPayerIin(payerIin);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Instruction> getInstructionsByEdrpou(String recipientEdrpou) {
-        return instructionRepository.getInstructionsByRecipientEdrpou(recipientEdrpou);
+        return shardTemplate.scatter(shard -> instructionRepository.getInstructionsByRecipientEdrpou(recipientEdrpou));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Slice<Instruction> getScheduledInstructions(Pageable pageable) {
-        return instructionRepository.findByInstructionStatusAndNextExecutionAtBefore(InstructionStatus.ACTIVE, OffsetDateTime.now(clock), pageable);
+
+        OffsetDateTime now = OffsetDateTime.now(clock);
+
+        // Every shard contributes its own page, so a page holds up to shardCount * size instructions.
+        List<Slice<Instruction>> slices = shardTemplate.scatter(shard -> List.of(
+                instructionRepository.findByInstructionStatusAndNextExecutionAtBefore(InstructionStatus.ACTIVE, now, pageable)));
+
+        if (slices.size() == 1) {
+            return slices.getFirst();
+        }
+
+        List<Instruction> content = slices.stream()
+                .flatMap(slice -> slice.getContent().stream())
+                .toList();
+
+        return new SliceImpl<>(content, pageable, slices.stream().anyMatch(Slice::hasNext));
+    }
+
+    /**
+     * The slot an instruction occupies in the execution slot counters: its next execution, unless it is cancelled.
+     */
+    private static OffsetDateTime scheduledSlot(Instruction instruction) {
+        return instruction.getInstructionStatus() == InstructionStatus.CANCELED ? null : instruction.getNextExecutionAt();
     }
 }
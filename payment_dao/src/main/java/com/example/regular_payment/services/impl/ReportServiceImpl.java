@@ -0,0 +1,151 @@
+package com.example.regular_payment.services.impl;
+
+import com.example.regular_payment.dtos.SettlementPeriodDTO;
+import com.example.regular_payment.repositories.SettlementReportRepository;
+import com.example.regular_payment.services.ReportService;
+import com.example.regular_payment.utils.enums.ReportGranularity;
+import com.example.regular_payment.utils.sharding.ShardTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+public class ReportServiceImpl implements ReportService {
+
+    public static final String SETTLEMENT_CACHE = "settlementReports";
+
+    private final Clock clock;
+    private final SettlementReportRepository settlementReportRepository;
+    private final Cache settlementCache;
+    private final ZoneId zoneId;
+    private final ShardTemplate shardTemplate;
+
+    @Autowired
+    public ReportServiceImpl(Clock clock,
+                             SettlementReportRepository settlementReportRepository,
+                             CacheManager cacheManager,
+                             @Value("${application.report.zone-id:UTC}") ZoneId zoneId,
+                             ShardTemplate shardTemplate) {
+        this.clock = clock;
+        this.settlementReportRepository = settlementReportRepository;
+        this.settlementCache = Objects.requireNonNull(cacheManager.getCache(SETTLEMENT_CACHE));
+        this.zoneId = zoneId;
+        this.shardTemplate = shardTemplate;
+    }
+
+    @Override
+    public void streamSettlementReport(String edrpou, ReportGranularity granularity,
+                                       OffsetDateTime from, OffsetDateTime to,
+                                       Consumer<SettlementPeriodDTO> consumer) {
+
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Report window start must be before its end.");
+        }
+
+        // Periods that started before the current one can no longer receive payments, so they are
+        // served from the cache; the still open period is always read from the database.
+        OffsetDateTime openFrom = granularity.periodStart(ZonedDateTime.now(clock.withZone(zoneId))).toOffsetDateTime();
+        OffsetDateTime closedTo = to.isBefore(openFrom) ? to : openFrom;
+
+        if (from.isBefore(closedTo)) {
+            List<SettlementPeriodDTO> closedPeriods = settlementCache.get(
+                    cacheKey(edrpou, granularity, from, closedTo),
+                    () -> findPeriods(edrpou, granularity, from, closedTo));
+
+            Objects.requireNonNull(closedPeriods).forEach(consumer);
+        }
+
+        if (to.isAfter(openFrom)) {
+            OffsetDateTime openStart = from.isAfter(openFrom) ? from : openFrom;
+
+            if (shardTemplate.isSharded()) {
+                findPeriods(edrpou, granularity, openStart, to).forEach(consumer);
+            } else {
+                settlementReportRepository.streamPeriods(edrpou, granularity, zoneId, openStart, to, consumer);
+            }
+        }
+    }
+
+    @Override
+    public void evictClosedPeriods(String edrpou, OffsetDateTime transactionTime) {
+
+        OffsetDateTime currentDay = ReportGranularity.DAY
+                .periodStart(ZonedDateTime.now(clock.withZone(zoneId))).toOffsetDateTime();
+
+        if (transactionTime != null && !transactionTime.isBefore(currentDay)) {
+            return;
+        }
+
+        evictRecipient(edrpou);
+
+        // Evict again after commit so a report read between the first eviction and the commit
+        // cannot leave the pre-change totals in the cache.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictRecipient(edrpou);
+                }
+            });
+        }
+    }
+
+    private void evictRecipient(String edrpou) {
+
+        log.debug("Evicting cached settlement reports for EDRPOU: {}", edrpou);
+
+        if (settlementCache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            String prefix = edrpou + ":";
+            nativeCache.asMap().keySet().removeIf(key -> key.toString().startsWith(prefix));
+        } else {
+            settlementCache.clear();
+        }
+    }
+
+    private List<SettlementPeriodDTO> findPeriods(String edrpou, ReportGranularity granularity,
+                                                  OffsetDateTime from, OffsetDateTime to) {
+
+        List<SettlementPeriodDTO> periods = shardTemplate.scatter(
+                shard -> settlementReportRepository.findPeriods(edrpou, granularity, zoneId, from, to));
+
+        if (!shardTemplate.isSharded()) {
+            return periods;
+        }
+
+        Map<Instant, SettlementPeriodDTO> merged = new TreeMap<>();
+
+        for (SettlementPeriodDTO period : periods) {
+            merged.merge(period.periodStart().toInstant(), period, (left, right) -> new SettlementPeriodDTO(
+                    left.periodStart(),
+                    left.paymentCount() + right.paymentCount(),
+                    left.totalAmount().add(right.totalAmount()),
+                    left.reversedCount() + right.reversedCount(),
+                    left.reversedAmount().add(right.reversedAmount())
+            ));
+        }
+
+        return new ArrayList<>(merged.values());
+    }
+
+    private String cacheKey(String edrpou, ReportGranularity granularity, OffsetDateTime from, OffsetDateTime to) {
+        return edrpou + ":" + granularity + ":" + from.toInstant() + ":" + to.toInstant();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.regular_payment.services.impl;
+
+import com.example.regular_payment.repositories.ExecutionSlotRepository;
+import com.example.regular_payment.services.SlotService;
+import com.example.regular_payment.utils.sharding.ShardTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * Spreads next executions over the minutes of {@code [desired, desired + tolerance]}, always picking the least
+ * occupied minute and the earliest one on ties, so nothing runs before it is due. Counters live on shard 0
+ * because sweep load is global, not per shard.
+ * <p>
+ * Allocation only chooses minutes; the counters follow the instruction writes themselves. Creating an instruction
+ * occupies its slot, paying an occurrence moves it to the next one and cancelling frees it, whoever the writer is
+ * and whether or not its times were levelled. Replayed payments change nothing, since PDS returns the saved
+ * transaction before writing. Two allocations running at once may pick the same minute; levelling is a spread,
+ * not a reservation.
+ */
+@Service
+public class SlotServiceImpl implements SlotService {
+
+    public static final int MAX_TOLERANCE_MINUTES = 24 * 60;
+
+    private static final int SLOT_SHARD = 0;
+
+    private final ExecutionSlotRepository slotRepository;
+    private final ShardTemplate shardTemplate;
+
+    @Autowired
+    public SlotServiceImpl(ExecutionSlotRepository slotRepository, ShardTemplate shardTemplate) {
+        this.slotRepository = slotRepository;
+        this.shardTemplate = shardTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OffsetDateTime> allocate(List<OffsetDateTime> desired, int toleranceMinutes) {
+
+        if (toleranceMinutes < 0 || toleranceMinutes > MAX_TOLERANCE_MINUTES) {
+            throw new IllegalArgumentException("Slot tolerance must be between 0 and " + MAX_TOLERANCE_MINUTES + " minutes.");
+        }
+
+        if (desired.isEmpty()) {
+            return desired;
+        }
+
+        shardTemplate.bind(SLOT_SHARD);
+
+        List<Integer> order = IntStream.range(0, desired.size()).boxed()
+                .sorted(Comparator.comparing(desired::get))
+                .toList();
+
+        OffsetDateTime[] allocated = new OffsetDateTime[desired.size()];
+
+        // Windows of nearby times overlap; each run of overlapping windows is read and levelled as one range, so
+        // the times of one request spread over each other as well as over the counted instructions.
+        int runStart = 0;
+        while (runStart < order.size()) {
+            long fromMinute = epochMinute(desired.get(order.get(runStart)));
+            long toMinute = fromMinute + toleranceMinutes;
+
+            int runEnd = runStart + 1;
+            while (runEnd < order.size() && epochMinute(desired.get(order.get(runEnd))) <= toMinute) {
+                toMinute = epochMinute(desired.get(order.get(runEnd))) + toleranceMinutes;
+                runEnd++;
+            }
+
+            int[] occupancy = slotRepository.readRange(fromMinute, toMinute);
+
+            for (int i = runStart; i < runEnd; i++) {
+                int index = order.get(i);
+                OffsetDateTime time = desired.get(index);
+                int first = (int) (epochMinute(time) - fromMinute);
+
+                int best = first;
+                for (int slot = first + 1; slot <= first + toleranceMinutes; slot++) {
+                    if (occupancy[slot] < occupancy[best]) {
+                        best = slot;
+                    }
+                }
+
+                occupancy[best]++;
+                allocated[index] = best == first ? time : slotStart(fromMinute + best, time);
+            }
+
+            runStart = runEnd;
+        }
+
+        return new ArrayList<>(Arrays.asList(allocated));
+    }
+
+    /**
+     * Moves occupancy along with a write that creates, reschedules or cancels instructions. It is applied only if
+     * that write commits, in the same transaction when the write is on the slot shard.
+     */
+    @Override
+    public void track(List<OffsetDateTime> released, List<OffsetDateTime> occupied) {
+
+        SortedMap<Long, Integer> deltas = deltas(released, occupied);
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        shardTemplate.onCommit(SLOT_SHARD, () -> slotRepository.adjust(deltas));
+    }
+
+    @Override
+    @Transactional
+    public int pruneBefore(OffsetDateTime before) {
+        shardTemplate.bind(SLOT_SHARD);
+        return slotRepository.deleteBefore(before);
+    }
+
+    private static SortedMap<Long, Integer> deltas(List<OffsetDateTime> released, List<OffsetDateTime> occupied) {
+
+        SortedMap<Long, Integer> deltas = new TreeMap<>();
+
+        released.stream().filter(Objects::nonNull).forEach(time -> deltas.merge(epochMinute(time), -1, Integer::sum));
+        occupied.stream().filter(Objects::nonNull).forEach(time -> deltas.merge(epochMinute(time), 1, Integer::sum));
+        deltas.values().removeIf(delta -> delta == 0);
+
+        return deltas;
+    }
+
+    private static long epochMinute(OffsetDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(), 60);
+    }
+
+    private static OffsetDateTime slotStart(long epochMinute, OffsetDateTime desired) {
+        return Instant.ofEpochSecond(epochMinute * 60).atOffset(desired.getOffset());
+    }
+}
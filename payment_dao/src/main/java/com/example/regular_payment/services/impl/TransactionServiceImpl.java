@@ -1,35 +1,65 @@
 package com.example.regular_payment.services.impl;
 
 import com.example.regular_payment.models.Instruction;
+import com.example.regular_payment.models.InstructionPaymentSummary;
 import com.example.regular_payment.models.Transaction;
+import com.example.regular_payment.repositories.InstructionPaymentSummaryRepository;
 import com.example.regular_payment.repositories.TransactionRepository;
 import com.example.regular_payment.services.InstructionService;
+import com.example.regular_payment.services.ReportService;
 import com.example.regular_payment.services.TransactionService;
-import com.example.regular_payment.utils.enums.TransactionStatus;
+import com.example.regular_payment.utils.archive.TransactionArchive;
+import com.example.regular_payment.utils.changefeed.ChangeEvents;
+import com.example.regular_payment.utils.changefeed.ChangeFeedPublisher;
 import com.example.regular_payment.utils.exceptions.InstructionNotFoundException;
 import com.example.regular_payment.utils.exceptions.TransactionNotFoundException;
+import com.example.regular_payment.utils.sharding.ShardTemplate;
+import com.test.payment_wire.TransactionStatus;
+import com.test.payment_wire.changefeed.ChangeType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 public class TransactionServiceImpl implements TransactionService {
 
     private final TransactionRepository transactionRepository;
+    private final InstructionPaymentSummaryRepository summaryRepository;
     private final InstructionService instructionService;
+    private final ReportService reportService;
+    private final TransactionArchive transactionArchive;
+    private final ShardTemplate shardTemplate;
+    private final ChangeFeedPublisher changeFeedPublisher;
 
     @Autowired
     public TransactionServiceImpl(TransactionRepository transactionRepository,
-                                  InstructionService instructionService) {
+                                  InstructionPaymentSummaryRepository summaryRepository,
+                                  InstructionService instructionService,
+                                  ReportService reportService,
+                                  TransactionArchive transactionArchive,
+                                  ShardTemplate shardTemplate,
+                                  ChangeFeedPublisher changeFeedPublisher) {
         this.transactionRepository = transactionRepository;
+        this.summaryRepository = summaryRepository;
         this.instructionService = instructionService;
+        this.reportService = reportService;
+        this.transactionArchive = transactionArchive;
+        this.shardTemplate = shardTemplate;
+        this.changeFeedPublisher = changeFeedPublisher;
     }
 
     @Override
@@ -38,13 +68,31 @@ public class TransactionServiceImpl implements TransactionService {
 
         Instruction instruction = transaction.getInstruction();
 
+        shardTemplate.bind(shardTemplate.shardForId(instruction.getId()));
+
+        // Keys are derived from the scheduled occurrence, so a retry finds the transaction it already created.
+        Optional<Transaction> existing = transactionRepository.findByIdempotencyId(transaction.getIdempotencyId());
+
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
         instructionService.updateLastAndNextExecutionTime(
                 instruction.getId(),
                 instruction.getLastExecutionAt(),
                 instruction.getNextExecutionAt()
         );
 
-        return transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionRepository.save(transaction);
+
+        summaryRepository.accumulate(instruction.getId(), 1, savedTransaction.getAmount(),
+                0, BigDecimal.ZERO, savedTransaction.getTransactionTime());
+
+        reportService.evictClosedPeriods(instruction.getRecipientEdrpou(), savedTransaction.getTransactionTime());
+
+        changeFeedPublisher.publish(ChangeEvents.of(ChangeType.TRANSACTION_CREATED, savedTransaction));
+
+        return savedTransaction;
     }
 
     @Override
@@ -54,6 +102,40 @@ public class TransactionServiceImpl implements TransactionService {
             return Collections.emptyList();
         }
 
+        Map<Integer, List<Transaction>> byShard = transactions.stream()
+                .collect(Collectors.groupingBy(tx -> shardTemplate.shardForId(tx.getInstruction().getId())));
+
+        if (byShard.size() == 1) {
+            shardTemplate.bind(byShard.keySet().iterator().next());
+            return createShardBatch(transactions);
+        }
+
+        // Each shard commits its part of the batch in its own transaction, so a failure on one shard leaves the
+        // other shards' rows committed while the caller sees an error and PBLS reports the whole sub-batch as failed.
+        // Retrying is safe: keys are derived from the instruction and its due time, and createShardBatch returns rows
+        // whose key is already stored instead of inserting them again. The jar's next sweep only sees instructions
+        // whose shard rolled back, since the committed ones have moved on to their next execution.
+        return shardTemplate.scatter(byShard.keySet(), false, shard -> createShardBatch(byShard.get(shard)));
+    }
+
+    private List<Transaction> createShardBatch(List<Transaction> batch) {
+
+        List<Transaction> alreadySaved = transactionRepository.findAllByIdempotencyIdIn(batch.stream()
+                .map(Transaction::getIdempotencyId)
+                .toList());
+
+        Set<UUID> savedKeys = alreadySaved.stream()
+                .map(Transaction::getIdempotencyId)
+                .collect(Collectors.toSet());
+
+        List<Transaction> transactions = batch.stream()
+                .filter(tx -> !savedKeys.contains(tx.getIdempotencyId()))
+                .toList();
+
+        if (transactions.isEmpty()) {
+            return alreadySaved;
+        }
+
         List<Instruction> instructionUpdates = transactions.stream()
                 .map(Transaction::getInstruction)
                 .toList();
@@ -72,42 +154,171 @@ public class TransactionServiceImpl implements TransactionService {
             tx.setInstruction(managedInstruction);
         }
 
-        return transactionRepository.saveAll(transactions);
+        List<Transaction> savedTransactions = transactionRepository.saveAll(transactions);
+
+        Map<Long, List<Transaction>> byInstruction = savedTransactions.stream()
+                .collect(Collectors.groupingBy(tx -> tx.getInstruction().getId()));
+
+        byInstruction.forEach((instructionId, instructionTransactions) -> summaryRepository.accumulate(
+                instructionId,
+                instructionTransactions.size(),
+                instructionTransactions.stream().map(Transaction::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
+                0,
+                BigDecimal.ZERO,
+                instructionTransactions.stream()
+                        .map(Transaction::getTransactionTime)
+                        .filter(Objects::nonNull)
+                        .max(Comparator.naturalOrder())
+                        .orElse(null)
+        ));
+
+        savedTransactions.forEach(tx -> reportService.evictClosedPeriods(
+                tx.getInstruction().getRecipientEdrpou(), tx.getTransactionTime()));
+
+        changeFeedPublisher.publishAll(savedTransactions.stream()
+                .map(tx -> ChangeEvents.of(ChangeType.TRANSACTION_CREATED, tx))
+                .toList());
+
+        if (alreadySaved.isEmpty()) {
+            return savedTransactions;
+        }
+
+        List<Transaction> result = new ArrayList<>(alreadySaved);
+        result.addAll(savedTransactions);
+
+        return result;
     }
 
     @Override
     @Transactional
     public Transaction updateTransaction(Long id, Transaction transaction) {
 
-        Transaction existTransaction = getTransaction(id);
+        Transaction existTransaction = getWritableTransaction(id);
+
+        boolean wasReversed = isReversed(existTransaction);
+        BigDecimal previousAmount = existTransaction.getAmount();
 
         existTransaction.setTransactionStatus(transaction.getTransactionStatus());
         existTransaction.setAmount(transaction.getAmount());
 
-        return transactionRepository.save(existTransaction);
+        Transaction savedTransaction = transactionRepository.save(existTransaction);
+
+        BigDecimal amountDelta = savedTransaction.getAmount().subtract(previousAmount);
+        BigDecimal reversedBefore = wasReversed ? previousAmount : BigDecimal.ZERO;
+        BigDecimal reversedAfter = isReversed(savedTransaction) ? savedTransaction.getAmount() : BigDecimal.ZERO;
+        long reversedCountDelta = (isReversed(savedTransaction) ? 1 : 0) - (wasReversed ? 1 : 0);
+
+        summaryRepository.accumulate(savedTransaction.getInstruction().getId(), 0, amountDelta,
+                reversedCountDelta, reversedAfter.subtract(reversedBefore), null);
+
+        reportService.evictClosedPeriods(savedTransaction.getInstruction().getRecipientEdrpou(),
+                savedTransaction.getTransactionTime());
+
+        if (!wasReversed && isReversed(savedTransaction)) {
+            changeFeedPublisher.publish(ChangeEvents.of(ChangeType.TRANSACTION_REVERSED, savedTransaction));
+        }
+
+        return savedTransaction;
     }
 
     @Override
     @Transactional
     public void deleteTransaction(Long id) {
 
-        Transaction transaction = getTransaction(id);
+        Transaction transaction = getWritableTransaction(id);
+
+        if (isReversed(transaction)) {
+            return;
+        }
 
         transaction.setTransactionStatus(TransactionStatus.REVERSED.getStatusCode());
 
         transactionRepository.save(transaction);
+
+        summaryRepository.accumulate(transaction.getInstruction().getId(), 0, BigDecimal.ZERO,
+                1, transaction.getAmount(), null);
+
+        reportService.evictClosedPeriods(transaction.getInstruction().getRecipientEdrpou(),
+                transaction.getTransactionTime());
+
+        changeFeedPublisher.publish(ChangeEvents.of(ChangeType.TRANSACTION_REVERSED, transaction));
     }
 
     @Override
     @Transactional
     public Transaction getTransaction(Long id) {
+
+        shardTemplate.bind(shardTemplate.shardForId(id));
+
         return transactionRepository.findById(id)
-                .orElseThrow(() -> new TransactionNotFoundException("Transaction with ID " + id + " not found in PDS."));
+                .or(() -> transactionArchive.findById(id))
+                .orElseThrow(() -> notFound(id));
+    }
+
+    /**
+     * Segments are immutable, so an archived transaction is restored to the hot table before it is changed. The
+     * payment summary already counts it, and history reads prefer the hot copy until it is archived again.
+     */
+    private Transaction getWritableTransaction(Long id) {
+
+        shardTemplate.bind(shardTemplate.shardForId(id));
+
+        Optional<Transaction> hot = transactionRepository.findByIdForUpdate(id);
+
+        if (hot.isPresent()) {
+            return hot.get();
+        }
+
+        Transaction archived = transactionArchive.findById(id).orElseThrow(() -> notFound(id));
+
+        transactionRepository.restore(archived.getId(), archived.getInstruction().getId(), archived.getIdempotencyId(),
+                archived.getAmount(), archived.getTransactionStatus(), archived.getTransactionTime());
+
+        return transactionRepository.findByIdForUpdate(id).orElseThrow(() -> notFound(id));
+    }
+
+    private static TransactionNotFoundException notFound(Long id) {
+        return new TransactionNotFoundException("Transaction with ID " + id + " not found in PDS.");
     }
 
     @Override
     @Transactional
     public List<Transaction> getTransactionsByInstruction(Long instructionId) {
-        return transactionRepository.getTransactionsByInstruction_Id(instructionId);
+
+        shardTemplate.bind(shardTemplate.shardForId(instructionId));
+
+        List<Transaction> hotTransactions = transactionRepository.getTransactionsByInstruction_Id(instructionId);
+        List<Transaction> archivedTransactions = transactionArchive.findByInstructionId(instructionId);
+
+        if (archivedTransactions.isEmpty()) {
+            return hotTransactions;
+        }
+
+        Map<Long, Transaction> merged = new LinkedHashMap<>();
+
+        archivedTransactions.forEach(tx -> merged.put(tx.getId(), tx));
+        hotTransactions.forEach(tx -> merged.put(tx.getId(), tx));
+
+        return new ArrayList<>(merged.values());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public InstructionPaymentSummary getPaymentSummary(Long instructionId) {
+
+        shardTemplate.bind(shardTemplate.shardForId(instructionId));
+
+        return summaryRepository.findById(instructionId)
+                .orElseGet(() -> emptySummary(instructionService.getInstruction(instructionId)));
+    }
+
+    private InstructionPaymentSummary emptySummary(Instruction instruction) {
+        InstructionPaymentSummary summary = new InstructionPaymentSummary();
+        summary.setInstructionId(instruction.getId());
+        return summary;
+    }
+
+    private boolean isReversed(Transaction transaction) {
+        return TransactionStatus.REVERSED.getStatusCode().equals(transaction.getTransactionStatus());
     }
 }
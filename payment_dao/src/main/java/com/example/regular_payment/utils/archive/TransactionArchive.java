@@ -0,0 +1,189 @@
+package com.example.regular_payment.utils.archive;
+
+import com.example.regular_payment.models.Transaction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Segments in {@code application.archive.directory}, oldest first. The directory is meant to be shared by every
+ * PDS instance (the {@code dao-archive} volume in docker-compose), since the archiving job runs on whichever
+ * instance wins the advisory lock: segments written elsewhere are picked up on the next lookup after the directory
+ * changes. A transaction restored to the hot table and archived again appears in two segments; the newer one wins.
+ * Segments are named after their id range and a sequence number and are never overwritten, so a later segment with
+ * the same id range cannot take the place of an earlier one.
+ */
+@Slf4j
+@Component
+public class TransactionArchive {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final Pattern SEGMENT_NAME = Pattern.compile("transactions-(\\d+)-(\\d+)(?:-(\\d+))?\\" + SEGMENT_SUFFIX);
+
+    private final Path directory;
+    private final List<TransactionSegment> segments = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile FileTime loadedAt;
+
+    @Autowired
+    public TransactionArchive(@Value("${application.archive.directory:archive}") Path directory) {
+        this.directory = directory;
+        loadSegments();
+    }
+
+    public TransactionSegment append(List<Transaction> transactions) throws IOException {
+
+        long minId = transactions.stream().mapToLong(Transaction::getId).min().orElseThrow();
+        long maxId = transactions.stream().mapToLong(Transaction::getId).max().orElseThrow();
+
+        // Millisecond based so names stay unique across restarts; the writer still refuses to replace a clash.
+        long next = sequence.updateAndGet(previous -> Math.max(previous + 1, System.currentTimeMillis()));
+
+        Path target = directory.resolve("transactions-%019d-%019d-%019d%s".formatted(minId, maxId, next, SEGMENT_SUFFIX));
+
+        TransactionSegment segment = TransactionSegmentWriter.write(target, transactions);
+
+        segments.add(segment);
+
+        log.info("Archived {} transactions into {}", segment.getRowCount(), target);
+
+        return segment;
+    }
+
+    public List<Transaction> findByInstructionId(Long instructionId) {
+
+        refresh();
+
+        Map<Long, Transaction> result = new LinkedHashMap<>();
+
+        for (TransactionSegment segment : segments) {
+            if (segment.mayContain(instructionId)) {
+                segment.findByInstructionId(instructionId).forEach(tx -> result.put(tx.getId(), tx));
+            }
+        }
+
+        return new ArrayList<>(result.values());
+    }
+
+    public Optional<Transaction> findById(Long id) {
+
+        refresh();
+
+        for (TransactionSegment segment : segments.reversed()) {
+            if (idRangeContains(segment.getPath(), id)) {
+                Optional<Transaction> transaction = segment.findById(id);
+                if (transaction.isPresent()) {
+                    return transaction;
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    public List<TransactionSegment> getSegments() {
+        return List.copyOf(segments);
+    }
+
+    private void loadSegments() {
+        try {
+            Files.createDirectories(directory);
+
+            loadedAt = Files.getLastModifiedTime(directory);
+            segments.addAll(openSegments(Set.of()));
+
+            log.info("Loaded {} transaction archive segments from {}", segments.size(), directory.toAbsolutePath());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load transaction archive from " + directory, e);
+        }
+    }
+
+    /**
+     * Opens the segments other instances have added since the last look; a no-op while the directory's
+     * modification time is unchanged.
+     */
+    private synchronized void refresh() {
+        try {
+            FileTime modified = Files.getLastModifiedTime(directory);
+
+            if (modified.equals(loadedAt)) {
+                return;
+            }
+
+            loadedAt = modified;
+
+            List<TransactionSegment> added = openSegments(segments.stream()
+                    .map(TransactionSegment::getPath)
+                    .collect(Collectors.toSet()));
+
+            if (!added.isEmpty()) {
+                segments.addAll(added);
+                log.info("Picked up {} transaction archive segments written by other instances", added.size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to refresh transaction archive from " + directory, e);
+        }
+    }
+
+    private List<TransactionSegment> openSegments(Set<Path> known) throws IOException {
+
+        List<TransactionSegment> opened = new ArrayList<>();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .filter(f -> !known.contains(f))
+                    .sorted(Comparator.comparing(TransactionArchive::lastModified)
+                            .thenComparingLong(TransactionArchive::sequence)
+                            .thenComparing(Comparator.naturalOrder()))
+                    .toList()) {
+                opened.add(TransactionSegment.open(file));
+            }
+        }
+
+        return opened;
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Segments written before names carried a sequence number count as sequence {@code 0}.
+     */
+    private static long sequence(Path segment) {
+        Matcher name = SEGMENT_NAME.matcher(segment.getFileName().toString());
+        return name.matches() && name.group(3) != null ? Long.parseLong(name.group(3)) : 0;
+    }
+
+    /**
+     * Segment files are named after their smallest and largest transaction id.
+     */
+    private static boolean idRangeContains(Path segment, long id) {
+        Matcher name = SEGMENT_NAME.matcher(segment.getFileName().toString());
+        return !name.matches() || (id >= Long.parseLong(name.group(1)) && id <= Long.parseLong(name.group(2)));
+    }
+}
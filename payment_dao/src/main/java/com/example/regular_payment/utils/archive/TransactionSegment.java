@@ -0,0 +1,259 @@
+package com.example.regular_payment.utils.archive;
+
+import com.example.regular_payment.models.Instruction;
+import com.example.regular_payment.models.Transaction;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Read-only view over one archived segment file.
+ * <p>
+ * Layout: a fixed header (magic, version, row count, min/max transaction time in epoch micros,
+ * min/max instruction id, raw and compressed length of every column) followed by the deflated
+ * column blocks. Rows are sorted by instruction id and then by transaction id, numeric columns are
+ * zigzag delta varints, so one instruction's history is a contiguous row range.
+ * <p>
+ * Version 2 stores idempotency keys as fixed 16-byte UUIDs. Version 1 segments, written while keys were
+ * strings, keep their length-prefixed UTF-8 column and are converted on read the same way the database
+ * migration converted the live table.
+ */
+public final class TransactionSegment {
+
+    static final int MAGIC = 0x50545853;
+    static final short VERSION = 2;
+    static final short VERSION_STRING_KEYS = 1;
+    static final int AMOUNT_SCALE = 2;
+
+    static final int COLUMN_ID = 0;
+    static final int COLUMN_INSTRUCTION_ID = 1;
+    static final int COLUMN_TRANSACTION_TIME = 2;
+    static final int COLUMN_AMOUNT = 3;
+    static final int COLUMN_STATUS = 4;
+    static final int COLUMN_IDEMPOTENCY_ID = 5;
+    static final int COLUMN_COUNT = 6;
+
+    private static final Pattern UUID_TEXT =
+            Pattern.compile("^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$", Pattern.CASE_INSENSITIVE);
+
+    static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Integer.BYTES + 4 * Long.BYTES + 1
+            + COLUMN_COUNT * 2 * Integer.BYTES;
+
+    @Getter
+    private final Path path;
+    @Getter
+    private final int rowCount;
+    @Getter
+    private final OffsetDateTime minTransactionTime;
+    @Getter
+    private final OffsetDateTime maxTransactionTime;
+    @Getter
+    private final long minInstructionId;
+    @Getter
+    private final long maxInstructionId;
+
+    private final short version;
+    private final ByteBuffer buffer;
+    private final int[] rawLengths = new int[COLUMN_COUNT];
+    private final int[] columnOffsets = new int[COLUMN_COUNT];
+    private final int[] compressedLengths = new int[COLUMN_COUNT];
+
+    private TransactionSegment(Path path, ByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+
+        ByteBuffer header = buffer.duplicate();
+
+        if (header.getInt() != MAGIC) {
+            throw new IllegalStateException("Not a transaction archive segment: " + path);
+        }
+
+        this.version = header.getShort();
+        if (version != VERSION && version != VERSION_STRING_KEYS) {
+            throw new IllegalStateException("Unsupported archive segment version " + version + ": " + path);
+        }
+
+        this.rowCount = header.getInt();
+        this.minTransactionTime = fromEpochMicros(header.getLong());
+        this.maxTransactionTime = fromEpochMicros(header.getLong());
+        this.minInstructionId = header.getLong();
+        this.maxInstructionId = header.getLong();
+
+        int columns = header.get();
+        if (columns != COLUMN_COUNT) {
+            throw new IllegalStateException("Unexpected column count " + columns + ": " + path);
+        }
+
+        int offset = HEADER_SIZE;
+        for (int column = 0; column < COLUMN_COUNT; column++) {
+            rawLengths[column] = header.getInt();
+            compressedLengths[column] = header.getInt();
+            columnOffsets[column] = offset;
+            offset += compressedLengths[column];
+        }
+    }
+
+    public static TransactionSegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new TransactionSegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public boolean mayContain(long instructionId) {
+        return instructionId >= minInstructionId && instructionId <= maxInstructionId;
+    }
+
+    public List<Transaction> findByInstructionId(long instructionId) {
+
+        if (!mayContain(instructionId)) {
+            return List.of();
+        }
+
+        ByteBuffer instructionIds = column(COLUMN_INSTRUCTION_ID);
+
+        int start = -1;
+        int end = -1;
+        long current = 0;
+
+        for (int row = 0; row < rowCount; row++) {
+            current += ColumnCodec.unZigZag(ColumnCodec.readVarLong(instructionIds));
+            if (current == instructionId) {
+                if (start < 0) {
+                    start = row;
+                }
+                end = row + 1;
+            } else if (current > instructionId) {
+                break;
+            }
+        }
+
+        if (start < 0) {
+            return List.of();
+        }
+
+        long[] ids = decodeDeltas(COLUMN_ID, end);
+        long[] times = decodeDeltas(COLUMN_TRANSACTION_TIME, end);
+        long[] amounts = decodeDeltas(COLUMN_AMOUNT, end);
+        ByteBuffer statuses = column(COLUMN_STATUS);
+        ByteBuffer idempotencyIds = column(COLUMN_IDEMPOTENCY_ID);
+
+        if (version == VERSION_STRING_KEYS) {
+            for (int row = 0; row < start; row++) {
+                skipString(idempotencyIds);
+            }
+        } else {
+            idempotencyIds.position(start * 2 * Long.BYTES);
+        }
+
+        Instruction instruction = new Instruction();
+        instruction.setId(instructionId);
+
+        List<Transaction> result = new ArrayList<>(end - start);
+
+        for (int row = start; row < end; row++) {
+            Transaction transaction = new Transaction();
+            transaction.setId(ids[row]);
+            transaction.setInstruction(instruction);
+            transaction.setTransactionTime(fromEpochMicros(times[row]));
+            transaction.setAmount(BigDecimal.valueOf(amounts[row], AMOUNT_SCALE));
+            transaction.setTransactionStatus(String.valueOf((char) statuses.get(row)));
+            transaction.setIdempotencyId(version == VERSION_STRING_KEYS
+                    ? fromLegacyKey(readString(idempotencyIds))
+                    : new UUID(idempotencyIds.getLong(), idempotencyIds.getLong()));
+            result.add(transaction);
+        }
+
+        return result;
+    }
+
+    /**
+     * Rows are ordered by instruction, not by id, so this decodes the whole id column; it only serves by-id lookups
+     * that missed the hot table.
+     */
+    public Optional<Transaction> findById(long id) {
+
+        long[] ids = decodeDeltas(COLUMN_ID, rowCount);
+
+        for (int row = 0; row < rowCount; row++) {
+            if (ids[row] == id) {
+                long instructionId = decodeDeltas(COLUMN_INSTRUCTION_ID, row + 1)[row];
+                return findByInstructionId(instructionId).stream()
+                        .filter(transaction -> transaction.getId() == id)
+                        .findFirst();
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private ByteBuffer column(int column) {
+        ByteBuffer compressed = buffer.slice(columnOffsets[column], compressedLengths[column]);
+        return ColumnCodec.inflate(compressed, rawLengths[column]);
+    }
+
+    private long[] decodeDeltas(int column, int rows) {
+        ByteBuffer in = column(column);
+        long[] values = new long[rows];
+        long current = 0;
+        for (int row = 0; row < rows; row++) {
+            current += ColumnCodec.unZigZag(ColumnCodec.readVarLong(in));
+            values[row] = current;
+        }
+        return values;
+    }
+
+    private static void skipString(ByteBuffer in) {
+        int length = (int) ColumnCodec.readVarLong(in);
+        in.position(in.position() + length);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = (int) ColumnCodec.readVarLong(in);
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    /**
+     * Mirrors the migration to the uuid column: UUID text is parsed, anything else becomes the UUID whose bytes
+     * are the MD5 of the key ({@code md5(key)::uuid} in PostgreSQL).
+     */
+    static UUID fromLegacyKey(String key) {
+
+        if (UUID_TEXT.matcher(key).matches()) {
+            return UUID.fromString(key);
+        }
+
+        try {
+            ByteBuffer digest = ByteBuffer.wrap(MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8)));
+            return new UUID(digest.getLong(), digest.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static long toEpochMicros(OffsetDateTime time) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, time.toInstant());
+    }
+
+    private static OffsetDateTime fromEpochMicros(long micros) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS).atOffset(ZoneOffset.UTC);
+    }
+}
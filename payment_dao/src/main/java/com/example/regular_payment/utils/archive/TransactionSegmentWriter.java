@@ -0,0 +1,122 @@
+package com.example.regular_payment.utils.archive;
+
+import com.example.regular_payment.models.Transaction;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+
+public final class TransactionSegmentWriter {
+
+    private TransactionSegmentWriter() {
+    }
+
+    /**
+     * Writes the segment next to {@code target} and then links it into place, so readers never see a partial file.
+     * An existing {@code target} is never replaced: the link fails with {@link java.nio.file.FileAlreadyExistsException}.
+     */
+    public static TransactionSegment write(Path target, List<Transaction> transactions) throws IOException {
+
+        if (transactions.isEmpty()) {
+            throw new IllegalArgumentException("Cannot write an empty archive segment.");
+        }
+
+        List<Transaction> rows = transactions.stream()
+                .sorted(Comparator.comparing((Transaction tx) -> tx.getInstruction().getId())
+                        .thenComparing(Transaction::getId))
+                .toList();
+
+        ByteArrayOutputStream[] columns = new ByteArrayOutputStream[TransactionSegment.COLUMN_COUNT];
+        for (int column = 0; column < columns.length; column++) {
+            columns[column] = new ByteArrayOutputStream(rows.size() * 4);
+        }
+
+        long previousId = 0;
+        long previousInstructionId = 0;
+        long previousTime = 0;
+        long previousAmount = 0;
+        long minTime = Long.MAX_VALUE;
+        long maxTime = Long.MIN_VALUE;
+
+        for (Transaction transaction : rows) {
+            long id = transaction.getId();
+            long instructionId = transaction.getInstruction().getId();
+            long time = TransactionSegment.toEpochMicros(transaction.getTransactionTime());
+            long amount = transaction.getAmount()
+                    .setScale(TransactionSegment.AMOUNT_SCALE, RoundingMode.UNNECESSARY)
+                    .unscaledValue()
+                    .longValueExact();
+
+            ColumnCodec.writeVarLong(columns[TransactionSegment.COLUMN_ID], ColumnCodec.zigZag(id - previousId));
+            ColumnCodec.writeVarLong(columns[TransactionSegment.COLUMN_INSTRUCTION_ID], ColumnCodec.zigZag(instructionId - previousInstructionId));
+            ColumnCodec.writeVarLong(columns[TransactionSegment.COLUMN_TRANSACTION_TIME], ColumnCodec.zigZag(time - previousTime));
+            ColumnCodec.writeVarLong(columns[TransactionSegment.COLUMN_AMOUNT], ColumnCodec.zigZag(amount - previousAmount));
+
+            columns[TransactionSegment.COLUMN_STATUS].write(transaction.getTransactionStatus().charAt(0));
+
+            columns[TransactionSegment.COLUMN_IDEMPOTENCY_ID].writeBytes(ByteBuffer.allocate(2 * Long.BYTES)
+                    .putLong(transaction.getIdempotencyId().getMostSignificantBits())
+                    .putLong(transaction.getIdempotencyId().getLeastSignificantBits())
+                    .array());
+
+            previousId = id;
+            previousInstructionId = instructionId;
+            previousTime = time;
+            previousAmount = amount;
+            minTime = Math.min(minTime, time);
+            maxTime = Math.max(maxTime, time);
+        }
+
+        byte[][] compressed = new byte[TransactionSegment.COLUMN_COUNT][];
+        ByteBuffer header = ByteBuffer.allocate(TransactionSegment.HEADER_SIZE)
+                .putInt(TransactionSegment.MAGIC)
+                .putShort(TransactionSegment.VERSION)
+                .putInt(rows.size())
+                .putLong(minTime)
+                .putLong(maxTime)
+                .putLong(rows.getFirst().getInstruction().getId())
+                .putLong(rows.getLast().getInstruction().getId())
+                .put((byte) TransactionSegment.COLUMN_COUNT);
+
+        for (int column = 0; column < TransactionSegment.COLUMN_COUNT; column++) {
+            byte[] raw = columns[column].toByteArray();
+            compressed[column] = ColumnCodec.deflate(raw);
+            header.putInt(raw.length).putInt(compressed[column].length);
+        }
+
+        header.flip();
+
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, header);
+            for (byte[] block : compressed) {
+                writeFully(channel, ByteBuffer.wrap(block));
+            }
+            channel.force(true);
+        }
+
+        try {
+            // rename(2) would silently replace an existing segment; a hard link fails instead.
+            Files.createLink(target, temporary);
+        } finally {
+            Files.delete(temporary);
+        }
+
+        return TransactionSegment.open(target);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
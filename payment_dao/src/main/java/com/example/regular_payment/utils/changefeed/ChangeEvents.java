@@ -0,0 +1,26 @@
+package com.example.regular_payment.utils.changefeed;
+
+import com.example.regular_payment.models.Instruction;
+import com.example.regular_payment.models.Transaction;
+import com.test.payment_wire.changefeed.ChangeEvent;
+import com.test.payment_wire.changefeed.ChangeType;
+
+/**
+ * Builds the {@link ChangeEvent}s PDS publishes from its entities.
+ */
+public final class ChangeEvents {
+
+    private ChangeEvents() {
+    }
+
+    public static ChangeEvent of(ChangeType type, Instruction instruction) {
+        return new ChangeEvent(type, instruction.getId(), instruction.getId(), instruction.getPayerIin(),
+                instruction.getRecipientEdrpou(), instruction.getNextExecutionAt());
+    }
+
+    public static ChangeEvent of(ChangeType type, Transaction transaction) {
+        Instruction instruction = transaction.getInstruction();
+        return new ChangeEvent(type, transaction.getId(), instruction.getId(), instruction.getPayerIin(),
+                instruction.getRecipientEdrpou(), instruction.getNextExecutionAt());
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.regular_payment.utils.changefeed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.payment_wire.changefeed.ChangeEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.List;
+
+/**
+ * Publishes {@link ChangeEvent}s with {@code pg_notify} on the connection of the current transaction, so they
+ * reach listeners only if and when the write commits, and from the shard the transaction is bound to. A batch is
+ * sent in one statement.
+ */
+@Component
+public class ChangeFeedPublisher {
+
+    private static final String NOTIFY_QUERY = "SELECT count(pg_notify(?, ?))";
+
+    private static final String NOTIFY_ALL_QUERY = "SELECT count(pg_notify(?, payload)) FROM unnest(?) AS payload";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String channel;
+
+    @Autowired
+    public ChangeFeedPublisher(JdbcTemplate jdbcTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${application.change-feed.enabled:true}") boolean enabled,
+                               @Value("${application.change-feed.channel:payment_changes}") String channel) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.channel = channel;
+    }
+
+    public void publish(ChangeEvent event) {
+
+        if (!enabled) {
+            return;
+        }
+
+        jdbcTemplate.queryForObject(NOTIFY_QUERY, Long.class, channel, toPayload(event));
+    }
+
+    public void publishAll(List<ChangeEvent> events) {
+
+        if (!enabled || events.isEmpty()) {
+            return;
+        }
+
+        if (events.size() == 1) {
+            publish(events.getFirst());
+            return;
+        }
+
+        Object[] payloads = events.stream().map(this::toPayload).toArray();
+
+        jdbcTemplate.execute(NOTIFY_ALL_QUERY, (PreparedStatement statement) -> {
+            Array array = statement.getConnection().createArrayOf("text", payloads);
+            try {
+                statement.setString(1, channel);
+                statement.setArray(2, array);
+                statement.execute();
+                return null;
+            } finally {
+                array.free();
+            }
+        });
+    }
+
+    private String toPayload(ChangeEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Change event " + event.type() + " for " + event.id() + " could not be serialized", e);
+        }
+    }
+}
@@ -1,6 +0,0 @@
-package com.example.regular_payment.utils.enums;
-
-public enum InstructionStatus {
-    ACTIVE,
-    CANCELED
-}
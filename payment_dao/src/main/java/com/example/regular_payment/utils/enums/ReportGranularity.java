@@ -0,0 +1,25 @@
+package com.example.regular_payment.utils.enums;
+
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+@Getter
+public enum ReportGranularity {
+
+    DAY("day"),
+
+    MONTH("month");
+
+    private final String truncUnit;
+
+    ReportGranularity(String truncUnit) {
+        this.truncUnit = truncUnit;
+    }
+
+    public ZonedDateTime periodStart(ZonedDateTime time) {
+        ZonedDateTime day = time.truncatedTo(ChronoUnit.DAYS);
+        return this == MONTH ? day.withDayOfMonth(1) : day;
+    }
+}
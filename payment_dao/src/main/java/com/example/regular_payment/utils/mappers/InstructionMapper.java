@@ -1,8 +1,8 @@
 package com.example.regular_payment.utils.mappers;
 
 import com.example.regular_payment.dtos.InstructionCreateDTO;
-import com.example.regular_payment.dtos.InstructionDTO;
 import com.example.regular_payment.models.Instruction;
+import com.test.payment_wire.InstructionDTO;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
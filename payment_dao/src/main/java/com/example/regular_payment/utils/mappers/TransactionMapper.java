@@ -1,8 +1,10 @@
 package com.example.regular_payment.utils.mappers;
 
+import com.example.regular_payment.dtos.InstructionPaymentSummaryDTO;
 import com.example.regular_payment.dtos.TransactionCreateDTO;
 import com.example.regular_payment.dtos.TransactionDTO;
 import com.example.regular_payment.models.Instruction;
+import com.example.regular_payment.models.InstructionPaymentSummary;
 import com.example.regular_payment.models.Transaction;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -22,6 +24,8 @@ public interface TransactionMapper {
     @Mapping(target = "id", ignore = true)
     Transaction toEntity(TransactionCreateDTO dto);
 
+    InstructionPaymentSummaryDTO toSummaryDTO(InstructionPaymentSummary summary);
+
     @Named("toInstructionId")
     default Long toInstructionId(Instruction instruction) {
         if (instruction == null) {
@@ -0,0 +1,128 @@
+package com.example.regular_payment.utils.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class QueryMetricsListener implements QueryExecutionListener {
+
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final StatementCounter statementCounter;
+    private final long slowQueryThresholdMillis;
+
+    public QueryMetricsListener(MeterRegistry meterRegistry, StatementCounter statementCounter, Duration slowQueryThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementCounter = statementCounter;
+        this.slowQueryThresholdMillis = slowQueryThreshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.getFirst().getQuery();
+
+        Timer.builder("dao.db.statement")
+                .description("JDBC statement execution time")
+                .tag("operation", operationOf(sql))
+                .tag("table", tableOf(sql))
+                .tag("batch", String.valueOf(execInfo.isBatch()))
+                .tag("outcome", execInfo.isSuccess() ? "success" : "error")
+                .register(meterRegistry)
+                .record(execInfo.getElapsedTime(), TimeUnit.MILLISECONDS);
+
+        statementCounter.increment();
+
+        if (execInfo.getElapsedTime() >= slowQueryThresholdMillis) {
+            log.warn("Slow query ({} ms, batch size {}): {} params={}",
+                    execInfo.getElapsedTime(), execInfo.getBatchSize(), sql, parameterShapes(queryInfoList));
+        }
+    }
+
+    static String operationOf(String sql) {
+
+        String trimmed = sql.stripLeading();
+        int end = 0;
+
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+
+        return end == 0 ? UNKNOWN : trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+
+    static String tableOf(String sql) {
+
+        String normalized = sql.toLowerCase(Locale.ROOT);
+
+        for (String keyword : new String[]{" into ", " from ", "update "}) {
+            int index = normalized.indexOf(keyword);
+
+            if (index >= 0) {
+                return identifierAt(normalized, index + keyword.length());
+            }
+        }
+
+        return UNKNOWN;
+    }
+
+    private static String identifierAt(String sql, int start) {
+
+        int begin = start;
+
+        while (begin < sql.length() && Character.isWhitespace(sql.charAt(begin))) {
+            begin++;
+        }
+
+        int end = begin;
+
+        while (end < sql.length() && (Character.isLetterOrDigit(sql.charAt(end)) || sql.charAt(end) == '_')) {
+            end++;
+        }
+
+        return end == begin ? UNKNOWN : sql.substring(begin, end);
+    }
+
+    // Only types are logged: bound values carry payer PII (IIN, card number).
+    private static String parameterShapes(List<QueryInfo> queryInfoList) {
+
+        if (queryInfoList.isEmpty() || queryInfoList.getFirst().getParametersList().isEmpty()) {
+            return "[]";
+        }
+
+        List<List<ParameterSetOperation>> parameterSets = queryInfoList.getFirst().getParametersList();
+
+        String shape = parameterSets.getFirst().stream()
+                .map(QueryMetricsListener::shapeOf)
+                .collect(Collectors.joining(", ", "[", "]"));
+
+        return parameterSets.size() > 1 ? shape + " x" + parameterSets.size() : shape;
+    }
+
+    private static String shapeOf(ParameterSetOperation operation) {
+
+        Object[] args = operation.getArgs();
+
+        if ("setNull".equals(operation.getMethod().getName()) || args.length < 2 || args[1] == null) {
+            return "null";
+        }
+
+        return args[1].getClass().getSimpleName();
+    }
+}
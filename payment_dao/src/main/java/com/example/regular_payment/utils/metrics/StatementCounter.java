@@ -0,0 +1,25 @@
+package com.example.regular_payment.utils.metrics;
+
+public class StatementCounter {
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    public void start() {
+        CURRENT.set(new int[1]);
+    }
+
+    public void increment() {
+        int[] counter = CURRENT.get();
+
+        if (counter != null) {
+            counter[0]++;
+        }
+    }
+
+    public int stop() {
+        int[] counter = CURRENT.get();
+        CURRENT.remove();
+
+        return counter == null ? 0 : counter[0];
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.regular_payment.utils.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+@Slf4j
+public class StatementCountingFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final StatementCounter statementCounter;
+    private final int warnThreshold;
+
+    public StatementCountingFilter(MeterRegistry meterRegistry, StatementCounter statementCounter, int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementCounter = statementCounter;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        statementCounter.start();
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = statementCounter.stop();
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+            DistributionSummary.builder("dao.db.statements.per.request")
+                    .description("JDBC statements executed while serving one HTTP request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(statements);
+
+            if (statements >= warnThreshold) {
+                log.warn("{} {} executed {} statements", request.getMethod(), uri, statements);
+            }
+        }
+    }
+}
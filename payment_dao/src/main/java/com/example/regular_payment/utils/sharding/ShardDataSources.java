@@ -0,0 +1,31 @@
+package com.example.regular_payment.utils.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ShardDataSources implements DisposableBean {
+
+    private final Map<Integer, DataSource> dataSources;
+
+    public ShardDataSources(Map<Integer, DataSource> dataSources) {
+        this.dataSources = Collections.unmodifiableMap(new LinkedHashMap<>(dataSources));
+    }
+
+    public Map<Integer, DataSource> getDataSources() {
+        return dataSources;
+    }
+
+    @Override
+    public void destroy() {
+        dataSources.values().forEach(dataSource -> {
+            if (dataSource instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        });
+    }
+}
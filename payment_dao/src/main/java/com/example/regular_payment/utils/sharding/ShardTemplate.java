@@ -0,0 +1,228 @@
+package com.example.regular_payment.utils.sharding;
+
+import com.example.regular_payment.configurations.ShardingProperties;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Component
+public class ShardTemplate implements DisposableBean {
+
+    public static final int SHARD_ID_SHIFT = 48;
+
+    private final int shardCount;
+    private final TransactionTemplate readOnlyTemplate;
+    private final TransactionTemplate readWriteTemplate;
+    // Shard tasks carry the caller's observation, so their repository spans stay in the request's trace.
+    private final ExecutorService executor = ContextExecutorService.wrap(
+            Executors.newVirtualThreadPerTaskExecutor(), ContextSnapshotFactory.builder().build()::captureAll);
+
+    @Autowired
+    public ShardTemplate(ShardingProperties shardingProperties, PlatformTransactionManager transactionManager) {
+        this.shardCount = Math.max(1, shardingProperties.getShards().size());
+
+        this.readWriteTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    public static long shardIdBase(int shard) {
+        return (long) shard << SHARD_ID_SHIFT;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    public List<Integer> allShards() {
+        return IntStream.range(0, shardCount).boxed().toList();
+    }
+
+    public int shardForIin(String payerIin) {
+        return Math.floorMod(Objects.hashCode(payerIin), shardCount);
+    }
+
+    public int shardForId(Long id) {
+
+        if (id == null) {
+            return 0;
+        }
+
+        long shard = id >>> SHARD_ID_SHIFT;
+
+        if (shard >= shardCount) {
+            throw new IllegalArgumentException("ID " + id + " does not belong to any configured shard.");
+        }
+
+        return (int) shard;
+    }
+
+    /**
+     * Pins the current transaction to a shard. Must run before the transaction's first statement;
+     * the binding is released when the transaction completes.
+     */
+    public void bind(int shard) {
+
+        if (!isSharded()) {
+            return;
+        }
+
+        Integer current = ShardContext.current();
+
+        if (current != null) {
+            if (current != shard) {
+                throw new IllegalStateException("Transaction is bound to shard " + current + " and cannot use shard " + shard + ".");
+            }
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("A shard can only be bound inside a transaction.");
+        }
+
+        ShardContext.set(shard);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                ShardContext.clear();
+            }
+        });
+    }
+
+    public <T> T execute(int shard, Supplier<T> action) {
+
+        if (!isSharded()) {
+            return action.get();
+        }
+
+        Integer previous = ShardContext.current();
+
+        if (previous != null && previous != shard && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Cannot switch to shard " + shard + " inside a transaction bound to shard " + previous + ".");
+        }
+
+        ShardContext.set(shard);
+        try {
+            return action.get();
+        } finally {
+            ShardContext.set(previous);
+        }
+    }
+
+    /**
+     * Runs a write for {@code shard} along with the current transaction: inside it when it already uses that shard
+     * (always without sharding), so both commit together, otherwise in a transaction of its own once the current one
+     * has committed. Nothing runs if the current transaction rolls back. A failure after the commit cannot undo the
+     * caller's write, so it is logged rather than thrown.
+     */
+    public void onCommit(int shard, Runnable action) {
+
+        if (!isSharded() || Objects.equals(ShardContext.current(), shard)) {
+            action.run();
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("A write can only follow a transaction from inside one.");
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    scatter(List.of(shard), false, target -> {
+                        action.run();
+                        return List.of();
+                    });
+                } catch (RuntimeException e) {
+                    log.error("Write on shard {} after commit failed.", shard, e);
+                }
+            }
+        });
+    }
+
+    public <T> List<T> scatter(IntFunction<List<T>> perShard) {
+        return scatter(allShards(), true, perShard);
+    }
+
+    public <T> List<T> scatter(Collection<Integer> shards, boolean readOnly, IntFunction<List<T>> perShard) {
+
+        List<T> result = new ArrayList<>();
+
+        if (!isSharded()) {
+            shards.forEach(shard -> result.addAll(perShard.apply(shard)));
+            return result;
+        }
+
+        TransactionTemplate template = readOnly ? readOnlyTemplate : readWriteTemplate;
+
+        List<Future<List<T>>> futures = shards.stream()
+                .map(shard -> executor.submit(() -> {
+                    ShardContext.set(shard);
+                    try {
+                        return template.execute(status -> perShard.apply(shard));
+                    } finally {
+                        ShardContext.clear();
+                    }
+                }))
+                .toList();
+
+        // Every shard is awaited before a failure is rethrown, so the caller never sees an error while another
+        // shard's write is still in flight. Writes are not atomic across shards: shards that succeeded stay committed.
+        RuntimeException failure = null;
+
+        for (Future<List<T>> future : futures) {
+            try {
+                result.addAll(future.get());
+            } catch (ExecutionException e) {
+                RuntimeException shardFailure = e.getCause() instanceof RuntimeException runtimeException
+                        ? runtimeException
+                        : new IllegalStateException("Shard operation failed", e.getCause());
+                if (failure == null) {
+                    failure = shardFailure;
+                } else {
+                    failure.addSuppressed(shardFailure);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for shard results", e);
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
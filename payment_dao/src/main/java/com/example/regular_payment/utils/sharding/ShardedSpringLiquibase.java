@@ -0,0 +1,54 @@
+package com.example.regular_payment.utils.sharding;
+
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+@Slf4j
+public class ShardedSpringLiquibase extends SpringLiquibase {
+
+    private static final String[] ID_TABLES = {"payment_instruction", "payment_transactions"};
+
+    private final ShardDataSources shardDataSources;
+
+    public ShardedSpringLiquibase(ShardDataSources shardDataSources) {
+        this.shardDataSources = shardDataSources;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws LiquibaseException {
+
+        for (Map.Entry<Integer, DataSource> shard : shardDataSources.getDataSources().entrySet()) {
+
+            log.info("Running Liquibase on shard {}", shard.getKey());
+
+            setDataSource(shard.getValue());
+            super.afterPropertiesSet();
+
+            alignIdSequences(shard.getKey(), shard.getValue());
+        }
+    }
+
+    // Every shard hands out ids from its own range so the shard can be recovered from the id alone.
+    private void alignIdSequences(int shard, DataSource dataSource) {
+
+        long base = ShardTemplate.shardIdBase(shard);
+
+        if (base == 0) {
+            return;
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        for (String table : ID_TABLES) {
+            jdbcTemplate.queryForList(
+                    "SELECT setval(pg_get_serial_sequence(?, 'id'), ?, false) " +
+                            "WHERE NOT EXISTS (SELECT 1 FROM " + table + " WHERE id >= ?)",
+                    table, base, base);
+        }
+    }
+}
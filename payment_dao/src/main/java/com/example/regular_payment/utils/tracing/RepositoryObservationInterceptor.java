@@ -0,0 +1,38 @@
+package com.example.regular_payment.utils.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Observes each repository call as {@code dao.repository}, named {@code <Repository>.<method>} in traces, so the
+ * time a request spends in the database shows up per call next to its HTTP and serialisation time.
+ */
+public class RepositoryObservationInterceptor implements MethodInterceptor {
+
+    private final ObservationRegistry observationRegistry;
+    private final String repository;
+
+    public RepositoryObservationInterceptor(ObservationRegistry observationRegistry, String repository) {
+        this.observationRegistry = observationRegistry;
+        this.repository = repository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+
+        String method = invocation.getMethod().getName();
+
+        if (ReflectionUtils.isObjectMethod(invocation.getMethod())) {
+            return invocation.proceed();
+        }
+
+        return Observation.createNotStarted("dao.repository", observationRegistry)
+                .contextualName(repository + "." + method)
+                .lowCardinalityKeyValue("repository", repository)
+                .lowCardinalityKeyValue("method", method)
+                .observeChecked(invocation::proceed);
+    }
+}
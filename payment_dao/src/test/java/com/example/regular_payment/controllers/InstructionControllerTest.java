@@ -1,14 +1,17 @@
 package com.example.regular_payment.controllers;
 
 import com.example.regular_payment.dtos.InstructionCreateDTO;
-import com.example.regular_payment.dtos.InstructionDTO;
 import com.example.regular_payment.models.Instruction;
 import com.example.regular_payment.services.InstructionService;
-import com.example.regular_payment.utils.enums.InstructionStatus;
 import com.example.regular_payment.utils.exceptions.InstructionNotFoundException;
 import com.example.regular_payment.utils.mappers.InstructionMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.test.payment_wire.InstructionDTO;
+import com.test.payment_wire.InstructionStatus;
+import com.test.payment_wire.http.SmileConverters;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -19,8 +22,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -30,10 +37,16 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -51,9 +64,39 @@ public class InstructionControllerTest {
     @MockitoBean
     private InstructionService instructionService;
 
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter;
+
 
     private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
 
+    private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+
+    @Test
+    void shouldCreateInstructionsBatchAndReturn201() throws Exception {
+
+        Instruction savedEntity = createInstructionEntity();
+        savedEntity.setId(100L);
+
+        when(instructionMapper.toEntity(any(InstructionCreateDTO.class))).thenReturn(createInstructionEntity());
+        when(instructionService.saveInstructionsBatch(anyList())).thenReturn(List.of(savedEntity, savedEntity));
+        when(instructionMapper.toDTO(any(Instruction.class))).thenReturn(createInstructionDTO(100L));
+
+        String jsonRequest = objectMapper.writeValueAsString(List.of(createInstructionCreateDTO(), createInstructionCreateDTO()));
+
+        mockMvc.perform(post("/instructions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonRequest))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", is(100)));
+
+        verify(instructionService).saveInstructionsBatch(argThat(instructions -> instructions.size() == 2));
+    }
+
     @Test
     void shouldCreateInstructionAndReturn201() throws Exception {
 
@@ -375,6 +418,89 @@ public class InstructionControllerTest {
         verify(instructionService).getScheduledInstructions(eq(pageable));
     }
 
+    @Test
+    void getScheduledInstructions_ShouldRespondWithSmile_WhenRequested() throws Exception {
+
+        Instruction instruction = createInstructionEntity();
+        instruction.setId(10L);
+
+        when(instructionService.getScheduledInstructions(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(instruction), PageRequest.of(0, 1000), false));
+        when(instructionMapper.toDTO(instruction)).thenReturn(createInstructionDTO(10L));
+
+        byte[] body = mockMvc.perform(get("/instructions/scheduled")
+                        .accept(SmileConverters.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SmileConverters.APPLICATION_SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<InstructionDTO> dtos = smileMapper.readValue(body, new TypeReference<>() {});
+
+        assertEquals(1, dtos.size());
+        assertEquals(10L, dtos.getFirst().id());
+        assertEquals(new BigDecimal("500.50"), dtos.getFirst().amount());
+    }
+
+    @Test
+    void getScheduledInstructions_ShouldWriteSmileWithBootConfiguredMapper() throws Exception {
+
+        HttpMessageConverter<?> smileWriter = handlerAdapter.getMessageConverters().stream()
+                .filter(converter -> converter.canWrite(List.class, SmileConverters.APPLICATION_SMILE))
+                .findFirst()
+                .orElseThrow();
+
+        assertSame(smileHttpMessageConverter, smileWriter);
+
+        Instruction instruction = createInstructionEntity();
+        instruction.setId(10L);
+
+        when(instructionService.getScheduledInstructions(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(instruction), PageRequest.of(0, 1000), false));
+        when(instructionMapper.toDTO(instruction)).thenReturn(createInstructionDTO(10L));
+
+        byte[] body = mockMvc.perform(get("/instructions/scheduled")
+                        .accept(SmileConverters.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // spring.jackson.* applies: dates go out as ISO-8601 strings, not numeric timestamps.
+        JsonNode scheduled = smileMapper.readTree(body).get(0);
+        assertTrue(scheduled.get("nextExecutionAt").isTextual());
+    }
+
+    @Test
+    void getScheduledInstructions_ShouldRespondWithJson_WhenAnyTypeAccepted() throws Exception {
+
+        when(instructionService.getScheduledInstructions(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), PageRequest.of(0, 1000), false));
+
+        mockMvc.perform(get("/instructions/scheduled")
+                        .accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void shouldCreateInstructionsBatchFromSmileRequest() throws Exception {
+
+        Instruction savedEntity = createInstructionEntity();
+        savedEntity.setId(100L);
+
+        when(instructionMapper.toEntity(any(InstructionCreateDTO.class))).thenReturn(createInstructionEntity());
+        when(instructionService.saveInstructionsBatch(anyList())).thenReturn(List.of(savedEntity));
+        when(instructionMapper.toDTO(any(Instruction.class))).thenReturn(createInstructionDTO(100L));
+
+        mockMvc.perform(post("/instructions/batch")
+                        .contentType(SmileConverters.APPLICATION_SMILE)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(smileMapper.writeValueAsBytes(List.of(createInstructionCreateDTO()))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[0].id", is(100)));
+
+        verify(instructionMapper).toEntity(argThat((InstructionCreateDTO dto) ->
+                dto.payerIin().equals("1111111118") && dto.amount().compareTo(new BigDecimal("500.50")) == 0));
+    }
+
     @Test
     void getScheduledInstructions_ShouldUseDefaultParams_WhenNoParamsProvided() throws Exception {
 
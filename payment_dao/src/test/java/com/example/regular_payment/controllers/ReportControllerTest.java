@@ -0,0 +1,78 @@
+package com.example.regular_payment.controllers;
+
+import com.example.regular_payment.dtos.SettlementPeriodDTO;
+import com.example.regular_payment.services.ReportService;
+import com.example.regular_payment.utils.enums.ReportGranularity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.function.Consumer;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@AutoConfigureMockMvc
+@WebMvcTest(ReportController.class)
+public class ReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReportService reportService;
+
+    private static final String EDRPOU = "12345678";
+    private static final String FROM = "2025-03-01T00:00:00+02:00";
+    private static final String TO = "2025-04-01T00:00:00+03:00";
+
+    @Test
+    void shouldStreamSettlementPeriodsAnd200() throws Exception {
+
+        doAnswer(invocation -> {
+            Consumer<SettlementPeriodDTO> consumer = invocation.getArgument(4);
+            consumer.accept(new SettlementPeriodDTO(OffsetDateTime.parse("2025-03-10T00:00:00+02:00"),
+                    2, new BigDecimal("150.00"), 0, BigDecimal.ZERO));
+            consumer.accept(new SettlementPeriodDTO(OffsetDateTime.parse("2025-03-11T00:00:00+02:00"),
+                    1, new BigDecimal("25.00"), 1, new BigDecimal("10.00")));
+            return null;
+        }).when(reportService).streamSettlementReport(eq(EDRPOU), eq(ReportGranularity.DAY), any(), any(), any());
+
+        MvcResult result = mockMvc.perform(get("/reports/settlement/{edrpou}", EDRPOU)
+                        .param("granularity", "DAY")
+                        .param("from", FROM)
+                        .param("to", TO))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].paymentCount", is(2)))
+                .andExpect(jsonPath("$[1].reversedCount", is(1)));
+    }
+
+    @Test
+    void shouldReturn400WhenWindowIsEmpty() throws Exception {
+
+        mockMvc.perform(get("/reports/settlement/{edrpou}", EDRPOU)
+                        .param("from", TO)
+                        .param("to", FROM))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Report window start must be before its end.")));
+
+        verifyNoInteractions(reportService);
+    }
+}
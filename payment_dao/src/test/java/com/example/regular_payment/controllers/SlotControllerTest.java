@@ -0,0 +1,63 @@
+package com.example.regular_payment.controllers;
+
+import com.example.regular_payment.services.SlotService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@AutoConfigureMockMvc
+@WebMvcTest(SlotController.class)
+public class SlotControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SlotService slotService;
+
+    @Test
+    void shouldReturnAllocatedTimesInRequestOrder() throws Exception {
+
+        when(slotService.allocate(anyList(), eq(15))).thenReturn(List.of(
+                OffsetDateTime.parse("2025-12-01T10:00:30Z"),
+                OffsetDateTime.parse("2025-12-01T10:01:00Z")));
+
+        mockMvc.perform(post("/slots/allocate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"desired": ["2025-12-01T10:00:30Z", "2025-12-01T10:00:30Z"], "toleranceMinutes": 15}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0]", is("2025-12-01T10:00:30Z")));
+    }
+
+    @Test
+    void shouldReturn400WhenToleranceIsOutOfRange() throws Exception {
+
+        when(slotService.allocate(anyList(), eq(5000)))
+                .thenThrow(new IllegalArgumentException("Slot tolerance must be between 0 and 1440 minutes."));
+
+        mockMvc.perform(post("/slots/allocate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"desired": ["2025-12-01T10:00:30Z"], "toleranceMinutes": 5000}
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,15 +1,18 @@
 package com.example.regular_payment.controllers;
 
+import com.example.regular_payment.dtos.InstructionPaymentSummaryDTO;
 import com.example.regular_payment.dtos.TransactionCreateDTO;
 import com.example.regular_payment.dtos.TransactionDTO;
 import com.example.regular_payment.models.Instruction;
+import com.example.regular_payment.models.InstructionPaymentSummary;
 import com.example.regular_payment.models.Transaction;
 import com.example.regular_payment.services.TransactionService;
-import com.example.regular_payment.utils.enums.TransactionStatus;
+import com.example.regular_payment.utils.exceptions.InstructionNotFoundException;
 import com.example.regular_payment.utils.exceptions.TransactionNotFoundException;
 import com.example.regular_payment.utils.mappers.TransactionMapper;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.test.payment_wire.TransactionStatus;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -55,7 +58,7 @@ public class TransactionControllerTest {
     private static final Long TEST_INSTRUCTION_ID = 100L;
     private static final Long TRANSACTION_ID = 200L;
     private static final Long NON_EXISTENT_ID = 999L;
-    private static final String IDEMPOTENCY_KEY = UUID.randomUUID().toString();
+    private static final UUID IDEMPOTENCY_KEY = UUID.randomUUID();
 
 
 
@@ -66,7 +69,7 @@ public class TransactionControllerTest {
 
         return new TransactionCreateDTO(
                 instruction,
-                UUID.randomUUID().toString(),
+                UUID.randomUUID(),
                 new BigDecimal("50.00"),
                 OffsetDateTime.ofInstant(Instant.parse("2026-11-29T10:00:00Z"), ZoneOffset.ofHours(2)).truncatedTo(ChronoUnit.SECONDS),
                 "A"
@@ -323,6 +326,36 @@ public class TransactionControllerTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    void shouldReturnPaymentSummaryAnd200() throws Exception {
+
+        InstructionPaymentSummary summary = new InstructionPaymentSummary();
+        summary.setInstructionId(TEST_INSTRUCTION_ID);
+
+        when(transactionService.getPaymentSummary(eq(TEST_INSTRUCTION_ID))).thenReturn(summary);
+        when(transactionMapper.toSummaryDTO(eq(summary))).thenReturn(new InstructionPaymentSummaryDTO(
+                TEST_INSTRUCTION_ID, 3, new BigDecimal("150.00"), 1, new BigDecimal("50.00"), null));
+
+        mockMvc.perform(get("/transactions/instruction/{instructionId}/summary", TEST_INSTRUCTION_ID)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.instructionId", is(TEST_INSTRUCTION_ID.intValue())))
+                .andExpect(jsonPath("$.paymentCount", is(3)))
+                .andExpect(jsonPath("$.totalAmount", is(150.00)))
+                .andExpect(jsonPath("$.reversedCount", is(1)));
+    }
+
+    @Test
+    void shouldReturn404WhenSummaryInstructionNotFound() throws Exception {
+
+        when(transactionService.getPaymentSummary(eq(NON_EXISTENT_ID)))
+                .thenThrow(new InstructionNotFoundException("Instruction with ID " + NON_EXISTENT_ID + " not found."));
+
+        mockMvc.perform(get("/transactions/instruction/{instructionId}/summary", NON_EXISTENT_ID)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+    }
+
     private Transaction createValidTransaction() {
 
         Instruction instruction = new Instruction();
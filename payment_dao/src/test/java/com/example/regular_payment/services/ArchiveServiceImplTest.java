@@ -0,0 +1,227 @@
+package com.example.regular_payment.services;
+
+import com.example.regular_payment.models.Instruction;
+import com.example.regular_payment.models.InstructionPaymentSummary;
+import com.example.regular_payment.models.Transaction;
+import com.example.regular_payment.repositories.InstructionPaymentSummaryRepository;
+import com.example.regular_payment.repositories.InstructionRepository;
+import com.example.regular_payment.repositories.TransactionRepository;
+import com.example.regular_payment.utils.archive.TransactionArchive;
+import com.test.payment_wire.InstructionStatus;
+import com.test.payment_wire.TransactionStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@Testcontainers
+public class ArchiveServiceImplTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @TempDir
+    static Path archiveDirectory;
+
+    @DynamicPropertySource
+    static void archiveProperties(DynamicPropertyRegistry registry) {
+        registry.add("application.archive.directory", () -> archiveDirectory.toString());
+        registry.add("application.archive.retention", () -> "365d");
+    }
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionArchive transactionArchive;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private InstructionRepository instructionRepository;
+
+    @Autowired
+    private InstructionPaymentSummaryRepository summaryRepository;
+
+    @Test
+    void shouldMoveOldTransactionsToArchiveAndKeepHistoryComplete() {
+
+        Instruction instruction = createAndSaveInstruction();
+
+        Transaction old = createAndSaveTransaction(instruction, "100.00", OffsetDateTime.now().minusDays(500));
+        Transaction recent = createAndSaveTransaction(instruction, "50.00", OffsetDateTime.now().minusDays(1));
+
+        int archived = archiveService.archiveOldTransactions();
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(transactionRepository.existsById(old.getId())).isFalse();
+        assertThat(transactionRepository.existsById(recent.getId())).isTrue();
+
+        List<Transaction> history = transactionService.getTransactionsByInstruction(instruction.getId());
+
+        assertThat(history).extracting(Transaction::getId).containsExactly(old.getId(), recent.getId());
+        assertThat(history.getFirst().getAmount()).isEqualByComparingTo("100.00");
+        assertThat(history.getFirst().getIdempotencyId()).isEqualTo(old.getIdempotencyId());
+        assertThat(archiveService.archiveOldTransactions()).isZero();
+    }
+
+    @Test
+    void shouldPreferHotCopyWhenRowIsInBothPlaces() throws Exception {
+
+        Instruction instruction = createAndSaveInstruction();
+
+        Transaction transaction = createAndSaveTransaction(instruction, "100.00", OffsetDateTime.now().minusDays(2));
+
+        transactionArchive.append(List.of(transaction));
+
+        transaction.setTransactionStatus(TransactionStatus.REVERSED.getStatusCode());
+        transactionRepository.saveAndFlush(transaction);
+
+        List<Transaction> history = transactionService.getTransactionsByInstruction(instruction.getId());
+
+        assertThat(history).hasSize(1);
+        assertThat(history.getFirst().getTransactionStatus()).isEqualTo(TransactionStatus.REVERSED.getStatusCode());
+    }
+
+    @Test
+    void shouldFindArchivedTransactionById() {
+
+        Instruction instruction = createAndSaveInstruction();
+
+        Transaction old = createAndSaveTransaction(instruction, "100.00", OffsetDateTime.now().minusDays(500));
+
+        archiveService.archiveOldTransactions();
+
+        Transaction result = transactionService.getTransaction(old.getId());
+
+        assertThat(result.getId()).isEqualTo(old.getId());
+        assertThat(result.getInstruction().getId()).isEqualTo(instruction.getId());
+        assertThat(result.getIdempotencyId()).isEqualTo(old.getIdempotencyId());
+        assertThat(transactionRepository.existsById(old.getId())).isFalse();
+    }
+
+    @Test
+    void shouldRestoreArchivedTransactionWhenReversed() {
+
+        Instruction instruction = createAndSaveInstruction();
+
+        Transaction old = createAndSaveTransaction(instruction, "100.00", OffsetDateTime.now().minusDays(500));
+
+        archiveService.archiveOldTransactions();
+
+        transactionService.deleteTransaction(old.getId());
+
+        assertThat(transactionRepository.findById(old.getId()))
+                .get()
+                .extracting(Transaction::getTransactionStatus)
+                .isEqualTo(TransactionStatus.REVERSED.getStatusCode());
+
+        List<Transaction> history = transactionService.getTransactionsByInstruction(instruction.getId());
+
+        assertThat(history).hasSize(1);
+        assertThat(history.getFirst().getTransactionStatus()).isEqualTo(TransactionStatus.REVERSED.getStatusCode());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldRestoreArchivedTransactionOnceWhenReversedConcurrently() throws Exception {
+
+        Instruction instruction = createAndSaveInstruction();
+
+        Transaction old = createAndSaveTransaction(instruction, "100.00", OffsetDateTime.now().minusDays(500));
+
+        try {
+            archiveService.archiveOldTransactions();
+
+            CountDownLatch start = new CountDownLatch(1);
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+                List<Future<?>> reversals = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    reversals.add(executor.submit(() -> {
+                        start.await();
+                        transactionService.deleteTransaction(old.getId());
+                        return null;
+                    }));
+                }
+
+                start.countDown();
+
+                for (Future<?> reversal : reversals) {
+                    reversal.get();
+                }
+            }
+
+            InstructionPaymentSummary summary = transactionService.getPaymentSummary(instruction.getId());
+
+            assertThat(transactionRepository.findById(old.getId()))
+                    .get()
+                    .extracting(Transaction::getTransactionStatus)
+                    .isEqualTo(TransactionStatus.REVERSED.getStatusCode());
+            assertThat(summary.getReversedCount()).isEqualTo(1);
+        } finally {
+            transactionRepository.deleteById(old.getId());
+            summaryRepository.deleteById(instruction.getId());
+            instructionRepository.deleteById(instruction.getId());
+        }
+    }
+
+    private Transaction createAndSaveTransaction(Instruction instruction, String amount, OffsetDateTime transactionTime) {
+        Transaction transaction = new Transaction();
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setIdempotencyId(UUID.randomUUID());
+        transaction.setTransactionStatus(TransactionStatus.ACTIVE.getStatusCode());
+        transaction.setTransactionTime(transactionTime.truncatedTo(ChronoUnit.MICROS));
+        transaction.setInstruction(instruction);
+        return transactionRepository.saveAndFlush(transaction);
+    }
+
+    private Instruction createAndSaveInstruction() {
+        Instruction instruction = new Instruction();
+        instruction.setPayerFirstName("Taras");
+        instruction.setPayerSecondName("Ivanko");
+        instruction.setPayerPatronymic("Tarasovich");
+        instruction.setAmount(new BigDecimal("100.00"));
+        instruction.setPayerIin("1234567890");
+        instruction.setPayerCardNumber("1234567812345678");
+        instruction.setRecipientSettlementAccount("12345678123456781234567812345");
+        instruction.setRecipientBankCode("000000");
+        instruction.setRecipientEdrpou("12345678");
+        instruction.setRecipientName("Taras Ivanko");
+        instruction.setPeriodUnit(ChronoUnit.MONTHS);
+        instruction.setPeriodValue(1);
+        instruction.setNextExecutionAt(OffsetDateTime.now().plusDays(1));
+        instruction.setInstructionStatus(InstructionStatus.ACTIVE);
+
+        return instructionRepository.save(instruction);
+    }
+}
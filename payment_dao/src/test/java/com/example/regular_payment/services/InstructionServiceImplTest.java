@@ -1,11 +1,11 @@
 package com.example.regular_payment.services;
 
-import com.example.regular_payment.dtos.InstructionDTO;
 import com.example.regular_payment.models.Instruction;
 import com.example.regular_payment.repositories.InstructionRepository;
 import com.example.regular_payment.services.impl.InstructionServiceImpl;
-import com.example.regular_payment.utils.enums.InstructionStatus;
 import com.example.regular_payment.utils.exceptions.InstructionNotFoundException;
+import com.test.payment_wire.InstructionDTO;
+import com.test.payment_wire.InstructionStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +15,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -53,9 +54,13 @@ public class InstructionServiceImplTest {
     @Autowired
     private InstructionRepository instructionRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setUp() {
         instructionRepository.deleteAll();
+        jdbcTemplate.execute("DELETE FROM execution_slot");
     }
 
     @Test
@@ -92,6 +97,50 @@ public class InstructionServiceImplTest {
         assertThat(fetchedInstruction.get().getPeriodUnit()).isEqualTo(ChronoUnit.MONTHS);
     }
 
+    @Test
+    void saveInstructionsBatch_shouldInsertAllInstructionsInInputOrder() {
+
+        Instruction first = buildInstruction("12345678", "1111111118", "Taras");
+        Instruction second = buildInstruction("87654321", "1234567899", "Ivan");
+
+        List<Instruction> saved = instructionService.saveInstructionsBatch(List.of(first, second));
+
+        assertThat(saved).hasSize(2);
+        assertThat(saved.get(0).getId()).isNotNull();
+        assertThat(saved.get(1).getId()).isNotNull().isNotEqualTo(saved.get(0).getId());
+
+        Instruction fetched = instructionRepository.findById(saved.get(1).getId()).orElseThrow();
+
+        assertThat(fetched.getPayerFirstName()).isEqualTo("Ivan");
+        assertThat(fetched.getRecipientEdrpou()).isEqualTo("87654321");
+        assertThat(fetched.getPeriodUnit()).isEqualTo(ChronoUnit.DAYS);
+        assertThat(fetched.getInstructionStatus()).isEqualTo(InstructionStatus.ACTIVE);
+    }
+
+    @Test
+    void saveInstructionsBatch_shouldOccupyTheSlotsOfNextExecutions() {
+
+        OffsetDateTime due = OffsetDateTime.parse("2030-01-01T10:00:30+02:00");
+        Instruction first = buildInstruction("12345678", "1111111118", "Taras");
+        Instruction second = buildInstruction("87654321", "1234567899", "Ivan");
+        first.setNextExecutionAt(due);
+        second.setNextExecutionAt(due);
+
+        instructionService.saveInstructionsBatch(List.of(first, second));
+
+        assertThat(occupancy(due)).isEqualTo(2);
+    }
+
+    @Test
+    void saveInstructionsBatch_shouldRejectWholeBatchWhenRowViolatesConstraint() {
+
+        Instruction invalid = buildInstruction("12345678", "1111111118", "Taras");
+        invalid.setNextExecutionAt(null);
+
+        assertThrows(DataIntegrityViolationException.class, () -> instructionService.saveInstructionsBatch(
+                List.of(buildInstruction("12345678", "1111111118", "Ivan"), invalid)));
+    }
+
     @Test
     void shouldThrowExceptionWhenNextExecutionAtIsNull() {
 
@@ -238,6 +287,36 @@ public class InstructionServiceImplTest {
                 .isEqualTo(InstructionStatus.CANCELED);
     }
 
+    @Test
+    void deleteInstruction_shouldFreeTheSlotOfItsNextExecution() {
+
+        OffsetDateTime due = OffsetDateTime.parse("2030-01-01T10:00:30+02:00");
+        Instruction instruction = buildInstruction("12345678", "12345", "Taras");
+        instruction.setNextExecutionAt(due);
+        Long id = instructionService.saveInstruction(instruction).getId();
+
+        assertThat(occupancy(due)).isEqualTo(1);
+
+        instructionService.deleteInstruction(id);
+        instructionService.deleteInstruction(id);
+
+        assertThat(occupancy(due)).isZero();
+    }
+
+    @Test
+    void updateLastAndNextExecutionTime_shouldMoveTheSlotToTheNextExecution() {
+
+        OffsetDateTime due = OffsetDateTime.parse("2030-01-01T10:00:30+02:00");
+        Instruction instruction = buildInstruction("12345678", "12345", "Taras");
+        instruction.setNextExecutionAt(due);
+        Long id = instructionService.saveInstruction(instruction).getId();
+
+        instructionService.updateLastAndNextExecutionTime(id, due, due.plusMonths(1));
+
+        assertThat(occupancy(due)).isZero();
+        assertThat(occupancy(due.plusMonths(1))).isEqualTo(1);
+    }
+
     @Test
     void shouldUpdateExecutionTimesCorrectlyAndPersist() {
 
@@ -490,6 +569,10 @@ public class InstructionServiceImplTest {
     }
 
     private void createAndSaveInstructionWithTestEdrpouAndIin(String edrpou, String iin, String firstName) {
+        instructionRepository.save(buildInstruction(edrpou, iin, firstName));
+    }
+
+    private Instruction buildInstruction(String edrpou, String iin, String firstName) {
         Instruction instruction = new Instruction();
         instruction.setPayerFirstName(firstName);
         instruction.setPayerSecondName("Ivanko");
@@ -507,6 +590,11 @@ public class InstructionServiceImplTest {
         instruction.setLastExecutionAt(null);
         instruction.setInstructionStatus(InstructionStatus.ACTIVE);
 
-        instructionRepository.save(instruction);
+        return instruction;
+    }
+
+    private int occupancy(OffsetDateTime time) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(occupancy), 0) FROM execution_slot WHERE slot_minute = ?",
+                Integer.class, time.truncatedTo(ChronoUnit.MINUTES));
     }
 }
@@ -0,0 +1,162 @@
+package com.example.regular_payment.services;
+
+import com.example.regular_payment.dtos.SettlementPeriodDTO;
+import com.example.regular_payment.models.Instruction;
+import com.example.regular_payment.models.Transaction;
+import com.example.regular_payment.repositories.InstructionRepository;
+import com.example.regular_payment.repositories.TransactionRepository;
+import com.example.regular_payment.services.impl.ReportServiceImpl;
+import com.example.regular_payment.utils.enums.ReportGranularity;
+import com.test.payment_wire.InstructionStatus;
+import com.test.payment_wire.TransactionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@Testcontainers
+public class ReportServiceImplTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static final String EDRPOU = "12345678";
+    private static final OffsetDateTime FROM = OffsetDateTime.parse("2025-03-01T00:00:00+02:00");
+    private static final OffsetDateTime TO = OffsetDateTime.parse("2025-05-01T00:00:00+03:00");
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private InstructionRepository instructionRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(ReportServiceImpl.SETTLEMENT_CACHE).clear();
+    }
+
+    @Test
+    void shouldAggregateRecipientPaymentsPerDay() {
+
+        Instruction instruction = createAndSaveInstruction(EDRPOU);
+        Instruction otherRecipient = createAndSaveInstruction("87654321");
+
+        createAndSaveTransaction(instruction, "100.00", "2025-03-10T09:00:00+02:00");
+        createAndSaveTransaction(instruction, "50.00", "2025-03-10T23:30:00+02:00");
+        createAndSaveTransaction(instruction, "25.00", "2025-03-11T08:00:00+02:00");
+        createAndSaveTransaction(otherRecipient, "999.00", "2025-03-10T09:00:00+02:00");
+
+        List<SettlementPeriodDTO> periods = report(ReportGranularity.DAY, FROM, TO);
+
+        assertThat(periods).hasSize(2);
+        assertThat(periods.get(0).periodStart()).isAtSameInstantAs(OffsetDateTime.parse("2025-03-10T00:00:00+02:00"));
+        assertThat(periods.get(0).paymentCount()).isEqualTo(2);
+        assertThat(periods.get(0).totalAmount()).isEqualByComparingTo("150.00");
+        assertThat(periods.get(1).totalAmount()).isEqualByComparingTo("25.00");
+    }
+
+    @Test
+    void shouldAggregateRecipientPaymentsPerMonth() {
+
+        Instruction instruction = createAndSaveInstruction(EDRPOU);
+
+        createAndSaveTransaction(instruction, "100.00", "2025-03-10T09:00:00+02:00");
+        createAndSaveTransaction(instruction, "100.00", "2025-03-20T09:00:00+02:00");
+        createAndSaveTransaction(instruction, "40.00", "2025-04-02T09:00:00+03:00");
+
+        List<SettlementPeriodDTO> periods = report(ReportGranularity.MONTH, FROM, TO);
+
+        assertThat(periods).extracting(SettlementPeriodDTO::paymentCount).containsExactly(2L, 1L);
+        assertThat(periods.get(0).totalAmount()).isEqualByComparingTo("200.00");
+        assertThat(periods.get(1).periodStart()).isAtSameInstantAs(OffsetDateTime.parse("2025-04-01T00:00:00+03:00"));
+    }
+
+    @Test
+    void shouldReflectReversalInCachedClosedPeriod() {
+
+        Instruction instruction = createAndSaveInstruction(EDRPOU);
+
+        Transaction transaction = createAndSaveTransaction(instruction, "100.00", "2025-03-10T09:00:00+02:00");
+
+        assertThat(report(ReportGranularity.DAY, FROM, TO).getFirst().reversedCount()).isZero();
+
+        transactionService.deleteTransaction(transaction.getId());
+
+        SettlementPeriodDTO period = report(ReportGranularity.DAY, FROM, TO).getFirst();
+
+        assertThat(period.paymentCount()).isZero();
+        assertThat(period.reversedCount()).isEqualTo(1);
+        assertThat(period.reversedAmount()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    void shouldRejectEmptyWindow() {
+
+        assertThatThrownBy(() -> report(ReportGranularity.DAY, TO, FROM))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<SettlementPeriodDTO> report(ReportGranularity granularity, OffsetDateTime from, OffsetDateTime to) {
+        List<SettlementPeriodDTO> periods = new ArrayList<>();
+        reportService.streamSettlementReport(EDRPOU, granularity, from, to, periods::add);
+        return periods;
+    }
+
+    private Transaction createAndSaveTransaction(Instruction instruction, String amount, String transactionTime) {
+        Transaction transaction = new Transaction();
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setIdempotencyId(UUID.randomUUID());
+        transaction.setTransactionStatus(TransactionStatus.ACTIVE.getStatusCode());
+        transaction.setTransactionTime(OffsetDateTime.parse(transactionTime));
+        transaction.setInstruction(instruction);
+        return transactionRepository.saveAndFlush(transaction);
+    }
+
+    private Instruction createAndSaveInstruction(String edrpou) {
+        Instruction instruction = new Instruction();
+        instruction.setPayerFirstName("Taras");
+        instruction.setPayerSecondName("Ivanko");
+        instruction.setPayerPatronymic("Tarasovich");
+        instruction.setAmount(new BigDecimal("100.00"));
+        instruction.setPayerIin("1234567890");
+        instruction.setPayerCardNumber("1234567812345678");
+        instruction.setRecipientSettlementAccount("12345678123456781234567812345");
+        instruction.setRecipientBankCode("000000");
+        instruction.setRecipientEdrpou(edrpou);
+        instruction.setRecipientName("Taras Ivanko");
+        instruction.setPeriodUnit(ChronoUnit.MONTHS);
+        instruction.setPeriodValue(1);
+        instruction.setNextExecutionAt(OffsetDateTime.now().plusDays(1));
+        instruction.setInstructionStatus(InstructionStatus.ACTIVE);
+
+        return instructionRepository.save(instruction);
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.regular_payment.services;
+
+import com.example.regular_payment.models.Instruction;
+import com.example.regular_payment.models.Transaction;
+import com.example.regular_payment.utils.exceptions.InstructionNotFoundException;
+import com.example.regular_payment.utils.sharding.ShardTemplate;
+import com.test.payment_wire.InstructionStatus;
+import com.test.payment_wire.TransactionStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Testcontainers
+public class ShardingIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> shard0 = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Container
+    static PostgreSQLContainer<?> shard1 = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void shardProperties(DynamicPropertyRegistry registry) {
+        List<PostgreSQLContainer<?>> shards = List.of(shard0, shard1);
+
+        for (int i = 0; i < shards.size(); i++) {
+            PostgreSQLContainer<?> shard = shards.get(i);
+            registry.add("application.sharding.shards[" + i + "].url", shard::getJdbcUrl);
+            registry.add("application.sharding.shards[" + i + "].username", shard::getUsername);
+            registry.add("application.sharding.shards[" + i + "].password", shard::getPassword);
+        }
+    }
+
+    @Autowired
+    private InstructionService instructionService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ShardTemplate shardTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        for (int shard : shardTemplate.allShards()) {
+            shardTemplate.execute(shard, () -> {
+                jdbcTemplate.execute("TRUNCATE payment_transactions, instruction_payment_summary, payment_instruction CASCADE");
+                return null;
+            });
+        }
+    }
+
+    @Test
+    void saveInstruction_shouldPlaceInstructionOnShardOfPayerIin() {
+
+        String iin0 = iinForShard(0);
+        String iin1 = iinForShard(1);
+
+        Instruction first = instructionService.saveInstruction(createInstruction(iin0, "12345678"));
+        Instruction second = instructionService.saveInstruction(createInstruction(iin1, "12345678"));
+
+        assertThat(shardTemplate.shardForId(first.getId())).isZero();
+        assertThat(shardTemplate.shardForId(second.getId())).isEqualTo(1);
+
+        assertThat(instructionService.getInstruction(second.getId()).getPayerIin()).isEqualTo(iin1);
+        assertThat(instructionService.getInstructionsByIin(iin0)).extracting(Instruction::getId).containsExactly(first.getId());
+        assertThat(shardTemplate.execute(1, () -> countRows("payment_instruction"))).isEqualTo(1);
+    }
+
+    @Test
+    void getInstructionsByEdrpou_shouldGatherMatchesFromAllShards() {
+
+        instructionService.saveInstruction(createInstruction(iinForShard(0), "87654321"));
+        instructionService.saveInstruction(createInstruction(iinForShard(1), "87654321"));
+        instructionService.saveInstruction(createInstruction(iinForShard(1), "11111111"));
+
+        assertThat(instructionService.getInstructionsByEdrpou("87654321")).hasSize(2);
+    }
+
+    @Test
+    void getScheduledInstructions_shouldGatherDueInstructionsFromAllShards() {
+
+        instructionService.saveInstruction(createInstruction(iinForShard(0), "12345678"));
+        instructionService.saveInstruction(createInstruction(iinForShard(1), "12345678"));
+
+        Slice<Instruction> scheduled = instructionService.getScheduledInstructions(PageRequest.of(0, 10));
+
+        assertThat(scheduled.getContent()).hasSize(2);
+        assertThat(scheduled.hasNext()).isFalse();
+    }
+
+    @Test
+    void createTransactionsBatch_shouldStoreEachTransactionOnShardOfItsInstruction() {
+
+        Instruction first = instructionService.saveInstruction(createInstruction(iinForShard(0), "12345678"));
+        Instruction second = instructionService.saveInstruction(createInstruction(iinForShard(1), "12345678"));
+
+        List<Transaction> saved = transactionService.createTransactionsBatch(List.of(
+                createTransaction(first), createTransaction(second), createTransaction(second)));
+
+        assertThat(saved).hasSize(3);
+        assertThat(saved).allMatch(tx -> shardTemplate.shardForId(tx.getId()) == shardTemplate.shardForId(tx.getInstruction().getId()));
+
+        assertThat(transactionService.getTransactionsByInstruction(second.getId())).hasSize(2);
+        assertThat(transactionService.getPaymentSummary(second.getId()).getPaymentCount()).isEqualTo(2);
+        assertThat(shardTemplate.execute(0, () -> countRows("payment_transactions"))).isEqualTo(1);
+        assertThat(shardTemplate.execute(1, () -> countRows("payment_transactions"))).isEqualTo(2);
+    }
+
+    @Test
+    void createTransactionsBatch_shouldKeepCommittedShardAndNotDuplicateItOnRetry() {
+
+        Instruction first = instructionService.saveInstruction(createInstruction(iinForShard(0), "12345678"));
+        Instruction second = instructionService.saveInstruction(createInstruction(iinForShard(1), "12345678"));
+
+        Instruction missing = createInstruction(iinForShard(1), "12345678");
+        missing.setId(ShardTemplate.shardIdBase(1) + 999_999L);
+
+        Transaction onShard0 = createTransaction(first);
+
+        assertThatThrownBy(() -> transactionService.createTransactionsBatch(List.of(onShard0, createTransaction(missing))))
+                .isInstanceOf(InstructionNotFoundException.class);
+
+        assertThat(shardTemplate.execute(0, () -> countRows("payment_transactions"))).isEqualTo(1);
+        assertThat(shardTemplate.execute(1, () -> countRows("payment_transactions"))).isZero();
+
+        Transaction retried = createTransaction(first);
+        retried.setIdempotencyId(onShard0.getIdempotencyId());
+
+        List<Transaction> saved = transactionService.createTransactionsBatch(List.of(retried, createTransaction(second)));
+
+        assertThat(saved).hasSize(2);
+        assertThat(shardTemplate.execute(0, () -> countRows("payment_transactions"))).isEqualTo(1);
+        assertThat(shardTemplate.execute(1, () -> countRows("payment_transactions"))).isEqualTo(1);
+        assertThat(transactionService.getPaymentSummary(first.getId()).getPaymentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shardPools_shouldPublishHikariMetrics() {
+
+        for (int shard : shardTemplate.allShards()) {
+            assertThat(meterRegistry.find("hikaricp.connections.max").tag("pool", "shard-" + shard).gauge())
+                    .isNotNull();
+        }
+    }
+
+    private Integer countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Integer.class);
+    }
+
+    private String iinForShard(int shard) {
+        return IntStream.iterate(1_000_000_000, i -> i + 1)
+                .mapToObj(String::valueOf)
+                .filter(iin -> shardTemplate.shardForIin(iin) == shard)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Instruction createInstruction(String payerIin, String recipientEdrpou) {
+        Instruction instruction = new Instruction();
+        instruction.setPayerFirstName("Taras");
+        instruction.setPayerSecondName("Ivanko");
+        instruction.setPayerPatronymic("Tarasovich");
+        instruction.setAmount(new BigDecimal("100.50"));
+        instruction.setPayerIin(payerIin);
+        instruction.setPayerCardNumber("1234567812345678");
+        instruction.setRecipientSettlementAccount("12345678123456781234567812345");
+        instruction.setRecipientBankCode("000000");
+        instruction.setRecipientEdrpou(recipientEdrpou);
+        instruction.setRecipientName("Taras Ivanko");
+        instruction.setPeriodUnit(ChronoUnit.MONTHS);
+        instruction.setPeriodValue(1);
+        instruction.setNextExecutionAt(OffsetDateTime.now().minusMinutes(5));
+        instruction.setInstructionStatus(InstructionStatus.ACTIVE);
+        return instruction;
+    }
+
+    private Transaction createTransaction(Instruction instruction) {
+        Transaction transaction = new Transaction();
+        transaction.setAmount(new BigDecimal("100.50"));
+        transaction.setTransactionStatus(TransactionStatus.ACTIVE.getStatusCode());
+        transaction.setIdempotencyId(UUID.randomUUID());
+        transaction.setTransactionTime(OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+        transaction.setInstruction(instruction);
+        return transaction;
+    }
+}
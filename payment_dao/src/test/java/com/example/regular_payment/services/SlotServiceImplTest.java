@@ -0,0 +1,132 @@
+package com.example.regular_payment.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@Testcontainers
+public class SlotServiceImplTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private SlotService slotService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final OffsetDateTime DUE = OffsetDateTime.parse("2030-01-01T10:00:30+02:00");
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM execution_slot");
+    }
+
+    @Test
+    void allocate_shouldSpreadIdenticalTimesEvenlyOverToleranceWindow() {
+
+        List<OffsetDateTime> allocated = slotService.allocate(Collections.nCopies(10, DUE), 4);
+
+        Map<OffsetDateTime, Long> perMinute = allocated.stream()
+                .collect(Collectors.groupingBy(time -> time.truncatedTo(ChronoUnit.MINUTES), Collectors.counting()));
+
+        assertThat(perMinute).hasSize(5);
+        assertThat(perMinute.values()).containsOnly(2L);
+        assertThat(allocated).allMatch(time -> !time.isBefore(DUE));
+        assertThat(allocated).allMatch(time -> !time.isAfter(DUE.plusMinutes(4)));
+        assertThat(allocated).contains(DUE);
+    }
+
+    @Test
+    void allocate_shouldAvoidMinutesFilledByCountedInstructions() {
+
+        slotService.track(List.of(), Collections.nCopies(3, DUE));
+        slotService.track(List.of(), Collections.nCopies(3, DUE.plusMinutes(1)));
+
+        List<OffsetDateTime> allocated = slotService.allocate(List.of(DUE), 2);
+
+        assertThat(allocated.getFirst().truncatedTo(ChronoUnit.MINUTES))
+                .isEqualTo(DUE.plusMinutes(2).truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    @Test
+    void allocate_shouldKeepRequestOrderForUnsortedInput() {
+
+        OffsetDateTime later = DUE.plusDays(30);
+
+        List<OffsetDateTime> allocated = slotService.allocate(List.of(later, DUE), 10);
+
+        assertThat(allocated.get(0)).isEqualTo(later);
+        assertThat(allocated.get(1)).isEqualTo(DUE);
+    }
+
+    @Test
+    void allocate_shouldRejectToleranceAboveOneDay() {
+
+        assertThatThrownBy(() -> slotService.allocate(List.of(DUE), 24 * 60 + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void allocate_shouldNotCountTheChosenMinutes() {
+
+        slotService.allocate(Collections.nCopies(2, DUE), 0);
+
+        assertThat(occupancy(DUE)).isZero();
+    }
+
+    @Test
+    void track_shouldMoveOccupancyFromReleasedToOccupiedMinutes() {
+
+        slotService.track(List.of(), List.of(DUE));
+
+        slotService.track(List.of(DUE), List.of(DUE.plusDays(1)));
+
+        assertThat(occupancy(DUE)).isZero();
+        assertThat(occupancy(DUE.plusDays(1))).isEqualTo(1);
+    }
+
+    @Test
+    void track_shouldNotGoBelowZero() {
+
+        slotService.track(List.of(DUE, DUE), List.of());
+
+        assertThat(occupancy(DUE)).isZero();
+    }
+
+    @Test
+    void pruneBefore_shouldDeleteElapsedSlots() {
+
+        slotService.track(List.of(), List.of(DUE, DUE.plusDays(2)));
+
+        slotService.pruneBefore(DUE.plusDays(1));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM execution_slot", Integer.class)).isEqualTo(1);
+    }
+
+    private int occupancy(OffsetDateTime time) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(occupancy), 0) FROM execution_slot WHERE slot_minute = ?",
+                Integer.class, time.truncatedTo(ChronoUnit.MINUTES));
+    }
+}
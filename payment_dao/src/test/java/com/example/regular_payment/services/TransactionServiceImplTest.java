@@ -1,17 +1,22 @@
 package com.example.regular_payment.services;
 
 import com.example.regular_payment.models.Instruction;
+import com.example.regular_payment.models.InstructionPaymentSummary;
 import com.example.regular_payment.models.Transaction;
+import com.example.regular_payment.repositories.InstructionPaymentSummaryRepository;
 import com.example.regular_payment.repositories.InstructionRepository;
 import com.example.regular_payment.repositories.TransactionRepository;
-import com.example.regular_payment.utils.enums.InstructionStatus;
-import com.example.regular_payment.utils.enums.TransactionStatus;
+import com.example.regular_payment.utils.exceptions.InstructionNotFoundException;
 import com.example.regular_payment.utils.exceptions.TransactionNotFoundException;
+import com.test.payment_wire.InstructionStatus;
+import com.test.payment_wire.TransactionStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
@@ -20,9 +25,14 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -36,6 +46,8 @@ public class TransactionServiceImplTest {
     @ServiceConnection
     static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
 
+    private static final UUID IDEMPOTENCY_KEY = UUID.fromString("8c5e4a36-2f0b-3d6a-9b1e-5d2c7f4a1e90");
+
     @Autowired
     private TransactionService transactionService;
 
@@ -45,10 +57,18 @@ public class TransactionServiceImplTest {
     @Autowired
     private InstructionRepository instructionRepository;
 
+    @Autowired
+    private InstructionPaymentSummaryRepository summaryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void setUp() {
+        summaryRepository.deleteAll();
         instructionRepository.deleteAll();
         transactionRepository.deleteAll();
+        jdbcTemplate.execute("DELETE FROM execution_slot");
     }
 
     @Test
@@ -59,7 +79,7 @@ public class TransactionServiceImplTest {
         Transaction transaction = new Transaction();
         transaction.setAmount(new BigDecimal("150.00"));
         transaction.setTransactionStatus(TransactionStatus.ACTIVE.getStatusCode()); // Припустимо, є такий статус
-        transaction.setIdempotencyId(UUID.randomUUID().toString());
+        transaction.setIdempotencyId(UUID.randomUUID());
         transaction.setTransactionTime(OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS));
 
         transaction.setInstruction(savedInstruction);
@@ -83,7 +103,7 @@ public class TransactionServiceImplTest {
         Transaction transaction = new Transaction();
         transaction.setAmount(new BigDecimal("150.00"));
         transaction.setTransactionStatus(TransactionStatus.ACTIVE.getStatusCode()); // Припустимо, є такий статус
-        transaction.setIdempotencyId(UUID.randomUUID().toString());
+        transaction.setIdempotencyId(UUID.randomUUID());
         transaction.setTransactionTime(OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS));
 
         assertThatThrownBy(() -> transactionService.createTransaction(transaction))
@@ -98,7 +118,7 @@ public class TransactionServiceImplTest {
         Transaction originalTransaction = new Transaction();
         originalTransaction.setAmount(new BigDecimal("100.00"));
         originalTransaction.setTransactionStatus(TransactionStatus.ACTIVE.getStatusCode());
-        originalTransaction.setIdempotencyId("idem-id-123");
+        originalTransaction.setIdempotencyId(IDEMPOTENCY_KEY);
         originalTransaction.setTransactionTime(OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS));
         originalTransaction.setInstruction(savedInstruction);
 
@@ -108,7 +128,7 @@ public class TransactionServiceImplTest {
         Transaction updateData = new Transaction();
         updateData.setAmount(new BigDecimal("250.00"));
         updateData.setTransactionStatus(TransactionStatus.REVERSED.getStatusCode());
-        originalTransaction.setIdempotencyId("idem-id-123");
+        originalTransaction.setIdempotencyId(IDEMPOTENCY_KEY);
         originalTransaction.setTransactionTime(OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS));
         originalTransaction.setInstruction(savedInstruction);
 
@@ -124,7 +144,7 @@ public class TransactionServiceImplTest {
         assertThat(inDb.getAmount()).isEqualByComparingTo(new BigDecimal("250.00"));
         assertThat(inDb.getTransactionStatus()).isEqualTo(TransactionStatus.REVERSED.getStatusCode());
 
-        assertThat(inDb.getIdempotencyId()).isEqualTo("idem-id-123");
+        assertThat(inDb.getIdempotencyId()).isEqualTo(IDEMPOTENCY_KEY);
         assertThat(inDb.getTransactionTime()).isEqualTo(originalTransaction.getTransactionTime());
         assertThat(inDb.getInstruction().getId()).isEqualTo(savedInstruction.getId());
     }
@@ -148,7 +168,7 @@ public class TransactionServiceImplTest {
 
         Transaction transaction = new Transaction();
         transaction.setAmount(new BigDecimal("100.00"));
-        transaction.setIdempotencyId(UUID.randomUUID().toString());
+        transaction.setIdempotencyId(UUID.randomUUID());
         transaction.setTransactionStatus(TransactionStatus.ACTIVE.getStatusCode());
         transaction.setTransactionTime(OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS));
         transaction.setInstruction(instruction);
@@ -183,7 +203,7 @@ public class TransactionServiceImplTest {
 
         Transaction transaction = new Transaction();
         transaction.setAmount(new BigDecimal("100.00"));
-        transaction.setIdempotencyId(UUID.randomUUID().toString());
+        transaction.setIdempotencyId(UUID.randomUUID());
         transaction.setTransactionStatus(TransactionStatus.ACTIVE.getStatusCode());
         transaction.setTransactionTime(OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS));
         transaction.setInstruction(instruction);
@@ -257,6 +277,200 @@ public class TransactionServiceImplTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void shouldAccumulateSummaryWhenTransactionsAreCreated() {
+
+        Instruction instruction = createAndSaveInstructionWithFirstName("Taras", "12345");
+        OffsetDateTime lastTime = OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        transactionService.createTransaction(buildTransaction(instruction, new BigDecimal("100.00"), lastTime.minusHours(1)));
+        transactionService.createTransaction(buildTransaction(instruction, new BigDecimal("50.00"), lastTime));
+
+        InstructionPaymentSummary summary = transactionService.getPaymentSummary(instruction.getId());
+
+        assertThat(summary.getPaymentCount()).isEqualTo(2);
+        assertThat(summary.getTotalAmount()).isEqualByComparingTo(new BigDecimal("150.00"));
+        assertThat(summary.getReversedCount()).isZero();
+        assertThat(summary.getLastTransactionAt()).isAtSameInstantAs(lastTime);
+    }
+
+    @Test
+    void shouldAccumulateSummaryPerInstructionForBatch() {
+
+        Instruction first = createAndSaveInstructionWithFirstName("User_1", "12345");
+        Instruction second = createAndSaveInstructionWithFirstName("User_2", "54321");
+        OffsetDateTime time = OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        transactionService.createTransactionsBatch(List.of(
+                buildTransaction(first, new BigDecimal("10.00"), time),
+                buildTransaction(second, new BigDecimal("20.00"), time)
+        ));
+
+        assertThat(transactionService.getPaymentSummary(first.getId()).getTotalAmount())
+                .isEqualByComparingTo(new BigDecimal("10.00"));
+        assertThat(transactionService.getPaymentSummary(second.getId()).getPaymentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturnExistingTransactionWhenCreateIsRetriedWithSameKey() {
+
+        Instruction instruction = createAndSaveInstructionWithFirstName("Taras", "12345");
+        OffsetDateTime time = OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        Transaction first = buildTransaction(instruction, new BigDecimal("100.00"), time);
+        first.setIdempotencyId(IDEMPOTENCY_KEY);
+        Transaction retry = buildTransaction(instruction, new BigDecimal("100.00"), time);
+        retry.setIdempotencyId(IDEMPOTENCY_KEY);
+
+        Transaction created = transactionService.createTransaction(first);
+        Transaction retried = transactionService.createTransaction(retry);
+
+        assertThat(retried.getId()).isEqualTo(created.getId());
+        assertThat(transactionService.getPaymentSummary(instruction.getId()).getPaymentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMoveSlotOccupancyOnceWhenCreateIsRetriedWithSameKey() {
+
+        Instruction instruction = createAndSaveInstructionWithFirstName("Taras", "12345");
+        OffsetDateTime due = instruction.getNextExecutionAt();
+        OffsetDateTime next = due.plusMonths(1);
+        OffsetDateTime time = OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        Transaction first = buildTransaction(rescheduled(instruction, next), new BigDecimal("100.00"), time);
+        first.setIdempotencyId(IDEMPOTENCY_KEY);
+        Transaction retry = buildTransaction(rescheduled(instruction, next), new BigDecimal("100.00"), time);
+        retry.setIdempotencyId(IDEMPOTENCY_KEY);
+
+        transactionService.createTransaction(first);
+        transactionService.createTransaction(retry);
+
+        assertThat(occupancy(next)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipAlreadySavedKeysWhenBatchIsRetried() {
+
+        Instruction first = createAndSaveInstructionWithFirstName("User_1", "12345");
+        Instruction second = createAndSaveInstructionWithFirstName("User_2", "54321");
+        OffsetDateTime time = OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        Transaction saved = buildTransaction(first, new BigDecimal("10.00"), time);
+        transactionService.createTransactionsBatch(List.of(saved));
+
+        Transaction retry = buildTransaction(first, new BigDecimal("10.00"), time);
+        retry.setIdempotencyId(saved.getIdempotencyId());
+
+        List<Transaction> result = transactionService.createTransactionsBatch(List.of(
+                retry,
+                buildTransaction(second, new BigDecimal("20.00"), time)
+        ));
+
+        assertThat(result).hasSize(2);
+        assertThat(transactionService.getPaymentSummary(first.getId()).getPaymentCount()).isEqualTo(1);
+        assertThat(transactionService.getPaymentSummary(second.getId()).getPaymentCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCountReversalOnlyOnce() {
+
+        Instruction instruction = createAndSaveInstructionWithFirstName("Taras", "12345");
+
+        Transaction created = transactionService.createTransaction(
+                buildTransaction(instruction, new BigDecimal("100.00"), OffsetDateTime.now()));
+
+        transactionService.deleteTransaction(created.getId());
+        transactionService.deleteTransaction(created.getId());
+
+        InstructionPaymentSummary summary = transactionService.getPaymentSummary(instruction.getId());
+
+        assertThat(summary.getPaymentCount()).isEqualTo(1);
+        assertThat(summary.getReversedCount()).isEqualTo(1);
+        assertThat(summary.getReversedAmount()).isEqualByComparingTo(new BigDecimal("100.00"));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldCountConcurrentReversalsOnlyOnce() throws Exception {
+
+        Instruction instruction = createAndSaveInstructionWithFirstName("Taras", "12345");
+
+        Transaction created = transactionService.createTransaction(
+                buildTransaction(instruction, new BigDecimal("100.00"), OffsetDateTime.now()));
+
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> reversals = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                reversals.add(executor.submit(() -> {
+                    start.await();
+                    transactionService.deleteTransaction(created.getId());
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<?> reversal : reversals) {
+                reversal.get();
+            }
+        }
+
+        InstructionPaymentSummary summary = transactionService.getPaymentSummary(instruction.getId());
+
+        assertThat(summary.getReversedCount()).isEqualTo(1);
+        assertThat(summary.getReversedAmount()).isEqualByComparingTo(new BigDecimal("100.00"));
+    }
+
+    @Test
+    void shouldReturnEmptySummaryForInstructionWithoutTransactions() {
+
+        Instruction instruction = createAndSaveInstructionWithFirstName("Taras", "12345");
+
+        InstructionPaymentSummary summary = transactionService.getPaymentSummary(instruction.getId());
+
+        assertThat(summary.getInstructionId()).isEqualTo(instruction.getId());
+        assertThat(summary.getPaymentCount()).isZero();
+        assertThat(summary.getTotalAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(summary.getLastTransactionAt()).isNull();
+    }
+
+    @Test
+    void shouldThrowWhenSummaryRequestedForUnknownInstruction() {
+
+        assertThatThrownBy(() -> transactionService.getPaymentSummary(777777L))
+                .isInstanceOf(InstructionNotFoundException.class);
+    }
+
+    private Transaction buildTransaction(Instruction instruction, BigDecimal amount, OffsetDateTime transactionTime) {
+        Transaction transaction = new Transaction();
+        transaction.setAmount(amount);
+        transaction.setIdempotencyId(UUID.randomUUID());
+        transaction.setTransactionStatus(TransactionStatus.ACTIVE.getStatusCode());
+        transaction.setTransactionTime(transactionTime);
+        transaction.setInstruction(instruction);
+        return transaction;
+    }
+
+    /**
+     * The instruction as PBLS sends it with a payment: detached, with the schedule already advanced.
+     */
+    private static Instruction rescheduled(Instruction instruction, OffsetDateTime nextExecutionAt) {
+        Instruction update = new Instruction();
+        update.setId(instruction.getId());
+        update.setPayerIin(instruction.getPayerIin());
+        update.setRecipientEdrpou(instruction.getRecipientEdrpou());
+        update.setLastExecutionAt(instruction.getNextExecutionAt());
+        update.setNextExecutionAt(nextExecutionAt);
+        return update;
+    }
+
+    private int occupancy(OffsetDateTime time) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(occupancy), 0) FROM execution_slot WHERE slot_minute = ?",
+                Integer.class, time.truncatedTo(ChronoUnit.MINUTES));
+    }
+
     private Instruction createAndSaveInstructionWithFirstName(String firstName, String iin) {
         Instruction instruction = new Instruction();
         instruction.setPayerFirstName(firstName);
@@ -281,7 +495,7 @@ public class TransactionServiceImplTest {
     private void createAndSaveTransaction(Instruction instruction, BigDecimal amount) {
         Transaction transaction = new Transaction();
         transaction.setAmount(amount);
-        transaction.setIdempotencyId(UUID.randomUUID().toString());
+        transaction.setIdempotencyId(UUID.randomUUID());
         transaction.setTransactionStatus(TransactionStatus.ACTIVE.getStatusCode());
         transaction.setTransactionTime(OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS));
         transaction.setInstruction(instruction);
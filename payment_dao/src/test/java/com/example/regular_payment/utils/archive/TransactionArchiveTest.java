@@ -0,0 +1,90 @@
+package com.example.regular_payment.utils.archive;
+
+import com.example.regular_payment.models.Instruction;
+import com.example.regular_payment.models.Transaction;
+import com.test.payment_wire.TransactionStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransactionArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void lookups_shouldSeeSegmentsWrittenByAnotherInstance() throws Exception {
+
+        TransactionArchive reader = new TransactionArchive(directory);
+        TransactionArchive writer = new TransactionArchive(directory);
+
+        writer.append(List.of(transaction(7L, 2L, TransactionStatus.ACTIVE)));
+
+        assertEquals(1, reader.findByInstructionId(2L).size());
+        assertEquals(2L, reader.findById(7L).orElseThrow().getInstruction().getId());
+        assertTrue(reader.findById(8L).isEmpty());
+    }
+
+    @Test
+    void lookups_shouldPreferNewestSegmentForRowArchivedTwice() throws Exception {
+
+        TransactionArchive archive = new TransactionArchive(directory);
+
+        TransactionSegment first = archive.append(List.of(
+                transaction(7L, 2L, TransactionStatus.ACTIVE), transaction(9L, 2L, TransactionStatus.ACTIVE)));
+        Files.setLastModifiedTime(first.getPath(), FileTime.fromMillis(0));
+
+        archive.append(List.of(transaction(7L, 2L, TransactionStatus.REVERSED)));
+
+        List<Transaction> history = new TransactionArchive(directory).findByInstructionId(2L);
+
+        assertEquals(2, history.size());
+        assertEquals(TransactionStatus.REVERSED.getStatusCode(),
+                history.stream().filter(tx -> tx.getId() == 7L).findFirst().orElseThrow().getTransactionStatus());
+        assertEquals(TransactionStatus.REVERSED.getStatusCode(),
+                archive.findById(7L).orElseThrow().getTransactionStatus());
+    }
+
+    @Test
+    void append_shouldKeepEarlierSegmentWithSameIdRange() throws Exception {
+
+        TransactionArchive archive = new TransactionArchive(directory);
+
+        archive.append(List.of(transaction(1L, 2L, TransactionStatus.ACTIVE),
+                transaction(500L, 2L, TransactionStatus.ACTIVE),
+                transaction(1000L, 2L, TransactionStatus.ACTIVE)));
+
+        archive.append(List.of(transaction(1L, 2L, TransactionStatus.REVERSED),
+                transaction(1000L, 2L, TransactionStatus.REVERSED)));
+
+        TransactionArchive reopened = new TransactionArchive(directory);
+
+        assertEquals(2, reopened.getSegments().size());
+        assertEquals(TransactionStatus.ACTIVE.getStatusCode(), reopened.findById(500L).orElseThrow().getTransactionStatus());
+        assertEquals(TransactionStatus.REVERSED.getStatusCode(), reopened.findById(1L).orElseThrow().getTransactionStatus());
+        assertEquals(3, reopened.findByInstructionId(2L).size());
+    }
+
+    private static Transaction transaction(long id, long instructionId, TransactionStatus status) {
+        Instruction instruction = new Instruction();
+        instruction.setId(instructionId);
+
+        Transaction transaction = new Transaction();
+        transaction.setId(id);
+        transaction.setInstruction(instruction);
+        transaction.setAmount(new BigDecimal("10.00"));
+        transaction.setTransactionStatus(status.getStatusCode());
+        transaction.setTransactionTime(OffsetDateTime.parse("2024-01-01T00:00:00Z"));
+        transaction.setIdempotencyId(UUID.randomUUID());
+        return transaction;
+    }
+}
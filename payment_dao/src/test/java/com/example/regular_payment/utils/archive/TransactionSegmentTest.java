@@ -0,0 +1,103 @@
+package com.example.regular_payment.utils.archive;
+
+import com.example.regular_payment.models.Instruction;
+import com.example.regular_payment.models.Transaction;
+import com.test.payment_wire.TransactionStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransactionSegmentTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void write_shouldRoundTripRowsOfOneInstruction() throws Exception {
+
+        UUID idempotencyId = UUID.randomUUID();
+
+        List<Transaction> rows = List.of(
+                transaction(7L, 2L, "10.50", "2024-01-05T10:00:00Z", TransactionStatus.ACTIVE, UUID.randomUUID()),
+                transaction(3L, 1L, "99.99", "2024-01-01T10:00:00Z", TransactionStatus.ACTIVE, UUID.randomUUID()),
+                transaction(5L, 2L, "0.01", "2024-01-03T10:00:00.123456Z", TransactionStatus.REVERSED, idempotencyId),
+                transaction(9L, 4L, "1000000.00", "2024-02-01T10:00:00Z", TransactionStatus.ACTIVE, UUID.randomUUID())
+        );
+
+        TransactionSegment segment = TransactionSegmentWriter.write(directory.resolve("segment.seg"), rows);
+
+        List<Transaction> result = TransactionSegment.open(segment.getPath()).findByInstructionId(2L);
+
+        assertEquals(2, result.size());
+
+        Transaction first = result.getFirst();
+        assertEquals(5L, first.getId());
+        assertEquals(2L, first.getInstruction().getId());
+        assertEquals(new BigDecimal("0.01"), first.getAmount());
+        assertEquals(TransactionStatus.REVERSED.getStatusCode(), first.getTransactionStatus());
+        assertEquals(idempotencyId, first.getIdempotencyId());
+        assertTrue(first.getTransactionTime().isEqual(OffsetDateTime.parse("2024-01-03T10:00:00.123456Z")));
+
+        assertEquals(7L, result.get(1).getId());
+    }
+
+    @Test
+    void write_shouldStoreTimeAndInstructionRangesInHeader() throws Exception {
+
+        TransactionSegment segment = TransactionSegmentWriter.write(directory.resolve("segment.seg"), List.of(
+                transaction(1L, 10L, "1.00", "2024-03-01T00:00:00+02:00", TransactionStatus.ACTIVE, UUID.randomUUID()),
+                transaction(2L, 30L, "2.00", "2024-01-01T00:00:00Z", TransactionStatus.ACTIVE, UUID.randomUUID())
+        ));
+
+        assertEquals(2, segment.getRowCount());
+        assertEquals(10L, segment.getMinInstructionId());
+        assertEquals(30L, segment.getMaxInstructionId());
+        assertTrue(segment.getMinTransactionTime().isEqual(OffsetDateTime.parse("2024-01-01T00:00:00Z")));
+        assertTrue(segment.getMaxTransactionTime().isEqual(OffsetDateTime.parse("2024-03-01T00:00:00+02:00")));
+    }
+
+    @Test
+    void findByInstructionId_shouldReturnEmptyForMissingInstruction() throws Exception {
+
+        TransactionSegment segment = TransactionSegmentWriter.write(directory.resolve("segment.seg"), List.of(
+                transaction(1L, 10L, "1.00", "2024-01-01T00:00:00Z", TransactionStatus.ACTIVE, UUID.randomUUID()),
+                transaction(2L, 30L, "2.00", "2024-01-01T00:00:00Z", TransactionStatus.ACTIVE, UUID.randomUUID())
+        ));
+
+        assertTrue(segment.findByInstructionId(20L).isEmpty());
+        assertTrue(segment.findByInstructionId(31L).isEmpty());
+        assertFalse(segment.mayContain(5L));
+    }
+
+    @Test
+    void fromLegacyKey_shouldMatchDatabaseMigration() {
+
+        UUID uuid = UUID.randomUUID();
+
+        assertEquals(uuid, TransactionSegment.fromLegacyKey(uuid.toString()));
+        // SELECT md5('abc')::uuid
+        assertEquals(UUID.fromString("90015098-3cd2-4fb0-d696-3f7d28e17f72"), TransactionSegment.fromLegacyKey("abc"));
+    }
+
+    private Transaction transaction(Long id, Long instructionId, String amount, String time,
+                                    TransactionStatus status, UUID idempotencyId) {
+        Instruction instruction = new Instruction();
+        instruction.setId(instructionId);
+
+        Transaction transaction = new Transaction();
+        transaction.setId(id);
+        transaction.setInstruction(instruction);
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setTransactionTime(OffsetDateTime.parse(time));
+        transaction.setTransactionStatus(status.getStatusCode());
+        transaction.setIdempotencyId(idempotencyId);
+        return transaction;
+    }
+}
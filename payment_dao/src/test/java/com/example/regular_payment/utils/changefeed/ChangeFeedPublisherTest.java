@@ -0,0 +1,183 @@
+package com.example.regular_payment.utils.changefeed;
+
+import com.example.regular_payment.models.Instruction;
+import com.example.regular_payment.models.Transaction;
+import com.example.regular_payment.services.InstructionService;
+import com.example.regular_payment.services.TransactionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.payment_wire.InstructionStatus;
+import com.test.payment_wire.TransactionStatus;
+import com.test.payment_wire.changefeed.ChangeEvent;
+import com.test.payment_wire.changefeed.ChangeType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+public class ChangeFeedPublisherTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private InstructionService instructionService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private ChangeFeedPublisher changeFeedPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Connection listener;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        listener = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+
+        try (Statement statement = listener.createStatement()) {
+            statement.execute("LISTEN payment_changes");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        listener.close();
+        jdbcTemplate.execute("TRUNCATE payment_transactions, instruction_payment_summary, payment_instruction CASCADE");
+    }
+
+    @Test
+    void saveInstruction_shouldNotifyAfterCommit() throws Exception {
+
+        Instruction saved = instructionService.saveInstruction(createInstruction());
+
+        List<ChangeEvent> events = receive(1);
+
+        assertThat(events).hasSize(1);
+        ChangeEvent event = events.getFirst();
+        assertThat(event.type()).isEqualTo(ChangeType.INSTRUCTION_CREATED);
+        assertThat(event.id()).isEqualTo(saved.getId());
+        assertThat(event.payerIin()).isEqualTo("1234567890");
+        assertThat(event.recipientEdrpou()).isEqualTo("12345678");
+        assertThat(event.nextExecutionAt().toInstant()).isEqualTo(saved.getNextExecutionAt().toInstant());
+    }
+
+    @Test
+    void deleteInstruction_shouldNotifyCancellation() throws Exception {
+
+        Instruction saved = instructionService.saveInstruction(createInstruction());
+        receive(1);
+
+        instructionService.deleteInstruction(saved.getId());
+
+        assertThat(receive(1)).extracting(ChangeEvent::type).containsExactly(ChangeType.INSTRUCTION_CANCELLED);
+    }
+
+    @Test
+    void createTransactionsBatch_shouldNotifyEveryTransactionInOneStatement() throws Exception {
+
+        Instruction instruction = instructionService.saveInstruction(createInstruction());
+        receive(1);
+
+        List<Transaction> saved = transactionService.createTransactionsBatch(List.of(
+                createTransaction(instruction), createTransaction(instruction)));
+
+        List<ChangeEvent> events = receive(2);
+
+        assertThat(events).extracting(ChangeEvent::type).containsOnly(ChangeType.TRANSACTION_CREATED);
+        assertThat(events).extracting(ChangeEvent::id)
+                .containsExactlyInAnyOrderElementsOf(saved.stream().map(Transaction::getId).toList());
+        assertThat(events).extracting(ChangeEvent::instructionId).containsOnly(instruction.getId());
+    }
+
+    @Test
+    void publish_shouldBeDiscardedWhenTransactionRollsBack() throws Exception {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            changeFeedPublisher.publish(new ChangeEvent(ChangeType.INSTRUCTION_UPDATED, 1L, 1L, null, null, null));
+            status.setRollbackOnly();
+        });
+
+        assertThat(receive(0)).isEmpty();
+    }
+
+    private List<ChangeEvent> receive(int expected) throws Exception {
+
+        PGConnection pgConnection = listener.unwrap(PGConnection.class);
+        List<ChangeEvent> events = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + 2_000;
+
+        while (System.currentTimeMillis() < deadline && (expected == 0 || events.size() < expected)) {
+            PGNotification[] notifications = pgConnection.getNotifications(200);
+
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    events.add(objectMapper.readValue(notification.getParameter(), ChangeEvent.class));
+                }
+            }
+        }
+
+        return events;
+    }
+
+    private Instruction createInstruction() {
+        Instruction instruction = new Instruction();
+        instruction.setPayerFirstName("Taras");
+        instruction.setPayerSecondName("Ivanko");
+        instruction.setPayerPatronymic("Tarasovich");
+        instruction.setAmount(new BigDecimal("100.50"));
+        instruction.setPayerIin("1234567890");
+        instruction.setPayerCardNumber("1234567812345678");
+        instruction.setRecipientSettlementAccount("12345678123456781234567812345");
+        instruction.setRecipientBankCode("000000");
+        instruction.setRecipientEdrpou("12345678");
+        instruction.setRecipientName("Taras Ivanko");
+        instruction.setPeriodUnit(ChronoUnit.MONTHS);
+        instruction.setPeriodValue(1);
+        instruction.setNextExecutionAt(OffsetDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MILLIS));
+        instruction.setInstructionStatus(InstructionStatus.ACTIVE);
+        return instruction;
+    }
+
+    private Transaction createTransaction(Instruction instruction) {
+        Transaction transaction = new Transaction();
+        transaction.setAmount(new BigDecimal("100.50"));
+        transaction.setTransactionStatus(TransactionStatus.ACTIVE.getStatusCode());
+        transaction.setIdempotencyId(UUID.randomUUID());
+        transaction.setTransactionTime(OffsetDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+        transaction.setInstruction(instruction);
+        return transaction;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.regular_payment.utils.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class QueryMetricsListenerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StatementCounter statementCounter;
+    private QueryMetricsListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        statementCounter = new StatementCounter();
+        listener = new QueryMetricsListener(meterRegistry, statementCounter, Duration.ofMillis(100));
+    }
+
+    @Test
+    void afterQuery_shouldRecordTimerTaggedByOperationAndTable() {
+
+        listener.afterQuery(executionInfo(15), List.of(new QueryInfo(
+                "select i1_0.id, i1_0.amount from payment_instruction i1_0 where i1_0.payer_iin=?")));
+
+        Timer timer = meterRegistry.find("dao.db.statement")
+                .tag("operation", "select")
+                .tag("table", "payment_instruction")
+                .tag("outcome", "success")
+                .timer();
+
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void afterQuery_shouldCountStatementsForCurrentRequest() {
+
+        statementCounter.start();
+
+        listener.afterQuery(executionInfo(1), List.of(new QueryInfo("insert into payment_transactions (amount) values (?)")));
+        listener.afterQuery(executionInfo(1), List.of(new QueryInfo("update payment_instruction set amount=? where id=?")));
+
+        assertEquals(2, statementCounter.stop());
+    }
+
+    @Test
+    void afterQuery_shouldNotFailOutsideOfRequest() {
+
+        listener.afterQuery(executionInfo(500), List.of(new QueryInfo("select 1")));
+
+        assertEquals(0, statementCounter.stop());
+    }
+
+    @Test
+    void tableOf_shouldResolveTableForEveryStatementKind() {
+
+        assertEquals("payment_transactions", QueryMetricsListener.tableOf("insert into payment_transactions (id) values (?)"));
+        assertEquals("payment_instruction", QueryMetricsListener.tableOf("update payment_instruction set amount=?"));
+        assertEquals("payment_instruction", QueryMetricsListener.tableOf("delete from payment_instruction where id=?"));
+        assertEquals("unknown", QueryMetricsListener.tableOf("select 1"));
+    }
+
+    private ExecutionInfo executionInfo(long elapsedMillis) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsedMillis);
+        executionInfo.setSuccess(true);
+        return executionInfo;
+    }
+}
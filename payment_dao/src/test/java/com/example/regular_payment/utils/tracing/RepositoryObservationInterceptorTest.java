@@ -0,0 +1,71 @@
+package com.example.regular_payment.utils.tracing;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RepositoryObservationInterceptorTest {
+
+    interface SlotLookup {
+        int occupancy(int minute);
+    }
+
+    private SimpleMeterRegistry meterRegistry;
+    private SlotLookup repository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        SlotLookup target = minute -> {
+            if (minute < 0) {
+                throw new IllegalArgumentException("negative minute");
+            }
+            return minute * 2;
+        };
+
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addInterface(SlotLookup.class);
+        proxyFactory.addAdvice(new RepositoryObservationInterceptor(observationRegistry, "ExecutionSlotRepository"));
+        repository = (SlotLookup) proxyFactory.getProxy();
+    }
+
+    @Test
+    void invoke_shouldObserveCallTaggedByRepositoryAndMethod() {
+
+        assertEquals(42, repository.occupancy(21));
+
+        Timer timer = meterRegistry.find("dao.repository")
+                .tag("repository", "ExecutionSlotRepository")
+                .tag("method", "occupancy")
+                .tag("error", "none")
+                .timer();
+
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void invoke_shouldRecordErrorAndRethrow() {
+
+        assertThrows(IllegalArgumentException.class, () -> repository.occupancy(-1));
+
+        Timer timer = meterRegistry.find("dao.repository")
+                .tag("error", "IllegalArgumentException")
+                .timer();
+
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+}
@@ -0,0 +1,51 @@
+package com.test.payment_dao_standin;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency and failures added in front of every request. Settings can be changed while the stand-in is running,
+ * e.g. between benchmark phases.
+ */
+final class FaultInjector {
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile Duration jitter = Duration.ZERO;
+    private volatile double errorRate;
+    private volatile String errorPathPrefix = "/";
+
+    void setLatency(Duration latency, Duration jitter) {
+        if (latency.isNegative() || jitter.isNegative()) {
+            throw new IllegalArgumentException("Latency and jitter must not be negative");
+        }
+        this.latency = latency;
+        this.jitter = jitter;
+    }
+
+    void setErrorRate(double errorRate, String pathPrefix) {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("Error rate must be between 0 and 1: " + errorRate);
+        }
+        this.errorRate = errorRate;
+        this.errorPathPrefix = pathPrefix;
+    }
+
+    void delay() throws InterruptedException {
+
+        long nanos = latency.toNanos();
+
+        if (!jitter.isZero()) {
+            nanos += ThreadLocalRandom.current().nextLong(jitter.toNanos() + 1);
+        }
+
+        if (nanos > 0) {
+            Thread.sleep(Duration.ofNanos(nanos));
+        }
+    }
+
+    boolean shouldFail(String path) {
+        return errorRate > 0
+                && path.startsWith(errorPathPrefix)
+                && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+}
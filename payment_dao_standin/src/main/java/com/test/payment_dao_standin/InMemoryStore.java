@@ -0,0 +1,288 @@
+package com.test.payment_dao_standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Instructions and transactions kept as the JSON the PDS API exchanges, so the stand-in does not depend on
+ * either client's DTOs and passes through fields it does not know about. One lock guards everything; the
+ * work done under it is a few map operations, far below the latency being simulated.
+ */
+final class InMemoryStore {
+
+    static final String ACTIVE = "A";
+    static final String REVERSED = "S";
+
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    private final NavigableMap<Long, ObjectNode> instructions = new TreeMap<>();
+    private final NavigableMap<Long, ObjectNode> transactions = new TreeMap<>();
+    private final Map<String, Long> transactionsByKey = new HashMap<>();
+    private final Map<Long, List<Long>> transactionsByInstruction = new HashMap<>();
+
+    private long lastInstructionId;
+    private long lastTransactionId;
+
+    InMemoryStore(ObjectMapper objectMapper, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    synchronized ObjectNode createInstruction(JsonNode body) {
+
+        ObjectNode instruction = requireObject(body).deepCopy();
+
+        instruction.put("id", ++lastInstructionId);
+
+        if (!instruction.hasNonNull("instructionStatus")) {
+            instruction.put("instructionStatus", "ACTIVE");
+        }
+
+        instructions.put(lastInstructionId, instruction);
+
+        return instruction.deepCopy();
+    }
+
+    synchronized ObjectNode updateInstruction(long id, JsonNode body) {
+
+        ObjectNode instruction = existingInstruction(id);
+
+        requireObject(body).properties().forEach(field -> {
+            if (!field.getValue().isNull() && !"id".equals(field.getKey())) {
+                instruction.set(field.getKey(), field.getValue().deepCopy());
+            }
+        });
+
+        return instruction.deepCopy();
+    }
+
+    synchronized void cancelInstruction(long id) {
+        existingInstruction(id).put("instructionStatus", "CANCELED");
+    }
+
+    synchronized ObjectNode instruction(long id) {
+        return existingInstruction(id).deepCopy();
+    }
+
+    synchronized List<ObjectNode> instructionsWith(String field, String value) {
+        return instructions.values().stream()
+                .filter(instruction -> value.equals(instruction.path(field).asText(null)))
+                .map(ObjectNode::deepCopy)
+                .toList();
+    }
+
+    synchronized List<ObjectNode> scheduledInstructions(int page, int size) {
+
+        OffsetDateTime now = OffsetDateTime.now(clock);
+
+        return instructions.values().stream()
+                .filter(instruction -> "ACTIVE".equals(instruction.path("instructionStatus").asText()))
+                .filter(instruction -> isBefore(instruction.get("nextExecutionAt"), now))
+                .skip((long) page * size)
+                .limit(size)
+                .map(ObjectNode::deepCopy)
+                .toList();
+    }
+
+    /**
+     * Same contract as PDS: the embedded instruction carries the advanced schedule, and a key that was already
+     * saved returns the saved transaction without touching the instruction again. Without a key, the one PBLS
+     * would have sent for the occurrence is used.
+     */
+    synchronized ObjectNode createTransaction(JsonNode body) {
+
+        ObjectNode request = requireObject(body);
+        JsonNode embedded = request.path("instruction");
+        ObjectNode instruction = existingInstruction(embedded.path("id").asLong());
+        String key = request.hasNonNull("idempotencyId") ? request.get("idempotencyId").asText() : idempotencyKey(instruction);
+
+        if (transactionsByKey.containsKey(key)) {
+            return transactions.get(transactionsByKey.get(key)).deepCopy();
+        }
+
+        copyIfPresent(embedded, instruction, "lastExecutionAt");
+        copyIfPresent(embedded, instruction, "nextExecutionAt");
+
+        ObjectNode transaction = objectMapper.createObjectNode();
+        transaction.put("id", ++lastTransactionId);
+        transaction.put("instructionId", instruction.get("id").asLong());
+        transaction.put("idempotencyId", key);
+        transaction.set("amount", request.hasNonNull("amount") ? request.get("amount") : instruction.get("amount"));
+        transaction.put("transactionTime", request.hasNonNull("transactionTime")
+                ? request.get("transactionTime").asText()
+                : OffsetDateTime.now(clock).toString());
+        transaction.put("transactionStatus", request.hasNonNull("transactionStatus")
+                ? request.get("transactionStatus").asText()
+                : ACTIVE);
+
+        transactions.put(lastTransactionId, transaction);
+        transactionsByKey.put(key, lastTransactionId);
+        transactionsByInstruction.computeIfAbsent(instruction.get("id").asLong(), id -> new ArrayList<>()).add(lastTransactionId);
+
+        return transaction.deepCopy();
+    }
+
+    /**
+     * What PBLS does for one instruction of {@code /transactions/batch}: advance the schedule by one period past the
+     * occurrence being paid, or to the first occurrence after now, and save a transaction. Lets the jar be pointed at
+     * the stand-in directly.
+     */
+    synchronized ObjectNode payInstruction(JsonNode instruction) {
+
+        ObjectNode stored = existingInstruction(instruction.path("id").asLong());
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        long periodValue = Math.max(1, stored.path("periodValue").asLong(1));
+        ChronoUnit periodUnit = ChronoUnit.valueOf(stored.path("periodUnit").asText("MONTHS"));
+
+        OffsetDateTime next = stored.hasNonNull("nextExecutionAt")
+                ? OffsetDateTime.parse(stored.get("nextExecutionAt").asText())
+                : now;
+        do {
+            next = next.plus(periodValue, periodUnit);
+        } while (!next.isAfter(now));
+
+        ObjectNode embedded = stored.deepCopy();
+        embedded.put("lastExecutionAt", now.toString());
+        embedded.put("nextExecutionAt", next.toString());
+
+        ObjectNode request = objectMapper.createObjectNode();
+        request.set("instruction", embedded);
+
+        return createTransaction(request);
+    }
+
+    synchronized void reverseTransaction(long id) {
+        existingTransaction(id).put("transactionStatus", REVERSED);
+    }
+
+    synchronized ObjectNode transaction(long id) {
+        return existingTransaction(id).deepCopy();
+    }
+
+    synchronized List<ObjectNode> transactionsOf(long instructionId) {
+        return transactionsByInstruction.getOrDefault(instructionId, List.of()).stream()
+                .map(id -> transactions.get(id).deepCopy())
+                .toList();
+    }
+
+    synchronized ObjectNode summary(long instructionId) {
+
+        existingInstruction(instructionId);
+
+        long paymentCount = 0;
+        long reversedCount = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        BigDecimal reversedAmount = BigDecimal.ZERO;
+        String lastTransactionAt = null;
+
+        for (Long id : transactionsByInstruction.getOrDefault(instructionId, List.of())) {
+            ObjectNode transaction = transactions.get(id);
+            BigDecimal amount = transaction.path("amount").decimalValue();
+
+            paymentCount++;
+            totalAmount = totalAmount.add(amount);
+
+            if (REVERSED.equals(transaction.path("transactionStatus").asText())) {
+                reversedCount++;
+                reversedAmount = reversedAmount.add(amount);
+            }
+
+            String time = transaction.path("transactionTime").asText(null);
+            if (time != null && (lastTransactionAt == null
+                    || OffsetDateTime.parse(time).isAfter(OffsetDateTime.parse(lastTransactionAt)))) {
+                lastTransactionAt = time;
+            }
+        }
+
+        ObjectNode summary = objectMapper.createObjectNode();
+        summary.put("instructionId", instructionId);
+        summary.put("paymentCount", paymentCount);
+        summary.put("totalAmount", totalAmount);
+        summary.put("reversedCount", reversedCount);
+        summary.put("reversedAmount", reversedAmount);
+        summary.put("lastTransactionAt", lastTransactionAt);
+        return summary;
+    }
+
+    synchronized int instructionCount() {
+        return instructions.size();
+    }
+
+    synchronized int transactionCount() {
+        return transactions.size();
+    }
+
+    synchronized void clear() {
+        instructions.clear();
+        transactions.clear();
+        transactionsByKey.clear();
+        transactionsByInstruction.clear();
+        lastInstructionId = 0;
+        lastTransactionId = 0;
+    }
+
+    private ObjectNode existingInstruction(long id) {
+        ObjectNode instruction = instructions.get(id);
+        if (instruction == null) {
+            throw new NotFoundException("Instruction with ID " + id + " not found in PDS.");
+        }
+        return instruction;
+    }
+
+    private ObjectNode existingTransaction(long id) {
+        ObjectNode transaction = transactions.get(id);
+        if (transaction == null) {
+            throw new NotFoundException("Transaction with ID " + id + " not found in PDS.");
+        }
+        return transaction;
+    }
+
+    /**
+     * PBLS's key: the instruction id and the occurrence being paid, which is its due time before the schedule moves.
+     */
+    private String idempotencyKey(ObjectNode instruction) {
+        JsonNode due = instruction.get("nextExecutionAt");
+        Instant occurrence = due != null && !due.isNull() ? OffsetDateTime.parse(due.asText()).toInstant() : clock.instant();
+        return UUID.nameUUIDFromBytes((instruction.get("id").asLong() + "/" + occurrence).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private static ObjectNode requireObject(JsonNode body) {
+        if (!(body instanceof ObjectNode object)) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        return object;
+    }
+
+    private static void copyIfPresent(JsonNode from, ObjectNode to, String field) {
+        if (from.hasNonNull(field)) {
+            to.set(field, from.get(field).deepCopy());
+        }
+    }
+
+    private static boolean isBefore(JsonNode time, OffsetDateTime now) {
+        return time != null && !time.isNull() && OffsetDateTime.parse(time.asText()).isBefore(now);
+    }
+
+    static class NotFoundException extends RuntimeException {
+
+        NotFoundException(String message) {
+            super(message);
+        }
+    }
+}
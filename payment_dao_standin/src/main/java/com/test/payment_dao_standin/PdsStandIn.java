@@ -0,0 +1,393 @@
+package com.test.payment_dao_standin;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * In-memory stand-in for the payment_dao HTTP API, for measuring PBLS and the jar without Postgres. It serves
+ * the endpoints PBLS calls with the same paths, status codes and JSON shapes, on a JDK {@link HttpServer} with a
+ * virtual thread per request, and can add latency and failures in front of them.
+ *
+ * <pre>{@code
+ * try (PdsStandIn pds = new PdsStandIn().latency(Duration.ofMillis(5), Duration.ofMillis(2)).start()) {
+ *     pds.seedInstructions(10_000, OffsetDateTime.now().minusMinutes(1));
+ *     // point application.server.pds (PBLS) or application.server.pbls (jar) at pds.url()
+ * }
+ * }</pre>
+ *
+ * {@code POST /transactions/batch} also accepts the body the jar sends to PBLS (bare instructions) and pays each
+ * instruction the way PBLS would, so the jar can run against the stand-in on its own. Bodies are JSON only;
+ * gzipped request bodies are accepted.
+ */
+public class PdsStandIn implements AutoCloseable {
+
+    private static final System.Logger log = System.getLogger(PdsStandIn.class.getName());
+
+    private final ObjectMapper objectMapper;
+    private final InMemoryStore store;
+    private final FaultInjector faultInjector = new FaultInjector();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public PdsStandIn() {
+        this(Clock.systemDefaultZone());
+    }
+
+    public PdsStandIn(Clock clock) {
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                .configure(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES, false);
+        this.store = new InMemoryStore(objectMapper, clock);
+    }
+
+    public static void main(String[] args) throws IOException {
+
+        Map<String, String> options = new HashMap<>();
+
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "true");
+        }
+
+        PdsStandIn standIn = new PdsStandIn()
+                .latency(Duration.ofMillis(Long.parseLong(options.getOrDefault("latency-ms", "0"))),
+                        Duration.ofMillis(Long.parseLong(options.getOrDefault("jitter-ms", "0"))))
+                .errorRate(Double.parseDouble(options.getOrDefault("error-rate", "0")),
+                        options.getOrDefault("error-path", "/"));
+
+        int seed = Integer.parseInt(options.getOrDefault("seed", "0"));
+
+        if (seed > 0) {
+            standIn.seedInstructions(seed, OffsetDateTime.now().minusMinutes(1));
+        }
+
+        standIn.start(Integer.parseInt(options.getOrDefault("port", "8180")));
+
+        log.log(System.Logger.Level.INFO, "PDS stand-in listening on {0} with {1} due instructions", standIn.url(), seed);
+    }
+
+    public PdsStandIn latency(Duration latency, Duration jitter) {
+        faultInjector.setLatency(latency, jitter);
+        return this;
+    }
+
+    public PdsStandIn errorRate(double errorRate) {
+        return errorRate(errorRate, "/");
+    }
+
+    /**
+     * Fails this share of requests whose path starts with {@code pathPrefix} with a 503 and the
+     * {@code {"message": ...}} body PDS uses for errors.
+     */
+    public PdsStandIn errorRate(double errorRate, String pathPrefix) {
+        faultInjector.setErrorRate(errorRate, pathPrefix);
+        return this;
+    }
+
+    /**
+     * Starts on an ephemeral port on the loopback interface.
+     */
+    public PdsStandIn start() throws IOException {
+        return start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    public PdsStandIn start(int port) throws IOException {
+        return start(new InetSocketAddress(port));
+    }
+
+    private PdsStandIn start(InetSocketAddress address) throws IOException {
+
+        if (server != null) {
+            throw new IllegalStateException("The stand-in is already running on " + url());
+        }
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(address, 1024);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+
+        return this;
+    }
+
+    public String url() {
+        if (server == null) {
+            throw new IllegalStateException("The stand-in is not running");
+        }
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.close();
+            server = null;
+        }
+    }
+
+    /**
+     * Adds active instructions due at {@code nextExecutionAt}, paid monthly, and returns their ids. Payer IINs
+     * are unique per instruction but do not pass the PBLS checksum.
+     */
+    public List<Long> seedInstructions(int count, OffsetDateTime nextExecutionAt) {
+
+        List<Long> ids = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            ObjectNode instruction = objectMapper.createObjectNode();
+            instruction.put("payerFirstName", "Тарас");
+            instruction.put("payerSecondName", "Іванко");
+            instruction.put("payerPatronymic", "Тарасович");
+            instruction.put("payerIin", String.valueOf(2_000_000_000L + i));
+            instruction.put("payerCardNumber", "1234567812345678");
+            instruction.put("recipientSettlementAccount", "UA123456789012345678901234567");
+            instruction.put("recipientBankCode", "305299");
+            instruction.put("recipientEdrpou", "00000017");
+            instruction.put("recipientName", "ТОВ Регулярні платежі");
+            instruction.put("amount", new BigDecimal("1250.75"));
+            instruction.put("periodValue", 1);
+            instruction.put("periodUnit", "MONTHS");
+            instruction.put("nextExecutionAt", nextExecutionAt.toString());
+            instruction.put("instructionStatus", "ACTIVE");
+
+            ids.add(store.createInstruction(instruction).get("id").asLong());
+        }
+
+        return ids;
+    }
+
+    public int instructionCount() {
+        return store.instructionCount();
+    }
+
+    public int transactionCount() {
+        return store.transactionCount();
+    }
+
+    public JsonNode instruction(long id) {
+        return store.instruction(id);
+    }
+
+    /**
+     * Drops all data and restarts ids from 1, e.g. before each benchmark invocation.
+     */
+    public void clear() {
+        store.clear();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            Response response = respond(exchange);
+            send(exchange, response.status(), response.body());
+        }
+    }
+
+    private Response respond(HttpExchange exchange) {
+
+        String path = exchange.getRequestURI().getPath();
+
+        try {
+            faultInjector.delay();
+
+            if (faultInjector.shouldFail(path)) {
+                return new Response(503, message("Injected failure"));
+            }
+
+            return route(exchange.getRequestMethod(), path.substring(1).split("/"), exchange);
+        } catch (InMemoryStore.NotFoundException e) {
+            return new Response(404, message(e.getMessage()));
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            return new Response(400, message(e.getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(503, message("Stand-in is shutting down"));
+        } catch (IOException | RuntimeException e) {
+            return new Response(500, message(e.toString()));
+        }
+    }
+
+    private Response route(String method, String[] path, HttpExchange exchange) throws IOException {
+
+        String resource = path[0];
+        int length = path.length;
+
+        if ("instructions".equals(resource)) {
+            if (length == 1 && "POST".equals(method)) {
+                return new Response(201, store.createInstruction(readBody(exchange)));
+            }
+            if (length == 2 && "batch".equals(path[1]) && "POST".equals(method)) {
+                ArrayNode saved = objectMapper.createArrayNode();
+                readBody(exchange).forEach(instruction -> saved.add(store.createInstruction(instruction)));
+                return new Response(201, saved);
+            }
+            if (length == 2 && "scheduled".equals(path[1]) && "GET".equals(method)) {
+                Map<String, String> query = query(exchange.getRequestURI());
+                return new Response(200, store.scheduledInstructions(
+                        Integer.parseInt(query.getOrDefault("page", "0")),
+                        Integer.parseInt(query.getOrDefault("size", "100"))));
+            }
+            if (length == 4 && "search".equals(path[1]) && "GET".equals(method)) {
+                String field = switch (path[2]) {
+                    case "iin" -> "payerIin";
+                    case "edrpou" -> "recipientEdrpou";
+                    default -> throw new IllegalArgumentException("Unknown search: " + path[2]);
+                };
+                return new Response(200, store.instructionsWith(field, path[3]));
+            }
+            if (length == 2) {
+                long id = Long.parseLong(path[1]);
+                switch (method) {
+                    case "GET" -> {
+                        return new Response(200, store.instruction(id));
+                    }
+                    case "PUT" -> {
+                        return new Response(200, store.updateInstruction(id, readBody(exchange)));
+                    }
+                    case "DELETE" -> {
+                        store.cancelInstruction(id);
+                        return new Response(200, null);
+                    }
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        if ("transactions".equals(resource)) {
+            if (length == 1 && "POST".equals(method)) {
+                return new Response(201, store.createTransaction(readBody(exchange)));
+            }
+            if (length == 2 && "batch".equals(path[1]) && "POST".equals(method)) {
+                return createTransactionsBatch(readBody(exchange));
+            }
+            if (length == 3 && "instruction".equals(path[1]) && "GET".equals(method)) {
+                return new Response(200, store.transactionsOf(Long.parseLong(path[2])));
+            }
+            if (length == 4 && "instruction".equals(path[1]) && "summary".equals(path[3]) && "GET".equals(method)) {
+                return new Response(200, store.summary(Long.parseLong(path[2])));
+            }
+            if (length == 2) {
+                long id = Long.parseLong(path[1]);
+                if ("GET".equals(method)) {
+                    return new Response(200, store.transaction(id));
+                }
+                if ("DELETE".equals(method)) {
+                    store.reverseTransaction(id);
+                    return new Response(200, null);
+                }
+            }
+        }
+
+        if ("slots".equals(resource) && length == 2 && "allocate".equals(path[1]) && "POST".equals(method)) {
+            // No levelling: every occurrence keeps its desired minute.
+            return new Response(200, readBody(exchange).path("desired"));
+        }
+
+        if ("reports".equals(resource) && "GET".equals(method)) {
+            return new Response(200, List.of());
+        }
+
+        return new Response(404, message("No stand-in endpoint for " + method + " /" + String.join("/", path)));
+    }
+
+    private Response createTransactionsBatch(JsonNode batch) {
+
+        if (batch.isEmpty() || batch.get(0).has("instruction")) {
+            ArrayNode saved = objectMapper.createArrayNode();
+            batch.forEach(transaction -> saved.add(store.createTransaction(transaction)));
+            return new Response(201, saved);
+        }
+
+        List<Long> failedIds = new ArrayList<>();
+
+        for (JsonNode instruction : batch) {
+            try {
+                store.payInstruction(instruction);
+            } catch (InMemoryStore.NotFoundException e) {
+                failedIds.add(instruction.path("id").asLong());
+            }
+        }
+
+        ObjectNode result = objectMapper.createObjectNode();
+        result.put("successCount", batch.size() - failedIds.size());
+        result.put("failureCount", failedIds.size());
+        result.set("failedInstructionIds", objectMapper.valueToTree(failedIds));
+        return new Response(200, result);
+    }
+
+    private JsonNode readBody(HttpExchange exchange) throws IOException {
+
+        InputStream body = exchange.getRequestBody();
+
+        if ("gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+            body = new GZIPInputStream(body);
+        }
+
+        return objectMapper.readTree(body);
+    }
+
+    private void send(HttpExchange exchange, int status, Object body) throws IOException {
+
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static Map<String, String> message(String message) {
+        Map<String, String> body = new HashMap<>();
+        body.put("message", message);
+        return body;
+    }
+
+    private static Map<String, String> query(URI uri) {
+
+        Map<String, String> query = new HashMap<>();
+
+        if (uri.getRawQuery() != null) {
+            for (String pair : uri.getRawQuery().split("&")) {
+                String[] parts = pair.split("=", 2);
+                query.put(parts[0], parts.length > 1 ? parts[1] : "");
+            }
+        }
+
+        return query;
+    }
+
+    private record Response(int status, Object body) {
+    }
+}
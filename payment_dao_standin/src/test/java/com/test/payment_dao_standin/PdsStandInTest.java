@@ -0,0 +1,151 @@
+package com.test.payment_dao_standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PdsStandInTest {
+
+    private static final Instant NOW = Instant.parse("2025-12-05T10:00:00Z");
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PdsStandIn standIn;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        standIn = new PdsStandIn(Clock.fixed(NOW, ZoneOffset.UTC)).start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        standIn.close();
+    }
+
+    @Test
+    void getScheduledInstructions_shouldPageThroughDueInstructionsOnly() throws Exception {
+
+        standIn.seedInstructions(3, OffsetDateTime.parse("2025-12-05T09:59:00Z"));
+        standIn.seedInstructions(2, OffsetDateTime.parse("2025-12-05T10:01:00Z"));
+
+        JsonNode firstPage = get("/instructions/scheduled?page=0&size=2").body();
+        JsonNode secondPage = get("/instructions/scheduled?page=1&size=2").body();
+
+        assertEquals(2, firstPage.size());
+        assertEquals(1, secondPage.size());
+        assertEquals(3, secondPage.get(0).get("id").asLong());
+    }
+
+    @Test
+    void createTransactionsBatch_shouldAdvanceInstructionAndReturnSavedTransactionForRepeatedKey() throws Exception {
+
+        long id = standIn.seedInstructions(1, OffsetDateTime.parse("2025-12-05T09:59:00Z")).getFirst();
+
+        String batch = """
+                [{"instruction":{"id":%d,"lastExecutionAt":"2025-12-05T10:00:00Z","nextExecutionAt":"2026-01-05T10:00:00Z"},
+                  "idempotencyId":"90015098-3cd2-4fb0-d696-3f7d28e17f72","amount":1250.75,
+                  "transactionTime":"2025-12-05T10:00:00Z","transactionStatus":"A"}]""".formatted(id);
+
+        Result first = post("/transactions/batch", batch);
+        Result retry = post("/transactions/batch", batch);
+
+        assertEquals(201, first.status());
+        assertEquals(first.body(), retry.body());
+        assertEquals(1, standIn.transactionCount());
+        assertEquals("2026-01-05T10:00:00Z", standIn.instruction(id).get("nextExecutionAt").asText());
+        assertEquals(0, get("/instructions/scheduled?page=0&size=10").body().size());
+    }
+
+    @Test
+    void createTransactionsBatch_shouldPayBareInstructionsLikePbls() throws Exception {
+
+        List<Long> ids = standIn.seedInstructions(2, OffsetDateTime.parse("2025-12-05T09:59:00Z"));
+
+        Result result = post("/transactions/batch", "[{\"id\":%d},{\"id\":%d},{\"id\":999}]".formatted(ids.get(0), ids.get(1)));
+
+        assertEquals(2, result.body().get("successCount").asInt());
+        assertEquals(999, result.body().get("failedInstructionIds").get(0).asLong());
+        assertEquals("2026-01-05T09:59Z", standIn.instruction(ids.get(0)).get("nextExecutionAt").asText());
+    }
+
+    @Test
+    void createTransactionsBatch_shouldKeyBareInstructionsByOccurrenceLikePbls() throws Exception {
+
+        long id = standIn.seedInstructions(1, OffsetDateTime.parse("2025-12-05T09:59:00Z")).getFirst();
+
+        post("/transactions/batch", "[{\"id\":%d}]".formatted(id));
+
+        UUID expected = UUID.nameUUIDFromBytes((id + "/2025-12-05T09:59:00Z").getBytes(StandardCharsets.UTF_8));
+        assertEquals(expected.toString(),
+                get("/transactions/instruction/" + id).body().get(0).get("idempotencyId").asText());
+    }
+
+    @Test
+    void getInstruction_shouldAnswerNotFoundWithMessageBody() throws Exception {
+
+        Result result = get("/instructions/42");
+
+        assertEquals(404, result.status());
+        assertEquals("Instruction with ID 42 not found in PDS.", result.body().get("message").asText());
+    }
+
+    @Test
+    void errorRate_shouldFailOnlyMatchingPaths() throws Exception {
+
+        standIn.seedInstructions(1, OffsetDateTime.parse("2025-12-05T09:59:00Z"));
+        standIn.errorRate(1.0, "/transactions");
+
+        assertEquals(503, get("/transactions/instruction/1").status());
+        assertEquals(200, get("/instructions/1").status());
+    }
+
+    @Test
+    void latency_shouldDelayEveryResponse() throws Exception {
+
+        standIn.latency(Duration.ofMillis(50), Duration.ZERO);
+
+        long started = System.nanoTime();
+        get("/instructions/scheduled?page=0&size=1");
+
+        assertTrue(System.nanoTime() - started >= 50_000_000L);
+    }
+
+    private Result get(String path) throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(standIn.url() + path)).GET().build());
+    }
+
+    private Result post(String path, String body) throws Exception {
+        return send(HttpRequest.newBuilder(URI.create(standIn.url() + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    private Result send(HttpRequest request) throws Exception {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return new Result(response.statusCode(), objectMapper.readTree(response.body()));
+    }
+
+    private record Result(int status, JsonNode body) {
+    }
+}
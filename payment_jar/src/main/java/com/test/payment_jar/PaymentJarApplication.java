@@ -1,9 +1,13 @@
 package com.test.payment_jar;
 
+import com.test.payment_wire.changefeed.ChangeFeedConfig;
+import com.test.payment_wire.tracing.SpanLoggingConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
+@Import({ChangeFeedConfig.class, SpanLoggingConfig.class})
 public class PaymentJarApplication {
 
     static void main(String[] args) {
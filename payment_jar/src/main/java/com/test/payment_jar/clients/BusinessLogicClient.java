@@ -1,7 +1,9 @@
 package com.test.payment_jar.clients;
 
-import com.test.payment_jar.models.Instruction;
 import com.test.payment_jar.utils.exceptions.CreationFailureException;
+import com.test.payment_wire.InstructionDTO;
+import com.test.payment_wire.http.HttpClientProperties;
+import com.test.payment_wire.http.SmileConverters;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,7 +11,6 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.List;
 
@@ -17,42 +18,40 @@ import java.util.List;
 @Component
 public class BusinessLogicClient {
 
+    private static final ParameterizedTypeReference<List<InstructionDTO>> INSTRUCTIONS = new ParameterizedTypeReference<>() {};
+
     private final RestClient restClient;
     private final String serverUrl;
+    private final MediaType batchMediaType;
 
 
     @Autowired
-    public BusinessLogicClient(RestClient restClient, @Value("${application.server.pbls}") String serverUrl) {
+    public BusinessLogicClient(RestClient restClient,
+                               @Value("${application.server.pbls}") String serverUrl,
+                               HttpClientProperties httpClientProperties) {
         this.restClient = restClient;
         this.serverUrl = serverUrl;
+        this.batchMediaType = httpClientProperties.getEndpoint("pbls").isSmile() ? SmileConverters.APPLICATION_SMILE : MediaType.APPLICATION_JSON;
     }
 
-    public List<Instruction> getScheduledInstructions(int page, int size) {
+    public List<InstructionDTO> getScheduledInstructions(int page, int size) {
         try {
-            String uri = UriComponentsBuilder.fromUriString(serverUrl)
-                    .path("/instructions/scheduled")
-                    .queryParam("page", page)
-                    .queryParam("size", size)
-                    .toUriString();
-
             return restClient.get()
-                    .uri(uri)
+                    .uri(serverUrl + "/instructions/scheduled?page={page}&size={size}", page, size)
+                    .accept(batchMediaType)
                     .retrieve()
-                    .body(new ParameterizedTypeReference<>() {});
+                    .body(INSTRUCTIONS);
         } catch (Exception e) {
             log.error("Failed to fetch instructions from PBLS", e);
             return List.of();
         }
     }
 
-    public void createTransactionsBatch(List<Instruction> instructions) {
+    public void createTransactionsBatch(List<InstructionDTO> instructions) {
         try {
-            String uri = UriComponentsBuilder.fromUriString(serverUrl)
-                    .path("/transactions/batch")
-                    .toUriString();
             restClient.post()
-                    .uri(uri)
-                    .contentType(MediaType.APPLICATION_JSON)
+                    .uri(serverUrl + "/transactions/batch")
+                    .contentType(batchMediaType)
                     .body(instructions)
                     .retrieve()
                     .toBodilessEntity();
@@ -1,25 +1,37 @@
 package com.test.payment_jar.configurations;
 
+import com.test.payment_wire.http.HttpClientProperties;
+import com.test.payment_wire.http.RestClientFactory;
+import com.test.payment_wire.http.SmileConverters;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.client.RestClient;
 
-import java.net.http.HttpClient;
-import java.time.Duration;
-
 @Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
 public class ApiConfig {
 
     @Bean
-    public RestClient restClient(RestClient.Builder builder) {
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        // Takes the place of Spring's default Smile converter in the RestClient to PBLS.
+        return SmileConverters.create(objectMapperBuilder);
+    }
 
-        HttpClient httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(20))
-                .build();
+    @Bean
+    public RestClientFactory restClientFactory(RestClient.Builder builder,
+                                               HttpClientProperties httpClientProperties,
+                                               CircuitBreakerRegistry circuitBreakerRegistry,
+                                               BulkheadRegistry bulkheadRegistry) {
+        return new RestClientFactory(builder, httpClientProperties, circuitBreakerRegistry, bulkheadRegistry);
+    }
 
-        return builder
-                .requestFactory(new JdkClientHttpRequestFactory(httpClient))
-                .build();
+    @Bean
+    public RestClient restClient(RestClientFactory restClientFactory) {
+        return restClientFactory.create("pbls");
     }
 }
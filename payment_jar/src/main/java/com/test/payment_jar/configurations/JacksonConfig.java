@@ -0,0 +1,24 @@
+package com.test.payment_jar.configurations;
+
+import com.fasterxml.jackson.databind.Module;
+import com.test.payment_wire.WireJackson;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Blackbird and the pre-resolved scheduled page type for the mappers of the calls to PBLS, JSON and Smile.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return WireJackson.blackbird();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer wireTypesCustomizer() {
+        return builder -> builder.postConfigurer(WireJackson::preRegister);
+    }
+}
@@ -0,0 +1,111 @@
+package com.test.payment_jar.services;
+
+import com.test.payment_wire.changefeed.ChangeEvent;
+import com.test.payment_wire.changefeed.ChangeFeedSubscriber;
+import com.test.payment_wire.changefeed.ChangeType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Runs the payment process when an instruction falls due instead of waiting for the next cron tick. Due times
+ * announced by the change feed within the horizon are kept, rounded up to the minute, and the earliest one is
+ * scheduled. Runs still go through {@link RegularPaymentScheduler}, so ShedLock keeps them exclusive across
+ * instances; a wake-up that loses the lock is covered by the run that holds it. Due times further out, and any
+ * missed while the feed was down, are left to the cron.
+ */
+@Slf4j
+@Service
+public class PaymentWakeUp implements ChangeFeedSubscriber {
+
+    private final RegularPaymentScheduler regularPaymentScheduler;
+    private final TaskScheduler taskScheduler;
+    private final Duration horizon;
+    private final NavigableSet<Instant> dueTimes = new TreeSet<>();
+
+    private ScheduledFuture<?> pending;
+    private Instant pendingAt;
+
+    @Autowired
+    public PaymentWakeUp(RegularPaymentScheduler regularPaymentScheduler,
+                         TaskScheduler taskScheduler,
+                         @Value("${application.change-feed.wake-up-horizon:1h}") Duration horizon) {
+        this.regularPaymentScheduler = regularPaymentScheduler;
+        this.taskScheduler = taskScheduler;
+        this.horizon = horizon;
+    }
+
+    @Override
+    public synchronized void onChange(ChangeEvent event) {
+
+        if (event.nextExecutionAt() == null
+                || event.type() == ChangeType.INSTRUCTION_CANCELLED
+                || event.type() == ChangeType.TRANSACTION_REVERSED) {
+            return;
+        }
+
+        Instant now = taskScheduler.getClock().instant();
+        Instant due = ceilToMinute(event.nextExecutionAt().toInstant());
+
+        if (due.isAfter(now.plus(horizon))) {
+            return;
+        }
+
+        dueTimes.add(due.isBefore(now) ? now : due);
+
+        scheduleEarliest();
+    }
+
+    private void wakeUp() {
+
+        synchronized (this) {
+            dueTimes.headSet(taskScheduler.getClock().instant(), true).clear();
+            pending = null;
+            pendingAt = null;
+        }
+
+        log.info("Instructions fell due, running the payment process ahead of the cron.");
+
+        try {
+            regularPaymentScheduler.runPaymentProcess();
+        } finally {
+            synchronized (this) {
+                scheduleEarliest();
+            }
+        }
+    }
+
+    private void scheduleEarliest() {
+
+        if (dueTimes.isEmpty()) {
+            return;
+        }
+
+        Instant earliest = dueTimes.first();
+
+        if (pendingAt != null && !pendingAt.isAfter(earliest)) {
+            return;
+        }
+
+        if (pending != null) {
+            pending.cancel(false);
+        }
+
+        pendingAt = earliest;
+        pending = taskScheduler.schedule(this::wakeUp, earliest);
+    }
+
+    private static Instant ceilToMinute(Instant instant) {
+        Instant floor = instant.truncatedTo(ChronoUnit.MINUTES);
+        return floor.equals(instant) ? floor : floor.plus(1, ChronoUnit.MINUTES);
+    }
+}
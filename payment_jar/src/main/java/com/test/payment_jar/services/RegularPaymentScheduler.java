@@ -1,6 +1,8 @@
 package com.test.payment_jar.services;
 
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,10 +14,12 @@ import org.springframework.stereotype.Service;
 public class RegularPaymentScheduler {
 
     private final RegularPaymentService regularPaymentService;
+    private final ObservationRegistry observationRegistry;
 
     @Autowired
-    public RegularPaymentScheduler(RegularPaymentService regularPaymentService) {
+    public RegularPaymentScheduler(RegularPaymentService regularPaymentService, ObservationRegistry observationRegistry) {
         this.regularPaymentService = regularPaymentService;
+        this.observationRegistry = observationRegistry;
     }
 
     @Scheduled(cron = "${regular.payment.cron.expression}")
@@ -24,7 +28,9 @@ public class RegularPaymentScheduler {
 
         log.info("Starting the debit process...");
 
-        regularPaymentService.processPayments();
+        // One trace per run, whether it came from the cron, the change feed or the sweep endpoint.
+        Observation.createNotStarted("jar.payment.run", observationRegistry)
+                .observe(regularPaymentService::processPayments);
 
         log.info("The withdrawal process is complete.");
     }
@@ -0,0 +1,35 @@
+package com.test.payment_jar.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code POST /actuator/sweep} runs the payment process now and answers when it is done. Goes through the
+ * ShedLock-guarded scheduler like the cron does. Not exposed unless added to
+ * {@code management.endpoints.web.exposure.include}; the load test harness does that.
+ */
+@Component
+@Endpoint(id = "sweep")
+public class SweepEndpoint {
+
+    private final RegularPaymentScheduler regularPaymentScheduler;
+
+    @Autowired
+    public SweepEndpoint(RegularPaymentScheduler regularPaymentScheduler) {
+        this.regularPaymentScheduler = regularPaymentScheduler;
+    }
+
+    @WriteOperation
+    public Map<String, Object> sweep() {
+
+        long started = System.nanoTime();
+
+        regularPaymentScheduler.runPaymentProcess();
+
+        return Map.of("durationMs", (System.nanoTime() - started) / 1_000_000);
+    }
+}
@@ -2,8 +2,8 @@ package com.test.payment_jar.services.impl;
 
 
 import com.test.payment_jar.clients.BusinessLogicClient;
-import com.test.payment_jar.models.Instruction;
 import com.test.payment_jar.services.RegularPaymentService;
+import com.test.payment_wire.InstructionDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -21,29 +21,40 @@ public class RegularPaymentServiceImpl implements RegularPaymentService {
         this.businessLogicClient = businessLogicClient;
     }
 
+    /**
+     * Always reads page 0: paid instructions are no longer due, so the next due ones move up to the front. An
+     * unchanged page means PBLS could not pay any of it; those are left for the next sweep.
+     */
     @Override
     public void processPayments() {
 
         int pageSize = 1000;
-        int offset = 0;
+        List<Long> previousIds = List.of();
 
         while (true) {
 
-            List<Instruction> batch = businessLogicClient.getScheduledInstructions(offset, pageSize);
+            List<InstructionDTO> batch = businessLogicClient.getScheduledInstructions(0, pageSize);
 
             if (batch.isEmpty()) {
                 break;
             }
 
+            List<Long> ids = batch.stream().map(InstructionDTO::id).toList();
+
+            if (ids.equals(previousIds)) {
+                log.warn("No progress on a page of {} due instructions, leaving them for the next run", batch.size());
+                break;
+            }
+
             log.info("Processing batch of {} instructions", batch.size());
 
             businessLogicClient.createTransactionsBatch(batch);
 
-            offset += pageSize;
-
             if (batch.size() < pageSize) {
                 break;
             }
+
+            previousIds = ids;
         }
     }
 }
@@ -2,8 +2,8 @@ package com.test.payment_jar.clients;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.test.payment_jar.models.Instruction;
 import com.test.payment_jar.utils.exceptions.CreationFailureException;
+import com.test.payment_wire.InstructionDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -54,7 +54,7 @@ class BusinessLogicClientTest {
 
         int page = 0;
         int size = 10;
-        List<Instruction> expectedInstructions = List.of(
+        List<InstructionDTO> expectedInstructions = List.of(
                 createInstruction(1L, "100.00"),
                 createInstruction(2L, "200.00")
         );
@@ -64,11 +64,11 @@ class BusinessLogicClientTest {
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withSuccess(responseJson, MediaType.APPLICATION_JSON));
 
-        List<Instruction> result = client.getScheduledInstructions(page, size);
+        List<InstructionDTO> result = client.getScheduledInstructions(page, size);
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        assertEquals(1L, result.getFirst().getId());
+        assertEquals(1L, result.getFirst().id());
 
         server.verify();
     }
@@ -83,7 +83,7 @@ class BusinessLogicClientTest {
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withServerError());
 
-        List<Instruction> result = client.getScheduledInstructions(page, size);
+        List<InstructionDTO> result = client.getScheduledInstructions(page, size);
 
 
         assertNotNull(result);
@@ -95,7 +95,7 @@ class BusinessLogicClientTest {
     @Test
     void createTransactionsBatch_ShouldSucceed_WhenServerReturns200() throws JsonProcessingException {
 
-        List<Instruction> instructions = List.of(createInstruction(1L, "100.00"));
+        List<InstructionDTO> instructions = List.of(createInstruction(1L, "100.00"));
         String requestJson = objectMapper.writeValueAsString(instructions);
 
         server.expect(requestTo(serverUrl + "/transactions/batch"))
@@ -112,7 +112,7 @@ class BusinessLogicClientTest {
     @Test
     void createTransactionsBatch_ShouldThrowException_WhenServerReturnsError() throws JsonProcessingException {
 
-        List<Instruction> instructions = List.of(createInstruction(1L, "100.00"));
+        List<InstructionDTO> instructions = List.of(createInstruction(1L, "100.00"));
 
         System.out.println(serverUrl);
 
@@ -128,10 +128,8 @@ class BusinessLogicClientTest {
         server.verify();
     }
     
-    private Instruction createInstruction(Long id, String amount) {
-        Instruction instruction = new Instruction();
-        instruction.setId(id);
-        instruction.setAmount(new BigDecimal(amount));
-        return instruction;
+    private InstructionDTO createInstruction(Long id, String amount) {
+        return new InstructionDTO(id, null, null, null, null, null, null, null, null, null,
+                new BigDecimal(amount), null, null, null, null, null);
     }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.test.payment_jar.services;
+
+import com.test.payment_wire.changefeed.ChangeEvent;
+import com.test.payment_wire.changefeed.ChangeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PaymentWakeUpTest {
+
+    private static final Instant NOW = Instant.parse("2025-12-05T10:00:20Z");
+
+    @Mock
+    private RegularPaymentScheduler regularPaymentScheduler;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Mock
+    private ScheduledFuture<Object> scheduledFuture;
+
+    private PaymentWakeUp paymentWakeUp;
+
+    @BeforeEach
+    void setUp() {
+        when(taskScheduler.getClock()).thenReturn(Clock.fixed(NOW, ZoneOffset.UTC));
+        paymentWakeUp = new PaymentWakeUp(regularPaymentScheduler, taskScheduler, Duration.ofHours(1));
+    }
+
+    @Test
+    void onChange_shouldScheduleRunAtDueMinute() {
+
+        doReturn(scheduledFuture).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+
+        paymentWakeUp.onChange(event(ChangeType.INSTRUCTION_CREATED, "2025-12-05T10:14:30Z"));
+
+        verify(taskScheduler).schedule(any(Runnable.class), eq(Instant.parse("2025-12-05T10:15:00Z")));
+    }
+
+    @Test
+    void onChange_shouldRescheduleForEarlierDueTime() {
+
+        doReturn(scheduledFuture).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+
+        paymentWakeUp.onChange(event(ChangeType.INSTRUCTION_CREATED, "2025-12-05T10:30:00Z"));
+        paymentWakeUp.onChange(event(ChangeType.INSTRUCTION_UPDATED, "2025-12-05T10:05:00Z"));
+        paymentWakeUp.onChange(event(ChangeType.INSTRUCTION_CREATED, "2025-12-05T10:20:00Z"));
+
+        verify(scheduledFuture).cancel(false);
+        verify(taskScheduler).schedule(any(Runnable.class), eq(Instant.parse("2025-12-05T10:05:00Z")));
+        verify(taskScheduler, never()).schedule(any(Runnable.class), eq(Instant.parse("2025-12-05T10:20:00Z")));
+    }
+
+    @Test
+    void onChange_shouldIgnoreDueTimesBeyondHorizonAndCancellations() {
+
+        paymentWakeUp.onChange(event(ChangeType.TRANSACTION_CREATED, "2026-01-05T10:00:00Z"));
+        paymentWakeUp.onChange(event(ChangeType.INSTRUCTION_CANCELLED, "2025-12-05T10:05:00Z"));
+
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void wakeUp_shouldRunPaymentProcessAndScheduleNextDueTime() {
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        doReturn(scheduledFuture).when(taskScheduler).schedule(task.capture(), any(Instant.class));
+
+        paymentWakeUp.onChange(event(ChangeType.INSTRUCTION_CREATED, "2025-12-05T09:59:00Z"));
+        paymentWakeUp.onChange(event(ChangeType.INSTRUCTION_CREATED, "2025-12-05T10:40:00Z"));
+
+        task.getAllValues().getFirst().run();
+
+        verify(regularPaymentScheduler).runPaymentProcess();
+        verify(taskScheduler).schedule(any(Runnable.class), eq(NOW));
+        verify(taskScheduler).schedule(any(Runnable.class), eq(Instant.parse("2025-12-05T10:40:00Z")));
+    }
+
+    private static ChangeEvent event(ChangeType type, String nextExecutionAt) {
+        return new ChangeEvent(type, 1L, 1L, "1234567890", "12345678", OffsetDateTime.parse(nextExecutionAt));
+    }
+}
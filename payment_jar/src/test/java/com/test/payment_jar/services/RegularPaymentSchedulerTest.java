@@ -1,11 +1,19 @@
 package com.test.payment_jar.services;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -15,9 +23,28 @@ public class RegularPaymentSchedulerTest {
     @Mock
     private RegularPaymentService regularPaymentService;
 
-    @InjectMocks
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+    private final List<String> stoppedObservations = new ArrayList<>();
+
     private RegularPaymentScheduler regularPaymentScheduler;
 
+    @BeforeEach
+    void setUp() {
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stoppedObservations.add(context.getName());
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+
+        regularPaymentScheduler = new RegularPaymentScheduler(regularPaymentService, observationRegistry);
+    }
+
     @Test
     void runPaymentProcess_shouldCallServiceProcessPaymentsOnce() {
 
@@ -25,4 +52,17 @@ public class RegularPaymentSchedulerTest {
 
         verify(regularPaymentService, times(1)).processPayments();
     }
+
+    @Test
+    void runPaymentProcess_shouldProcessPaymentsInsideOneObservation() {
+
+        doAnswer(invocation -> {
+            assertThat(observationRegistry.getCurrentObservation()).isNotNull();
+            return null;
+        }).when(regularPaymentService).processPayments();
+
+        regularPaymentScheduler.runPaymentProcess();
+
+        assertThat(stoppedObservations).containsExactly("jar.payment.run");
+    }
 }
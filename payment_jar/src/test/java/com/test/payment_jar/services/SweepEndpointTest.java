@@ -0,0 +1,32 @@
+package com.test.payment_jar.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class SweepEndpointTest {
+
+    @Mock
+    private RegularPaymentScheduler regularPaymentScheduler;
+
+    @InjectMocks
+    private SweepEndpoint sweepEndpoint;
+
+    @Test
+    void sweep_shouldRunPaymentProcessAndReportDuration() {
+
+        Map<String, Object> result = sweepEndpoint.sweep();
+
+        verify(regularPaymentScheduler, times(1)).runPaymentProcess();
+        assertTrue(result.containsKey("durationMs"));
+    }
+}
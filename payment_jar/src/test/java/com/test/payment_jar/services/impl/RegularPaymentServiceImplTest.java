@@ -1,8 +1,8 @@
 package com.test.payment_jar.services.impl;
 
 import com.test.payment_jar.clients.BusinessLogicClient;
-import com.test.payment_jar.models.Instruction;
 import com.test.payment_jar.utils.exceptions.CreationFailureException;
+import com.test.payment_wire.InstructionDTO;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
@@ -44,7 +44,7 @@ class RegularPaymentServiceImplTest {
     @Test
     void processPayments_ShouldProcessOneBatch_WhenResultIsLessThanPageSize() {
 
-        List<Instruction> smallBatch = createMockInstructions(5);
+        List<InstructionDTO> smallBatch = createMockInstructions(5);
 
         when(businessLogicClient.getScheduledInstructions(eq(0), eq(PAGE_SIZE)))
                 .thenReturn(smallBatch);
@@ -59,9 +59,9 @@ class RegularPaymentServiceImplTest {
     @Test
     void processPayments_ShouldProcessMultipleBatches_WhenFirstBatchIsFull() {
 
-        List<Instruction> fullBatch = createMockInstructions(PAGE_SIZE);
+        List<InstructionDTO> fullBatch = createMockInstructions(PAGE_SIZE);
 
-        List<Instruction> lastBatch = createMockInstructions(50);
+        List<InstructionDTO> lastBatch = createMockInstructions(50);
 
         when(businessLogicClient.getScheduledInstructions(eq(0), eq(PAGE_SIZE)))
                 .thenReturn(fullBatch)
@@ -83,8 +83,8 @@ class RegularPaymentServiceImplTest {
     @Test
     void processPayments_ShouldStop_WhenBatchIsFullButNextIsEmpty() {
 
-        List<Instruction> fullBatch = createMockInstructions(PAGE_SIZE);
-        List<Instruction> emptyBatch = Collections.emptyList();
+        List<InstructionDTO> fullBatch = createMockInstructions(PAGE_SIZE);
+        List<InstructionDTO> emptyBatch = Collections.emptyList();
 
         when(businessLogicClient.getScheduledInstructions(eq(0), eq(PAGE_SIZE)))
                 .thenReturn(fullBatch)
@@ -98,6 +98,20 @@ class RegularPaymentServiceImplTest {
         verify(businessLogicClient).createTransactionsBatch(fullBatch);
     }
 
+    @Test
+    void processPayments_ShouldStop_WhenSamePageComesBackUnpaid() {
+
+        List<InstructionDTO> fullBatch = createMockInstructions(PAGE_SIZE);
+
+        when(businessLogicClient.getScheduledInstructions(eq(0), eq(PAGE_SIZE)))
+                .thenReturn(fullBatch);
+
+        regularPaymentService.processPayments();
+
+        verify(businessLogicClient, times(2)).getScheduledInstructions(0, PAGE_SIZE);
+        verify(businessLogicClient, times(1)).createTransactionsBatch(fullBatch);
+    }
+
     @Test
     void processPayments_ShouldPropagateException_WhenClientFails() {
 
@@ -108,13 +122,10 @@ class RegularPaymentServiceImplTest {
         assertThrows(CreationFailureException.class, () -> regularPaymentService.processPayments());
     }
 
-    private List<Instruction> createMockInstructions(int count) {
+    private List<InstructionDTO> createMockInstructions(int count) {
         return IntStream.range(0, count)
-                .mapToObj(i -> {
-                    Instruction instruction = new Instruction();
-                    instruction.setId((long) i);
-                    return instruction;
-                })
+                .mapToObj(i -> new InstructionDTO((long) i, null, null, null, null, null, null, null, null, null,
+                        null, null, null, null, null, null))
                 .collect(Collectors.toList());
     }
 }
\ No newline at end of file
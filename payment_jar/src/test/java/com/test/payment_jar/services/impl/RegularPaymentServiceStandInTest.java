@@ -0,0 +1,59 @@
+package com.test.payment_jar.services.impl;
+
+import com.test.payment_dao_standin.PdsStandIn;
+import com.test.payment_jar.clients.BusinessLogicClient;
+import com.test.payment_jar.utils.exceptions.CreationFailureException;
+import com.test.payment_wire.http.HttpClientProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The payment run over HTTP against the PDS stand-in, which answers {@code /transactions/batch} the way PBLS
+ * does. No Spring context and no database, so it also works as a quick throughput check.
+ */
+class RegularPaymentServiceStandInTest {
+
+    private PdsStandIn standIn;
+    private RegularPaymentServiceImpl regularPaymentService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        standIn = new PdsStandIn().start();
+        regularPaymentService = new RegularPaymentServiceImpl(
+                new BusinessLogicClient(RestClient.create(), standIn.url(), new HttpClientProperties()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        standIn.close();
+    }
+
+    @Test
+    void processPayments_shouldPayEveryDueInstruction() {
+
+        standIn.seedInstructions(2_750, OffsetDateTime.now().minusMinutes(1));
+        standIn.seedInstructions(50, OffsetDateTime.now().plusDays(1));
+
+        regularPaymentService.processPayments();
+
+        assertEquals(2_750, standIn.transactionCount());
+    }
+
+    @Test
+    void processPayments_shouldFailWhenBatchIsRejected() {
+
+        standIn.seedInstructions(10, OffsetDateTime.now().minusMinutes(1));
+        standIn.errorRate(1.0, "/transactions/batch");
+
+        assertThrows(CreationFailureException.class, () -> regularPaymentService.processPayments());
+        assertEquals(0, standIn.transactionCount());
+    }
+}
@@ -0,0 +1,67 @@
+package com.test.payment_loadtest;
+
+/**
+ * Builds IIN (RNOKPP) and EDRPOU codes that pass the PBLS {@code ChecksumValidator}, so seeded instructions look
+ * like ones that came in through the API. The weights and the "no valid check digit" cases mirror the validator.
+ */
+final class Checksums {
+
+    static final long IIN_PREFIXES = 1_000_000_000L;
+    static final long EDRPOU_PREFIXES = 10_000_000L;
+
+    private static final int[] IIN_WEIGHTS = {-1, 5, 7, 9, 4, 6, 10, 5, 7};
+    private static final int[] EDRPOU_BASE_WEIGHTS = {1, 2, 3, 4, 5, 6, 7};
+    private static final int[] EDRPOU_ALTERNATIVE_WEIGHTS = {7, 1, 2, 3, 4, 5, 6};
+
+    private Checksums() {
+    }
+
+    /**
+     * The IIN whose first nine digits are {@code prefix}, or {@code null} when the weighted sum is negative and
+     * no check digit can satisfy the validator.
+     */
+    static String iin(long prefix) {
+
+        String digits = digits(prefix, IIN_PREFIXES, 9);
+        int sum = weightedSum(digits, IIN_WEIGHTS);
+
+        if (sum < 0) {
+            return null;
+        }
+
+        return digits + (sum % 11 == 10 ? 0 : sum % 11);
+    }
+
+    /**
+     * The EDRPOU whose first seven digits are {@code prefix}, or {@code null} when both weightings leave a
+     * remainder of 10.
+     */
+    static String edrpou(long prefix) {
+
+        String digits = digits(prefix, EDRPOU_PREFIXES, 7);
+        int checksum = weightedSum(digits, EDRPOU_BASE_WEIGHTS) % 11;
+
+        if (checksum == 10) {
+            checksum = weightedSum(digits, EDRPOU_ALTERNATIVE_WEIGHTS) % 11;
+        }
+
+        return checksum == 10 ? null : digits + checksum;
+    }
+
+    private static String digits(long prefix, long bound, int length) {
+        if (prefix < 0 || prefix >= bound) {
+            throw new IllegalArgumentException("Prefix out of range: " + prefix);
+        }
+        return String.format("%0" + length + "d", prefix);
+    }
+
+    private static int weightedSum(String digits, int[] weights) {
+        int sum = 0;
+
+        for (int i = 0; i < weights.length; i++) {
+            sum += (digits.charAt(i) - '0') * weights[i];
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,47 @@
+package com.test.payment_loadtest;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * How the due times of seeded instructions are spread over the test window, which starts once seeding is done.
+ */
+enum DueTimeDistribution {
+
+    /**
+     * Everything falls due at the start of the window: one large backlog, the month-end case.
+     */
+    BURST {
+        @Override
+        long offsetMillis(RandomGenerator random, long windowMillis) {
+            return 0;
+        }
+    },
+
+    /**
+     * Evenly over the window: the steady state of an instruction book with leveled slots.
+     */
+    UNIFORM {
+        @Override
+        long offsetMillis(RandomGenerator random, long windowMillis) {
+            return windowMillis == 0 ? 0 : random.nextLong(windowMillis + 1);
+        }
+    },
+
+    /**
+     * Peaks in the middle of the window (mean at half, standard deviation a sixth of it), clipped to the window.
+     */
+    NORMAL {
+        @Override
+        long offsetMillis(RandomGenerator random, long windowMillis) {
+            double offset = windowMillis / 2.0 + random.nextGaussian() * windowMillis / 6.0;
+            return Math.clamp(Math.round(offset), 0, windowMillis);
+        }
+    };
+
+    abstract long offsetMillis(RandomGenerator random, long windowMillis);
+
+    Duration offset(RandomGenerator random, Duration window) {
+        return Duration.ofMillis(offsetMillis(random, window.toMillis()));
+    }
+}
@@ -0,0 +1,99 @@
+package com.test.payment_loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Writes ACTIVE monthly instructions straight into {@code payment_instruction} with {@code COPY}, which is orders
+ * of magnitude faster than going through the API and leaves PDS, PBLS and the jar cold for the sweep. Payers are
+ * unique, recipients are drawn from a fixed pool, and both carry valid checksums.
+ *
+ * <p>The original due times are kept in {@code loadtest_due}, because paying an instruction moves its
+ * {@code next_execution_at} a month ahead and lag is measured from the time it was due.
+ */
+final class InstructionSeeder {
+
+    private static final String COPY = """
+            COPY payment_instruction (payer_first_name, payer_second_name, payer_patronymic, payer_iin,
+                payer_card_number, recipient_settlement_account, recipient_bank_code, recipient_edrpou,
+                recipient_name, amount, period_value, period_unit, instruction_status, next_execution_at)
+            FROM STDIN WITH (FORMAT csv)""";
+
+    private final LoadTestOptions options;
+
+    InstructionSeeder(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    void seed(Connection connection, Instant windowStart) throws SQLException, IOException {
+
+        SplittableRandom random = new SplittableRandom(options.seed());
+        List<String> recipients = recipients(options.recipients());
+
+        long iinPrefix = 100_000_000L;
+
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY, 1 << 16), StandardCharsets.UTF_8), 1 << 16)) {
+
+            for (long i = 0; i < options.instructions(); i++) {
+
+                String iin;
+                do {
+                    iin = Checksums.iin(iinPrefix++);
+                } while (iin == null);
+
+                Instant dueAt = windowStart.plus(options.distribution().offset(random, options.window()));
+
+                out.write("Taras,Ivanko,Tarasovich,");
+                out.write(iin);
+                out.write(',');
+                out.write(String.format("%016d", 4_000_000_000_000_000L + i));
+                out.write(",UA");
+                out.write(String.format("%027d", i));
+                out.write(",305299,");
+                out.write(recipients.get(random.nextInt(recipients.size())));
+                out.write(",Load Test Recipient,");
+                out.write(BigDecimal.valueOf(10_000 + random.nextInt(990_000), 2).toPlainString());
+                out.write(",1,MONTHS,ACTIVE,");
+                out.write(dueAt.toString());
+                out.write('\n');
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS loadtest_due");
+            statement.execute("CREATE TABLE loadtest_due AS SELECT id AS instruction_id, next_execution_at AS due_at FROM payment_instruction");
+            statement.execute("ALTER TABLE loadtest_due ADD PRIMARY KEY (instruction_id)");
+            statement.execute("ANALYZE payment_instruction");
+            statement.execute("ANALYZE loadtest_due");
+        }
+    }
+
+    private static List<String> recipients(int count) {
+
+        List<String> recipients = new ArrayList<>(count);
+
+        for (long prefix = 1_000_000L; recipients.size() < count; prefix++) {
+            String edrpou = Checksums.edrpou(prefix);
+            if (edrpou != null) {
+                recipients.add(edrpou);
+            }
+        }
+
+        return recipients;
+    }
+}
@@ -0,0 +1,139 @@
+package com.test.payment_loadtest;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The harness's own queries against the database the services share: progress, lag and statement counts.
+ */
+final class LoadDatabase {
+
+    private static final String COMMITS = """
+            SELECT count(*), min(pg_xact_commit_timestamp(t.xmin)), max(pg_xact_commit_timestamp(t.xmin))
+            FROM payment_transactions t
+            JOIN loadtest_due d ON d.instruction_id = t.instruction_id""";
+
+    private static final String LAG = """
+            SELECT percentile_cont(ARRAY[0.5, 0.9, 0.99, 0.999]) WITHIN GROUP (ORDER BY l.lag_ms), max(l.lag_ms)
+            FROM (SELECT extract(EPOCH FROM pg_xact_commit_timestamp(t.xmin) - d.due_at) * 1000 AS lag_ms
+                  FROM payment_transactions t
+                  JOIN loadtest_due d ON d.instruction_id = t.instruction_id) l""";
+
+    private static final String STATEMENTS = """
+            SELECT left(regexp_replace(query, '\\s+', ' ', 'g'), 300), calls, rows, total_exec_time
+            FROM pg_stat_statements
+            WHERE dbid = (SELECT oid FROM pg_database WHERE datname = current_database())
+            ORDER BY calls DESC""";
+
+    private static final int TOP_STATEMENTS = 20;
+
+    private final Connection connection;
+
+    LoadDatabase(Connection connection) {
+        this.connection = connection;
+    }
+
+    void createExtensions() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pg_stat_statements");
+        }
+    }
+
+    void resetStatementStatistics() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_stat_statements_reset()");
+        }
+    }
+
+    long paidCount() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM payment_transactions")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    /**
+     * Seeded instructions paid so far, over the time from the first to the last transaction commit.
+     */
+    LoadReport.Throughput throughput(long seeded) throws SQLException {
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(COMMITS)) {
+
+            resultSet.next();
+
+            long paid = resultSet.getLong(1);
+            Instant firstCommit = instant(resultSet, 2);
+            Instant lastCommit = instant(resultSet, 3);
+
+            double perSecond = paid == 0
+                    ? 0
+                    : paid / (Math.max(Duration.between(firstCommit, lastCommit).toMillis(), 1) / 1000.0);
+
+            return new LoadReport.Throughput(paid, seeded - paid, firstCommit, lastCommit, perSecond, perSecond * 60);
+        }
+    }
+
+    /**
+     * Percentiles of the time from due to committed, or {@code null} when nothing was paid.
+     */
+    LoadReport.Lag lag() throws SQLException {
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG)) {
+
+            resultSet.next();
+
+            Array percentiles = resultSet.getArray(1);
+
+            if (percentiles == null) {
+                return null;
+            }
+
+            Double[] values = (Double[]) percentiles.getArray();
+
+            return new LoadReport.Lag(values[0], values[1], values[2], values[3], resultSet.getDouble(2));
+        }
+    }
+
+    LoadReport.Statements statements(long paid) throws SQLException {
+
+        List<LoadReport.Statement> top = new ArrayList<>();
+        long calls = 0;
+        long rows = 0;
+        double executionMs = 0;
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(STATEMENTS)) {
+
+            while (resultSet.next()) {
+                LoadReport.Statement row = new LoadReport.Statement(
+                        resultSet.getString(1), resultSet.getLong(2), resultSet.getLong(3), resultSet.getDouble(4));
+
+                calls += row.calls();
+                rows += row.rows();
+                executionMs += row.executionMs();
+
+                if (top.size() < TOP_STATEMENTS) {
+                    top.add(row);
+                }
+            }
+        }
+
+        return new LoadReport.Statements(calls, rows, executionMs, paid == 0 ? 0 : (double) calls / paid, top);
+    }
+
+    private static Instant instant(ResultSet resultSet, int column) throws SQLException {
+        Timestamp timestamp = resultSet.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+}
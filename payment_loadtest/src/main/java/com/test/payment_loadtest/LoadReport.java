@@ -0,0 +1,43 @@
+package com.test.payment_loadtest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What a run writes to {@code report.json}. Durations are in milliseconds; lag is from the due time of an
+ * instruction to the commit of its transaction, so it includes the wait for the next sweep.
+ */
+record LoadReport(LoadTestOptions options,
+                  Seeding seeding,
+                  List<Sweep> sweeps,
+                  Throughput throughput,
+                  Lag lag,
+                  Statements statements,
+                  Map<String, Map<String, Double>> httpServerRequests) {
+
+    record Seeding(long instructions, long durationMs, Instant windowStart, boolean overranLead) {
+    }
+
+    record Sweep(Instant startedAt, long durationMs, long paidAfter) {
+    }
+
+    /**
+     * Paid instructions over the time from the first to the last transaction commit.
+     */
+    record Throughput(long paid, long unpaid, Instant firstCommit, Instant lastCommit, double perSecond, double perMinute) {
+    }
+
+    record Lag(double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+
+    /**
+     * From {@code pg_stat_statements}, reset after seeding: every statement the three services ran during the
+     * sweeps, plus the harness's own progress queries (one per sweep).
+     */
+    record Statements(long calls, long rows, double executionMs, double callsPerPaidInstruction, List<Statement> top) {
+    }
+
+    record Statement(String query, long calls, long rows, double executionMs) {
+    }
+}
@@ -0,0 +1,212 @@
+package com.test.payment_loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * End-to-end sweep load test: Postgres in a container, PDS, PBLS and the jar from their boot jars, N seeded
+ * instructions falling due over a window, and the jar's payment process triggered through its {@code sweep}
+ * actuator endpoint until every instruction is paid or the timeout passes. Writes {@code report.json} to the
+ * output directory, next to the service logs.
+ *
+ * <p>Seeding starts the window {@code lead} after the harness starts, so large seeds should get a longer lead;
+ * the report flags a seed that overran it, because its early instructions were already late.
+ */
+public class LoadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final LoadTestOptions options;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    LoadTest(LoadTestOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        LoadReport report = new LoadTest(options).run();
+
+        Path file = options.outputDirectory().resolve("report.json");
+        MAPPER.writeValue(file.toFile(), report);
+
+        System.out.printf("Paid %d of %d instructions, %.0f per minute, p99 lag %s ms. Report: %s%n",
+                report.throughput().paid(), options.instructions(), report.throughput().perMinute(),
+                report.lag() == null ? "n/a" : String.format("%.0f", report.lag().p99Ms()), file.toAbsolutePath());
+    }
+
+    LoadReport run() throws Exception {
+
+        Files.createDirectories(options.outputDirectory());
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+                .withCommand("postgres",
+                        "-c", "shared_preload_libraries=pg_stat_statements",
+                        "-c", "track_commit_timestamp=on",
+                        "-c", "max_connections=200")) {
+
+            postgres.start();
+
+            List<String> datasource = List.of(
+                    "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                    "--spring.datasource.username=" + postgres.getUsername(),
+                    "--spring.datasource.password=" + postgres.getPassword());
+
+            // PDS owns the schema, so it starts first and the rows are copied in once Liquibase has run.
+            try (ServiceProcess dao = start("payment_dao", concat(datasource, List.of(
+                         "--application.archive.directory=" + options.outputDirectory().resolve("archive").toAbsolutePath())));
+                 Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+
+                dao.awaitHealthy(httpClient);
+
+                LoadDatabase database = new LoadDatabase(connection);
+                database.createExtensions();
+
+                LoadReport.Seeding seeding = seed(connection);
+
+                try (ServiceProcess pbls = start("payment_pbls", List.of(
+                             "--application.server.pds=" + dao.url()));
+                     ServiceProcess jar = start("payment_jar", concat(datasource, List.of(
+                             "--application.server.pbls=" + pbls.url(),
+                             "--regular.payment.cron.expression=-",
+                             "--management.endpoints.web.exposure.include=health,metrics,sweep")))) {
+
+                    pbls.awaitHealthy(httpClient);
+                    jar.awaitHealthy(httpClient);
+
+                    database.resetStatementStatistics();
+
+                    List<LoadReport.Sweep> sweeps = sweep(jar, database, seeding.windowStart());
+
+                    LoadReport.Throughput throughput = database.throughput(options.instructions());
+
+                    Map<String, Map<String, Double>> httpServerRequests = new LinkedHashMap<>();
+                    for (ServiceProcess service : List.of(dao, pbls, jar)) {
+                        httpServerRequests.put(service.name(), metric(service, "http.server.requests"));
+                    }
+
+                    return new LoadReport(options, seeding, sweeps, throughput, database.lag(),
+                            database.statements(throughput.paid()), httpServerRequests);
+                }
+            }
+        }
+    }
+
+    private LoadReport.Seeding seed(Connection connection) throws SQLException, IOException {
+
+        Instant started = Instant.now();
+        Instant windowStart = started.plus(options.lead());
+
+        System.out.printf("Seeding %d instructions, %s over %s from %s%n",
+                options.instructions(), options.distribution(), options.window(), windowStart);
+
+        new InstructionSeeder(options).seed(connection, windowStart);
+
+        Instant finished = Instant.now();
+
+        if (finished.isAfter(windowStart)) {
+            System.out.printf("Seeding took %s, longer than the lead of %s; raise --lead for this size%n",
+                    Duration.between(started, finished), options.lead());
+        }
+
+        return new LoadReport.Seeding(options.instructions(), Duration.between(started, finished).toMillis(),
+                windowStart, finished.isAfter(windowStart));
+    }
+
+    /**
+     * Runs a sweep every {@code sweep-interval} from the start of the window, the way the cron would, or right
+     * after the previous one when a sweep takes longer than the interval.
+     */
+    private List<LoadReport.Sweep> sweep(ServiceProcess jar, LoadDatabase database, Instant windowStart) throws Exception {
+
+        List<LoadReport.Sweep> sweeps = new ArrayList<>();
+        HttpRequest request = HttpRequest.newBuilder(jar.url().resolve("/actuator/sweep"))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        Instant deadline = windowStart.plus(options.timeout());
+        Instant next = windowStart;
+        long paid = 0;
+
+        while (paid < options.instructions() && Instant.now().isBefore(deadline)) {
+
+            Duration wait = Duration.between(Instant.now(), next);
+            if (wait.isPositive()) {
+                Thread.sleep(wait);
+            }
+
+            Instant started = Instant.now();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Sweep failed with " + response.statusCode() + ": " + response.body());
+            }
+
+            paid = database.paidCount();
+
+            LoadReport.Sweep sweep = new LoadReport.Sweep(started, Duration.between(started, Instant.now()).toMillis(), paid);
+            sweeps.add(sweep);
+
+            System.out.printf("Sweep %d took %d ms, %d of %d paid%n", sweeps.size(), sweep.durationMs(), paid, options.instructions());
+
+            next = started.plus(options.sweepInterval());
+        }
+
+        return sweeps;
+    }
+
+    private ServiceProcess start(String name, List<String> args) throws IOException {
+
+        String service = name.substring(name.indexOf('_') + 1);
+
+        return ServiceProcess.start(name, ServiceProcess.bootJar(options.servicesDirectory().resolve(name)), options.jvmArgs(),
+                concat(args, options.args(service)), options.outputDirectory());
+    }
+
+    /**
+     * The measurements of an actuator metric (COUNT, TOTAL_TIME, MAX), empty when the service has not recorded it.
+     */
+    private Map<String, Double> metric(ServiceProcess service, String name) throws IOException, InterruptedException {
+
+        HttpRequest request = HttpRequest.newBuilder(service.url().resolve("/actuator/metrics/" + name)).GET().build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+
+        Map<String, Double> measurements = new LinkedHashMap<>();
+
+        if (response.statusCode() == 200) {
+            for (JsonNode measurement : MAPPER.readTree(response.body()).path("measurements")) {
+                measurements.put(measurement.path("statistic").asText(), measurement.path("value").asDouble());
+            }
+        }
+
+        return measurements;
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        return Stream.concat(first.stream(), second.stream()).toList();
+    }
+}
@@ -0,0 +1,91 @@
+package com.test.payment_loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line of the harness, as {@code --key=value} pairs. Arguments prefixed with a service name
+ * ({@code --dao.}, {@code --pbls.}, {@code --jar.}) are passed to that service with the prefix removed, e.g.
+ * {@code --pbls.application.transactions.max-concurrency=8}.
+ */
+record LoadTestOptions(long instructions,
+                       DueTimeDistribution distribution,
+                       Duration window,
+                       Duration lead,
+                       Duration sweepInterval,
+                       Duration timeout,
+                       int recipients,
+                       long seed,
+                       Path servicesDirectory,
+                       Path outputDirectory,
+                       List<String> jvmArgs,
+                       Map<String, List<String>> serviceArgs) {
+
+    static final List<String> SERVICES = List.of("dao", "pbls", "jar");
+
+    static LoadTestOptions parse(String... args) {
+
+        Map<String, String> options = new HashMap<>();
+        Map<String, List<String>> serviceArgs = new HashMap<>();
+
+        for (String service : SERVICES) {
+            serviceArgs.put(service, new ArrayList<>());
+        }
+
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            String service = option[0].contains(".") ? option[0].substring(0, option[0].indexOf('.')) : null;
+
+            if (serviceArgs.containsKey(service)) {
+                serviceArgs.get(service).add("--" + arg.substring(arg.indexOf('.') + 1));
+            } else {
+                options.put(option[0], option.length > 1 ? option[1] : "true");
+            }
+        }
+
+        String jvmArgs = options.getOrDefault("jvm-args", "").trim();
+
+        LoadTestOptions parsed = new LoadTestOptions(
+                Long.parseLong(options.getOrDefault("instructions", "1000000")),
+                DueTimeDistribution.valueOf(options.getOrDefault("distribution", "BURST").toUpperCase()),
+                Duration.parse(options.getOrDefault("window", "PT10M")),
+                Duration.parse(options.getOrDefault("lead", "PT2M")),
+                Duration.parse(options.getOrDefault("sweep-interval", "PT1M")),
+                Duration.parse(options.getOrDefault("timeout", "PT1H")),
+                Integer.parseInt(options.getOrDefault("recipients", "1000")),
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                Path.of(options.getOrDefault("services", "..")),
+                Path.of(options.getOrDefault("output", "build/loadtest")),
+                jvmArgs.isEmpty() ? List.of() : Arrays.asList(jvmArgs.split("\\s+")),
+                serviceArgs);
+
+        parsed.validate();
+
+        return parsed;
+    }
+
+    private void validate() {
+
+        if (instructions <= 0 || recipients <= 0) {
+            throw new IllegalArgumentException("instructions and recipients must be positive");
+        }
+
+        if (window.isNegative() || lead.isNegative() || !sweepInterval.isPositive() || !timeout.isPositive()) {
+            throw new IllegalArgumentException("window and lead must not be negative, sweep-interval and timeout must be positive");
+        }
+
+        // The jar holds its ShedLock for at least 30 seconds, so a sweep started sooner after the last one is skipped.
+        if (sweepInterval.compareTo(Duration.ofSeconds(30)) < 0) {
+            throw new IllegalArgumentException("sweep-interval must be at least PT30S, the jar's lockAtLeastFor");
+        }
+    }
+
+    List<String> args(String service) {
+        return serviceArgs.getOrDefault(service, List.of());
+    }
+}
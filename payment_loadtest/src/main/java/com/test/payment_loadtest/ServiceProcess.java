@@ -0,0 +1,148 @@
+package com.test.payment_loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * One service started from its boot jar in a child JVM on a free port, with stdout and stderr in
+ * {@code <output>/<name>.log}. Closing it stops the JVM, gracefully first.
+ */
+final class ServiceProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    private final String name;
+    private final Process process;
+    private final long startedNanos;
+    private final URI url;
+    private final Path log;
+
+    private ServiceProcess(String name, Process process, long startedNanos, URI url, Path log) {
+        this.name = name;
+        this.process = process;
+        this.startedNanos = startedNanos;
+        this.url = url;
+        this.log = log;
+    }
+
+    static ServiceProcess start(String name,
+                                Path jar,
+                                List<String> jvmArgs,
+                                List<String> args,
+                                Path outputDirectory) throws IOException {
+
+        int port = freePort();
+        Path log = outputDirectory.resolve(name + ".log");
+
+        List<String> command = new ArrayList<>();
+        command.add(java());
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.addAll(args);
+
+        long startedNanos = System.nanoTime();
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+        return new ServiceProcess(name, process, startedNanos, URI.create("http://localhost:" + port), log);
+    }
+
+    /**
+     * Polls {@code /actuator/health} until it answers 200, failing fast if the JVM exits, and returns the time
+     * from launching the JVM to that first answer.
+     */
+    Duration awaitHealthy(HttpClient httpClient) throws InterruptedException {
+
+        Instant deadline = Instant.now().plus(STARTUP_TIMEOUT);
+        HttpRequest health = HttpRequest.newBuilder(url.resolve("/actuator/health")).GET().build();
+
+        while (Instant.now().isBefore(deadline)) {
+
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with " + process.exitValue() + ", see " + log);
+            }
+
+            try {
+                if (httpClient.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return Duration.ofNanos(System.nanoTime() - startedNanos);
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+
+            Thread.sleep(POLL_INTERVAL);
+        }
+
+        throw new IllegalStateException(name + " was not healthy within " + STARTUP_TIMEOUT + ", see " + log);
+    }
+
+    String name() {
+        return name;
+    }
+
+    URI url() {
+        return url;
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+
+        try {
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static String java() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    static Path bootJar(Path projectDirectory) throws IOException {
+
+        Path libs = projectDirectory.resolve("build/libs");
+
+        if (!Files.isDirectory(libs)) {
+            throw new IllegalStateException("No build/libs in " + projectDirectory.toAbsolutePath() + "; run its bootJar task first");
+        }
+
+        try (Stream<Path> jars = Files.list(libs)) {
+            return jars
+                    .filter(jar -> jar.toString().endsWith(".jar") && !jar.toString().endsWith("-plain.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No boot jar in " + libs.toAbsolutePath()));
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.test.payment_loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time-to-ready of each service, from launching its JVM to the first 200 from {@code /actuator/health}, for every
+ * {@link StartupMode}. Each service is started alone against a fresh Postgres, {@code runs} times per mode, and
+ * {@code startup.json} in the output directory gets every run with its median and minimum.
+ *
+ * <p>The {@code aot-cds} mode needs boot jars built with {@code -PfastStartup}; the other modes run such jars the
+ * regular way, so one build serves all three.
+ */
+public class StartupBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final Duration TRAINING_TIMEOUT = Duration.ofMinutes(3);
+
+    record Result(String service, String mode, List<Long> runsMs, long medianMs, long minMs) {
+    }
+
+    private final int runs;
+    private final List<StartupMode> modes;
+    private final List<String> services;
+    private final Path servicesDirectory;
+    private final Path outputDirectory;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    StartupBenchmark(int runs, List<StartupMode> modes, List<String> services, Path servicesDirectory, Path outputDirectory) {
+        this.runs = runs;
+        this.modes = modes;
+        this.services = services;
+        this.servicesDirectory = servicesDirectory;
+        this.outputDirectory = outputDirectory;
+    }
+
+    // ./gradlew startupBenchmark -PfastStartup --args="--runs=5 --modes=default,cds,aot-cds"
+    public static void main(String[] args) throws Exception {
+
+        Map<String, String> options = new HashMap<>();
+
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "true");
+        }
+
+        StartupBenchmark benchmark = new StartupBenchmark(
+                Integer.parseInt(options.getOrDefault("runs", "5")),
+                Arrays.stream(options.getOrDefault("modes", "default,cds,aot-cds").split(",")).map(StartupMode::parse).toList(),
+                Arrays.stream(options.getOrDefault("services", "dao,pbls,jar").split(",")).map(s -> "payment_" + s.trim()).toList(),
+                Path.of(options.getOrDefault("services-directory", "..")),
+                Path.of(options.getOrDefault("output", "build/startup")));
+
+        List<Result> results = benchmark.run();
+
+        Path file = benchmark.outputDirectory.resolve("startup.json");
+        MAPPER.writeValue(file.toFile(), results);
+
+        for (Result result : results) {
+            System.out.printf("%-13s %-8s median %5d ms, min %5d ms%n",
+                    result.service(), result.mode(), result.medianMs(), result.minMs());
+        }
+
+        System.out.println("Report: " + file.toAbsolutePath());
+    }
+
+    List<Result> run() throws Exception {
+
+        if (runs <= 0) {
+            throw new IllegalArgumentException("runs must be positive");
+        }
+
+        Files.createDirectories(outputDirectory);
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")) {
+
+            postgres.start();
+
+            List<String> datasource = List.of(
+                    "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                    "--spring.datasource.username=" + postgres.getUsername(),
+                    "--spring.datasource.password=" + postgres.getPassword());
+
+            List<Result> results = new ArrayList<>();
+
+            for (String service : services) {
+                for (StartupMode mode : modes) {
+                    results.add(measure(service, mode, args(service, datasource)));
+                }
+            }
+
+            return results;
+        }
+    }
+
+    private Result measure(String service, StartupMode mode, List<String> args) throws IOException, InterruptedException {
+
+        String name = service + "-" + mode.name().toLowerCase();
+        Path jar = ServiceProcess.bootJar(servicesDirectory.resolve(service));
+        Path archive = outputDirectory.resolve(name + ".jsa").toAbsolutePath();
+
+        if (mode.cds()) {
+            jar = extract(jar, outputDirectory.resolve(name));
+            train(name, jar, mode.jvmArgs(archive.toString(), true), args);
+        }
+
+        List<Long> times = new ArrayList<>(runs);
+
+        for (int run = 0; run < runs; run++) {
+            try (ServiceProcess process = ServiceProcess.start(name, jar, mode.jvmArgs(archive.toString(), false), args, outputDirectory)) {
+                times.add(process.awaitHealthy(httpClient).toMillis());
+            }
+        }
+
+        System.out.printf("%s: %s ms%n", name, times);
+
+        List<Long> sorted = times.stream().sorted().toList();
+
+        return new Result(service, mode.name().toLowerCase().replace('_', '-'), times, sorted.get(sorted.size() / 2), sorted.getFirst());
+    }
+
+    /**
+     * Service arguments that let each one start on its own: the jar never runs its cron, and PBLS is pointed at a
+     * PDS that is not there, which it only calls on requests.
+     */
+    private List<String> args(String service, List<String> datasource) {
+        return switch (service) {
+            case "payment_dao" -> concat(datasource, List.of(
+                    "--application.archive.directory=" + outputDirectory.resolve("archive").toAbsolutePath()));
+            case "payment_pbls" -> List.of("--application.server.pds=http://localhost:1");
+            case "payment_jar" -> concat(datasource, List.of(
+                    "--application.server.pbls=http://localhost:1",
+                    "--regular.payment.cron.expression=-"));
+            default -> throw new IllegalArgumentException("Unknown service " + service);
+        };
+    }
+
+    /**
+     * Unpacks the boot jar with Spring Boot's jar tools into a directory of its own, since a CDS archive only
+     * matches the class path it was recorded with.
+     */
+    private static Path extract(Path jar, Path destination) throws IOException, InterruptedException {
+
+        if (Files.exists(destination)) {
+            try (Stream<Path> files = Files.walk(destination)) {
+                for (Path file : files.sorted((a, b) -> b.compareTo(a)).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+
+        exec(destination.getParent().resolve(destination.getFileName() + "-extract.log"), List.of(
+                ServiceProcess.java(), "-Djarmode=tools", "-jar", jar.toAbsolutePath().toString(),
+                "extract", "--destination", destination.toAbsolutePath().toString()));
+
+        return destination.resolve(jar.getFileName());
+    }
+
+    /**
+     * Starts the service until its context is refreshed and lets it exit, which writes the CDS archive.
+     */
+    private void train(String name, Path jar, List<String> jvmArgs, List<String> args) throws IOException, InterruptedException {
+
+        List<String> command = new ArrayList<>();
+        command.add(ServiceProcess.java());
+        command.addAll(jvmArgs);
+        command.add("-Dspring.context.exit=onRefresh");
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.add("--server.port=0");
+        command.addAll(args);
+
+        exec(outputDirectory.resolve(name + "-training.log"), command);
+    }
+
+    private static void exec(Path log, List<String> command) throws IOException, InterruptedException {
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+        if (!process.waitFor(TRAINING_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Timed out after " + TRAINING_TIMEOUT + ", see " + log);
+        }
+
+        if (process.exitValue() != 0) {
+            throw new IllegalStateException("Exited with " + process.exitValue() + ", see " + log);
+        }
+    }
+
+    private static List<String> concat(List<String> first, List<String> second) {
+        return Stream.concat(first.stream(), second.stream()).toList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.test.payment_loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * How a service JVM is launched in the startup benchmark. The CDS modes run from the extracted jar, as the
+ * {@code fast-startup} image does, with a class data archive recorded by a training run of the same mode.
+ */
+enum StartupMode {
+
+    DEFAULT(false, false),
+    CDS(true, false),
+    AOT_CDS(true, true);
+
+    private final boolean cds;
+    private final boolean aot;
+
+    StartupMode(boolean cds, boolean aot) {
+        this.cds = cds;
+        this.aot = aot;
+    }
+
+    boolean cds() {
+        return cds;
+    }
+
+    /**
+     * JVM options for a run; {@code archive} is the CDS archive, ignored by {@link #DEFAULT}.
+     */
+    List<String> jvmArgs(String archive, boolean training) {
+
+        List<String> args = new ArrayList<>();
+
+        if (cds) {
+            args.add(training ? "-XX:ArchiveClassesAtExit=" + archive : "-XX:SharedArchiveFile=" + archive);
+        }
+
+        // Only jars built with -PfastStartup carry the generated initializers; without them the context fails fast.
+        if (aot) {
+            args.add("-Dspring.aot.enabled=true");
+        }
+
+        return args;
+    }
+
+    static StartupMode parse(String mode) {
+        return valueOf(mode.trim().toUpperCase().replace('-', '_'));
+    }
+}
@@ -0,0 +1,34 @@
+package com.test.payment_loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ChecksumsTest {
+
+    @Test
+    void iin_shouldAppendCheckDigit() {
+        assertEquals("1111111118", Checksums.iin(111_111_111L));
+    }
+
+    @Test
+    void iin_shouldReturnNull_WhenWeightedSumIsNegative() {
+        assertNull(Checksums.iin(900_000_000L));
+    }
+
+    @Test
+    void edrpou_shouldAppendCheckDigit() {
+        assertEquals("00000017", Checksums.edrpou(1L));
+    }
+
+    @Test
+    void edrpou_shouldFallBackToAlternativeWeights() {
+        assertEquals("00000037", Checksums.edrpou(3L));
+    }
+
+    @Test
+    void edrpou_shouldReturnNull_WhenBothWeightingsLeaveTen() {
+        assertNull(Checksums.edrpou(281L));
+    }
+}
@@ -0,0 +1,46 @@
+package com.test.payment_loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DueTimeDistributionTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(10);
+
+    @Test
+    void burst_shouldPutEverythingAtStartOfWindow() {
+        SplittableRandom random = new SplittableRandom(1);
+
+        assertTrue(LongStream.range(0, 1_000).allMatch(i -> DueTimeDistribution.BURST.offset(random, WINDOW).isZero()));
+    }
+
+    @Test
+    void uniformAndNormal_shouldStayInsideWindow() {
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (DueTimeDistribution distribution : new DueTimeDistribution[]{DueTimeDistribution.UNIFORM, DueTimeDistribution.NORMAL}) {
+            for (int i = 0; i < 10_000; i++) {
+                Duration offset = distribution.offset(random, WINDOW);
+                assertTrue(!offset.isNegative() && offset.compareTo(WINDOW) <= 0, distribution + ": " + offset);
+            }
+        }
+    }
+
+    @Test
+    void normal_shouldCentreOnMiddleOfWindow() {
+        SplittableRandom random = new SplittableRandom(1);
+
+        double meanMillis = LongStream.range(0, 10_000)
+                .map(i -> DueTimeDistribution.NORMAL.offsetMillis(random, WINDOW.toMillis()))
+                .average()
+                .orElseThrow();
+
+        assertEquals(WINDOW.toMillis() / 2.0, meanMillis, WINDOW.toMillis() * 0.02);
+    }
+}
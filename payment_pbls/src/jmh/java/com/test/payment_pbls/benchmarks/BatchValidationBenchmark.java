@@ -0,0 +1,111 @@
+package com.test.payment_pbls.benchmarks;
+
+import com.test.payment_pbls.dtos.InstructionValidDTO;
+import com.test.payment_pbls.dtos.ValidationRequestDTO;
+import com.test.payment_pbls.dtos.ValidationResultDTO;
+import com.test.payment_pbls.services.ValidationService;
+import com.test.payment_pbls.services.impl.ValidationServiceImpl;
+import com.test.payment_pbls.utils.enums.ValidationResult;
+import com.test.payment_pbls.utils.validation.ChecksumValidator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.math.BigDecimal;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validation of a whole batch, per part: Bean Validation of {@code InstructionValidDTO} (what
+ * {@code POST /instructions/batch} runs before the checksums), the checksums through {@link ValidationServiceImpl},
+ * and {@code /validate/batch}. All instructions are valid, with distinct payers, so no path short-circuits.
+ */
+@State(Scope.Benchmark)
+public class BatchValidationBenchmark {
+
+    @Param({"1000"})
+    public int size;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private final ValidationService validationService = new ValidationServiceImpl();
+
+    private List<InstructionValidDTO> instructions;
+    private List<ValidationRequestDTO> requests;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        instructions = new ArrayList<>(size);
+        requests = new ArrayList<>(size);
+
+        for (long candidate = 1_000_000_000L; instructions.size() < size; candidate++) {
+            String iin = String.valueOf(candidate);
+
+            if (ChecksumValidator.checkIin(iin) == ValidationResult.VALID) {
+                instructions.add(instruction(iin, instructions.size()));
+                requests.add(new ValidationRequestDTO(iin, "00000017"));
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public int beanValidation() {
+        int violations = 0;
+
+        for (InstructionValidDTO instruction : instructions) {
+            violations += validator.validate(instruction).size();
+        }
+
+        return violations;
+    }
+
+    @Benchmark
+    public int checksums() {
+        int valid = 0;
+
+        for (InstructionValidDTO instruction : instructions) {
+            if (validationService.checkPayerIin(instruction.payerIin()).isValid()
+                    && validationService.checkRecipientEdrpou(instruction.recipientEdrpou()).isValid()) {
+                valid++;
+            }
+        }
+
+        return valid;
+    }
+
+    @Benchmark
+    public List<ValidationResultDTO> validateBatch() {
+        return validationService.validateBatch(requests);
+    }
+
+    private static InstructionValidDTO instruction(String iin, int i) {
+        return new InstructionValidDTO(
+                "Тарас",
+                "Іванко",
+                "Тарасович",
+                iin,
+                String.valueOf(4_000_000_000_000_000L + i),
+                "UA" + String.format("%027d", i),
+                "305299",
+                "00000017",
+                "ТОВ Регулярні платежі",
+                new BigDecimal("1250.75").add(BigDecimal.valueOf(i, 2)),
+                1,
+                ChronoUnit.MONTHS);
+    }
+}
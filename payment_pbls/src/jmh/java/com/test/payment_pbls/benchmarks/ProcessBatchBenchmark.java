@@ -0,0 +1,86 @@
+package com.test.payment_pbls.benchmarks;
+
+import com.test.payment_dao_standin.PdsStandIn;
+import com.test.payment_pbls.PaymentPblsApplication;
+import com.test.payment_pbls.dtos.BatchResultDTO;
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.services.InstructionService;
+import com.test.payment_pbls.services.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One page of the jar's payment run through the real PBLS services and HTTP clients, against the in-memory PDS
+ * stand-in instead of payment_dao and Postgres: fetch the scheduled page, then {@code processBatch} it
+ * (sub-batches, concurrent sends). {@code latencyMs} is added to every PDS call, so the score shows how much of a
+ * page is spent waiting on PDS and how well the sub-batches overlap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProcessBatchBenchmark {
+
+    @Param({"250", "1000"})
+    public int size;
+
+    @Param({"0", "5"})
+    public int latencyMs;
+
+    private PdsStandIn standIn;
+    private ConfigurableApplicationContext context;
+    private InstructionService instructionService;
+    private TransactionService transactionService;
+
+    @Setup(Level.Trial)
+    public void startServices() throws IOException {
+
+        standIn = new PdsStandIn()
+                .latency(Duration.ofMillis(latencyMs), Duration.ofMillis(latencyMs / 2))
+                .start();
+
+        context = new SpringApplicationBuilder(PaymentPblsApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--application.server.pds=" + standIn.url(),
+                        "--logging.level.root=WARN");
+
+        instructionService = context.getBean(InstructionService.class);
+        transactionService = context.getBean(TransactionService.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void seedDueInstructions() {
+        standIn.clear();
+        standIn.seedInstructions(size, OffsetDateTime.now().minusMinutes(1));
+    }
+
+    @Benchmark
+    public BatchResultDTO processScheduledPage() {
+
+        List<Instruction> page = instructionService.getScheduledInstructions(0, size);
+
+        return transactionService.processBatch(page);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServices() {
+        context.close();
+        standIn.close();
+    }
+}
@@ -0,0 +1,125 @@
+package com.test.payment_pbls.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.Transaction;
+import com.test.payment_wire.InstructionStatus;
+import com.test.payment_wire.TransactionStatus;
+import com.test.payment_wire.WireJackson;
+import com.test.payment_wire.http.SmileConverters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JSON vs Smile for the payloads of {@code /instructions/scheduled} and {@code /transactions/batch}, the same on the
+ * PDS side. The builder is set up like Boot's plus {@code JacksonConfig} (ISO dates, Blackbird), and the Smile
+ * mapper comes from {@link SmileConverters}, so both formats are written as in production.
+ */
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    private static final TypeReference<List<Instruction>> INSTRUCTIONS = new TypeReference<>() {};
+    private static final TypeReference<List<Transaction>> TRANSACTIONS = new TypeReference<>() {};
+
+    @Param({"json", "smile"})
+    public String format;
+
+    @Param({"250", "1000"})
+    public int size;
+
+    private ObjectMapper mapper;
+    private List<Instruction> instructions;
+    private List<Transaction> transactions;
+    private byte[] instructionsPayload;
+    private byte[] transactionsPayload;
+
+    @Setup
+    public void setUp() throws IOException {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(WireJackson.blackbird());
+
+        mapper = "smile".equals(format) ? SmileConverters.mapper(builder) : builder.build();
+
+        instructions = new ArrayList<>(size);
+        transactions = new ArrayList<>(size);
+
+        OffsetDateTime now = OffsetDateTime.of(2025, 11, 3, 9, 0, 0, 0, ZoneOffset.ofHours(2));
+
+        for (int i = 0; i < size; i++) {
+            Instruction instruction = instruction(i, now);
+            instructions.add(instruction);
+            transactions.add(transaction(instruction, now));
+        }
+
+        instructionsPayload = mapper.writeValueAsBytes(instructions);
+        transactionsPayload = mapper.writeValueAsBytes(transactions);
+    }
+
+    @Benchmark
+    public byte[] writeInstructions() throws IOException {
+        return mapper.writeValueAsBytes(instructions);
+    }
+
+    @Benchmark
+    public List<Instruction> readInstructions() throws IOException {
+        return mapper.readValue(instructionsPayload, INSTRUCTIONS);
+    }
+
+    @Benchmark
+    public byte[] writeTransactions() throws IOException {
+        return mapper.writeValueAsBytes(transactions);
+    }
+
+    @Benchmark
+    public List<Transaction> readTransactions() throws IOException {
+        return mapper.readValue(transactionsPayload, TRANSACTIONS);
+    }
+
+    private static Instruction instruction(int i, OffsetDateTime now) {
+        Instruction instruction = new Instruction();
+        instruction.setId(1_000_000L + i);
+        instruction.setPayerFirstName("Тарас");
+        instruction.setPayerSecondName("Іванко");
+        instruction.setPayerPatronymic("Тарасович");
+        instruction.setPayerIin("1111111118");
+        instruction.setPayerCardNumber("1234567812345678");
+        instruction.setRecipientSettlementAccount("UA123456789012345678901234567");
+        instruction.setRecipientBankCode("305299");
+        instruction.setRecipientEdrpou("00000017");
+        instruction.setRecipientName("ТОВ Регулярні платежі");
+        instruction.setAmount(new BigDecimal("1250.75").add(BigDecimal.valueOf(i, 2)));
+        instruction.setPeriodValue(1);
+        instruction.setPeriodUnit(ChronoUnit.MONTHS);
+        instruction.setLastExecutionAt(now.minusMonths(1));
+        instruction.setNextExecutionAt(now);
+        instruction.setInstructionStatus(InstructionStatus.ACTIVE);
+        return instruction;
+    }
+
+    private static Transaction transaction(Instruction instruction, OffsetDateTime now) {
+        Transaction transaction = new Transaction();
+        transaction.setInstruction(instruction);
+        transaction.setIdempotencyId(UUID.nameUUIDFromBytes((instruction.getId() + "/" + now.toInstant()).getBytes(StandardCharsets.UTF_8)));
+        transaction.setAmount(instruction.getAmount());
+        transaction.setTransactionTime(now);
+        transaction.setTransactionStatus(TransactionStatus.ACTIVE.getStatusCode());
+        return transaction;
+    }
+}
@@ -0,0 +1,131 @@
+package com.test.payment_pbls.benchmarks;
+
+import com.test.payment_pbls.utils.enums.ValidationResult;
+import com.test.payment_pbls.utils.validation.ChecksumValidator;
+import com.test.payment_pbls.utils.validation.PersonNameValidator;
+import jakarta.validation.ValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.regex.Pattern;
+
+/**
+ * Compares the regex/exception based validation that {@code ValidationServiceImpl} and
+ * {@code InstructionValidDTO} used before with {@link ChecksumValidator} and {@link PersonNameValidator}.
+ * Run with {@code ./gradlew jmh}; the gc profiler reports allocation per operation alongside the score.
+ */
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private static final int[] IIN_WEIGHTS = {-1, 5, 7, 9, 4, 6, 10, 5, 7};
+    private static final int[] EDRPOU_BASE_WEIGHTS = {1, 2, 3, 4, 5, 6, 7};
+    private static final int[] EDRPOU_ALTERNATIVE_WEIGHTS = {7, 1, 2, 3, 4, 5, 6};
+
+    private static final Pattern LEGACY_NAME_PATTERN =
+            Pattern.compile("^[A-ZА-ЩЬЮЯЄІЇҐЁЭЫЪ][a-zа-щьюяєіїґA-ZА-ЩЬЮЯЄІЇҐёэыъA-ZА-ЯЁЭЫЪ'ʼ’\\s-]+$");
+
+    @Param({"1111111118", "1234567895"})
+    public String iin;
+
+    @Param({"00000017", "00000018"})
+    public String edrpou;
+
+    @Param({"Тарасович"})
+    public String name;
+
+    @Benchmark
+    public boolean legacyIin() {
+        try {
+            legacyValidateIin(iin);
+            return true;
+        } catch (ValidationException ex) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public ValidationResult checksumIin() {
+        return ChecksumValidator.checkIin(iin);
+    }
+
+    @Benchmark
+    public boolean legacyEdrpou() {
+        try {
+            legacyValidateEdrpou(edrpou);
+            return true;
+        } catch (ValidationException ex) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public ValidationResult checksumEdrpou() {
+        return ChecksumValidator.checkEdrpou(edrpou);
+    }
+
+    @Benchmark
+    public boolean legacyName() {
+        return LEGACY_NAME_PATTERN.matcher(name).matches();
+    }
+
+    @Benchmark
+    public boolean personName() {
+        return PersonNameValidator.isPersonName(name);
+    }
+
+    private static void legacyValidateIin(String iin) {
+
+        if (iin == null || !iin.matches("^\\d{10}$")) {
+            throw new ValidationException("IIN must be a 10-digit number.");
+        }
+
+        int sum = 0;
+        int checkDigit = Character.getNumericValue(iin.charAt(9));
+
+        for (int i = 0; i < 9; i++) {
+            sum += Character.getNumericValue(iin.charAt(i)) * IIN_WEIGHTS[i];
+        }
+
+        int calculatedChecksum = sum % 11;
+
+        if (calculatedChecksum == 10) {
+            calculatedChecksum = 0;
+        }
+
+        if (calculatedChecksum != checkDigit) {
+            throw new ValidationException("Invalid IIN checksum. Data integrity violation.");
+        }
+    }
+
+    private static void legacyValidateEdrpou(String edrpou) {
+
+        if (edrpou == null || !edrpou.matches("^\\d{8}$")) {
+            throw new ValidationException("EDRPOU must be a 8-digit number.");
+        }
+
+        int checkDigit = Character.getNumericValue(edrpou.charAt(7));
+        String digits = edrpou.substring(0, 7);
+
+        int calculatedChecksum = legacyEdrpouMod11(digits, EDRPOU_BASE_WEIGHTS);
+
+        if (calculatedChecksum == 10) {
+            calculatedChecksum = legacyEdrpouMod11(digits, EDRPOU_ALTERNATIVE_WEIGHTS);
+        }
+
+        if (calculatedChecksum != checkDigit) {
+            throw new ValidationException("Invalid EDRPOU checksum. Data integrity violation.");
+        }
+    }
+
+    private static int legacyEdrpouMod11(String digits, int[] weights) {
+        int sum = 0;
+
+        for (int i = 0; i < 7; i++) {
+            sum += Character.getNumericValue(digits.charAt(i)) * weights[i];
+        }
+
+        return sum % 11;
+    }
+}
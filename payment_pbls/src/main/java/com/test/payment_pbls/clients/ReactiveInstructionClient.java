@@ -0,0 +1,98 @@
+package com.test.payment_pbls.clients;
+
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionCreateDTO;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import com.test.payment_wire.http.HttpClientProperties;
+import com.test.payment_wire.http.SmileConverters;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Non-blocking twin of {@link InstructionClient} for the {@code reactive} profile, with the same endpoints,
+ * media types and error messages.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveInstructionClient {
+
+    private static final ParameterizedTypeReference<List<Instruction>> INSTRUCTIONS = new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final String serverUrl;
+    private final MediaType batchMediaType;
+
+    @Autowired
+    public ReactiveInstructionClient(WebClient webClient,
+                                     @Value("${application.server.pds}") String url,
+                                     HttpClientProperties httpClientProperties) {
+        this.webClient = webClient;
+        this.serverUrl = url;
+        this.batchMediaType = httpClientProperties.getEndpoint("pds").isSmile() ? SmileConverters.APPLICATION_SMILE : MediaType.APPLICATION_JSON;
+    }
+
+    public Mono<Instruction> createInstruction(InstructionCreateDTO instructionCreateDTO) {
+        return webClient.post()
+                .uri(serverUrl + "/instructions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(instructionCreateDTO)
+                .retrieve()
+                .bodyToMono(Instruction.class)
+                .onErrorMap(failure("Failed to save instruction in PDS: Service communication error.",
+                        "An unexpected error occurred during instruction creation."));
+    }
+
+    public Mono<List<Instruction>> createInstructionsBatch(List<InstructionCreateDTO> instructionCreateDTOs) {
+        return webClient.post()
+                .uri(serverUrl + "/instructions/batch")
+                .contentType(batchMediaType)
+                .accept(batchMediaType)
+                .bodyValue(instructionCreateDTOs)
+                .retrieve()
+                .bodyToMono(INSTRUCTIONS)
+                .onErrorMap(failure("Failed to save instructions batch in PDS: Service communication error.",
+                        "An unexpected error occurred during instructions batch creation."));
+    }
+
+    public Mono<List<Instruction>> getInstructionsForIin(String iin) {
+        return webClient.get()
+                .uri(serverUrl + "/instructions/search/iin/{iin}", iin)
+                .retrieve()
+                .bodyToMono(INSTRUCTIONS)
+                .onErrorMap(failure("Failed to search instruction in PDS: Service communication error.",
+                        "An unexpected error occurred during instruction search."));
+    }
+
+    public Mono<List<Instruction>> getInstructionsForEdrpou(String edrpou) {
+        return webClient.get()
+                .uri(serverUrl + "/instructions/search/edrpou/{edrpou}", edrpou)
+                .retrieve()
+                .bodyToMono(INSTRUCTIONS)
+                .onErrorMap(failure("Failed to search instruction in PDS: Service communication error.",
+                        "An unexpected error occurred during instruction search."));
+    }
+
+    public Mono<List<Instruction>> getScheduledInstructions(int page, int size) {
+        return webClient.get()
+                .uri(serverUrl + "/instructions/scheduled?page={page}&size={size}", page, size)
+                .accept(batchMediaType)
+                .retrieve()
+                .bodyToMono(INSTRUCTIONS)
+                .onErrorMap(failure("Failed to search instruction in PDS: Service communication error.",
+                        "An unexpected error occurred during instruction search."));
+    }
+
+    private static Function<Throwable, Throwable> failure(String communicationError, String unexpectedError) {
+        return e -> new CreationFailureException(e instanceof WebClientException ? communicationError : unexpectedError);
+    }
+}
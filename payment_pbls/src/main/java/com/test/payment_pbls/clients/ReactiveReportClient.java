@@ -0,0 +1,48 @@
+package com.test.payment_pbls.clients;
+
+import com.test.payment_pbls.utils.enums.ReportGranularity;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Non-blocking twin of {@link ReportClient} for the {@code reactive} profile. The report is passed on buffer by buffer
+ * as PDS streams it, without being parsed.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveReportClient {
+
+    private final WebClient webClient;
+    private final String serverUrl;
+
+    @Autowired
+    public ReactiveReportClient(WebClient webClient, @Value("${application.server.pds}") String url) {
+        this.webClient = webClient;
+        this.serverUrl = url;
+    }
+
+    public Flux<DataBuffer> streamSettlementReport(String edrpou, ReportGranularity granularity,
+                                                   OffsetDateTime from, OffsetDateTime to) {
+        return webClient.get()
+                .uri(serverUrl + "/reports/settlement/{edrpou}?granularity={granularity}&from={from}&to={to}",
+                        edrpou, granularity, from.toString(), to.toString())
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .onErrorMap(WebClientException.class, e -> new CreationFailureException(
+                        e instanceof WebClientResponseException responseException
+                                ? "Failed to build settlement report in PDS: " + responseException.getStatusCode()
+                                : "Failed to build settlement report in PDS: Service communication error."));
+    }
+}
@@ -0,0 +1,103 @@
+package com.test.payment_pbls.clients;
+
+import com.test.payment_pbls.dtos.InstructionPaymentSummaryDTO;
+import com.test.payment_pbls.dtos.Transaction;
+import com.test.payment_pbls.dtos.TransactionDTO;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import com.test.payment_pbls.utils.singleflight.SingleFlight;
+import com.test.payment_wire.http.HttpClientProperties;
+import com.test.payment_wire.http.SmileConverters;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Non-blocking twin of {@link TransactionClient} for the {@code reactive} profile.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTransactionClient {
+
+    private static final ParameterizedTypeReference<List<TransactionDTO>> TRANSACTIONS = new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final String serverUrl;
+    private final MediaType batchMediaType;
+    private final SingleFlight singleFlight;
+
+    @Autowired
+    public ReactiveTransactionClient(WebClient webClient,
+                                     @Value("${application.server.pds}") String url,
+                                     HttpClientProperties httpClientProperties,
+                                     SingleFlight singleFlight) {
+        this.webClient = webClient;
+        this.serverUrl = url;
+        this.batchMediaType = httpClientProperties.getEndpoint("pds").isSmile() ? SmileConverters.APPLICATION_SMILE : MediaType.APPLICATION_JSON;
+        this.singleFlight = singleFlight;
+    }
+
+    public Mono<TransactionDTO> createTransaction(Transaction transaction) {
+        return webClient.post()
+                .uri(serverUrl + "/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(transaction)
+                .retrieve()
+                .bodyToMono(TransactionDTO.class)
+                .onErrorMap(failure("Failed to save instruction in PDS: Service communication error.",
+                        "An unexpected error occurred during instruction creation."));
+    }
+
+    public Mono<Void> revertTransaction(Long transactionId) {
+        return webClient.delete()
+                .uri(serverUrl + "/transactions/{id}", transactionId)
+                .retrieve()
+                .toBodilessEntity()
+                .then()
+                .onErrorMap(failure("Failed to save instruction in PDS: Service communication error.",
+                        "An unexpected error occurred during instruction creation."));
+    }
+
+    public Mono<List<TransactionDTO>> getTransactionsByInstructionId(Long instructionId) {
+        return singleFlight.executeReactive("transactions-by-instruction", List.of(instructionId), () -> webClient.get()
+                .uri(serverUrl + "/transactions/instruction/{instructionId}", instructionId)
+                .retrieve()
+                .bodyToMono(TRANSACTIONS)
+                // Coalesced callers get this same list back, so nobody may change it.
+                .map(List::copyOf)
+                .onErrorMap(failure("Failed to search instruction in PDS: Service communication error.",
+                        "An unexpected error occurred during instruction search.")));
+    }
+
+    public Mono<InstructionPaymentSummaryDTO> getPaymentSummary(Long instructionId) {
+        return singleFlight.executeReactive("payment-summary", List.of(instructionId), () -> webClient.get()
+                .uri(serverUrl + "/transactions/instruction/{instructionId}/summary", instructionId)
+                .retrieve()
+                .bodyToMono(InstructionPaymentSummaryDTO.class)
+                .onErrorMap(failure("Failed to search payment summary in PDS: Service communication error.",
+                        "An unexpected error occurred during payment summary search.")));
+    }
+
+    public Mono<List<TransactionDTO>> createTransactionsBatch(List<Transaction> transactions) {
+        return webClient.post()
+                .uri(serverUrl + "/transactions/batch")
+                .contentType(batchMediaType)
+                .accept(batchMediaType)
+                .bodyValue(transactions)
+                .retrieve()
+                .bodyToMono(TRANSACTIONS)
+                .onErrorMap(failure("Failed to save batch transactions in PDS.", "Failed to save batch transactions in PDS."));
+    }
+
+    private static Function<Throwable, Throwable> failure(String communicationError, String unexpectedError) {
+        return e -> new CreationFailureException(e instanceof WebClientException ? communicationError : unexpectedError);
+    }
+}
@@ -0,0 +1,47 @@
+package com.test.payment_pbls.clients;
+
+import com.test.payment_pbls.utils.enums.ReportGranularity;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
+
+@Component
+public class ReportClient {
+
+    private final RestClient restClient;
+    private final String serverUrl;
+
+    @Autowired
+    public ReportClient(RestClient restClient, @Value("${application.server.pds}") String url) {
+        this.restClient = restClient;
+        this.serverUrl = url;
+    }
+
+    public void streamSettlementReport(String edrpou, ReportGranularity granularity,
+                                       OffsetDateTime from, OffsetDateTime to,
+                                       OutputStream outputStream) {
+        try {
+            restClient.get()
+                    .uri(serverUrl + "/reports/settlement/{edrpou}?granularity={granularity}&from={from}&to={to}",
+                            edrpou, granularity, from.toString(), to.toString())
+                    .accept(MediaType.APPLICATION_JSON)
+                    .exchange((request, response) -> {
+                        if (response.getStatusCode().isError()) {
+                            throw new CreationFailureException("Failed to build settlement report in PDS: " + response.getStatusCode());
+                        }
+                        response.getBody().transferTo(outputStream);
+                        return null;
+                    });
+
+        } catch (RestClientException e) {
+            throw new CreationFailureException("Failed to build settlement report in PDS: Service communication error.");
+        }
+    }
+}
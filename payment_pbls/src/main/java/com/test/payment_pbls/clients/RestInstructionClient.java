@@ -0,0 +1,119 @@
+package com.test.payment_pbls.clients;
+
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionCreateDTO;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import com.test.payment_wire.http.HttpClientProperties;
+import com.test.payment_wire.http.SmileConverters;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "application.server.pds-transport", havingValue = "http", matchIfMissing = true)
+public class RestInstructionClient implements InstructionClient {
+
+    private static final ParameterizedTypeReference<List<Instruction>> INSTRUCTIONS = new ParameterizedTypeReference<>() {};
+
+    private final RestClient restClient;
+    private final String serverUrl;
+    private final MediaType batchMediaType;
+
+    @Autowired
+    public RestInstructionClient(RestClient restClient,
+                             @Value("${application.server.pds}") String url,
+                             HttpClientProperties httpClientProperties) {
+        this.restClient = restClient;
+        this.serverUrl = url;
+        this.batchMediaType = httpClientProperties.getEndpoint("pds").isSmile() ? SmileConverters.APPLICATION_SMILE : MediaType.APPLICATION_JSON;
+    }
+
+    @Override
+    public Instruction createInstruction(InstructionCreateDTO instructionCreateDTO) {
+        try {
+            return restClient.post()
+                    .uri(serverUrl + "/instructions")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(instructionCreateDTO)
+                    .retrieve()
+                    .body(Instruction.class);
+
+        } catch (RestClientException e) {
+            throw new CreationFailureException("Failed to save instruction in PDS: Service communication error.");
+        } catch (Exception e) {
+            throw new CreationFailureException("An unexpected error occurred during instruction creation.");
+        }
+    }
+
+    @Override
+    public List<Instruction> createInstructionsBatch(List<InstructionCreateDTO> instructionCreateDTOs) {
+        try {
+            return restClient.post()
+                    .uri(serverUrl + "/instructions/batch")
+                    .contentType(batchMediaType)
+                    .accept(batchMediaType)
+                    .body(instructionCreateDTOs)
+                    .retrieve()
+                    .body(INSTRUCTIONS);
+
+        } catch (RestClientException e) {
+            throw new CreationFailureException("Failed to save instructions batch in PDS: Service communication error.");
+        } catch (Exception e) {
+            throw new CreationFailureException("An unexpected error occurred during instructions batch creation.");
+        }
+    }
+
+    @Override
+    public List<Instruction> getInstructionsForIin(String iin) {
+        try {
+            return restClient.get()
+                    // Використовуємо {placeholders} замість .formatted() - це безпечніше і правильніше
+                    .uri(serverUrl + "/instructions/search/iin/{iin}", iin)
+                    .retrieve()
+                    .body(INSTRUCTIONS);
+
+        } catch (RestClientException e) {
+            throw new CreationFailureException("Failed to search instruction in PDS: Service communication error.");
+        } catch (Exception e) {
+            throw new CreationFailureException("An unexpected error occurred during instruction search.");
+        }
+    }
+
+    @Override
+    public List<Instruction> getInstructionsForEdrpou(String edrpou) {
+        try {
+            return restClient.get()
+                    .uri(serverUrl + "/instructions/search/edrpou/{edrpou}", edrpou)
+                    .retrieve()
+                    .body(INSTRUCTIONS);
+
+        } catch (RestClientException e) {
+            throw new CreationFailureException("Failed to search instruction in PDS: Service communication error.");
+        } catch (Exception e) {
+            throw new CreationFailureException("An unexpected error occurred during instruction search.");
+        }
+    }
+
+    @Override
+    public List<Instruction> getScheduledInstructions(int page, int size) {
+        try {
+            return restClient.get()
+                    .uri(serverUrl + "/instructions/scheduled?page={page}&size={size}", page, size)
+                    .accept(batchMediaType)
+                    .retrieve()
+                    .body(INSTRUCTIONS);
+
+        } catch (RestClientException e) {
+            throw new CreationFailureException("Failed to search instruction in PDS: Service communication error.");
+        } catch (Exception e) {
+            throw new CreationFailureException("An unexpected error occurred during instruction search.");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.test.payment_pbls.clients;
+
+import com.test.payment_pbls.dtos.SlotAllocationDTO;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "application.server.pds-transport", havingValue = "http", matchIfMissing = true)
+public class RestSlotClient implements SlotClient {
+
+    private static final ParameterizedTypeReference<List<OffsetDateTime>> SLOTS = new ParameterizedTypeReference<>() {};
+
+    private final RestClient restClient;
+    private final String serverUrl;
+
+    @Autowired
+    public RestSlotClient(RestClient restClient, @Value("${application.server.pds}") String url) {
+        this.restClient = restClient;
+        this.serverUrl = url;
+    }
+
+    @Override
+    public List<OffsetDateTime> allocate(SlotAllocationDTO slotAllocationDTO) {
+        try {
+            return restClient.post()
+                    .uri(serverUrl + "/slots/allocate")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(slotAllocationDTO)
+                    .retrieve()
+                    .body(SLOTS);
+
+        } catch (RestClientException e) {
+            throw new CreationFailureException("Failed to allocate execution slots in PDS: Service communication error.");
+        } catch (Exception e) {
+            throw new CreationFailureException("An unexpected error occurred during execution slot allocation.");
+        }
+    }
+}
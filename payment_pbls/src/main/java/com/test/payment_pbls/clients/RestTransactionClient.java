@@ -0,0 +1,126 @@
+package com.test.payment_pbls.clients;
+
+import com.test.payment_pbls.dtos.InstructionPaymentSummaryDTO;
+import com.test.payment_pbls.dtos.Transaction;
+import com.test.payment_pbls.dtos.TransactionDTO;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import com.test.payment_pbls.utils.singleflight.SingleFlight;
+import com.test.payment_wire.http.HttpClientProperties;
+import com.test.payment_wire.http.SmileConverters;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "application.server.pds-transport", havingValue = "http", matchIfMissing = true)
+public class RestTransactionClient implements TransactionClient {
+
+    private static final ParameterizedTypeReference<List<TransactionDTO>> TRANSACTIONS = new ParameterizedTypeReference<>() {};
+
+    private final RestClient restClient;
+    private final String serverUrl;
+    private final MediaType batchMediaType;
+    private final SingleFlight singleFlight;
+
+    @Autowired
+    public RestTransactionClient(RestClient restClient,
+                             @Value("${application.server.pds}") String url,
+                             HttpClientProperties httpClientProperties,
+                             SingleFlight singleFlight) {
+        this.restClient = restClient;
+        this.serverUrl = url;
+        this.batchMediaType = httpClientProperties.getEndpoint("pds").isSmile() ? SmileConverters.APPLICATION_SMILE : MediaType.APPLICATION_JSON;
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public TransactionDTO createTransaction(Transaction transaction) {
+        try {
+            return restClient.post()
+                    .uri(serverUrl + "/transactions")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(transaction)
+                    .retrieve()
+                    .body(TransactionDTO.class);
+
+        } catch (RestClientException e) {
+            throw new CreationFailureException("Failed to save instruction in PDS: Service communication error.");
+        } catch (Exception e) {
+            throw new CreationFailureException("An unexpected error occurred during instruction creation.");
+        }
+    }
+
+    @Override
+    public void revertTransaction(Long transactionId) {
+        try {
+            restClient.delete()
+                    .uri(serverUrl + "/transactions/{id}", transactionId)
+                    .retrieve()
+                    .toBodilessEntity();
+
+        } catch (RestClientException e) {
+            throw new CreationFailureException("Failed to save instruction in PDS: Service communication error.");
+        } catch (Exception e) {
+            throw new CreationFailureException("An unexpected error occurred during instruction creation.");
+        }
+    }
+
+    @Override
+    public List<TransactionDTO> getTransactionsByInstructionId(Long instructionId) {
+        return singleFlight.execute("transactions-by-instruction", List.of(instructionId), () -> {
+            try {
+                List<TransactionDTO> history = restClient.get()
+                        .uri(serverUrl + "/transactions/instruction/{instructionId}", instructionId)
+                        .retrieve()
+                        .body(TRANSACTIONS);
+
+                // Coalesced callers get this same list back, so nobody may change it.
+                return history == null ? null : List.copyOf(history);
+
+            } catch (RestClientException e) {
+                throw new CreationFailureException("Failed to search instruction in PDS: Service communication error.");
+            } catch (Exception e) {
+                throw new CreationFailureException("An unexpected error occurred during instruction search.");
+            }
+        });
+    }
+
+    @Override
+    public InstructionPaymentSummaryDTO getPaymentSummary(Long instructionId) {
+        return singleFlight.execute("payment-summary", List.of(instructionId), () -> {
+            try {
+                return restClient.get()
+                        .uri(serverUrl + "/transactions/instruction/{instructionId}/summary", instructionId)
+                        .retrieve()
+                        .body(InstructionPaymentSummaryDTO.class);
+
+            } catch (RestClientException e) {
+                throw new CreationFailureException("Failed to search payment summary in PDS: Service communication error.");
+            } catch (Exception e) {
+                throw new CreationFailureException("An unexpected error occurred during payment summary search.");
+            }
+        });
+    }
+
+    @Override
+    public List<TransactionDTO> createTransactionsBatch(List<Transaction> transactions) {
+        try {
+            return restClient.post()
+                    .uri(serverUrl + "/transactions/batch") // Новий endpoint
+                    .contentType(batchMediaType)
+                    .accept(batchMediaType)
+                    .body(transactions)
+                    .retrieve()
+                    .body(TRANSACTIONS);
+        } catch (RestClientException e) {
+            throw new CreationFailureException("Failed to save batch transactions in PDS.");
+        }
+    }
+}
\ No newline at end of file
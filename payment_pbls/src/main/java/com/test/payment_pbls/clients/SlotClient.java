@@ -0,0 +1,14 @@
+package com.test.payment_pbls.clients;
+
+import com.test.payment_pbls.dtos.SlotAllocationDTO;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Execution slot allocation in PDS, over HTTP ({@link RestSlotClient}) or in-process, like {@link InstructionClient}.
+ */
+public interface SlotClient {
+
+    List<OffsetDateTime> allocate(SlotAllocationDTO slotAllocationDTO);
+}
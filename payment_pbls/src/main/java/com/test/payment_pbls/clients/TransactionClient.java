@@ -1,84 +1,23 @@
 package com.test.payment_pbls.clients;
 
+import com.test.payment_pbls.dtos.InstructionPaymentSummaryDTO;
 import com.test.payment_pbls.dtos.Transaction;
 import com.test.payment_pbls.dtos.TransactionDTO;
-import com.test.payment_pbls.utils.exceptions.CreationFailureException;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.MediaType;
-import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClient;
-import org.springframework.web.client.RestClientException;
 
 import java.util.List;
 
-@Component
-public class TransactionClient {
+/**
+ * Transaction calls to PDS, over HTTP ({@link RestTransactionClient}) or in-process, like {@link InstructionClient}.
+ */
+public interface TransactionClient {
 
-    private final RestClient restClient;
-    private final String serverUrl;
+    TransactionDTO createTransaction(Transaction transaction);
 
-    @Autowired
-    public TransactionClient(RestClient restClient, @Value("${application.server.pds}") String url) {
-        this.restClient = restClient;
-        this.serverUrl = url;
-    }
+    void revertTransaction(Long transactionId);
 
-    public TransactionDTO createTransaction(Transaction transaction) {
-        try {
-            return restClient.post()
-                    .uri(serverUrl + "/transactions")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(transaction)
-                    .retrieve()
-                    .body(TransactionDTO.class);
+    List<TransactionDTO> getTransactionsByInstructionId(Long instructionId);
 
-        } catch (RestClientException e) {
-            throw new CreationFailureException("Failed to save instruction in PDS: Service communication error.");
-        } catch (Exception e) {
-            throw new CreationFailureException("An unexpected error occurred during instruction creation.");
-        }
-    }
+    InstructionPaymentSummaryDTO getPaymentSummary(Long instructionId);
 
-    public void revertTransaction(Long transactionId) {
-        try {
-            restClient.delete()
-                    .uri(serverUrl + "/transactions/{id}", transactionId)
-                    .retrieve()
-                    .toBodilessEntity();
-
-        } catch (RestClientException e) {
-            throw new CreationFailureException("Failed to save instruction in PDS: Service communication error.");
-        } catch (Exception e) {
-            throw new CreationFailureException("An unexpected error occurred during instruction creation.");
-        }
-    }
-
-    public List<TransactionDTO> getTransactionsByInstructionId(Long instructionId) {
-        try {
-            return restClient.get()
-                    .uri(serverUrl + "/transactions/instruction/{instructionId}", instructionId)
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<>() {});
-
-        } catch (RestClientException e) {
-            throw new CreationFailureException("Failed to search instruction in PDS: Service communication error.");
-        } catch (Exception e) {
-            throw new CreationFailureException("An unexpected error occurred during instruction search.");
-        }
-    }
-
-    public List<TransactionDTO> createTransactionsBatch(List<Transaction> transactions) {
-        try {
-            return restClient.post()
-                    .uri(serverUrl + "/transactions/batch") // Новий endpoint
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(transactions)
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<>() {});
-        } catch (RestClientException e) {
-            throw new CreationFailureException("Failed to save batch transactions in PDS.");
-        }
-    }
-}
\ No newline at end of file
+    List<TransactionDTO> createTransactionsBatch(List<Transaction> transactions);
+}
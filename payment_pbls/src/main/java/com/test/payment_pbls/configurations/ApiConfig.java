@@ -1,15 +1,18 @@
 package com.test.payment_pbls.configurations;
 
+import com.test.payment_wire.http.HttpClientProperties;
+import com.test.payment_wire.http.RestClientFactory;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
-import java.net.http.HttpClient;
 import java.time.Clock;
-import java.time.Duration;
 
 @Configuration
+@EnableConfigurationProperties(HttpClientProperties.class)
 public class ApiConfig {
 
     @Bean
@@ -18,14 +21,15 @@ public class ApiConfig {
     }
 
     @Bean
-    public RestClient restClient(RestClient.Builder builder) {
-
-        HttpClient httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(20))
-                .build();
+    public RestClientFactory restClientFactory(RestClient.Builder builder,
+                                               HttpClientProperties httpClientProperties,
+                                               CircuitBreakerRegistry circuitBreakerRegistry,
+                                               BulkheadRegistry bulkheadRegistry) {
+        return new RestClientFactory(builder, httpClientProperties, circuitBreakerRegistry, bulkheadRegistry);
+    }
 
-        return builder
-                .requestFactory(new JdkClientHttpRequestFactory(httpClient))
-                .build();
+    @Bean
+    public RestClient restClient(RestClientFactory restClientFactory) {
+        return restClientFactory.create("pds");
     }
 }
@@ -0,0 +1,38 @@
+package com.test.payment_pbls.configurations;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionCreateDTO;
+import com.test.payment_pbls.dtos.Transaction;
+import com.test.payment_pbls.dtos.TransactionDTO;
+import com.test.payment_wire.WireJackson;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Wire tuning for the servlet converters and the WebFlux codecs, with PBLS's own {@link Instruction} lists added.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return WireJackson.blackbird();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer wireTypesCustomizer() {
+
+        TypeFactory types = TypeFactory.defaultInstance();
+
+        return builder -> builder.postConfigurer(mapper -> WireJackson.preRegister(mapper,
+                types.constructCollectionType(List.class, Instruction.class),
+                types.constructCollectionType(List.class, InstructionCreateDTO.class),
+                types.constructCollectionType(List.class, Transaction.class),
+                types.constructCollectionType(List.class, TransactionDTO.class)));
+    }
+}
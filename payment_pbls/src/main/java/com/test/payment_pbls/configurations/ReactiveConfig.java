@@ -0,0 +1,90 @@
+package com.test.payment_pbls.configurations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.test.payment_pbls.utils.compression.GzipRequestExchangeFilter;
+import com.test.payment_pbls.utils.compression.GzipRequestWebFilter;
+import com.test.payment_pbls.utils.resilience.ResilienceExchangeFilter;
+import com.test.payment_wire.http.HttpClientProperties;
+import com.test.payment_wire.http.SmileConverters;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Infrastructure of the {@code reactive} profile: PBLS served by WebFlux on Netty (declared explicitly, as Tomcat
+ * is still on the classpath for the servlet stack) and a {@link WebClient} to PDS configured from the same
+ * {@code application.http.clients.pds} and {@code resilience4j.*.instances.pds} settings as the blocking client, gzip included in both directions.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public CodecCustomizer smileCodecCustomizer(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+
+        ObjectMapper smileMapper = SmileConverters.mapper(objectMapperBuilder);
+
+        // Smile is registered after JSON by default; only the mapper is swapped for Boot's settings.
+        return configurer -> {
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smileMapper));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper));
+        };
+    }
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public GzipRequestWebFilter gzipRequestWebFilter(
+            @Value("${application.compression.max-inflated-request-size:16MB}") DataSize maxInflatedRequestSize) {
+        return new GzipRequestWebFilter(maxInflatedRequestSize.toBytes());
+    }
+
+    @Bean
+    public WebClient webClient(WebClient.Builder builder,
+                               HttpClientProperties httpClientProperties,
+                               CircuitBreakerRegistry circuitBreakerRegistry,
+                               BulkheadRegistry bulkheadRegistry) {
+
+        HttpClientProperties.Endpoint settings = httpClientProperties.getEndpoint("pds");
+
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) settings.getConnectTimeout().toMillis())
+                .responseTimeout(settings.getReadTimeout())
+                .compress(settings.isCompression())
+                .protocol(settings.getVersion() == java.net.http.HttpClient.Version.HTTP_2
+                        ? new HttpProtocol[]{HttpProtocol.H2C, HttpProtocol.HTTP11}
+                        : new HttpProtocol[]{HttpProtocol.HTTP11});
+
+        WebClient.Builder webClient = builder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(new ResilienceExchangeFilter(
+                        bulkheadRegistry.bulkhead("pds"),
+                        circuitBreakerRegistry.circuitBreaker("pds")));
+
+        if (settings.isCompression()) {
+            webClient.filter(new GzipRequestExchangeFilter(settings.getCompressionThreshold().toBytes()));
+        }
+
+        return webClient.build();
+    }
+}
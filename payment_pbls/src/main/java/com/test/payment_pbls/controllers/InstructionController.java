@@ -1,9 +1,11 @@
 package com.test.payment_pbls.controllers;
 
+import com.test.payment_pbls.dtos.InstructionBatchResultDTO;
 import com.test.payment_pbls.dtos.InstructionValidDTO;
 import com.test.payment_pbls.dtos.Instruction;
 import com.test.payment_pbls.services.InstructionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/instructions")
 public class InstructionController {
 
@@ -30,6 +33,14 @@ public class InstructionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedInstruction);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<InstructionBatchResultDTO> createInstructionsBatch(@RequestBody List<InstructionValidDTO> instructionValidDTOs) {
+
+        InstructionBatchResultDTO result = instructionService.createInstructionsBatch(instructionValidDTOs);
+
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
     @GetMapping("/payer/{iin}")
     public ResponseEntity< List<Instruction>> getInstructionsByPayerIin(@PathVariable String iin) {
 
@@ -0,0 +1,60 @@
+package com.test.payment_pbls.controllers;
+
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionBatchResultDTO;
+import com.test.payment_pbls.dtos.InstructionValidDTO;
+import com.test.payment_pbls.services.ReactiveInstructionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/instructions")
+public class ReactiveInstructionController {
+
+    private final ReactiveInstructionService instructionService;
+
+    @Autowired
+    public ReactiveInstructionController(ReactiveInstructionService instructionService) {
+        this.instructionService = instructionService;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Instruction>> createInstruction(@RequestBody InstructionValidDTO instructionValidDTO) {
+        return instructionService.createInstruction(instructionValidDTO)
+                .map(savedInstruction -> ResponseEntity.status(HttpStatus.CREATED).body(savedInstruction));
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<InstructionBatchResultDTO>> createInstructionsBatch(@RequestBody List<InstructionValidDTO> instructionValidDTOs) {
+        return instructionService.createInstructionsBatch(instructionValidDTOs)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/payer/{iin}")
+    public Mono<ResponseEntity<List<Instruction>>> getInstructionsByPayerIin(@PathVariable String iin) {
+        return instructionService.getInstructionsByPayerIin(iin)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/recipient/{edrpou}")
+    public Mono<ResponseEntity<List<Instruction>>> getInstructionsByRecipientEdrpou(@PathVariable String edrpou) {
+        return instructionService.getInstructionsByRecipientEdrpou(edrpou)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/scheduled")
+    public Mono<ResponseEntity<List<Instruction>>> getScheduledInstructions(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "1000") int size
+    ) {
+        return instructionService.getScheduledInstructions(page, size)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,44 @@
+package com.test.payment_pbls.controllers;
+
+import com.test.payment_pbls.clients.ReactiveReportClient;
+import com.test.payment_pbls.services.ReportService;
+import com.test.payment_pbls.utils.enums.ReportGranularity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.time.OffsetDateTime;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/reports")
+public class ReactiveReportController {
+
+    private final ReportService reportService;
+    private final ReactiveReportClient reportClient;
+
+    @Autowired
+    public ReactiveReportController(ReportService reportService, ReactiveReportClient reportClient) {
+        this.reportService = reportService;
+        this.reportClient = reportClient;
+    }
+
+    @GetMapping("/settlement/{edrpou}")
+    public ResponseEntity<Flux<DataBuffer>> getSettlementReport(
+            @PathVariable String edrpou,
+            @RequestParam(defaultValue = "DAY") ReportGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to
+    ) {
+        reportService.validateSettlementRequest(edrpou, from, to);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(reportClient.streamSettlementReport(edrpou, granularity, from, to));
+    }
+}
@@ -0,0 +1,58 @@
+package com.test.payment_pbls.controllers;
+
+import com.test.payment_pbls.dtos.BatchResultDTO;
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionPaymentSummaryDTO;
+import com.test.payment_pbls.dtos.TransactionDTO;
+import com.test.payment_pbls.services.ReactiveTransactionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/transactions")
+public class ReactiveTransactionController {
+
+    private final ReactiveTransactionService transactionService;
+
+    @Autowired
+    public ReactiveTransactionController(ReactiveTransactionService transactionService) {
+        this.transactionService = transactionService;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<TransactionDTO>> createTransactionByInstruction(@RequestBody Instruction instruction) {
+        return transactionService.createTransaction(instruction)
+                .map(transaction -> ResponseEntity.status(HttpStatus.CREATED).body(transaction));
+    }
+
+    @PatchMapping("/revert/{transactionId}")
+    public Mono<ResponseEntity<Object>> revertTransaction(@PathVariable Long transactionId) {
+        return transactionService.revertTransaction(transactionId)
+                .then(Mono.fromSupplier(() -> ResponseEntity.status(HttpStatus.OK).build()));
+    }
+
+    @GetMapping("/{instructionId}/history")
+    public Mono<ResponseEntity<List<TransactionDTO>>> getInstructionHistory(@PathVariable Long instructionId) {
+        return transactionService.getInstructionHistory(instructionId)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{instructionId}/summary")
+    public Mono<ResponseEntity<InstructionPaymentSummaryDTO>> getPaymentSummary(@PathVariable Long instructionId) {
+        return transactionService.getPaymentSummary(instructionId)
+                .map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<BatchResultDTO>> createTransactionsBatch(@RequestBody List<Instruction> instructions) {
+        return transactionService.processBatch(instructions)
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,36 @@
+package com.test.payment_pbls.controllers;
+
+import com.test.payment_pbls.dtos.ValidationRequestDTO;
+import com.test.payment_pbls.dtos.ValidationResultDTO;
+import com.test.payment_pbls.services.ValidationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/validate")
+public class ReactiveValidationController {
+
+    private final ValidationService validationService;
+
+    @Autowired
+    public ReactiveValidationController(ValidationService validationService) {
+        this.validationService = validationService;
+    }
+
+    /**
+     * Batches are big enough to stall the event loop, so they are validated on {@code boundedElastic}.
+     */
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<ValidationResultDTO>>> validateBatch(@RequestBody List<ValidationRequestDTO> requests) {
+        return Mono.fromCallable(() -> validationService.validateBatch(requests))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+}
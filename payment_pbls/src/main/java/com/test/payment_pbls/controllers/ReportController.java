@@ -0,0 +1,41 @@
+package com.test.payment_pbls.controllers;
+
+import com.test.payment_pbls.services.ReportService;
+import com.test.payment_pbls.utils.enums.ReportGranularity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.OffsetDateTime;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/reports")
+public class ReportController {
+
+    private final ReportService reportService;
+
+    @Autowired
+    public ReportController(ReportService reportService) {
+        this.reportService = reportService;
+    }
+
+    @GetMapping("/settlement/{edrpou}")
+    public ResponseEntity<StreamingResponseBody> getSettlementReport(
+            @PathVariable String edrpou,
+            @RequestParam(defaultValue = "DAY") ReportGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to
+    ) {
+        reportService.validateSettlementRequest(edrpou, from, to);
+
+        StreamingResponseBody body = outputStream ->
+                reportService.streamSettlementReport(edrpou, granularity, from, to, outputStream);
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+}
@@ -1,10 +1,12 @@
 package com.test.payment_pbls.controllers;
 
 import com.test.payment_pbls.dtos.BatchResultDTO;
+import com.test.payment_pbls.dtos.InstructionPaymentSummaryDTO;
 import com.test.payment_pbls.dtos.TransactionDTO;
 import com.test.payment_pbls.dtos.Instruction;
 import com.test.payment_pbls.services.TransactionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/transactions")
 public class TransactionController {
 
@@ -46,6 +49,14 @@ public class TransactionController {
         return ResponseEntity.status(HttpStatus.OK).body(result);
     }
 
+    @GetMapping("/{instructionId}/summary")
+    public ResponseEntity<InstructionPaymentSummaryDTO> getPaymentSummary(@PathVariable Long instructionId) {
+
+        InstructionPaymentSummaryDTO result = transactionService.getPaymentSummary(instructionId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+
     @PostMapping("/batch")
     public ResponseEntity<BatchResultDTO> createTransactionsBatch(@RequestBody List<Instruction> instructions) {
 
@@ -0,0 +1,33 @@
+package com.test.payment_pbls.controllers;
+
+import com.test.payment_pbls.dtos.ValidationRequestDTO;
+import com.test.payment_pbls.dtos.ValidationResultDTO;
+import com.test.payment_pbls.services.ValidationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/validate")
+public class ValidationController {
+
+    private final ValidationService validationService;
+
+    @Autowired
+    public ValidationController(ValidationService validationService) {
+        this.validationService = validationService;
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<ValidationResultDTO>> validateBatch(@RequestBody List<ValidationRequestDTO> requests) {
+
+        List<ValidationResultDTO> result = validationService.validateBatch(requests);
+
+        return ResponseEntity.status(HttpStatus.OK).body(result);
+    }
+}
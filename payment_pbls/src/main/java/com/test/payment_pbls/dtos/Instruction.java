@@ -1,6 +1,6 @@
 package com.test.payment_pbls.dtos;
 
-import com.test.payment_pbls.utils.enums.InstructionStatus;
+import com.test.payment_wire.InstructionStatus;
 import lombok.Data;
 
 import java.math.BigDecimal;
@@ -0,0 +1,10 @@
+package com.test.payment_pbls.dtos;
+
+import java.util.List;
+
+public record InstructionBatchItemDTO(
+        int index,
+        Long id,
+        List<String> errors
+) {
+}
@@ -0,0 +1,10 @@
+package com.test.payment_pbls.dtos;
+
+import java.util.List;
+
+public record InstructionBatchResultDTO(
+        int successCount,
+        int failureCount,
+        List<InstructionBatchItemDTO> items
+) {
+}
@@ -1,7 +1,8 @@
 package com.test.payment_pbls.dtos;
 
+import com.test.payment_wire.InstructionStatus;
+
 
-import com.test.payment_pbls.utils.enums.InstructionStatus;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -1,5 +1,6 @@
 package com.test.payment_pbls.dtos;
 
+import com.test.payment_pbls.utils.validation.PersonName;
 import jakarta.validation.constraints.*;
 
 import java.math.BigDecimal;
@@ -7,18 +8,15 @@ import java.time.temporal.ChronoUnit;
 
 public record InstructionValidDTO(
         @NotBlank(message = "Payer first name should not be empty")
-        @Pattern(regexp = "^[A-ZА-ЩЬЮЯЄІЇҐЁЭЫЪ][a-zа-щьюяєіїґA-ZА-ЩЬЮЯЄІЇҐёэыъA-ZА-ЯЁЭЫЪ'ʼ’\\s-]+$",
-        message = "Payer first name is not correct")
+        @PersonName(message = "Payer first name is not correct")
         @Size(min = 1, max = 255, message = "Payer first is too short or too long")
         String payerFirstName,
         @NotBlank(message = "Payer second name should not be empty")
-        @Pattern(regexp = "^[A-ZА-ЩЬЮЯЄІЇҐЁЭЫЪ][a-zа-щьюяєіїґA-ZА-ЩЬЮЯЄІЇҐёэыъA-ZА-ЯЁЭЫЪ'ʼ’\\s-]+$",
-                message = "Payer second name is not correct")
+        @PersonName(message = "Payer second name is not correct")
         @Size(min = 1, max = 255, message = "Payer second is too short or too long")
         String payerSecondName,
         @NotBlank(message = "Payer patronymic  should not be empty")
-        @Pattern(regexp = "^[A-ZА-ЩЬЮЯЄІЇҐЁЭЫЪ][a-zа-щьюяєіїґA-ZА-ЩЬЮЯЄІЇҐёэыъA-ZА-ЯЁЭЫЪ'ʼ’\\s-]+$",
-                message = "Payer patronymic is not correct")
+        @PersonName(message = "Payer patronymic is not correct")
         @Size(min = 1, max = 255, message = "Payer patronymic is too short or too long")
         String payerPatronymic,
         @Pattern(regexp = "^\\d{10}$", message = "Payer IIN must be exactly 10 digits")
@@ -33,8 +31,7 @@ public record InstructionValidDTO(
         @Pattern(regexp = "^\\d{8}$", message = "Recipient EDRPOU must be exactly 8 digits")
         String recipientEdrpou,
         @NotBlank(message = "Recipient name should not be empty")
-        @Pattern(regexp = "^[A-ZА-ЩЬЮЯЄІЇҐЁЭЫЪ][a-zа-щьюяєіїґA-ZА-ЩЬЮЯЄІЇҐёэыъA-ZА-ЯЁЭЫЪ'ʼ’\\s-]+$",
-                message = "Payer first name is not correct")
+        @PersonName(message = "Payer first name is not correct")
         @Size(min = 1, max = 255, message = "Payer first is too short or too long")
         String recipientName,
         @NotNull(message = "Amount cannot be empty")
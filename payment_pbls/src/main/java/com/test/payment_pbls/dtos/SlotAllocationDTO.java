@@ -0,0 +1,10 @@
+package com.test.payment_pbls.dtos;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public record SlotAllocationDTO(
+        List<OffsetDateTime> desired,
+        int toleranceMinutes
+) {
+}
@@ -4,6 +4,7 @@ import lombok.Data;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.UUID;
 
 @Data
 public class Transaction {
@@ -12,7 +13,7 @@ public class Transaction {
 
     private Instruction instruction;
 
-    private String idempotencyId;
+    private UUID idempotencyId;
 
     private BigDecimal amount;
 
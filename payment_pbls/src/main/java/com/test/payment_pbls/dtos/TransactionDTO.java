@@ -2,11 +2,12 @@ package com.test.payment_pbls.dtos;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.UUID;
 
 public record TransactionDTO(
         Long id,
         Long instructionId,
-        String idempotencyId,
+        UUID idempotencyId,
         BigDecimal amount,
         OffsetDateTime transactionTime,
         String transactionStatus
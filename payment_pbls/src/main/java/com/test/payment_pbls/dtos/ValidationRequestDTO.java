@@ -0,0 +1,7 @@
+package com.test.payment_pbls.dtos;
+
+public record ValidationRequestDTO(
+        String payerIin,
+        String recipientEdrpou
+) {
+}
@@ -0,0 +1,10 @@
+package com.test.payment_pbls.dtos;
+
+import com.test.payment_pbls.utils.enums.ValidationResult;
+
+public record ValidationResultDTO(
+        boolean valid,
+        ValidationResult payerIin,
+        ValidationResult recipientEdrpou
+) {
+}
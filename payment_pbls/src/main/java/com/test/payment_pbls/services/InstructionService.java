@@ -1,5 +1,6 @@
 package com.test.payment_pbls.services;
 
+import com.test.payment_pbls.dtos.InstructionBatchResultDTO;
 import com.test.payment_pbls.dtos.InstructionValidDTO;
 import com.test.payment_pbls.dtos.Instruction;
 
@@ -8,6 +9,7 @@ import java.util.List;
 public interface InstructionService {
 
     Instruction createInstruction(InstructionValidDTO instructionValidDTO);
+    InstructionBatchResultDTO createInstructionsBatch(List<InstructionValidDTO> instructionValidDTOs);
     List<Instruction> getInstructionsByPayerIin(String payerIin);
     List<Instruction> getInstructionsByRecipientEdrpou(String recipientEdrpou);
     List<Instruction> getScheduledInstructions(int page, int size);
@@ -0,0 +1,17 @@
+package com.test.payment_pbls.services;
+
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionBatchResultDTO;
+import com.test.payment_pbls.dtos.InstructionValidDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ReactiveInstructionService {
+
+    Mono<Instruction> createInstruction(InstructionValidDTO instructionValidDTO);
+    Mono<InstructionBatchResultDTO> createInstructionsBatch(List<InstructionValidDTO> instructionValidDTOs);
+    Mono<List<Instruction>> getInstructionsByPayerIin(String payerIin);
+    Mono<List<Instruction>> getInstructionsByRecipientEdrpou(String recipientEdrpou);
+    Mono<List<Instruction>> getScheduledInstructions(int page, int size);
+}
@@ -0,0 +1,19 @@
+package com.test.payment_pbls.services;
+
+import com.test.payment_pbls.dtos.BatchResultDTO;
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionPaymentSummaryDTO;
+import com.test.payment_pbls.dtos.TransactionDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ReactiveTransactionService {
+
+    Mono<TransactionDTO> createTransaction(Instruction instruction);
+
+    Mono<Void> revertTransaction(Long transactionId);
+    Mono<List<TransactionDTO>> getInstructionHistory(Long instructionId);
+    Mono<InstructionPaymentSummaryDTO> getPaymentSummary(Long instructionId);
+    Mono<BatchResultDTO> processBatch(List<Instruction> instructions);
+}
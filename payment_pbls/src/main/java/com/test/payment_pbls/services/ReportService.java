@@ -0,0 +1,13 @@
+package com.test.payment_pbls.services;
+
+import com.test.payment_pbls.utils.enums.ReportGranularity;
+
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
+
+public interface ReportService {
+
+    void validateSettlementRequest(String edrpou, OffsetDateTime from, OffsetDateTime to);
+    void streamSettlementReport(String edrpou, ReportGranularity granularity,
+                                OffsetDateTime from, OffsetDateTime to, OutputStream outputStream);
+}
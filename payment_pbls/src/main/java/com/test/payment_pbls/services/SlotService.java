@@ -0,0 +1,13 @@
+package com.test.payment_pbls.services;
+
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface SlotService {
+
+    List<OffsetDateTime> level(List<OffsetDateTime> desired);
+
+    Mono<List<OffsetDateTime>> levelReactive(List<OffsetDateTime> desired);
+}
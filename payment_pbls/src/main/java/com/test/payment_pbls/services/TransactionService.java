@@ -1,6 +1,7 @@
 package com.test.payment_pbls.services;
 
 import com.test.payment_pbls.dtos.BatchResultDTO;
+import com.test.payment_pbls.dtos.InstructionPaymentSummaryDTO;
 import com.test.payment_pbls.dtos.TransactionDTO;
 import com.test.payment_pbls.dtos.Instruction;
 
@@ -12,5 +13,6 @@ public interface TransactionService {
 
     void revertTransaction(Long transactionId);
     List<TransactionDTO> getInstructionHistory(Long instructionId);
+    InstructionPaymentSummaryDTO getPaymentSummary(Long instructionId);
     BatchResultDTO processBatch(List<Instruction> instructions);
 }
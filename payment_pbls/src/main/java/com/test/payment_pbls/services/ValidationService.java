@@ -1,7 +1,18 @@
 package com.test.payment_pbls.services;
 
+import com.test.payment_pbls.dtos.ValidationRequestDTO;
+import com.test.payment_pbls.dtos.ValidationResultDTO;
+import com.test.payment_pbls.utils.enums.ValidationResult;
+
+import java.util.List;
+
 public interface ValidationService {
 
     void validatePayerIinChecksum(String iin);
     void validatePayerEdrpouChecksum(String edrpou);
+
+    ValidationResult checkPayerIin(String iin);
+    ValidationResult checkRecipientEdrpou(String edrpou);
+
+    List<ValidationResultDTO> validateBatch(List<ValidationRequestDTO> requests);
 }
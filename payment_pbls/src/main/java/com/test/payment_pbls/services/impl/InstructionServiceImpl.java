@@ -1,32 +1,57 @@
 package com.test.payment_pbls.services.impl;
 
 import com.test.payment_pbls.clients.InstructionClient;
+import com.test.payment_pbls.dtos.InstructionBatchItemDTO;
+import com.test.payment_pbls.dtos.InstructionBatchResultDTO;
 import com.test.payment_pbls.dtos.InstructionCreateDTO;
 import com.test.payment_pbls.dtos.InstructionValidDTO;
 import com.test.payment_pbls.dtos.Instruction;
 import com.test.payment_pbls.services.InstructionService;
+import com.test.payment_pbls.services.SlotService;
 import com.test.payment_pbls.services.ValidationService;
-import com.test.payment_pbls.utils.enums.InstructionStatus;
+import com.test.payment_pbls.utils.cache.InstructionLookupCache;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import com.test.payment_wire.InstructionStatus;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.time.Clock;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
+@Slf4j
 @Service
 public class InstructionServiceImpl implements InstructionService {
 
+    public static final int MAX_BATCH_SIZE = 10_000;
 
     private final Clock clock;
     private final InstructionClient instructionClient;
     private final ValidationService validationService;
+    private final Validator validator;
+    private final InstructionLookupCache instructionLookupCache;
+    private final SlotService slotService;
 
     @Autowired
-    public InstructionServiceImpl(Clock clock, InstructionClient instructionClient, ValidationService validationService) {
+    public InstructionServiceImpl(Clock clock,
+                                  InstructionClient instructionClient,
+                                  ValidationService validationService,
+                                  Validator validator,
+                                  InstructionLookupCache instructionLookupCache,
+                                  SlotService slotService) {
         this.clock = clock;
         this.instructionClient = instructionClient;
         this.validationService = validationService;
+        this.validator = validator;
+        this.instructionLookupCache = instructionLookupCache;
+        this.slotService = slotService;
     }
 
     @Override
@@ -35,7 +60,120 @@ public class InstructionServiceImpl implements InstructionService {
         validationService.validatePayerIinChecksum(instructionValidDTO.payerIin());
         validationService.validatePayerEdrpouChecksum(instructionValidDTO.recipientEdrpou());
 
-        InstructionCreateDTO instructionCreateDTO = new InstructionCreateDTO(
+        OffsetDateTime scheduledAt = slotService.level(List.of(nextExecutionAt(instructionValidDTO, clock))).getFirst();
+
+        Instruction savedInstruction = instructionClient.createInstruction(toCreateDTO(instructionValidDTO, scheduledAt));
+
+        instructionLookupCache.evict(instructionValidDTO.payerIin(), instructionValidDTO.recipientEdrpou());
+
+        return savedInstruction;
+    }
+
+    @Override
+    public InstructionBatchResultDTO createInstructionsBatch(List<InstructionValidDTO> instructionValidDTOs) {
+
+        if (instructionValidDTOs.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException("Batch must not contain more than " + MAX_BATCH_SIZE + " instructions.");
+        }
+
+        List<List<String>> errors = IntStream.range(0, instructionValidDTOs.size())
+                .parallel()
+                .mapToObj(i -> validate(instructionValidDTOs.get(i), validator, validationService))
+                .toList();
+
+        List<Integer> validIndexes = IntStream.range(0, instructionValidDTOs.size())
+                .filter(i -> errors.get(i).isEmpty())
+                .boxed()
+                .toList();
+
+        Long[] ids = new Long[instructionValidDTOs.size()];
+        String creationError = null;
+
+        if (!validIndexes.isEmpty()) {
+            try {
+                List<OffsetDateTime> desired = validIndexes.stream()
+                        .map(i -> nextExecutionAt(instructionValidDTOs.get(i), clock))
+                        .toList();
+
+                List<OffsetDateTime> nextExecutions = slotService.level(desired);
+
+                List<Instruction> saved = instructionClient.createInstructionsBatch(IntStream.range(0, validIndexes.size())
+                        .mapToObj(i -> toCreateDTO(instructionValidDTOs.get(validIndexes.get(i)), nextExecutions.get(i)))
+                        .toList());
+
+                for (int i = 0; i < validIndexes.size(); i++) {
+                    ids[validIndexes.get(i)] = saved.get(i).getId();
+                }
+
+                instructionLookupCache.evictAll(saved);
+            } catch (CreationFailureException e) {
+                log.error("Batch of {} instructions was rejected by PDS.", validIndexes.size(), e);
+                creationError = e.getMessage();
+            }
+        }
+
+        return toBatchResult(errors, ids, creationError);
+    }
+
+    /**
+     * Shared with {@link ReactiveInstructionServiceImpl}: one item per request, in request order, carrying either
+     * the PDS id or the validation errors (or the PDS rejection message for valid items that were not saved).
+     */
+    static InstructionBatchResultDTO toBatchResult(List<List<String>> errors, Long[] ids, String creationError) {
+
+        List<InstructionBatchItemDTO> items = new ArrayList<>(ids.length);
+        int successCount = 0;
+
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] != null) {
+                successCount++;
+                items.add(new InstructionBatchItemDTO(i, ids[i], List.of()));
+            } else {
+                items.add(new InstructionBatchItemDTO(i, null, errors.get(i).isEmpty() ? List.of(creationError) : errors.get(i)));
+            }
+        }
+
+        return new InstructionBatchResultDTO(successCount, items.size() - successCount, items);
+    }
+
+    static List<String> validate(InstructionValidDTO instructionValidDTO,
+                                 Validator validator,
+                                 ValidationService validationService) {
+
+        List<String> errors = new ArrayList<>();
+
+        for (ConstraintViolation<InstructionValidDTO> violation : validator.validate(instructionValidDTO)) {
+            errors.add(violation.getMessage());
+        }
+
+        switch (validationService.checkPayerIin(instructionValidDTO.payerIin())) {
+            case MISSING -> errors.add("Payer IIN should not be empty");
+            case INVALID_CHECKSUM -> errors.add("Invalid IIN checksum. Data integrity violation.");
+            default -> {
+            }
+        }
+
+        switch (validationService.checkRecipientEdrpou(instructionValidDTO.recipientEdrpou())) {
+            case MISSING -> errors.add("Recipient EDRPOU should not be empty");
+            case INVALID_CHECKSUM -> errors.add("Invalid EDRPOU checksum. Data integrity violation.");
+            default -> {
+            }
+        }
+
+        return errors;
+    }
+
+    static OffsetDateTime nextExecutionAt(InstructionValidDTO instructionValidDTO, Clock clock) {
+        return OffsetDateTime.now(clock).plus(instructionValidDTO.periodValue(), instructionValidDTO.periodUnit());
+    }
+
+    static InstructionCreateDTO toCreateDTO(InstructionValidDTO instructionValidDTO, Clock clock) {
+        return toCreateDTO(instructionValidDTO, nextExecutionAt(instructionValidDTO, clock));
+    }
+
+    static InstructionCreateDTO toCreateDTO(InstructionValidDTO instructionValidDTO, OffsetDateTime nextExecutionAt) {
+
+        return new InstructionCreateDTO(
                 instructionValidDTO.payerFirstName(),
                 instructionValidDTO.payerSecondName(),
                 instructionValidDTO.payerPatronymic(),
@@ -49,14 +187,13 @@ public class InstructionServiceImpl implements InstructionService {
                 instructionValidDTO.periodValue(),
                 instructionValidDTO.periodUnit(),
                 null,
-                OffsetDateTime.now(clock).plus(instructionValidDTO.periodValue(), instructionValidDTO.periodUnit()),
+                nextExecutionAt,
                 InstructionStatus.ACTIVE
         );
-
-        return instructionClient.createInstruction(instructionCreateDTO);
     }
 
     @Override
+    @Cacheable(cacheNames = InstructionLookupCache.BY_IIN, key = "#payerIin", sync = true)
     public List<Instruction> getInstructionsByPayerIin(String payerIin) {
 
         validationService.validatePayerIinChecksum(payerIin);
@@ -65,6 +202,7 @@ public class InstructionServiceImpl implements InstructionService {
     }
 
     @Override
+    @Cacheable(cacheNames = InstructionLookupCache.BY_EDRPOU, key = "#recipientEdrpou", sync = true)
     public List<Instruction> getInstructionsByRecipientEdrpou(String recipientEdrpou) {
 
         validationService.validatePayerEdrpouChecksum(recipientEdrpou);
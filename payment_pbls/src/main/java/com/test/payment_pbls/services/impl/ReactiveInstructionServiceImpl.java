@@ -0,0 +1,165 @@
+package com.test.payment_pbls.services.impl;
+
+import com.test.payment_pbls.clients.ReactiveInstructionClient;
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionBatchResultDTO;
+import com.test.payment_pbls.dtos.InstructionValidDTO;
+import com.test.payment_pbls.services.ReactiveInstructionService;
+import com.test.payment_pbls.services.SlotService;
+import com.test.payment_pbls.services.ValidationService;
+import com.test.payment_pbls.utils.cache.InstructionLookupCache;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static com.test.payment_pbls.services.impl.InstructionServiceImpl.MAX_BATCH_SIZE;
+import static com.test.payment_pbls.services.impl.InstructionServiceImpl.nextExecutionAt;
+import static com.test.payment_pbls.services.impl.InstructionServiceImpl.toBatchResult;
+import static com.test.payment_pbls.services.impl.InstructionServiceImpl.toCreateDTO;
+import static com.test.payment_pbls.services.impl.InstructionServiceImpl.validate;
+
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveInstructionServiceImpl implements ReactiveInstructionService {
+
+    private final Clock clock;
+    private final ReactiveInstructionClient instructionClient;
+    private final ValidationService validationService;
+    private final Validator validator;
+    private final InstructionLookupCache instructionLookupCache;
+    private final SlotService slotService;
+
+    @Autowired
+    public ReactiveInstructionServiceImpl(Clock clock,
+                                          ReactiveInstructionClient instructionClient,
+                                          ValidationService validationService,
+                                          Validator validator,
+                                          InstructionLookupCache instructionLookupCache,
+                                          SlotService slotService) {
+        this.clock = clock;
+        this.instructionClient = instructionClient;
+        this.validationService = validationService;
+        this.validator = validator;
+        this.instructionLookupCache = instructionLookupCache;
+        this.slotService = slotService;
+    }
+
+    @Override
+    public Mono<Instruction> createInstruction(InstructionValidDTO instructionValidDTO) {
+        return Mono.fromRunnable(() -> {
+                    validationService.validatePayerIinChecksum(instructionValidDTO.payerIin());
+                    validationService.validatePayerEdrpouChecksum(instructionValidDTO.recipientEdrpou());
+                })
+                .then(Mono.defer(() -> slotService.levelReactive(List.of(nextExecutionAt(instructionValidDTO, clock)))))
+                .flatMap(nextExecutions -> instructionClient.createInstruction(toCreateDTO(instructionValidDTO, nextExecutions.getFirst())))
+                .doOnNext(saved -> instructionLookupCache.evict(instructionValidDTO.payerIin(), instructionValidDTO.recipientEdrpou()));
+    }
+
+    @Override
+    public Mono<InstructionBatchResultDTO> createInstructionsBatch(List<InstructionValidDTO> instructionValidDTOs) {
+
+        if (instructionValidDTOs.size() > MAX_BATCH_SIZE) {
+            return Mono.error(new ValidationException("Batch must not contain more than " + MAX_BATCH_SIZE + " instructions."));
+        }
+
+        // Bean validation and checksums are CPU work; keep them off the event loop.
+        return Mono.fromCallable(() -> IntStream.range(0, instructionValidDTOs.size())
+                        .parallel()
+                        .mapToObj(i -> validate(instructionValidDTOs.get(i), validator, validationService))
+                        .toList())
+                .subscribeOn(Schedulers.parallel())
+                .flatMap(errors -> save(instructionValidDTOs, errors));
+    }
+
+    private Mono<InstructionBatchResultDTO> save(List<InstructionValidDTO> instructionValidDTOs, List<List<String>> errors) {
+
+        List<Integer> validIndexes = IntStream.range(0, instructionValidDTOs.size())
+                .filter(i -> errors.get(i).isEmpty())
+                .boxed()
+                .toList();
+
+        Long[] ids = new Long[instructionValidDTOs.size()];
+
+        if (validIndexes.isEmpty()) {
+            return Mono.just(toBatchResult(errors, ids, null));
+        }
+
+        List<OffsetDateTime> desired = validIndexes.stream()
+                .map(i -> nextExecutionAt(instructionValidDTOs.get(i), clock))
+                .toList();
+
+        return slotService.levelReactive(desired)
+                .flatMap(nextExecutions -> instructionClient.createInstructionsBatch(IntStream.range(0, validIndexes.size())
+                        .mapToObj(i -> toCreateDTO(instructionValidDTOs.get(validIndexes.get(i)), nextExecutions.get(i)))
+                        .toList()))
+                .map(saved -> {
+                    for (int i = 0; i < validIndexes.size(); i++) {
+                        ids[validIndexes.get(i)] = saved.get(i).getId();
+                    }
+
+                    instructionLookupCache.evictAll(saved);
+
+                    return toBatchResult(errors, ids, null);
+                })
+                .onErrorResume(CreationFailureException.class, e -> {
+                    log.error("Batch of {} instructions was rejected by PDS.", validIndexes.size(), e);
+                    return Mono.just(toBatchResult(errors, ids, e.getMessage()));
+                });
+    }
+
+    @Override
+    public Mono<List<Instruction>> getInstructionsByPayerIin(String payerIin) {
+        return cachedLookup(payerIin,
+                validationService::validatePayerIinChecksum,
+                instructionLookupCache::findByIin,
+                instructionClient::getInstructionsForIin,
+                instructionLookupCache::putByIin);
+    }
+
+    @Override
+    public Mono<List<Instruction>> getInstructionsByRecipientEdrpou(String recipientEdrpou) {
+        return cachedLookup(recipientEdrpou,
+                validationService::validatePayerEdrpouChecksum,
+                instructionLookupCache::findByEdrpou,
+                instructionClient::getInstructionsForEdrpou,
+                instructionLookupCache::putByEdrpou);
+    }
+
+    @Override
+    public Mono<List<Instruction>> getScheduledInstructions(int page, int size) {
+        return instructionClient.getScheduledInstructions(page, size);
+    }
+
+    private Mono<List<Instruction>> cachedLookup(String key,
+                                                 Consumer<String> validation,
+                                                 Function<String, List<Instruction>> cacheLookup,
+                                                 Function<String, Mono<List<Instruction>>> load,
+                                                 BiConsumer<String, List<Instruction>> cachePut) {
+        return Mono.defer(() -> {
+            List<Instruction> cached = cacheLookup.apply(key);
+
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            validation.accept(key);
+
+            return load.apply(key).doOnNext(instructions -> cachePut.accept(key, instructions));
+        });
+    }
+}
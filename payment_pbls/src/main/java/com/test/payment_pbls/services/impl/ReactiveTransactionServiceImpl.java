@@ -0,0 +1,136 @@
+package com.test.payment_pbls.services.impl;
+
+import com.test.payment_pbls.clients.ReactiveTransactionClient;
+import com.test.payment_pbls.dtos.BatchResultDTO;
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionPaymentSummaryDTO;
+import com.test.payment_pbls.dtos.Transaction;
+import com.test.payment_pbls.dtos.TransactionDTO;
+import com.test.payment_pbls.services.ReactiveTransactionService;
+import com.test.payment_pbls.utils.cache.InstructionLookupCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.test.payment_pbls.services.impl.TransactionServiceImpl.advanceSchedule;
+import static com.test.payment_pbls.services.impl.TransactionServiceImpl.failed;
+import static com.test.payment_pbls.services.impl.TransactionServiceImpl.idempotencyKey;
+import static com.test.payment_pbls.services.impl.TransactionServiceImpl.newTransaction;
+import static com.test.payment_pbls.services.impl.TransactionServiceImpl.partition;
+
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTransactionServiceImpl implements ReactiveTransactionService {
+
+    private final Clock clock;
+    private final ReactiveTransactionClient transactionClient;
+    private final InstructionLookupCache instructionLookupCache;
+    private final int subBatchSize;
+    private final int maxConcurrency;
+
+    @Autowired
+    public ReactiveTransactionServiceImpl(Clock clock,
+                                          ReactiveTransactionClient transactionClient,
+                                          InstructionLookupCache instructionLookupCache,
+                                          @Value("${application.transactions.sub-batch-size:250}") int subBatchSize,
+                                          @Value("${application.transactions.max-concurrency:4}") int maxConcurrency) {
+        this.clock = clock;
+        this.transactionClient = transactionClient;
+        this.instructionLookupCache = instructionLookupCache;
+        this.subBatchSize = subBatchSize;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public Mono<TransactionDTO> createTransaction(Instruction instruction) {
+        return Mono.defer(() -> {
+            UUID idempotencyId = idempotencyKey(instruction, clock);
+
+            advanceSchedule(instruction, clock);
+
+            log.info("PBLS: Initiating transaction creation for instruction ID: {}", instruction.getId());
+
+            return transactionClient.createTransaction(newTransaction(instruction, idempotencyId, clock));
+        }).doOnNext(savedTransaction -> {
+            instructionLookupCache.evict(instruction.getPayerIin(), instruction.getRecipientEdrpou());
+
+            log.info("PBLS: Transaction successfully saved in PDS (ID: {}, Key: {}).",
+                    savedTransaction.id(), savedTransaction.idempotencyId());
+        });
+    }
+
+    @Override
+    public Mono<Void> revertTransaction(Long transactionId) {
+        return transactionClient.revertTransaction(transactionId)
+                .doOnSuccess(ignored -> log.info("PBLS: Reversal request successfully sent to PDS for ID: {}", transactionId));
+    }
+
+    @Override
+    public Mono<List<TransactionDTO>> getInstructionHistory(Long instructionId) {
+        return transactionClient.getTransactionsByInstructionId(instructionId);
+    }
+
+    @Override
+    public Mono<InstructionPaymentSummaryDTO> getPaymentSummary(Long instructionId) {
+        return transactionClient.getPaymentSummary(instructionId);
+    }
+
+    @Override
+    public Mono<BatchResultDTO> processBatch(List<Instruction> instructions) {
+        return Mono.defer(() -> {
+            List<Transaction> transactionsToSend = new ArrayList<>();
+            List<Long> failedIds = new ArrayList<>();
+
+            for (Instruction instruction : instructions) {
+                try {
+                    UUID idempotencyId = idempotencyKey(instruction, clock);
+                    advanceSchedule(instruction, clock);
+                    transactionsToSend.add(newTransaction(instruction, idempotencyId, clock));
+                } catch (Exception e) {
+                    log.error("Error preparing transaction for instruction {}", instruction.getId(), e);
+                    failedIds.add(instruction.getId());
+                }
+            }
+
+            // Sub-batches are in flight at most maxConcurrency at a time, results kept in sub-batch order.
+            return Flux.fromIterable(partition(transactionsToSend, subBatchSize))
+                    .flatMapSequential(this::sendSubBatch, maxConcurrency)
+                    .collectList()
+                    .map(results -> {
+                        int successCount = 0;
+
+                        for (BatchResultDTO result : results) {
+                            successCount += result.successCount();
+                            failedIds.addAll(result.failedInstructionIds());
+                        }
+
+                        return new BatchResultDTO(successCount, failedIds.size(), failedIds);
+                    });
+        });
+    }
+
+    private Mono<BatchResultDTO> sendSubBatch(List<Transaction> subBatch) {
+        return transactionClient.createTransactionsBatch(subBatch)
+                .defaultIfEmpty(List.of())
+                .map(savedTransactions -> {
+                    instructionLookupCache.evictAll(subBatch.stream().map(Transaction::getInstruction).toList());
+                    log.info("Successfully processed sub-batch of {} transactions", savedTransactions.size());
+
+                    return new BatchResultDTO(subBatch.size(), 0, List.of());
+                })
+                .onErrorResume(e -> {
+                    log.error("Sub-batch save failed", e);
+                    return Mono.just(failed(subBatch));
+                });
+    }
+}
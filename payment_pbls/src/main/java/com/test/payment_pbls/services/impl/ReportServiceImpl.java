@@ -0,0 +1,46 @@
+package com.test.payment_pbls.services.impl;
+
+import com.test.payment_pbls.clients.ReportClient;
+import com.test.payment_pbls.services.ReportService;
+import com.test.payment_pbls.services.ValidationService;
+import com.test.payment_pbls.utils.enums.ReportGranularity;
+import jakarta.validation.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
+
+@Slf4j
+@Service
+public class ReportServiceImpl implements ReportService {
+
+    private final ReportClient reportClient;
+    private final ValidationService validationService;
+
+    @Autowired
+    public ReportServiceImpl(ReportClient reportClient, ValidationService validationService) {
+        this.reportClient = reportClient;
+        this.validationService = validationService;
+    }
+
+    @Override
+    public void validateSettlementRequest(String edrpou, OffsetDateTime from, OffsetDateTime to) {
+
+        validationService.validatePayerEdrpouChecksum(edrpou);
+
+        if (!from.isBefore(to)) {
+            throw new ValidationException("Report window start must be before its end.");
+        }
+    }
+
+    @Override
+    public void streamSettlementReport(String edrpou, ReportGranularity granularity,
+                                       OffsetDateTime from, OffsetDateTime to, OutputStream outputStream) {
+
+        log.debug("PBLS: Streaming {} settlement report for EDRPOU {} from {} to {}", granularity, edrpou, from, to);
+
+        reportClient.streamSettlementReport(edrpou, granularity, from, to, outputStream);
+    }
+}
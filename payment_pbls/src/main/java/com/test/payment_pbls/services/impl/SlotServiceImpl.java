@@ -0,0 +1,74 @@
+package com.test.payment_pbls.services.impl;
+
+import com.test.payment_pbls.clients.SlotClient;
+import com.test.payment_pbls.dtos.SlotAllocationDTO;
+import com.test.payment_pbls.services.SlotService;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Moves next executions to the least busy minutes of {@code [due, due + tolerance]} using the occupancy counters in
+ * PDS. Levelling is best effort: if PDS cannot allocate, the unlevelled times are kept rather than failing the write.
+ * PDS only chooses the minutes here; it counts an instruction when it saves it, so nothing has to be given back if
+ * the write fails.
+ */
+@Slf4j
+@Service
+public class SlotServiceImpl implements SlotService {
+
+    private final SlotClient slotClient;
+    private final int toleranceMinutes;
+
+    @Autowired
+    public SlotServiceImpl(SlotClient slotClient,
+                           @Value("${application.scheduling.slot-tolerance:0m}") Duration tolerance) {
+        this.slotClient = slotClient;
+        this.toleranceMinutes = Math.toIntExact(tolerance.toMinutes());
+    }
+
+    @Override
+    public List<OffsetDateTime> level(List<OffsetDateTime> desired) {
+
+        if (toleranceMinutes == 0 || desired.isEmpty()) {
+            return desired;
+        }
+
+        try {
+            List<OffsetDateTime> allocated = slotClient.allocate(new SlotAllocationDTO(desired, toleranceMinutes));
+
+            if (allocated != null && allocated.size() == desired.size()) {
+                return allocated;
+            }
+
+            log.warn("PDS returned {} slots for {} execution times, keeping unlevelled times.",
+                    allocated == null ? 0 : allocated.size(), desired.size());
+        } catch (CreationFailureException e) {
+            log.warn("Slot allocation for {} execution times failed, keeping unlevelled times.", desired.size(), e);
+        }
+
+        return desired;
+    }
+
+    /**
+     * {@link #level} for the {@code reactive} profile. The slot client blocks, so it is called on
+     * {@code boundedElastic} rather than on the event loop.
+     */
+    @Override
+    public Mono<List<OffsetDateTime>> levelReactive(List<OffsetDateTime> desired) {
+
+        if (toleranceMinutes == 0 || desired.isEmpty()) {
+            return Mono.just(desired);
+        }
+
+        return Mono.fromCallable(() -> level(desired)).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -2,57 +2,75 @@ package com.test.payment_pbls.services.impl;
 
 import com.test.payment_pbls.clients.TransactionClient;
 import com.test.payment_pbls.dtos.BatchResultDTO;
+import com.test.payment_pbls.dtos.InstructionPaymentSummaryDTO;
 import com.test.payment_pbls.dtos.TransactionDTO;
 import com.test.payment_pbls.dtos.Instruction;
 import com.test.payment_pbls.dtos.Transaction;
 import com.test.payment_pbls.services.TransactionService;
-import com.test.payment_pbls.utils.enums.TransactionStatus;
+import com.test.payment_pbls.utils.cache.InstructionLookupCache;
+import com.test.payment_wire.TransactionStatus;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 @Slf4j
 @Service
 public class TransactionServiceImpl implements TransactionService {
 
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
     private final Clock clock;
     private final TransactionClient transactionClient;
+    private final InstructionLookupCache instructionLookupCache;
+    private final int subBatchSize;
+    private final int maxConcurrency;
 
     @Autowired
-    public TransactionServiceImpl(Clock clock, TransactionClient transactionClient) {
+    public TransactionServiceImpl(Clock clock,
+                                  TransactionClient transactionClient,
+                                  InstructionLookupCache instructionLookupCache,
+                                  @Value("${application.transactions.sub-batch-size:250}") int subBatchSize,
+                                  @Value("${application.transactions.max-concurrency:4}") int maxConcurrency) {
         this.clock = clock;
         this.transactionClient = transactionClient;
+        this.instructionLookupCache = instructionLookupCache;
+        this.subBatchSize = subBatchSize;
+        this.maxConcurrency = maxConcurrency;
     }
 
 
     @Override
     public TransactionDTO createTransaction(Instruction instruction) {
 
+        UUID idempotencyId = idempotencyKey(instruction, clock);
+
         log.info("PBLS: Update last and next execution date for instruction ID: {}", instruction.getId());
 
-        instruction.setLastExecutionAt(OffsetDateTime.now(clock));
-        instruction.setNextExecutionAt(OffsetDateTime.now(clock).plus(instruction.getPeriodValue(), instruction.getPeriodUnit()));
+        advanceSchedule(instruction, clock);
 
         log.info("PBLS: Initiating transaction creation for instruction ID: {}", instruction.getId());
 
-        Transaction transaction = new Transaction();
-
-        transaction.setInstruction(instruction);
-
-        transaction.setIdempotencyId(UUID.randomUUID().toString());
-
-        transaction.setTransactionStatus(TransactionStatus.ACTIVE.getStatusCode());
-        transaction.setTransactionTime(OffsetDateTime.now(clock));
-        transaction.setAmount(instruction.getAmount());
+        Transaction transaction = newTransaction(instruction, idempotencyId, clock);
 
         TransactionDTO savedTransaction = transactionClient.createTransaction(transaction);
 
+        instructionLookupCache.evict(instruction.getPayerIin(), instruction.getRecipientEdrpou());
+
         log.info("PBLS: Transaction successfully saved in PDS (ID: {}, Key: {}).",
                 savedTransaction.id(), savedTransaction.idempotencyId());
 
@@ -80,6 +98,13 @@ public class TransactionServiceImpl implements TransactionService {
         return history;
     }
 
+    @Override
+    public InstructionPaymentSummaryDTO getPaymentSummary(Long instructionId) {
+        log.debug("PBLS: Retrieving payment summary for instruction ID: {}", instructionId);
+
+        return transactionClient.getPaymentSummary(instructionId);
+    }
+
     @Override
     public BatchResultDTO processBatch(List<Instruction> instructions) {
 
@@ -88,43 +113,148 @@ public class TransactionServiceImpl implements TransactionService {
 
         for (Instruction instruction : instructions) {
             try {
-                instruction.setLastExecutionAt(OffsetDateTime.now(clock));
-                instruction.setNextExecutionAt(OffsetDateTime.now(clock).plus(
-                        instruction.getPeriodValue(),
-                        instruction.getPeriodUnit())
-                );
-
-                Transaction transaction = new Transaction();
-                transaction.setInstruction(instruction);
-                transaction.setIdempotencyId(instruction.getId() + "_" + instruction.getNextExecutionAt().toString());
-                transaction.setTransactionStatus(TransactionStatus.ACTIVE.getStatusCode());
-                transaction.setTransactionTime(OffsetDateTime.now(clock));
-                transaction.setAmount(instruction.getAmount());
-
-                transactionsToSend.add(transaction);
+                UUID idempotencyId = idempotencyKey(instruction, clock);
+                advanceSchedule(instruction, clock);
+                transactionsToSend.add(newTransaction(instruction, idempotencyId, clock));
             } catch (Exception e) {
                 log.error("Error preparing transaction for instruction {}", instruction.getId(), e);
                 failedIds.add(instruction.getId());
             }
         }
 
-        if (!transactionsToSend.isEmpty()) {
-            try {
-                List<TransactionDTO> savedTransactions = transactionClient.createTransactionsBatch(transactionsToSend);
-                log.info("Successfully processed batch of {} transactions", savedTransactions.size());
-            } catch (Exception e) {
-                log.error("Batch save failed", e);
+        List<List<Transaction>> subBatches = partition(transactionsToSend, subBatchSize);
+
+        List<BatchResultDTO> results = new ArrayList<>();
+
+        if (subBatches.size() == 1) {
+            results.add(sendSubBatch(subBatches.getFirst()));
+        } else if (subBatches.size() > 1) {
+            results.addAll(sendSubBatchesConcurrently(subBatches));
+        }
+
+        int successCount = 0;
+
+        for (BatchResultDTO result : results) {
+            successCount += result.successCount();
+            failedIds.addAll(result.failedInstructionIds());
+        }
+
+        return new BatchResultDTO(successCount, failedIds.size(), failedIds);
+    }
+
+    /**
+     * Sends every sub-batch on its own virtual thread, at most {@code maxConcurrency} at a time. The executor
+     * is closed before returning, so no sub-batch outlives the call and the page completes with its slowest part.
+     * Each thread runs in the caller's observation context, so the PDS calls join the trace of the jar's request.
+     */
+    private List<BatchResultDTO> sendSubBatchesConcurrently(List<List<Transaction>> subBatches) {
+
+        ContextSnapshot context = CONTEXT_SNAPSHOTS.captureAll();
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<Future<BatchResultDTO>> futures = new ArrayList<>(subBatches.size());
+
+        try (ExecutorService scope = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<Transaction> subBatch : subBatches) {
+                futures.add(scope.submit(context.wrap(() -> {
+                    permits.acquire();
+                    try {
+                        return sendSubBatch(subBatch);
+                    } finally {
+                        permits.release();
+                    }
+                })));
+            }
+        }
+
+        List<BatchResultDTO> results = new ArrayList<>(subBatches.size());
 
-                failedIds.addAll(transactionsToSend.stream()
-                        .map(t -> t.getInstruction().getId())
-                        .toList());
+        for (int i = 0; i < futures.size(); i++) {
+            Future<BatchResultDTO> future = futures.get(i);
+
+            if (future.state() == Future.State.SUCCESS) {
+                results.add(future.resultNow());
+            } else {
+                log.error("Sub-batch {} of {} transactions was not sent", i, subBatches.get(i).size());
+                results.add(failed(subBatches.get(i)));
             }
         }
 
-        return new BatchResultDTO(
-                transactionsToSend.size() - failedIds.size(),
-                failedIds.size(),
-                failedIds
-        );
+        return results;
+    }
+
+    private BatchResultDTO sendSubBatch(List<Transaction> subBatch) {
+        try {
+            List<TransactionDTO> savedTransactions = transactionClient.createTransactionsBatch(subBatch);
+            instructionLookupCache.evictAll(subBatch.stream().map(Transaction::getInstruction).toList());
+            log.info("Successfully processed sub-batch of {} transactions", savedTransactions.size());
+
+            return new BatchResultDTO(subBatch.size(), 0, List.of());
+        } catch (Exception e) {
+            log.error("Sub-batch save failed", e);
+            return failed(subBatch);
+        }
+    }
+
+    /*
+     * The helpers below are shared with ReactiveTransactionServiceImpl so that both stacks build identical
+     * transactions and idempotency keys.
+     */
+
+    /**
+     * Moves the schedule one period past the occurrence being paid, not past now, so a late sweep does not push the
+     * schedule back and the minute picked by slot levelling at creation is kept. An instruction overdue by more than
+     * a period moves to its first occurrence after now instead of catching up one payment per sweep.
+     */
+    static void advanceSchedule(Instruction instruction, Clock clock) {
+
+        if (instruction.getPeriodValue() == null || instruction.getPeriodValue() <= 0) {
+            throw new IllegalArgumentException("Instruction " + instruction.getId() + " has no positive period.");
+        }
+
+        OffsetDateTime now = OffsetDateTime.now(clock);
+        OffsetDateTime next = Objects.requireNonNullElse(instruction.getNextExecutionAt(), now);
+
+        do {
+            next = next.plus(instruction.getPeriodValue(), instruction.getPeriodUnit());
+        } while (!next.isAfter(now));
+
+        instruction.setLastExecutionAt(now);
+        instruction.setNextExecutionAt(next);
+    }
+
+    /**
+     * Name-based key for the occurrence being paid: the instruction id and its due time, taken before the schedule
+     * is advanced. A retry of the same occurrence yields the same key, so PDS returns the transaction it already
+     * saved. Unlike {@code UUID.randomUUID()} this does not draw from {@code SecureRandom}.
+     */
+    static UUID idempotencyKey(Instruction instruction, Clock clock) {
+        OffsetDateTime occurrence = Objects.requireNonNullElseGet(instruction.getNextExecutionAt(), () -> OffsetDateTime.now(clock));
+        return UUID.nameUUIDFromBytes((instruction.getId() + "/" + occurrence.toInstant()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Transaction newTransaction(Instruction instruction, UUID idempotencyId, Clock clock) {
+        Transaction transaction = new Transaction();
+        transaction.setInstruction(instruction);
+        transaction.setIdempotencyId(idempotencyId);
+        transaction.setTransactionStatus(TransactionStatus.ACTIVE.getStatusCode());
+        transaction.setTransactionTime(OffsetDateTime.now(clock));
+        transaction.setAmount(instruction.getAmount());
+        return transaction;
+    }
+
+    static List<List<Transaction>> partition(List<Transaction> transactions, int size) {
+        List<List<Transaction>> subBatches = new ArrayList<>();
+
+        for (int from = 0; from < transactions.size(); from += size) {
+            subBatches.add(transactions.subList(from, Math.min(from + size, transactions.size())));
+        }
+
+        return subBatches;
+    }
+
+    static BatchResultDTO failed(List<Transaction> subBatch) {
+        return new BatchResultDTO(0, subBatch.size(), subBatch.stream()
+                .map(t -> t.getInstruction().getId())
+                .toList());
     }
 }
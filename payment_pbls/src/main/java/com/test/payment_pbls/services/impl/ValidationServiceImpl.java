@@ -1,73 +1,70 @@
 package com.test.payment_pbls.services.impl;
 
 
+import com.test.payment_pbls.dtos.ValidationRequestDTO;
+import com.test.payment_pbls.dtos.ValidationResultDTO;
 import com.test.payment_pbls.services.ValidationService;
+import com.test.payment_pbls.utils.enums.ValidationResult;
+import com.test.payment_pbls.utils.validation.ChecksumValidator;
 import jakarta.validation.ValidationException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class ValidationServiceImpl implements ValidationService {
 
-    private static final int[] IIN_WEIGHTS =  {-1, 5, 7, 9, 4, 6, 10, 5, 7};
-    private static final int[] EDRPOU_BASE_WEIGHTS = {1, 2, 3, 4, 5, 6, 7};
-    private static final int[] EDRPOU_ALTERNATIVE_WEIGHTS = {7, 1, 2, 3, 4, 5, 6};
+    public static final int MAX_BATCH_SIZE = 10_000;
 
     @Override
     public void validatePayerIinChecksum(String iin) {
 
-        if (iin == null || !iin.matches("^\\d{10}$")) {
-            throw new ValidationException("IIN must be a 10-digit number.");
-        }
-
-        int sum = 0;
-        int checkDigit = Character.getNumericValue(iin.charAt(9));
-
-        for (int i = 0; i < 9; i++) {
-            int digit = Character.getNumericValue(iin.charAt(i));
-            sum += digit * IIN_WEIGHTS[i];
-        }
-
-        int calculatedChecksum = sum % 11;
-
-        if (calculatedChecksum == 10) {
-            calculatedChecksum = 0;
-        }
-
-        if (calculatedChecksum != checkDigit) {
-            throw new ValidationException("Invalid IIN checksum. Data integrity violation.");
+        switch (ChecksumValidator.checkIin(iin)) {
+            case VALID -> {
+            }
+            case INVALID_CHECKSUM -> throw new ValidationException("Invalid IIN checksum. Data integrity violation.");
+            default -> throw new ValidationException("IIN must be a 10-digit number.");
         }
     }
 
     @Override
     public void validatePayerEdrpouChecksum(String edrpou) {
 
-        if (edrpou == null ||!edrpou.matches("^\\d{8}$")) {
-            throw new ValidationException("EDRPOU must be a 8-digit number.");
+        switch (ChecksumValidator.checkEdrpou(edrpou)) {
+            case VALID -> {
+            }
+            case INVALID_CHECKSUM -> throw new ValidationException("Invalid EDRPOU checksum. Data integrity violation.");
+            default -> throw new ValidationException("EDRPOU must be a 8-digit number.");
         }
+    }
 
-        int checkDigit = Character.getNumericValue(edrpou.charAt(7));
+    @Override
+    public ValidationResult checkPayerIin(String iin) {
+        return ChecksumValidator.checkIin(iin);
+    }
 
-        String digits = edrpou.substring(0, 7);
+    @Override
+    public ValidationResult checkRecipientEdrpou(String edrpou) {
+        return ChecksumValidator.checkEdrpou(edrpou);
+    }
 
-        int calculatedChecksum = calculateEdrpouMod11(digits, EDRPOU_BASE_WEIGHTS);
+    @Override
+    public List<ValidationResultDTO> validateBatch(List<ValidationRequestDTO> requests) {
 
-        if (calculatedChecksum == 10) {
-            calculatedChecksum = calculateEdrpouMod11(digits, EDRPOU_ALTERNATIVE_WEIGHTS);
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException("Batch must not contain more than " + MAX_BATCH_SIZE + " entries.");
         }
 
-        if (calculatedChecksum != checkDigit) {
-            throw new ValidationException("Invalid EDRPOU checksum. Data integrity violation.");
-        }
-    }
+        List<ValidationResultDTO> results = new ArrayList<>(requests.size());
 
-    private int calculateEdrpouMod11(String digits, int[] weights) {
-        int sum = 0;
+        for (ValidationRequestDTO request : requests) {
+            ValidationResult iin = ChecksumValidator.checkIin(request.payerIin());
+            ValidationResult edrpou = ChecksumValidator.checkEdrpou(request.recipientEdrpou());
 
-        for (int i = 0; i < 7; i++) {
-            int digit = Character.getNumericValue(digits.charAt(i));
-            sum += digit * weights[i];
+            results.add(new ValidationResultDTO(iin.isValid() && edrpou.isValid(), iin, edrpou));
         }
 
-        return sum % 11;
+        return results;
     }
 }
@@ -0,0 +1,89 @@
+package com.test.payment_pbls.utils.cache;
+
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_wire.changefeed.ChangeEvent;
+import com.test.payment_wire.changefeed.ChangeFeedSubscriber;
+import com.test.payment_wire.changefeed.ChangeType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Invalidation side of the instruction lookup caches filled by {@code @Cacheable} in
+ * {@code InstructionServiceImpl}. Call it whenever PBLS writes an instruction so that the payer's
+ * and the recipient's lists are reloaded from PDS on the next lookup. The reactive service, which
+ * cannot use {@code @Cacheable} on its {@code Mono} results, reads and fills the same caches here.
+ * With the change feed enabled, writes made through other PBLS instances or directly in PDS evict too.
+ */
+@Component
+public class InstructionLookupCache implements ChangeFeedSubscriber {
+
+    public static final String BY_IIN = "instructionsByIin";
+    public static final String BY_EDRPOU = "instructionsByEdrpou";
+
+    private final Cache byIin;
+    private final Cache byEdrpou;
+
+    @Autowired
+    public InstructionLookupCache(CacheManager cacheManager) {
+        this.byIin = Objects.requireNonNull(cacheManager.getCache(BY_IIN));
+        this.byEdrpou = Objects.requireNonNull(cacheManager.getCache(BY_EDRPOU));
+    }
+
+    public void evict(String payerIin, String recipientEdrpou) {
+
+        if (payerIin != null) {
+            byIin.evict(payerIin);
+        }
+
+        if (recipientEdrpou != null) {
+            byEdrpou.evict(recipientEdrpou);
+        }
+    }
+
+    public void evictAll(Collection<Instruction> instructions) {
+        instructions.forEach(instruction -> evict(instruction.getPayerIin(), instruction.getRecipientEdrpou()));
+    }
+
+    @Override
+    public void onChange(ChangeEvent event) {
+
+        // A reversal leaves the instruction itself untouched.
+        if (event.type() != ChangeType.TRANSACTION_REVERSED) {
+            evict(event.payerIin(), event.recipientEdrpou());
+        }
+    }
+
+    @Override
+    public void onResync() {
+        byIin.clear();
+        byEdrpou.clear();
+    }
+
+    public List<Instruction> findByIin(String payerIin) {
+        return find(byIin, payerIin);
+    }
+
+    public List<Instruction> findByEdrpou(String recipientEdrpou) {
+        return find(byEdrpou, recipientEdrpou);
+    }
+
+    public void putByIin(String payerIin, List<Instruction> instructions) {
+        byIin.put(payerIin, instructions);
+    }
+
+    public void putByEdrpou(String recipientEdrpou, List<Instruction> instructions) {
+        byEdrpou.put(recipientEdrpou, instructions);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Instruction> find(Cache cache, String key) {
+        Cache.ValueWrapper cached = cache.get(key);
+        return cached != null ? (List<Instruction>) cached.get() : null;
+    }
+}
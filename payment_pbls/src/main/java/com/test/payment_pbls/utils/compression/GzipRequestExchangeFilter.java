@@ -0,0 +1,87 @@
+package com.test.payment_pbls.utils.compression;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@link ExchangeFilterFunction} counterpart of {@link com.test.payment_wire.http.GzipCompressionInterceptor}: gzips
+ * request bodies of at least {@code threshold} bytes that are not encoded yet. Response decompression is left to
+ * Reactor Netty's {@code compress(true)}, which also sends {@code Accept-Encoding}.
+ */
+public class GzipRequestExchangeFilter implements ExchangeFilterFunction {
+
+    private static final String GZIP = "gzip";
+
+    private final long threshold;
+
+    public GzipRequestExchangeFilter(long threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+
+        if (request.headers().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return next.exchange(request);
+        }
+
+        ClientRequest compressing = ClientRequest.from(request)
+                .body((outputMessage, context) -> request.body().insert(new Compressing(outputMessage), context))
+                .build();
+
+        return next.exchange(compressing);
+    }
+
+    private class Compressing extends ClientHttpRequestDecorator {
+
+        Compressing(ClientHttpRequest delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(body)
+                    .flatMap(buffer -> {
+                        byte[] bytes = new byte[buffer.readableByteCount()];
+                        buffer.read(bytes);
+                        DataBufferUtils.release(buffer);
+
+                        if (bytes.length > 0 && bytes.length >= threshold) {
+                            bytes = gzip(bytes);
+                            getHeaders().set(HttpHeaders.CONTENT_ENCODING, GZIP);
+                        }
+
+                        getHeaders().setContentLength(bytes.length);
+                        return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    })
+                    .switchIfEmpty(Mono.defer(() -> super.writeWith(Mono.empty())));
+        }
+
+        private byte[] gzip(byte[] body) {
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 2);
+
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            return compressed.toByteArray();
+        }
+    }
+}
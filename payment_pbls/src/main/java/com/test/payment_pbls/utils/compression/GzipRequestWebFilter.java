@@ -0,0 +1,114 @@
+package com.test.payment_pbls.utils.compression;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * WebFlux counterpart of {@link com.test.payment_wire.http.GzipRequestFilter}: inflates request bodies sent with
+ * {@code Content-Encoding: gzip} up front, up to {@code maxInflatedSize} bytes, and answers a larger body with 413
+ * and a corrupt or truncated one with 400 before any controller runs. Inflating is CPU work, so it runs on
+ * {@code boundedElastic} rather than on the event loop.
+ */
+public class GzipRequestWebFilter implements WebFilter {
+
+    private static final String GZIP = "gzip";
+
+    private final long maxInflatedSize;
+    private final int readLimit;
+    private final int compressedLimit;
+
+    public GzipRequestWebFilter(long maxInflatedSize) {
+        this.maxInflatedSize = maxInflatedSize;
+        this.readLimit = Math.toIntExact(maxInflatedSize + 1);
+        // Incompressible data grows by a few bytes per stored deflate block plus the gzip header and trailer.
+        this.compressedLimit = Math.toIntExact(maxInflatedSize + maxInflatedSize / 1000 + 1024);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+
+        ServerHttpRequest request = exchange.getRequest();
+
+        if (!GZIP.equalsIgnoreCase(request.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))) {
+            return chain.filter(exchange);
+        }
+
+        return DataBufferUtils.join(request.getBody(), compressedLimit)
+                .onErrorMap(DataBufferLimitException.class, e -> tooLarge())
+                .publishOn(Schedulers.boundedElastic())
+                .map(this::inflate)
+                .defaultIfEmpty(new byte[0])
+                .flatMap(body -> chain.filter(exchange.mutate().request(new InflatedRequest(request, body)).build()));
+    }
+
+    private byte[] inflate(DataBuffer compressed) {
+
+        byte[] body;
+
+        try (InputStream gzip = new GZIPInputStream(compressed.asInputStream())) {
+            body = gzip.readNBytes(readLimit);
+        } catch (ZipException | EOFException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed gzip request body");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            DataBufferUtils.release(compressed);
+        }
+
+        if (body.length > maxInflatedSize) {
+            throw tooLarge();
+        }
+
+        return body;
+    }
+
+    private ResponseStatusException tooLarge() {
+        return new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                "Inflated request body exceeds " + maxInflatedSize + " bytes");
+    }
+
+    private static class InflatedRequest extends ServerHttpRequestDecorator {
+
+        private final byte[] body;
+        private final HttpHeaders headers;
+
+        InflatedRequest(ServerHttpRequest delegate, byte[] body) {
+            super(delegate);
+            this.body = body;
+            this.headers = new HttpHeaders();
+            this.headers.addAll(delegate.getHeaders());
+            this.headers.remove(HttpHeaders.CONTENT_ENCODING);
+            this.headers.setContentLength(body.length);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+        }
+    }
+}
@@ -1,6 +0,0 @@
-package com.test.payment_pbls.utils.enums;
-
-public enum InstructionStatus {
-    ACTIVE,
-    CANCELED
-}
@@ -0,0 +1,6 @@
+package com.test.payment_pbls.utils.enums;
+
+public enum ReportGranularity {
+    DAY,
+    MONTH
+}
@@ -0,0 +1,16 @@
+package com.test.payment_pbls.utils.enums;
+
+public enum ValidationResult {
+
+    VALID,
+
+    MISSING,
+
+    INVALID_FORMAT,
+
+    INVALID_CHECKSUM;
+
+    public boolean isValid() {
+        return this == VALID;
+    }
+}
@@ -0,0 +1,42 @@
+package com.test.payment_pbls.utils.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link org.springframework.web.reactive.function.client.WebClient} counterpart of {@link com.test.payment_wire.http.ResilienceInterceptor}:
+ * same bulkhead and circuit breaker, 5xx responses and I/O errors count as failures, and rejected calls fail with
+ * {@link WebClientRequestException} as if the server were unreachable.
+ */
+public class ResilienceExchangeFilter implements ExchangeFilterFunction {
+
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    public ResilienceExchangeFilter(Bulkhead bulkhead, CircuitBreaker circuitBreaker) {
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return next.exchange(request)
+                .flatMap(response -> response.statusCode().is5xxServerError()
+                        ? response.createException().flatMap(Mono::error)
+                        : Mono.just(response))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .onErrorMap(e -> e instanceof CallNotPermittedException || e instanceof BulkheadFullException,
+                        e -> new WebClientRequestException(e, request.method(), request.url(), request.headers()));
+    }
+}
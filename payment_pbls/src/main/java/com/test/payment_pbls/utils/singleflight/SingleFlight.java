@@ -0,0 +1,120 @@
+package com.test.payment_pbls.utils.singleflight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent reads: while a call for an operation and its arguments is in flight, later callers
+ * with the same key wait for it and get its result (or its exception) instead of issuing their own PDS request.
+ * Nothing is kept once the call completes, so this never serves stale data the way a cache would.
+ * <p>
+ * Every caller gets the very same result object, so only immutable results (records, {@code List.copyOf}) may go
+ * through here. Reads that already sit behind {@code @Cacheable(sync = true)} do not need this: the cache coalesces
+ * them itself.
+ * <p>
+ * {@code pbls.singleflight.calls} counts calls per operation, tagged {@code outcome=leader} for the ones that went
+ * downstream and {@code outcome=coalesced} for the ones that joined an in-flight call. Arguments are not used as
+ * tags to keep the number of series bounded.
+ */
+@Component
+public class SingleFlight {
+
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> leaders = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> coalesced = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, List<?> arguments, Supplier<T> call) {
+
+        Key key = new Key(operation, arguments);
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, own);
+
+        if (existing != null) {
+            counter(coalesced, operation, "coalesced").increment();
+            return (T) await(existing);
+        }
+
+        counter(leaders, operation, "leader").increment();
+
+        try {
+            T result = call.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * {@link #execute} for {@code Mono} reads. Followers wait for the leader's result without blocking; if the leader
+     * is cancelled before it completes, its followers fail with a {@link java.util.concurrent.CancellationException}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> executeReactive(String operation, List<?> arguments, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+
+            Key key = new Key(operation, arguments);
+            CompletableFuture<Object> own = new CompletableFuture<>();
+            CompletableFuture<Object> existing = inFlight.putIfAbsent(key, own);
+
+            if (existing != null) {
+                counter(coalesced, operation, "coalesced").increment();
+                return Mono.fromFuture(existing, true).map(result -> (T) result);
+            }
+
+            counter(leaders, operation, "leader").increment();
+
+            return call.get()
+                    .doOnSuccess(own::complete)
+                    .doOnError(own::completeExceptionally)
+                    .doFinally(signal -> {
+                        own.cancel(false);
+                        inFlight.remove(key, own);
+                    });
+        });
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(ConcurrentHashMap<String, Counter> counters, String operation, String outcome) {
+        return counters.computeIfAbsent(operation, op -> Counter.builder("pbls.singleflight.calls")
+                .description("Reads to PDS, split into calls that went downstream and calls that joined one in flight")
+                .tag("operation", op)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private record Key(String operation, List<?> arguments) {
+    }
+}
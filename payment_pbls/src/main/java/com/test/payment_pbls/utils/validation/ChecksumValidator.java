@@ -0,0 +1,90 @@
+package com.test.payment_pbls.utils.validation;
+
+import com.test.payment_pbls.utils.enums.ValidationResult;
+
+/**
+ * Checksum rules for IIN (RNOKPP) and EDRPOU codes. Works on the characters in place and reports
+ * the outcome as a {@link ValidationResult} constant, so a check never allocates or throws.
+ */
+public final class ChecksumValidator {
+
+    public static final int IIN_LENGTH = 10;
+    public static final int EDRPOU_LENGTH = 8;
+
+    private static final int[] IIN_WEIGHTS = {-1, 5, 7, 9, 4, 6, 10, 5, 7};
+    private static final int[] EDRPOU_BASE_WEIGHTS = {1, 2, 3, 4, 5, 6, 7};
+    private static final int[] EDRPOU_ALTERNATIVE_WEIGHTS = {7, 1, 2, 3, 4, 5, 6};
+
+    private ChecksumValidator() {
+    }
+
+    public static ValidationResult checkIin(CharSequence iin) {
+
+        if (iin == null) {
+            return ValidationResult.MISSING;
+        }
+
+        if (!isDigits(iin, IIN_LENGTH)) {
+            return ValidationResult.INVALID_FORMAT;
+        }
+
+        int sum = 0;
+
+        for (int i = 0; i < IIN_WEIGHTS.length; i++) {
+            sum += (iin.charAt(i) - '0') * IIN_WEIGHTS[i];
+        }
+
+        int checksum = sum % 11;
+
+        if (checksum == 10) {
+            checksum = 0;
+        }
+
+        return checksum == iin.charAt(9) - '0' ? ValidationResult.VALID : ValidationResult.INVALID_CHECKSUM;
+    }
+
+    public static ValidationResult checkEdrpou(CharSequence edrpou) {
+
+        if (edrpou == null) {
+            return ValidationResult.MISSING;
+        }
+
+        if (!isDigits(edrpou, EDRPOU_LENGTH)) {
+            return ValidationResult.INVALID_FORMAT;
+        }
+
+        int checksum = edrpouMod11(edrpou, EDRPOU_BASE_WEIGHTS);
+
+        if (checksum == 10) {
+            checksum = edrpouMod11(edrpou, EDRPOU_ALTERNATIVE_WEIGHTS);
+        }
+
+        return checksum == edrpou.charAt(7) - '0' ? ValidationResult.VALID : ValidationResult.INVALID_CHECKSUM;
+    }
+
+    private static int edrpouMod11(CharSequence edrpou, int[] weights) {
+        int sum = 0;
+
+        for (int i = 0; i < weights.length; i++) {
+            sum += (edrpou.charAt(i) - '0') * weights[i];
+        }
+
+        return sum % 11;
+    }
+
+    private static boolean isDigits(CharSequence value, int length) {
+
+        if (value.length() != length) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,27 @@
+package com.test.payment_pbls.utils.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A Latin or Cyrillic (Ukrainian and Russian alphabets) name: a capital letter followed by at least one
+ * letter, apostrophe, hyphen or whitespace. {@code null} is valid, combine with {@code @NotBlank}.
+ */
+@Documented
+@Constraint(validatedBy = PersonNameValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PersonName {
+
+    String message() default "Name is not correct";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
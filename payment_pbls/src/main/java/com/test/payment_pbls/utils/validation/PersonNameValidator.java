@@ -0,0 +1,47 @@
+package com.test.payment_pbls.utils.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class PersonNameValidator implements ConstraintValidator<PersonName, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        return value == null || isPersonName(value);
+    }
+
+    public static boolean isPersonName(CharSequence value) {
+
+        if (value.length() < 2 || !isUpperCaseLetter(value.charAt(0))) {
+            return false;
+        }
+
+        for (int i = 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!isUpperCaseLetter(c) && !isLowerCaseLetter(c) && !isSeparator(c)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isUpperCaseLetter(char c) {
+        return (c >= 'A' && c <= 'Z')
+                || (c >= 'А' && c <= 'Я')
+                || c == 'Ё' || c == 'Є' || c == 'І' || c == 'Ї' || c == 'Ґ';
+    }
+
+    private static boolean isLowerCaseLetter(char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'а' && c <= 'я')
+                || c == 'ё' || c == 'є' || c == 'і' || c == 'ї' || c == 'ґ';
+    }
+
+    private static boolean isSeparator(char c) {
+        return switch (c) {
+            case '\'', 'ʼ', '’', '-', ' ', '\t', '\n', '\u000B', '\f', '\r' -> true;
+            default -> false;
+        };
+    }
+}
@@ -5,9 +5,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.test.payment_pbls.dtos.Instruction;
 import com.test.payment_pbls.dtos.InstructionCreateDTO;
 import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import com.test.payment_wire.http.HttpClientProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
@@ -24,7 +26,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 
-@RestClientTest(InstructionClient.class)
+@RestClientTest(RestInstructionClient.class)
 @TestPropertySource(properties = "application.server.pds=http://localhost:8180")
 class InstructionClientTest {
 
@@ -41,6 +43,7 @@ class InstructionClientTest {
     private final String serverUrl = "http://localhost:8180";
 
     @TestConfiguration
+    @EnableConfigurationProperties(HttpClientProperties.class)
     static class TestConfig {
         @Bean
         public RestClient restClient(RestClient.Builder builder) {
@@ -74,6 +77,37 @@ class InstructionClientTest {
         server.verify();
     }
 
+    @Test
+    void createInstructionsBatch_ShouldReturnCreatedInstructions_WhenServerReturnsSuccess() throws JsonProcessingException {
+
+        List<InstructionCreateDTO> createDtos = List.of(createDto(), createDto());
+        Instruction first = new Instruction();
+        first.setId(100L);
+        Instruction second = new Instruction();
+        second.setId(101L);
+
+        server.expect(requestTo(serverUrl + "/instructions/batch"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(content().json(objectMapper.writeValueAsString(createDtos)))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(List.of(first, second)), MediaType.APPLICATION_JSON));
+
+        List<Instruction> result = instructionClient.createInstructionsBatch(createDtos);
+
+        assertEquals(2, result.size());
+        assertEquals(101L, result.get(1).getId());
+        server.verify();
+    }
+
+    @Test
+    void createInstructionsBatch_ShouldThrowCreationFailureException_WhenServerFails() {
+
+        server.expect(requestTo(serverUrl + "/instructions/batch"))
+                .andRespond(withServerError());
+
+        assertThrows(CreationFailureException.class,
+                () -> instructionClient.createInstructionsBatch(List.of(createDto())));
+    }
+
     @Test
     void createInstruction_ShouldThrowCreationFailureException_WhenServerReturns4xx() {
 
@@ -175,7 +209,7 @@ class InstructionClientTest {
                 "John", "Doe", "Jr", "1234567890", "1234567812345678",
                 "UA12345", "123456", "12345678", "Company",
                 BigDecimal.TEN, 1, java.time.temporal.ChronoUnit.MONTHS,
-                null, null, com.test.payment_pbls.utils.enums.InstructionStatus.ACTIVE
+                null, null, com.test.payment_wire.InstructionStatus.ACTIVE
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.test.payment_pbls.clients;
+
+import com.test.payment_pbls.utils.enums.ReportGranularity;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
+
+@RestClientTest(ReportClient.class)
+@TestPropertySource(properties = "application.server.pds=http://localhost:8180")
+class ReportClientTest {
+
+    @Autowired
+    private ReportClient reportClient;
+
+    @Autowired
+    private MockRestServiceServer server;
+
+    private final String serverUrl = "http://localhost:8180";
+
+    private static final OffsetDateTime FROM = OffsetDateTime.parse("2025-03-01T00:00:00Z");
+    private static final OffsetDateTime TO = OffsetDateTime.parse("2025-04-01T00:00:00Z");
+    private static final String REPORT_URL =
+            "/reports/settlement/00000017?granularity=MONTH&from=2025-03-01T00:00Z&to=2025-04-01T00:00Z";
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public RestClient restClient(RestClient.Builder builder) {
+            return builder.build();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        server.reset();
+    }
+
+    @Test
+    void streamSettlementReport_ShouldCopyResponseBody_WhenServerReturnsSuccess() {
+
+        String report = "[{\"periodStart\":\"2025-03-01T00:00:00Z\",\"paymentCount\":2}]";
+
+        server.expect(requestTo(serverUrl + REPORT_URL))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(report, MediaType.APPLICATION_JSON));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        reportClient.streamSettlementReport("00000017", ReportGranularity.MONTH, FROM, TO, outputStream);
+
+        assertEquals(report, outputStream.toString(StandardCharsets.UTF_8));
+        server.verify();
+    }
+
+    @Test
+    void streamSettlementReport_ShouldThrowException_WhenServerReturnsError() {
+
+        server.expect(requestTo(serverUrl + REPORT_URL))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withBadRequest());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        CreationFailureException exception = assertThrows(CreationFailureException.class,
+                () -> reportClient.streamSettlementReport("00000017", ReportGranularity.MONTH, FROM, TO, outputStream));
+
+        assertTrue(exception.getMessage().contains("Failed to build settlement report"));
+        assertEquals(0, outputStream.size());
+        server.verify();
+    }
+}
@@ -3,13 +3,18 @@ package com.test.payment_pbls.clients;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionPaymentSummaryDTO;
 import com.test.payment_pbls.dtos.Transaction;
 import com.test.payment_pbls.dtos.TransactionDTO;
-import com.test.payment_pbls.utils.enums.TransactionStatus;
 import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import com.test.payment_pbls.utils.singleflight.SingleFlight;
+import com.test.payment_wire.TransactionStatus;
+import com.test.payment_wire.http.HttpClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
@@ -29,7 +34,7 @@ import static org.springframework.test.web.client.match.MockRestRequestMatchers.
 import static org.springframework.test.web.client.response.MockRestResponseCreators.*;
 
 
-@RestClientTest(TransactionClient.class)
+@RestClientTest(RestTransactionClient.class)
 @TestPropertySource(properties = "application.server.pds=http://localhost:8180")
 class TransactionClientTest {
 
@@ -45,11 +50,17 @@ class TransactionClientTest {
     private final String serverUrl = "http://localhost:8180";
 
     @TestConfiguration
+    @EnableConfigurationProperties(HttpClientProperties.class)
     static class TestConfig {
         @Bean
         public RestClient restClient(RestClient.Builder builder) {
             return builder.build();
         }
+
+        @Bean
+        public SingleFlight singleFlight() {
+            return new SingleFlight(new SimpleMeterRegistry());
+        }
     }
 
     @BeforeEach
@@ -139,6 +150,7 @@ class TransactionClientTest {
         assertFalse(result.isEmpty());
         assertEquals(1, result.size());
         assertEquals(expectedList.getFirst().id(), result.getFirst().id());
+        assertThrows(UnsupportedOperationException.class, result::clear);
 
         server.verify();
     }
@@ -159,10 +171,45 @@ class TransactionClientTest {
         server.verify();
     }
 
+    @Test
+    void getPaymentSummary_ShouldReturnSummary_WhenServerReturnsSuccess() throws JsonProcessingException {
+
+        Long instructionId = 10L;
+        InstructionPaymentSummaryDTO expected = new InstructionPaymentSummaryDTO(
+                instructionId, 2, new BigDecimal("200.00"), 0, BigDecimal.ZERO, null);
+
+        server.expect(requestTo(serverUrl + "/transactions/instruction/" + instructionId + "/summary"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(objectMapper.writeValueAsString(expected), MediaType.APPLICATION_JSON));
+
+        InstructionPaymentSummaryDTO result = transactionClient.getPaymentSummary(instructionId);
+
+        assertEquals(2, result.paymentCount());
+        assertEquals(0, new BigDecimal("200.00").compareTo(result.totalAmount()));
+
+        server.verify();
+    }
+
+    @Test
+    void getPaymentSummary_ShouldThrowException_WhenServerReturnsError() {
+
+        Long instructionId = 10L;
+
+        server.expect(requestTo(serverUrl + "/transactions/instruction/" + instructionId + "/summary"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withServerError());
+
+        CreationFailureException exception = assertThrows(CreationFailureException.class,
+                () -> transactionClient.getPaymentSummary(instructionId));
+
+        assertTrue(exception.getMessage().contains("Failed to search payment summary"));
+        server.verify();
+    }
+
     private Transaction createDummyTransaction() {
         Transaction transaction = new Transaction();
         transaction.setAmount(new BigDecimal("100.00"));
-        transaction.setIdempotencyId(UUID.randomUUID().toString());
+        transaction.setIdempotencyId(UUID.randomUUID());
         Instruction instruction = new Instruction();
         instruction.setId(1L);
         transaction.setInstruction(instruction);
@@ -173,7 +220,7 @@ class TransactionClientTest {
         return new TransactionDTO(
                 55L,
                 1L,
-                UUID.randomUUID().toString(),
+                UUID.randomUUID(),
                 new BigDecimal("100.00"),
                 OffsetDateTime.now(),
                 TransactionStatus.ACTIVE.getStatusCode()
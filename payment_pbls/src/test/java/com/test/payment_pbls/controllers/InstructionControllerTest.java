@@ -3,11 +3,13 @@ package com.test.payment_pbls.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.test.payment_pbls.dtos.InstructionBatchItemDTO;
+import com.test.payment_pbls.dtos.InstructionBatchResultDTO;
 import com.test.payment_pbls.dtos.InstructionValidDTO;
 import com.test.payment_pbls.dtos.Instruction;
 import com.test.payment_pbls.services.InstructionService;
-import com.test.payment_pbls.utils.enums.InstructionStatus;
 import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import com.test.payment_wire.InstructionStatus;
 import jakarta.validation.ValidationException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +29,7 @@ import java.util.List;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -71,6 +74,28 @@ public class InstructionControllerTest {
                 .andExpect(jsonPath("$.payerIin", is(VALID_IIN)));
     }
 
+    @Test
+    void shouldCreateInstructionsBatchAndReturnPerItemResults() throws Exception {
+
+        InstructionBatchResultDTO batchResult = new InstructionBatchResultDTO(1, 1, List.of(
+                new InstructionBatchItemDTO(0, GENERATED_ID, List.of()),
+                new InstructionBatchItemDTO(1, null, List.of("Invalid IIN checksum. Data integrity violation."))
+        ));
+
+        when(instructionService.createInstructionsBatch(anyList())).thenReturn(batchResult);
+
+        String dtoJson = objectMapper.writeValueAsString(List.of(createValidInstructionDTO(), createValidInstructionDTO()));
+
+        mockMvc.perform(post("/instructions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(dtoJson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.successCount", is(1)))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id", is(GENERATED_ID.intValue())))
+                .andExpect(jsonPath("$.items[1].errors[0]", is("Invalid IIN checksum. Data integrity violation.")));
+    }
+
     @Test
     void shouldReturn400BadRequestWhenBusinessValidationFails() throws Exception {
 
@@ -0,0 +1,77 @@
+package com.test.payment_pbls.controllers;
+
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.services.ReactiveInstructionService;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import com.test.payment_wire.InstructionStatus;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ReactiveInstructionController.class)
+public class ReactiveInstructionControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private ReactiveInstructionService instructionService;
+
+    private static final String VALID_IIN = "1111111118";
+    private static final String INVALID_IIN = "9999999999";
+
+    @Test
+    void shouldReturnInstructionsForPayerIin() {
+
+        Instruction instruction = new Instruction();
+        instruction.setId(500L);
+        instruction.setPayerIin(VALID_IIN);
+        instruction.setAmount(new BigDecimal("100.00"));
+        instruction.setInstructionStatus(InstructionStatus.ACTIVE);
+
+        when(instructionService.getInstructionsByPayerIin(VALID_IIN)).thenReturn(Mono.just(List.of(instruction)));
+
+        webTestClient.get().uri("/instructions/payer/{iin}", VALID_IIN)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].id").isEqualTo(500)
+                .jsonPath("$[0].payerIin").isEqualTo(VALID_IIN);
+    }
+
+    @Test
+    void shouldReturn400WithMessage_WhenChecksumIsInvalid() {
+
+        when(instructionService.getInstructionsByPayerIin(INVALID_IIN))
+                .thenReturn(Mono.error(new ValidationException("Invalid IIN checksum. Data integrity violation.")));
+
+        webTestClient.get().uri("/instructions/payer/{iin}", INVALID_IIN)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid IIN checksum. Data integrity violation.");
+    }
+
+    @Test
+    void shouldReturn400WithMessage_WhenPdsRejectsScheduledLookup() {
+
+        when(instructionService.getScheduledInstructions(0, 1000))
+                .thenReturn(Mono.error(new CreationFailureException("Failed to retrieve scheduled instructions: Service communication error.")));
+
+        webTestClient.get().uri("/instructions/scheduled")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Failed to retrieve scheduled instructions: Service communication error.");
+    }
+}
@@ -0,0 +1,70 @@
+package com.test.payment_pbls.controllers;
+
+import com.test.payment_pbls.clients.ReactiveReportClient;
+import com.test.payment_pbls.services.ReportService;
+import com.test.payment_pbls.utils.enums.ReportGranularity;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(ReactiveReportController.class)
+public class ReactiveReportControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private ReportService reportService;
+
+    @MockitoBean
+    private ReactiveReportClient reportClient;
+
+    private static final String EDRPOU = "00000017";
+
+    @Test
+    void shouldStreamSettlementReportAnd200() {
+
+        when(reportClient.streamSettlementReport(eq(EDRPOU), eq(ReportGranularity.MONTH), any(), any()))
+                .thenReturn(Flux.just(DefaultDataBufferFactory.sharedInstance
+                        .wrap("[{\"paymentCount\":3}]".getBytes(StandardCharsets.UTF_8))));
+
+        webTestClient.get().uri(uri -> uri.path("/reports/settlement/{edrpou}")
+                        .queryParam("granularity", "MONTH")
+                        .queryParam("from", "2025-03-01T00:00:00Z")
+                        .queryParam("to", "2025-04-01T00:00:00Z")
+                        .build(EDRPOU))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].paymentCount").isEqualTo(3);
+    }
+
+    @Test
+    void shouldReturn400WhenRequestIsInvalid() {
+
+        doThrow(new ValidationException("EDRPOU must be a 8-digit number."))
+                .when(reportService).validateSettlementRequest(eq("123"), any(), any());
+
+        webTestClient.get().uri(uri -> uri.path("/reports/settlement/{edrpou}")
+                        .queryParam("from", "2025-03-01T00:00:00Z")
+                        .queryParam("to", "2025-04-01T00:00:00Z")
+                        .build("123"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("EDRPOU must be a 8-digit number.");
+
+        verifyNoInteractions(reportClient);
+    }
+}
@@ -0,0 +1,72 @@
+package com.test.payment_pbls.controllers;
+
+import com.test.payment_pbls.services.ReportService;
+import com.test.payment_pbls.utils.enums.ReportGranularity;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@AutoConfigureMockMvc
+@WebMvcTest(ReportController.class)
+public class ReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReportService reportService;
+
+    private static final String EDRPOU = "00000017";
+
+    @Test
+    void shouldStreamSettlementReportAnd200() throws Exception {
+
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(4);
+            outputStream.write("[{\"paymentCount\":3}]".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(reportService).streamSettlementReport(eq(EDRPOU), eq(ReportGranularity.MONTH), any(), any(), any());
+
+        MvcResult result = mockMvc.perform(get("/reports/settlement/{edrpou}", EDRPOU)
+                        .param("granularity", "MONTH")
+                        .param("from", "2025-03-01T00:00:00Z")
+                        .param("to", "2025-04-01T00:00:00Z"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].paymentCount", is(3)));
+    }
+
+    @Test
+    void shouldReturn400WhenRequestIsInvalid() throws Exception {
+
+        doThrow(new ValidationException("EDRPOU must be a 8-digit number."))
+                .when(reportService).validateSettlementRequest(eq("123"), any(), any());
+
+        mockMvc.perform(get("/reports/settlement/{edrpou}", "123")
+                        .param("from", "2025-03-01T00:00:00Z")
+                        .param("to", "2025-04-01T00:00:00Z"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("EDRPOU must be a 8-digit number.")));
+
+        verify(reportService, never()).streamSettlementReport(any(), any(), any(), any(), any());
+    }
+}
@@ -4,11 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.test.payment_pbls.dtos.BatchResultDTO;
 import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionPaymentSummaryDTO;
 import com.test.payment_pbls.dtos.TransactionDTO;
 import com.test.payment_pbls.services.TransactionService;
-import com.test.payment_pbls.utils.enums.TransactionStatus;
 import com.test.payment_pbls.utils.exceptions.CreationFailureException;
 import com.test.payment_pbls.utils.exceptions.TransactionNotFoundException;
+import com.test.payment_wire.TransactionStatus;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -139,6 +140,19 @@ public class TransactionControllerTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    void shouldReturnPaymentSummaryAnd200() throws Exception {
+
+        when(transactionService.getPaymentSummary(eq(INSTRUCTION_ID)))
+                .thenReturn(new InstructionPaymentSummaryDTO(INSTRUCTION_ID, 4, new BigDecimal("400.00"), 0, BigDecimal.ZERO, null));
+
+        mockMvc.perform(get("/transactions/{instructionId}/summary", INSTRUCTION_ID))
+
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.instructionId", is(INSTRUCTION_ID.intValue())))
+                .andExpect(jsonPath("$.paymentCount", is(4)));
+    }
+
     @Test
     void createTransactionsBatch_ShouldReturnOkAndStats_WhenCalledWithList() throws Exception {
 
@@ -190,7 +204,7 @@ public class TransactionControllerTest {
       return new TransactionDTO(
               TRANSACTION_ID,
               INSTRUCTION_ID,
-              UUID.randomUUID().toString(),
+              UUID.randomUUID(),
               new BigDecimal("100.00"),
               OffsetDateTime.now(),
               TransactionStatus.ACTIVE.getStatusCode()
@@ -0,0 +1,66 @@
+package com.test.payment_pbls.controllers;
+
+import com.test.payment_pbls.dtos.ValidationResultDTO;
+import com.test.payment_pbls.services.ValidationService;
+import com.test.payment_pbls.utils.enums.ValidationResult;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@WebMvcTest(ValidationController.class)
+public class ValidationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ValidationService validationService;
+
+    @Test
+    void validateBatch_shouldReturnResultCodesForEveryEntry() throws Exception {
+
+        when(validationService.validateBatch(anyList())).thenReturn(List.of(
+                new ValidationResultDTO(true, ValidationResult.VALID, ValidationResult.VALID),
+                new ValidationResultDTO(false, ValidationResult.INVALID_CHECKSUM, ValidationResult.VALID)
+        ));
+
+        mockMvc.perform(post("/validate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"payerIin":"1111111118","recipientEdrpou":"00000017"},
+                                 {"payerIin":"1234567895","recipientEdrpou":"00000017"}]
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].valid", is(true)))
+                .andExpect(jsonPath("$[1].payerIin", is("INVALID_CHECKSUM")));
+    }
+
+    @Test
+    void validateBatch_shouldReturn400WhenBatchIsRejected() throws Exception {
+
+        when(validationService.validateBatch(anyList())).thenThrow(new ValidationException("Batch is too large."));
+
+        mockMvc.perform(post("/validate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Batch is too large.")));
+    }
+}
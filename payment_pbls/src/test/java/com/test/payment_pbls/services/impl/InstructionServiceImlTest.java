@@ -2,19 +2,25 @@ package com.test.payment_pbls.services.impl;
 
 import com.test.payment_pbls.clients.InstructionClient;
 import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionBatchResultDTO;
 import com.test.payment_pbls.dtos.InstructionCreateDTO;
 import com.test.payment_pbls.dtos.InstructionValidDTO;
 import com.test.payment_pbls.services.ValidationService;
+import com.test.payment_pbls.utils.cache.InstructionLookupCache;
+import com.test.payment_pbls.utils.enums.ValidationResult;
 import com.test.payment_pbls.utils.exceptions.CreationFailureException;
 import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
@@ -37,6 +43,15 @@ public class InstructionServiceImlTest {
     @Mock
     private Clock clock;
 
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private InstructionLookupCache instructionLookupCache;
+
+    @Spy
+    private SlotServiceImpl slotService = new SlotServiceImpl(null, Duration.ZERO);
+
     @InjectMocks
     private InstructionServiceImpl instructionService;
 
@@ -65,6 +80,7 @@ public class InstructionServiceImlTest {
         verify(validationService, times(1)).validatePayerEdrpouChecksum(dto.recipientEdrpou());
 
         verify(instructionClient, times(1)).createInstruction(any(InstructionCreateDTO.class));
+        verify(instructionLookupCache, times(1)).evict(dto.payerIin(), dto.recipientEdrpou());
 
         assertEquals(GENERATED_ID, result.getId(), "ID має бути згенерований PDS.");
     }
@@ -119,6 +135,63 @@ public class InstructionServiceImlTest {
 
     }
 
+    @Test
+    void createInstructionsBatch_shouldCreateValidItemsAndReportInvalidOnes() {
+
+        when(clock.instant()).thenReturn(FIXED_INSTANT);
+        when(clock.getZone()).thenReturn(TIME_ZONE);
+
+        InstructionValidDTO valid = createInstructionDTOWithIin(VALID_IIN);
+        InstructionValidDTO invalid = createInstructionDTOWithIin("1234567895");
+
+        when(validationService.checkPayerIin(VALID_IIN)).thenReturn(ValidationResult.VALID);
+        when(validationService.checkPayerIin("1234567895")).thenReturn(ValidationResult.INVALID_CHECKSUM);
+        when(validationService.checkRecipientEdrpou(any())).thenReturn(ValidationResult.VALID);
+        when(instructionClient.createInstructionsBatch(anyList())).thenReturn(List.of(createValidInstruction()));
+
+        InstructionBatchResultDTO result = instructionService.createInstructionsBatch(List.of(invalid, valid));
+
+        assertEquals(1, result.successCount());
+        assertEquals(1, result.failureCount());
+        assertNull(result.items().get(0).id());
+        assertTrue(result.items().get(0).errors().get(0).contains("Invalid IIN checksum"));
+        assertEquals(GENERATED_ID, result.items().get(1).id());
+        assertTrue(result.items().get(1).errors().isEmpty());
+
+        verify(instructionClient, times(1)).createInstructionsBatch(argThat(batch -> batch.size() == 1));
+        verify(instructionLookupCache, times(1)).evictAll(anyList());
+    }
+
+    @Test
+    void createInstructionsBatch_shouldReportValidItemsAsFailedWhenPdsRejectsBatch() {
+
+        when(clock.instant()).thenReturn(FIXED_INSTANT);
+        when(clock.getZone()).thenReturn(TIME_ZONE);
+
+        when(validationService.checkPayerIin(any())).thenReturn(ValidationResult.VALID);
+        when(validationService.checkRecipientEdrpou(any())).thenReturn(ValidationResult.VALID);
+        when(instructionClient.createInstructionsBatch(anyList()))
+                .thenThrow(new CreationFailureException("Client request failed."));
+
+        InstructionBatchResultDTO result = instructionService.createInstructionsBatch(
+                List.of(createValidInstructionDTO(), createValidInstructionDTO()));
+
+        assertEquals(0, result.successCount());
+        assertEquals(2, result.failureCount());
+        assertEquals(List.of("Client request failed."), result.items().get(1).errors());
+    }
+
+    @Test
+    void createInstructionsBatch_shouldRejectOversizedBatch() {
+
+        List<InstructionValidDTO> batch =
+                Collections.nCopies(InstructionServiceImpl.MAX_BATCH_SIZE + 1, createValidInstructionDTO());
+
+        assertThrows(ValidationException.class, () -> instructionService.createInstructionsBatch(batch));
+
+        verifyNoInteractions(instructionClient);
+    }
+
     @Test
     void getInstructionsByPayerIin_shouldPassValidationAndReturnInstructionsFromClient() {
 
@@ -275,9 +348,13 @@ public class InstructionServiceImlTest {
     }
 
     private InstructionValidDTO createValidInstructionDTO() {
+        return createInstructionDTOWithIin("1234567890");
+    }
+
+    private InstructionValidDTO createInstructionDTOWithIin(String iin) {
         return new InstructionValidDTO(
                 "Іван", "Іваненко", "Іванович",
-                "1234567890",
+                iin,
                 "1111222233334444",
                 "UA293123456789012345678901234",
                 "320649",
@@ -0,0 +1,94 @@
+package com.test.payment_pbls.services.impl;
+
+import com.test.payment_dao_standin.PdsStandIn;
+import com.test.payment_pbls.dtos.BatchResultDTO;
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionPaymentSummaryDTO;
+import com.test.payment_pbls.services.InstructionService;
+import com.test.payment_pbls.services.TransactionService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The blocking services and clients end to end against the in-memory PDS stand-in.
+ */
+@SpringBootTest(properties = "application.transactions.sub-batch-size=50")
+public class ProcessBatchStandInTest {
+
+    private static final PdsStandIn STAND_IN = startStandIn();
+
+    @Autowired
+    private InstructionService instructionService;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @DynamicPropertySource
+    static void pdsProperties(DynamicPropertyRegistry registry) {
+        registry.add("application.server.pds", STAND_IN::url);
+    }
+
+    @AfterAll
+    static void stopStandIn() {
+        STAND_IN.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        STAND_IN.clear();
+        STAND_IN.errorRate(0);
+    }
+
+    @Test
+    void processBatch_shouldPayEveryScheduledInstructionAcrossSubBatches() {
+
+        STAND_IN.seedInstructions(180, OffsetDateTime.now().minusMinutes(1));
+
+        List<Instruction> page = instructionService.getScheduledInstructions(0, 1000);
+        BatchResultDTO result = transactionService.processBatch(page);
+
+        assertEquals(180, result.successCount());
+        assertEquals(180, STAND_IN.transactionCount());
+        assertTrue(instructionService.getScheduledInstructions(0, 1000).isEmpty());
+
+        InstructionPaymentSummaryDTO summary = transactionService.getPaymentSummary(page.getFirst().getId());
+        assertEquals(1, summary.paymentCount());
+    }
+
+    @Test
+    void processBatch_shouldReportInstructionsOfFailedSubBatches() {
+
+        STAND_IN.seedInstructions(100, OffsetDateTime.now().minusMinutes(1));
+
+        List<Instruction> page = instructionService.getScheduledInstructions(0, 1000);
+
+        STAND_IN.errorRate(1.0, "/transactions/batch");
+
+        BatchResultDTO result = transactionService.processBatch(page);
+
+        assertEquals(0, result.successCount());
+        assertEquals(100, result.failedInstructionIds().size());
+        assertEquals(0, STAND_IN.transactionCount());
+    }
+
+    private static PdsStandIn startStandIn() {
+        try {
+            return new PdsStandIn().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
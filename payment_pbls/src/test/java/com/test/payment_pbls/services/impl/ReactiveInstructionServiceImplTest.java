@@ -0,0 +1,143 @@
+package com.test.payment_pbls.services.impl;
+
+import com.test.payment_pbls.clients.ReactiveInstructionClient;
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionValidDTO;
+import com.test.payment_pbls.services.ValidationService;
+import com.test.payment_pbls.utils.cache.InstructionLookupCache;
+import com.test.payment_pbls.utils.enums.ValidationResult;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveInstructionServiceImplTest {
+
+    @Mock
+    private ReactiveInstructionClient instructionClient;
+
+    @Mock
+    private ValidationService validationService;
+
+    @Mock
+    private Clock clock;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private InstructionLookupCache instructionLookupCache;
+
+    @Spy
+    private SlotServiceImpl slotService = new SlotServiceImpl(null, Duration.ZERO);
+
+    @InjectMocks
+    private ReactiveInstructionServiceImpl instructionService;
+
+    private static final String VALID_IIN = "1111111118";
+
+    @Test
+    void getInstructionsByPayerIin_shouldServeFromCacheWithoutCallingPds() {
+
+        List<Instruction> cached = List.of(createInstruction(1L));
+        when(instructionLookupCache.findByIin(VALID_IIN)).thenReturn(cached);
+
+        StepVerifier.create(instructionService.getInstructionsByPayerIin(VALID_IIN))
+                .expectNext(cached)
+                .verifyComplete();
+
+        verifyNoInteractions(instructionClient);
+    }
+
+    @Test
+    void getInstructionsByPayerIin_shouldLoadAndCacheOnMiss() {
+
+        List<Instruction> loaded = List.of(createInstruction(1L));
+        when(instructionClient.getInstructionsForIin(VALID_IIN)).thenReturn(Mono.just(loaded));
+
+        StepVerifier.create(instructionService.getInstructionsByPayerIin(VALID_IIN))
+                .expectNext(loaded)
+                .verifyComplete();
+
+        verify(validationService).validatePayerIinChecksum(VALID_IIN);
+        verify(instructionLookupCache).putByIin(VALID_IIN, loaded);
+    }
+
+    @Test
+    void getInstructionsByPayerIin_shouldFailWithoutCallingPds_WhenChecksumInvalid() {
+
+        doThrow(new ValidationException("Invalid IIN checksum. Data integrity violation."))
+                .when(validationService).validatePayerIinChecksum("9999999999");
+
+        StepVerifier.create(instructionService.getInstructionsByPayerIin("9999999999"))
+                .expectError(ValidationException.class)
+                .verify();
+
+        verifyNoInteractions(instructionClient);
+    }
+
+    @Test
+    void createInstructionsBatch_shouldReportPdsRejectionForValidItems() {
+
+        when(clock.instant()).thenReturn(Instant.parse("2025-10-06T10:00:00Z"));
+        when(clock.getZone()).thenReturn(ZoneOffset.ofHours(2));
+        when(validationService.checkPayerIin(any())).thenReturn(ValidationResult.VALID);
+        when(validationService.checkRecipientEdrpou(any())).thenReturn(ValidationResult.VALID);
+        when(instructionClient.createInstructionsBatch(anyList()))
+                .thenReturn(Mono.error(new CreationFailureException("Failed to save instructions batch in PDS: Service communication error.")));
+
+        StepVerifier.create(instructionService.createInstructionsBatch(List.of(createInstructionDTO())))
+                .assertNext(result -> {
+                    assertEquals(0, result.successCount());
+                    assertEquals(1, result.failureCount());
+                    assertEquals(List.of("Failed to save instructions batch in PDS: Service communication error."),
+                            result.items().getFirst().errors());
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(instructionLookupCache);
+    }
+
+    private InstructionValidDTO createInstructionDTO() {
+        return new InstructionValidDTO(
+                "Іван", "Іваненко", "Іванович",
+                VALID_IIN,
+                "1111222233334444",
+                "UA293123456789012345678901234",
+                "320649",
+                "40087654",
+                "ТОВ Отримувач",
+                new BigDecimal("100.00"),
+                1,
+                ChronoUnit.MONTHS
+        );
+    }
+
+    private Instruction createInstruction(Long id) {
+        Instruction instruction = new Instruction();
+        instruction.setId(id);
+        instruction.setPayerIin(VALID_IIN);
+        instruction.setRecipientEdrpou("40087654");
+        return instruction;
+    }
+}
@@ -0,0 +1,178 @@
+package com.test.payment_pbls.services.impl;
+
+import com.test.payment_pbls.clients.ReactiveTransactionClient;
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.Transaction;
+import com.test.payment_pbls.dtos.TransactionDTO;
+import com.test.payment_pbls.utils.cache.InstructionLookupCache;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import com.test.payment_wire.InstructionStatus;
+import com.test.payment_wire.TransactionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveTransactionServiceImplTest {
+
+    @Mock
+    private Clock clock;
+
+    @Mock
+    private ReactiveTransactionClient transactionClient;
+
+    @Mock
+    private InstructionLookupCache instructionLookupCache;
+
+    private ReactiveTransactionServiceImpl transactionService;
+
+    private static final Instant FIXED_INSTANT = Instant.parse("2025-11-26T10:00:00Z");
+    private static final ZoneOffset TIME_ZONE = ZoneOffset.ofHours(2);
+    private static final BigDecimal TEST_AMOUNT = new BigDecimal("100.00");
+
+    private static final int SUB_BATCH_SIZE = 2;
+    private static final int MAX_CONCURRENCY = 2;
+
+    @BeforeEach
+    void setUp() {
+        transactionService = new ReactiveTransactionServiceImpl(clock, transactionClient, instructionLookupCache,
+                SUB_BATCH_SIZE, MAX_CONCURRENCY);
+    }
+
+    @Test
+    void createTransaction_shouldAdvanceScheduleAndEvictLookups() {
+
+        when(clock.instant()).thenReturn(FIXED_INSTANT);
+        when(clock.getZone()).thenReturn(TIME_ZONE);
+
+        Instruction instruction = createInstruction(10L);
+        TransactionDTO saved = new TransactionDTO(50L, 10L, UUID.randomUUID(), TEST_AMOUNT,
+                OffsetDateTime.ofInstant(FIXED_INSTANT, TIME_ZONE), TransactionStatus.ACTIVE.getStatusCode());
+
+        when(transactionClient.createTransaction(any(Transaction.class))).thenReturn(Mono.just(saved));
+
+        StepVerifier.create(transactionService.createTransaction(instruction))
+                .expectNext(saved)
+                .verifyComplete();
+
+        assertEquals(OffsetDateTime.ofInstant(FIXED_INSTANT, TIME_ZONE).plusHours(1), instruction.getNextExecutionAt());
+        verify(transactionClient).createTransaction(argThat(tx ->
+                tx.getAmount().equals(TEST_AMOUNT) && TransactionStatus.ACTIVE.getStatusCode().equals(tx.getTransactionStatus())));
+        verify(instructionLookupCache).evict("1111111118", "40087654");
+    }
+
+    @Test
+    void createTransaction_shouldNotEvict_WhenClientFails() {
+
+        when(clock.instant()).thenReturn(FIXED_INSTANT);
+        when(clock.getZone()).thenReturn(TIME_ZONE);
+
+        when(transactionClient.createTransaction(any(Transaction.class)))
+                .thenReturn(Mono.error(new CreationFailureException("PDS Error")));
+
+        StepVerifier.create(transactionService.createTransaction(createInstruction(10L)))
+                .expectError(CreationFailureException.class)
+                .verify();
+
+        verifyNoInteractions(instructionLookupCache);
+    }
+
+    @Test
+    void processBatch_ShouldSplitIntoSubBatchesAndReportOnlyFailedSubBatch() {
+
+        when(clock.instant()).thenReturn(FIXED_INSTANT);
+        when(clock.getZone()).thenReturn(TIME_ZONE);
+
+        when(transactionClient.createTransactionsBatch(anyList())).thenAnswer(invocation -> {
+            List<Transaction> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(t -> t.getInstruction().getId() == 3L)) {
+                return Mono.error(new CreationFailureException("PDS Error"));
+            }
+            return Mono.just(List.of());
+        });
+
+        StepVerifier.create(transactionService.processBatch(createInstructions(5)))
+                .assertNext(result -> {
+                    assertEquals(3, result.successCount());
+                    assertEquals(2, result.failureCount());
+                    assertEquals(List.of(3L, 4L), result.failedInstructionIds());
+                })
+                .verifyComplete();
+
+        verify(transactionClient, times(3)).createTransactionsBatch(argThat(batch -> batch.size() <= SUB_BATCH_SIZE));
+    }
+
+    @Test
+    void processBatch_ShouldNotExceedConcurrencyCap() {
+
+        when(clock.instant()).thenReturn(FIXED_INSTANT);
+        when(clock.getZone()).thenReturn(TIME_ZONE);
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        when(transactionClient.createTransactionsBatch(anyList())).thenAnswer(invocation ->
+                Mono.delay(Duration.ofMillis(50))
+                        .doOnSubscribe(s -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                        .doOnTerminate(inFlight::decrementAndGet)
+                        .thenReturn(List.<TransactionDTO>of()));
+
+        StepVerifier.create(transactionService.processBatch(createInstructions(10)))
+                .assertNext(result -> assertEquals(10, result.successCount()))
+                .verifyComplete();
+
+        assertTrue(maxInFlight.get() <= MAX_CONCURRENCY);
+        verify(transactionClient, times(5)).createTransactionsBatch(anyList());
+    }
+
+    @Test
+    void processBatch_ShouldHandleEmptyList() {
+
+        StepVerifier.create(transactionService.processBatch(List.of()))
+                .assertNext(result -> {
+                    assertEquals(0, result.successCount());
+                    assertEquals(0, result.failureCount());
+                })
+                .verifyComplete();
+
+        verifyNoInteractions(transactionClient);
+    }
+
+    private List<Instruction> createInstructions(int count) {
+        List<Instruction> instructions = new ArrayList<>();
+
+        for (long id = 1; id <= count; id++) {
+            instructions.add(createInstruction(id));
+        }
+
+        return instructions;
+    }
+
+    private Instruction createInstruction(Long id) {
+        Instruction instruction = new Instruction();
+        instruction.setId(id);
+        instruction.setPayerIin("1111111118");
+        instruction.setRecipientEdrpou("40087654");
+        instruction.setInstructionStatus(InstructionStatus.ACTIVE);
+        instruction.setAmount(TEST_AMOUNT);
+        instruction.setPeriodUnit(ChronoUnit.HOURS);
+        instruction.setPeriodValue(1);
+        return instruction;
+    }
+}
@@ -0,0 +1,71 @@
+package com.test.payment_pbls.services.impl;
+
+import com.test.payment_pbls.clients.ReportClient;
+import com.test.payment_pbls.services.ValidationService;
+import com.test.payment_pbls.utils.enums.ReportGranularity;
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReportServiceImplTest {
+
+    @Mock
+    private ReportClient reportClient;
+
+    @Mock
+    private ValidationService validationService;
+
+    @InjectMocks
+    private ReportServiceImpl reportService;
+
+    private static final String EDRPOU = "00000017";
+    private static final OffsetDateTime FROM = OffsetDateTime.parse("2025-03-01T00:00:00Z");
+    private static final OffsetDateTime TO = OffsetDateTime.parse("2025-04-01T00:00:00Z");
+
+    @Test
+    void validateSettlementRequest_shouldCheckEdrpou() {
+
+        assertDoesNotThrow(() -> reportService.validateSettlementRequest(EDRPOU, FROM, TO));
+
+        verify(validationService, times(1)).validatePayerEdrpouChecksum(EDRPOU);
+    }
+
+    @Test
+    void validateSettlementRequest_shouldRejectEmptyWindow() {
+
+        assertThrows(ValidationException.class, () -> reportService.validateSettlementRequest(EDRPOU, TO, FROM));
+    }
+
+    @Test
+    void validateSettlementRequest_shouldPropagateInvalidEdrpou() {
+
+        doThrow(new ValidationException("Invalid EDRPOU checksum."))
+                .when(validationService).validatePayerEdrpouChecksum("12345678");
+
+        assertThrows(ValidationException.class, () -> reportService.validateSettlementRequest("12345678", FROM, TO));
+    }
+
+    @Test
+    void streamSettlementReport_shouldDelegateToClient() {
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        reportService.streamSettlementReport(EDRPOU, ReportGranularity.DAY, FROM, TO, outputStream);
+
+        verify(reportClient, times(1))
+                .streamSettlementReport(EDRPOU, ReportGranularity.DAY, FROM, TO, outputStream);
+        verifyNoMoreInteractions(reportClient);
+        verify(validationService, never()).validatePayerEdrpouChecksum(any());
+    }
+}
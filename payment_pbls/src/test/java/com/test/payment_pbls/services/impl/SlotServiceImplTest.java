@@ -0,0 +1,82 @@
+package com.test.payment_pbls.services.impl;
+
+import com.test.payment_pbls.clients.SlotClient;
+import com.test.payment_pbls.dtos.SlotAllocationDTO;
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SlotServiceImplTest {
+
+    @Mock
+    private SlotClient slotClient;
+
+    private static final OffsetDateTime DUE = OffsetDateTime.parse("2025-12-01T10:00:30+02:00");
+
+    @Test
+    void level_shouldNotCallPds_WhenLevellingIsDisabled() {
+
+        SlotServiceImpl slotService = new SlotServiceImpl(slotClient, Duration.ZERO);
+
+        assertEquals(List.of(DUE), slotService.level(List.of(DUE)));
+
+        verifyNoInteractions(slotClient);
+    }
+
+    @Test
+    void level_shouldReturnAllocatedTimesInOrder() {
+
+        SlotServiceImpl slotService = new SlotServiceImpl(slotClient, Duration.ofMinutes(15));
+        OffsetDateTime moved = DUE.plusMinutes(7).withSecond(0);
+
+        when(slotClient.allocate(new SlotAllocationDTO(List.of(DUE, DUE), 15))).thenReturn(List.of(DUE, moved));
+
+        assertEquals(List.of(DUE, moved), slotService.level(List.of(DUE, DUE)));
+    }
+
+    @Test
+    void level_shouldKeepDesiredTimes_WhenPdsFails() {
+
+        SlotServiceImpl slotService = new SlotServiceImpl(slotClient, Duration.ofMinutes(15));
+
+        when(slotClient.allocate(any(SlotAllocationDTO.class)))
+                .thenThrow(new CreationFailureException("Failed to allocate execution slots in PDS: Service communication error."));
+
+        assertEquals(List.of(DUE), slotService.level(List.of(DUE)));
+    }
+
+    @Test
+    void level_shouldKeepDesiredTimes_WhenPdsReturnsWrongCount() {
+
+        SlotServiceImpl slotService = new SlotServiceImpl(slotClient, Duration.ofMinutes(15));
+
+        when(slotClient.allocate(any(SlotAllocationDTO.class))).thenReturn(List.of(DUE));
+
+        assertEquals(List.of(DUE, DUE), slotService.level(List.of(DUE, DUE)));
+    }
+
+    @Test
+    void levelReactive_shouldReturnAllocatedTimes() {
+
+        SlotServiceImpl slotService = new SlotServiceImpl(slotClient, Duration.ofMinutes(15));
+        OffsetDateTime moved = DUE.plusMinutes(7).withSecond(0);
+
+        when(slotClient.allocate(any(SlotAllocationDTO.class))).thenReturn(List.of(moved));
+
+        StepVerifier.create(slotService.levelReactive(List.of(DUE)))
+                .expectNext(List.of(moved))
+                .verifyComplete();
+    }
+}
@@ -3,23 +3,28 @@ package com.test.payment_pbls.services.impl;
 import com.test.payment_pbls.clients.TransactionClient;
 import com.test.payment_pbls.dtos.BatchResultDTO;
 import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.dtos.InstructionPaymentSummaryDTO;
 import com.test.payment_pbls.dtos.Transaction;
 import com.test.payment_pbls.dtos.TransactionDTO;
-import com.test.payment_pbls.utils.enums.InstructionStatus;
-import com.test.payment_pbls.utils.enums.TransactionStatus;
+import com.test.payment_pbls.utils.cache.InstructionLookupCache;
 import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import com.test.payment_wire.InstructionStatus;
+import com.test.payment_wire.TransactionStatus;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -34,7 +39,9 @@ public class TransactionServiceImplTest {
     @Mock
     private TransactionClient transactionClient;
 
-    @InjectMocks
+    @Mock
+    private InstructionLookupCache instructionLookupCache;
+
     private TransactionServiceImpl transactionService;
 
 
@@ -45,6 +52,15 @@ public class TransactionServiceImplTest {
     private static final Long TRANSACTION_ID = 50L;
     private static final BigDecimal TEST_AMOUNT = new BigDecimal("100.00");
 
+    private static final int SUB_BATCH_SIZE = 2;
+    private static final int MAX_CONCURRENCY = 2;
+
+    @BeforeEach
+    void setUp() {
+        transactionService = new TransactionServiceImpl(clock, transactionClient, instructionLookupCache,
+                SUB_BATCH_SIZE, MAX_CONCURRENCY);
+    }
+
     @Test
     void createTransaction_shouldSetCriticalFieldsAndCallClient() {
 
@@ -56,6 +72,7 @@ public class TransactionServiceImplTest {
         TransactionDTO result = transactionService.createTransaction(createMockInstruction());
 
         verify(transactionClient, times(1)).createTransaction(any(Transaction.class));
+        verify(instructionLookupCache, times(1)).evict(any(), any());
 
         assertNotNull(result);
         assertNotNull(result.idempotencyId());
@@ -77,6 +94,46 @@ public class TransactionServiceImplTest {
         assertThrows(CreationFailureException.class, () -> transactionService.createTransaction(createMockInstruction()));
     }
 
+    @Test
+    void createTransaction_shouldDeriveKeyFromScheduledOccurrence() {
+
+        when(clock.instant()).thenReturn(FIXED_INSTANT);
+        when(clock.getZone()).thenReturn(TIME_ZONE);
+        when(transactionClient.createTransaction(any(Transaction.class))).thenReturn(createMockTransactionDTO());
+
+        Instruction instruction = createMockInstruction();
+        instruction.setNextExecutionAt(OffsetDateTime.parse("2025-11-26T11:00:00+02:00"));
+        Instruction retry = createMockInstruction();
+        retry.setNextExecutionAt(OffsetDateTime.parse("2025-11-26T09:00:00Z"));
+
+        transactionService.createTransaction(instruction);
+        transactionService.createTransaction(retry);
+
+        UUID expected = UUID.nameUUIDFromBytes((INSTRUCTION_ID + "/2025-11-26T09:00:00Z").getBytes(StandardCharsets.UTF_8));
+
+        verify(transactionClient, times(2)).createTransaction(argThat(transaction -> expected.equals(transaction.getIdempotencyId())));
+    }
+
+    @Test
+    void createTransaction_shouldAdvanceFromScheduledOccurrenceNotFromNow() {
+
+        when(clock.instant()).thenReturn(FIXED_INSTANT);
+        when(clock.getZone()).thenReturn(TIME_ZONE);
+        when(transactionClient.createTransaction(any(Transaction.class))).thenReturn(createMockTransactionDTO());
+
+        Instruction late = createMockInstruction();
+        late.setNextExecutionAt(OffsetDateTime.parse("2025-11-26T09:55:00Z"));
+        Instruction overdue = createMockInstruction();
+        overdue.setNextExecutionAt(OffsetDateTime.parse("2025-11-26T06:30:00Z"));
+
+        transactionService.createTransaction(late);
+        transactionService.createTransaction(overdue);
+
+        assertEquals(OffsetDateTime.parse("2025-11-26T10:55:00Z"), late.getNextExecutionAt());
+        assertEquals(OffsetDateTime.parse("2025-11-26T10:30:00Z"), overdue.getNextExecutionAt());
+        assertEquals(OffsetDateTime.ofInstant(FIXED_INSTANT, TIME_ZONE), late.getLastExecutionAt());
+    }
+
     @Test
     void revertTransaction_shouldCallClientDeleteMethod() {
 
@@ -147,18 +204,30 @@ public class TransactionServiceImplTest {
                 () -> transactionService.getInstructionHistory(transactionId));
     }
 
+    @Test
+    void getPaymentSummary_shouldReturnSummaryFromClient() {
+
+        InstructionPaymentSummaryDTO expected = new InstructionPaymentSummaryDTO(
+                INSTRUCTION_ID, 3, new BigDecimal("300.00"), 1, TEST_AMOUNT, null);
+
+        when(transactionClient.getPaymentSummary(INSTRUCTION_ID)).thenReturn(expected);
+
+        InstructionPaymentSummaryDTO result = transactionService.getPaymentSummary(INSTRUCTION_ID);
+
+        assertEquals(expected, result);
+        verify(transactionClient, times(1)).getPaymentSummary(INSTRUCTION_ID);
+    }
+
     @Test
     void processBatch_ShouldReturnAllSuccess_WhenClientSucceeds() {
 
         when(clock.instant()).thenReturn(Instant.parse("2025-11-27T10:00:00Z"));
         when(clock.getZone()).thenReturn(ZoneId.systemDefault());
 
-        Instruction instr1 = createMockInstruction();
-        Instruction instr2 = createMockInstruction();
-        List<Instruction> instructions = List.of(instr1, instr2);
+        List<Instruction> instructions = createInstructions(2);
 
-        when(transactionClient.createTransaction(any(Transaction.class)))
-                .thenReturn(new TransactionDTO(1L, 1L, "idempotency", BigDecimal.TEN, null, "A"));
+        when(transactionClient.createTransactionsBatch(anyList()))
+                .thenReturn(List.of(createMockTransactionDTO(), createMockTransactionDTO()));
 
         BatchResultDTO result = transactionService.processBatch(instructions);
 
@@ -166,35 +235,57 @@ public class TransactionServiceImplTest {
         assertEquals(0, result.failureCount());
         assertTrue(result.failedInstructionIds().isEmpty());
 
-        verify(transactionClient, times(2)).createTransaction(any(Transaction.class));
+        verify(transactionClient, times(1)).createTransactionsBatch(anyList());
+        verify(instructionLookupCache, times(1)).evictAll(anyList());
     }
 
     @Test
-    void processBatch_ShouldHandleFailures_WhenClientThrowsException() {
+    void processBatch_ShouldSplitIntoSubBatchesAndReportOnlyFailedSubBatch() {
 
         when(clock.instant()).thenReturn(Instant.parse("2025-11-27T10:00:00Z"));
         when(clock.getZone()).thenReturn(ZoneId.systemDefault());
 
-        Instruction instr1 = createMockInstruction();
-        instr1.setId(1L);
-        Instruction instr2 = createMockInstruction();
-        instr2.setId(20L);
+        List<Instruction> instructions = createInstructions(5);
 
-        List<Instruction> instructions = List.of(instr1, instr2);
-
-        when(transactionClient.createTransaction(any(Transaction.class)))
-                .thenReturn(new TransactionDTO(1L, 10L, "key", BigDecimal.TEN, null, "A"))
-                .thenThrow(new CreationFailureException("PDS Error"));
+        when(transactionClient.createTransactionsBatch(anyList())).thenAnswer(invocation -> {
+            List<Transaction> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(t -> t.getInstruction().getId() == 3L)) {
+                throw new CreationFailureException("PDS Error");
+            }
+            return List.of();
+        });
 
         BatchResultDTO result = transactionService.processBatch(instructions);
 
-        assertEquals(1, result.successCount());
-        assertEquals(1, result.failureCount());
+        assertEquals(3, result.successCount());
+        assertEquals(2, result.failureCount());
+        assertEquals(List.of(3L, 4L), result.failedInstructionIds());
+
+        verify(transactionClient, times(3)).createTransactionsBatch(argThat(batch -> batch.size() <= SUB_BATCH_SIZE));
+    }
 
-        assertEquals(1, result.failedInstructionIds().size());
-        assertEquals(20L, result.failedInstructionIds().getFirst());
+    @Test
+    void processBatch_ShouldNotExceedConcurrencyCap() {
 
-        verify(transactionClient, times(2)).createTransaction(any(Transaction.class));
+        when(clock.instant()).thenReturn(Instant.parse("2025-11-27T10:00:00Z"));
+        when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        when(transactionClient.createTransactionsBatch(anyList())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            inFlight.decrementAndGet();
+            return List.of();
+        });
+
+        BatchResultDTO result = transactionService.processBatch(createInstructions(10));
+
+        assertEquals(10, result.successCount());
+        assertTrue(maxInFlight.get() <= MAX_CONCURRENCY);
+
+        verify(transactionClient, times(5)).createTransactionsBatch(anyList());
     }
 
     @Test
@@ -203,16 +294,18 @@ public class TransactionServiceImplTest {
         when(clock.instant()).thenReturn(Instant.parse("2025-11-27T10:00:00Z"));
         when(clock.getZone()).thenReturn(ZoneId.systemDefault());
 
-        List<Instruction> instructions = List.of(createMockInstruction(), createMockInstruction());
+        List<Instruction> instructions = createInstructions(4);
 
-        when(transactionClient.createTransaction(any(Transaction.class)))
+        when(transactionClient.createTransactionsBatch(anyList()))
                 .thenThrow(new RuntimeException("Database down"));
 
         BatchResultDTO result = transactionService.processBatch(instructions);
 
         assertEquals(0, result.successCount());
-        assertEquals(2, result.failureCount());
-        assertEquals(2, result.failedInstructionIds().size());
+        assertEquals(4, result.failureCount());
+        assertEquals(List.of(1L, 2L, 3L, 4L), result.failedInstructionIds());
+
+        verifyNoInteractions(instructionLookupCache);
     }
 
     @Test
@@ -233,13 +326,25 @@ public class TransactionServiceImplTest {
         return new TransactionDTO(
                 TRANSACTION_ID,
                 INSTRUCTION_ID,
-                UUID.randomUUID().toString(),
+                UUID.randomUUID(),
                 TEST_AMOUNT,
                 OffsetDateTime.now(),
                 TransactionStatus.ACTIVE.getStatusCode()
         );
     }
 
+    private List<Instruction> createInstructions(int count) {
+        List<Instruction> instructions = new ArrayList<>();
+
+        for (long id = 1; id <= count; id++) {
+            Instruction instruction = createMockInstruction();
+            instruction.setId(id);
+            instructions.add(instruction);
+        }
+
+        return instructions;
+    }
+
     private Instruction createMockInstruction() {
         Instruction instruction = new Instruction();
         instruction.setId(INSTRUCTION_ID);
@@ -1,12 +1,21 @@
 package com.test.payment_pbls.services.impl;
 
+import com.test.payment_pbls.dtos.ValidationRequestDTO;
+import com.test.payment_pbls.dtos.ValidationResultDTO;
 import com.test.payment_pbls.services.ValidationService;
+import com.test.payment_pbls.utils.enums.ValidationResult;
 import jakarta.validation.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ValidationServiceImplTest {
 
@@ -95,4 +104,47 @@ public class ValidationServiceImplTest {
 
         assert(exception.getMessage().contains("Invalid EDRPOU checksum"));
     }
+
+    @Test
+    void checkPayerIin_shouldReturnResultCodeInsteadOfThrowing() {
+        assertEquals(ValidationResult.VALID, validationService.checkPayerIin("1111111118"));
+        assertEquals(ValidationResult.INVALID_CHECKSUM, validationService.checkPayerIin("1234567895"));
+        assertEquals(ValidationResult.INVALID_FORMAT, validationService.checkPayerIin("12345678a9"));
+        assertEquals(ValidationResult.INVALID_FORMAT, validationService.checkPayerIin("123456789"));
+        assertEquals(ValidationResult.MISSING, validationService.checkPayerIin(null));
+    }
+
+    @Test
+    void checkRecipientEdrpou_shouldReturnResultCodeInsteadOfThrowing() {
+        assertEquals(ValidationResult.VALID, validationService.checkRecipientEdrpou("00000017"));
+        assertEquals(ValidationResult.INVALID_CHECKSUM, validationService.checkRecipientEdrpou("00000018"));
+        assertEquals(ValidationResult.INVALID_FORMAT, validationService.checkRecipientEdrpou("0000001７"));
+        assertEquals(ValidationResult.MISSING, validationService.checkRecipientEdrpou(null));
+    }
+
+    @Test
+    void validateBatch_shouldReturnResultForEveryEntryInOrder() {
+
+        List<ValidationResultDTO> results = validationService.validateBatch(List.of(
+                new ValidationRequestDTO("1111111118", "00000017"),
+                new ValidationRequestDTO("1234567895", "00000017"),
+                new ValidationRequestDTO("1111111118", null)
+        ));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).valid());
+        assertFalse(results.get(1).valid());
+        assertEquals(ValidationResult.INVALID_CHECKSUM, results.get(1).payerIin());
+        assertEquals(ValidationResult.VALID, results.get(1).recipientEdrpou());
+        assertEquals(ValidationResult.MISSING, results.get(2).recipientEdrpou());
+    }
+
+    @Test
+    void validateBatch_shouldRejectOversizedBatch() {
+
+        List<ValidationRequestDTO> requests = Collections.nCopies(ValidationServiceImpl.MAX_BATCH_SIZE + 1,
+                new ValidationRequestDTO("1111111118", "00000017"));
+
+        assertThrows(ValidationException.class, () -> validationService.validateBatch(requests));
+    }
 }
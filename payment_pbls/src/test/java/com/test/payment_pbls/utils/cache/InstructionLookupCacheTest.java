@@ -0,0 +1,111 @@
+package com.test.payment_pbls.utils.cache;
+
+import com.test.payment_pbls.clients.InstructionClient;
+import com.test.payment_pbls.dtos.Instruction;
+import com.test.payment_pbls.services.InstructionService;
+import com.test.payment_wire.changefeed.ChangeEvent;
+import com.test.payment_wire.changefeed.ChangeType;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+public class InstructionLookupCacheTest {
+
+    private static final String VALID_IIN = "1111111118";
+    private static final String VALID_EDRPOU = "00000017";
+
+    @MockitoBean
+    private InstructionClient instructionClient;
+
+    @Autowired
+    private InstructionService instructionService;
+
+    @Autowired
+    private InstructionLookupCache instructionLookupCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void getInstructionsByPayerIin_shouldServeRepeatedLookupsFromCache() {
+
+        when(instructionClient.getInstructionsForIin(VALID_IIN)).thenReturn(List.of(createInstruction()));
+
+        instructionService.getInstructionsByPayerIin(VALID_IIN);
+        List<Instruction> result = instructionService.getInstructionsByPayerIin(VALID_IIN);
+
+        assertEquals(1, result.size());
+        verify(instructionClient, times(1)).getInstructionsForIin(VALID_IIN);
+
+        double hits = meterRegistry.get("cache.gets")
+                .tag("cache", InstructionLookupCache.BY_IIN)
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+
+        assertTrue(hits >= 1);
+    }
+
+    @Test
+    void evict_shouldReloadBothLookupsForWrittenInstruction() {
+
+        when(instructionClient.getInstructionsForIin(VALID_IIN)).thenReturn(List.of(createInstruction()));
+        when(instructionClient.getInstructionsForEdrpou(VALID_EDRPOU)).thenReturn(List.of(createInstruction()));
+
+        instructionService.getInstructionsByPayerIin(VALID_IIN);
+        instructionService.getInstructionsByRecipientEdrpou(VALID_EDRPOU);
+
+        instructionLookupCache.evictAll(List.of(createInstruction()));
+
+        instructionService.getInstructionsByPayerIin(VALID_IIN);
+        instructionService.getInstructionsByRecipientEdrpou(VALID_EDRPOU);
+
+        verify(instructionClient, times(2)).getInstructionsForIin(VALID_IIN);
+        verify(instructionClient, times(2)).getInstructionsForEdrpou(VALID_EDRPOU);
+    }
+
+    @Test
+    void onChange_shouldEvictLookupsOfInstructionChangedElsewhere() {
+
+        when(instructionClient.getInstructionsForIin(VALID_IIN)).thenReturn(List.of(createInstruction()));
+
+        instructionService.getInstructionsByPayerIin(VALID_IIN);
+
+        instructionLookupCache.onChange(new ChangeEvent(ChangeType.TRANSACTION_REVERSED, 5L, 1L, VALID_IIN, VALID_EDRPOU, null));
+        instructionService.getInstructionsByPayerIin(VALID_IIN);
+
+        instructionLookupCache.onChange(new ChangeEvent(ChangeType.INSTRUCTION_UPDATED, 1L, 1L, VALID_IIN, VALID_EDRPOU, null));
+        instructionService.getInstructionsByPayerIin(VALID_IIN);
+
+        verify(instructionClient, times(2)).getInstructionsForIin(VALID_IIN);
+    }
+
+    private Instruction createInstruction() {
+        Instruction instruction = new Instruction();
+        instruction.setId(1L);
+        instruction.setPayerIin(VALID_IIN);
+        instruction.setRecipientEdrpou(VALID_EDRPOU);
+        return instruction;
+    }
+}
@@ -0,0 +1,119 @@
+package com.test.payment_pbls.utils.compression;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class GzipRequestWebFilterTest {
+
+    private final GzipRequestWebFilter filter = new GzipRequestWebFilter(1_000);
+
+    @Test
+    void filter_shouldInflateGzipBodyAndDropEncodingHeaders() throws Exception {
+
+        String json = "[{\"payerIin\":\"1111111118\",\"amount\":100.50}]";
+        AtomicReference<ServerHttpRequest> filtered = new AtomicReference<>();
+
+        StepVerifier.create(filter.filter(exchange(gzip(json)), capturing(filtered))).verifyComplete();
+
+        String body = DataBufferUtils.join(filtered.get().getBody())
+                .map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+                .block();
+
+        assertEquals(json, body);
+        assertNull(filtered.get().getHeaders().getFirst("Content-Encoding"));
+        assertEquals(json.length(), filtered.get().getHeaders().getContentLength());
+    }
+
+    @Test
+    void filter_shouldRejectBodyInflatingBeyondLimitWith413() throws Exception {
+
+        AtomicReference<ServerHttpRequest> filtered = new AtomicReference<>();
+
+        StepVerifier.create(filter.filter(exchange(gzip("1".repeat(1_001))), capturing(filtered)))
+                .verifyErrorMatches(e -> status(e) == HttpStatus.PAYLOAD_TOO_LARGE);
+        assertNull(filtered.get());
+    }
+
+    @Test
+    void filter_shouldRejectCorruptBodyWith400() {
+
+        AtomicReference<ServerHttpRequest> filtered = new AtomicReference<>();
+        byte[] corrupt = "not gzip at all".getBytes(StandardCharsets.UTF_8);
+
+        StepVerifier.create(filter.filter(exchange(corrupt), capturing(filtered)))
+                .verifyErrorMatches(e -> status(e) == HttpStatus.BAD_REQUEST);
+        assertNull(filtered.get());
+    }
+
+    @Test
+    void filter_shouldRejectTruncatedBodyWith400() throws Exception {
+
+        AtomicReference<ServerHttpRequest> filtered = new AtomicReference<>();
+        byte[] gzipped = gzip("1111111118".repeat(50));
+
+        StepVerifier.create(filter.filter(exchange(Arrays.copyOf(gzipped, gzipped.length / 2)), capturing(filtered)))
+                .verifyErrorMatches(e -> status(e) == HttpStatus.BAD_REQUEST);
+        assertNull(filtered.get());
+    }
+
+    @Test
+    void filter_shouldPassPlainBodyThrough() {
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.post("/instructions/batch").body("[]"));
+        AtomicReference<ServerHttpRequest> filtered = new AtomicReference<>();
+
+        StepVerifier.create(filter.filter(exchange, capturing(filtered))).verifyComplete();
+
+        assertSame(exchange.getRequest(), filtered.get());
+    }
+
+    private static MockServerWebExchange exchange(byte[] content) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/instructions/batch")
+                .header("Content-Encoding", "gzip")
+                .header("Content-Type", "application/json")
+                .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(content))));
+    }
+
+    private static WebFilterChain capturing(AtomicReference<ServerHttpRequest> filtered) {
+        return exchange -> {
+            filtered.set(exchange.getRequest());
+            return Mono.empty();
+        };
+    }
+
+    private static HttpStatus status(Throwable e) {
+        return e instanceof ResponseStatusException statusException
+                ? HttpStatus.valueOf(statusException.getStatusCode().value())
+                : null;
+    }
+
+    private static byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+}
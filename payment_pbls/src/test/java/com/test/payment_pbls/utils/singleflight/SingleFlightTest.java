@@ -0,0 +1,168 @@
+package com.test.payment_pbls.utils.singleflight;
+
+import com.test.payment_pbls.utils.exceptions.CreationFailureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry);
+    }
+
+    @Test
+    void execute_shouldShareOneCallBetweenConcurrentCallersWithSameKey() throws Exception {
+
+        int callers = 8;
+        AtomicInteger downstreamCalls = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> response = List.of("transaction");
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            Future<List<String>> leader = executor.submit(() -> singleFlight.execute("transactions-by-instruction", List.of(1L), () -> {
+                downstreamCalls.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return response;
+            }));
+
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+            List<Future<List<String>>> followers = new ArrayList<>();
+            for (int i = 1; i < callers; i++) {
+                followers.add(executor.submit(() -> singleFlight.<List<String>>execute("transactions-by-instruction", List.of(1L), () -> {
+                    downstreamCalls.incrementAndGet();
+                    return List.of();
+                })));
+            }
+
+            while (coalesced("transactions-by-instruction") < callers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertSame(response, leader.get(5, TimeUnit.SECONDS));
+            for (Future<List<String>> follower : followers) {
+                assertSame(response, follower.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, downstreamCalls.get());
+        assertEquals(1.0, meterRegistry.get("pbls.singleflight.calls")
+                .tags("operation", "transactions-by-instruction", "outcome", "leader").counter().count());
+    }
+
+    @Test
+    void execute_shouldPropagateLeaderFailureToFollowers() throws Exception {
+
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CreationFailureException failure = new CreationFailureException("Failed to search instruction in PDS: Service communication error.");
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            Future<Object> leader = executor.submit(() -> singleFlight.execute("payment-summary", List.of(1L), () -> {
+                leaderStarted.countDown();
+                await(release);
+                throw failure;
+            }));
+
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+            Future<Object> follower = executor.submit(() -> singleFlight.execute("payment-summary", List.of(1L), () -> "unused"));
+
+            while (coalesced("payment-summary") < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertSame(failure, assertThrows(ExecutionException.class, leader::get).getCause());
+            assertSame(failure, assertThrows(ExecutionException.class, follower::get).getCause());
+        }
+    }
+
+    @Test
+    void execute_shouldNotShareCallsForDifferentArgumentsOrAfterCompletion() {
+
+        AtomicInteger downstreamCalls = new AtomicInteger();
+
+        singleFlight.execute("transactions-by-instruction", List.of(1L), downstreamCalls::incrementAndGet);
+        singleFlight.execute("transactions-by-instruction", List.of(2L), downstreamCalls::incrementAndGet);
+        singleFlight.execute("transactions-by-instruction", List.of(1L), downstreamCalls::incrementAndGet);
+
+        assertEquals(3, downstreamCalls.get());
+        assertEquals(0.0, coalesced("transactions-by-instruction"));
+    }
+
+    @Test
+    void executeReactive_shouldShareOneCallUntilItCompletes() {
+
+        AtomicInteger downstreamCalls = new AtomicInteger();
+        Sinks.One<List<String>> pds = Sinks.one();
+        List<String> response = List.of("transaction");
+
+        Mono<List<String>> leader = singleFlight.executeReactive("transactions-by-instruction", List.of(1L), () -> {
+            downstreamCalls.incrementAndGet();
+            return pds.asMono();
+        });
+        Mono<List<String>> follower = singleFlight.executeReactive("transactions-by-instruction", List.of(1L), () -> {
+            downstreamCalls.incrementAndGet();
+            return Mono.just(List.of());
+        });
+
+        StepVerifier.create(leader.zipWith(follower))
+                .then(() -> pds.tryEmitValue(response))
+                .assertNext(results -> {
+                    assertSame(response, results.getT1());
+                    assertSame(response, results.getT2());
+                })
+                .verifyComplete();
+
+        assertEquals(1, downstreamCalls.get());
+        assertEquals(1.0, coalesced("transactions-by-instruction"));
+
+        StepVerifier.create(follower).expectNext(List.of()).verifyComplete();
+        assertEquals(2, downstreamCalls.get());
+    }
+
+    private double coalesced(String operation) {
+        var counter = meterRegistry.find("pbls.singleflight.calls")
+                .tags("operation", operation, "outcome", "coalesced")
+                .counter();
+        return counter == null ? 0.0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.test.payment_pbls.utils.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PersonNameValidatorTest {
+
+    private static final Pattern LEGACY_PATTERN =
+            Pattern.compile("^[A-ZА-ЩЬЮЯЄІЇҐЁЭЫЪ][a-zа-щьюяєіїґA-ZА-ЩЬЮЯЄІЇҐёэыъA-ZА-ЯЁЭЫЪ'ʼ’\\s-]+$");
+
+    private final PersonNameValidator validator = new PersonNameValidator();
+
+    @Test
+    void isValid_shouldAcceptLatinAndCyrillicNames() {
+        assertTrue(validator.isValid("Taras", null));
+        assertTrue(validator.isValid("Ґанна-Марія", null));
+        assertTrue(validator.isValid("Д’Артаньян", null));
+        assertTrue(validator.isValid("Олег Ївченко", null));
+        assertTrue(validator.isValid(null, null));
+    }
+
+    @Test
+    void isValid_shouldRejectMalformedNames() {
+        assertFalse(validator.isValid("taras", null));
+        assertFalse(validator.isValid("T", null));
+        assertFalse(validator.isValid("Taras1", null));
+        assertFalse(validator.isValid("-Taras", null));
+        assertFalse(validator.isValid("", null));
+    }
+
+    @Test
+    void isValid_shouldMatchLegacyPatternForEveryCharacter() {
+
+        Stream.concat(
+                Stream.of("Ab", "Аб", "A b", "A\tb", "A’b"),
+                IntStream.rangeClosed(0, 0x04FF)
+                        .mapToObj(c -> "Ab" + (char) c)
+        ).forEach(name -> assertEquals(LEGACY_PATTERN.matcher(name).matches(), validator.isValid(name, null), name));
+
+        IntStream.rangeClosed(0, 0x04FF)
+                .mapToObj(c -> (char) c + "b")
+                .forEach(name -> assertEquals(LEGACY_PATTERN.matcher(name).matches(), validator.isValid(name, null), name));
+    }
+}
@@ -0,0 +1,88 @@
+package com.test.payment_wire.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.test.payment_wire.InstructionDTO;
+import com.test.payment_wire.InstructionStatus;
+import com.test.payment_wire.WireJackson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A page of {@code /instructions/scheduled} written and read the way the services did it before the wire module
+ * ({@code reflective}: plain mapper, a new type reference per call) and with {@link WireJackson} ({@code wire}:
+ * Blackbird accessors, pre-registered types, reader and writer built once).
+ */
+@State(Scope.Benchmark)
+public class WireSerializationBenchmark {
+
+    @Param({"reflective", "wire"})
+    public String mapper;
+
+    @Param({"250", "1000"})
+    public int size;
+
+    private boolean wire;
+    private ObjectMapper objectMapper;
+    private ObjectReader reader;
+    private ObjectWriter writer;
+    private List<InstructionDTO> instructions;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        wire = "wire".equals(mapper);
+
+        objectMapper = wire
+                ? WireJackson.configure(new ObjectMapper())
+                : new ObjectMapper()
+                        .registerModule(new JavaTimeModule())
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        reader = objectMapper.readerFor(WireJackson.INSTRUCTIONS);
+        writer = objectMapper.writerFor(WireJackson.INSTRUCTIONS);
+
+        instructions = new ArrayList<>(size);
+        OffsetDateTime now = OffsetDateTime.of(2025, 11, 3, 9, 0, 0, 0, ZoneOffset.ofHours(2));
+
+        for (int i = 0; i < size; i++) {
+            instructions.add(new InstructionDTO(1_000_000L + i, "Тарас", "Іванко", "Тарасович", "1111111118",
+                    "1234567812345678", "UA123456789012345678901234567", "305299", "00000017",
+                    "ТОВ Регулярні платежі", new BigDecimal("1250.75").add(BigDecimal.valueOf(i, 2)), 1,
+                    ChronoUnit.MONTHS, now.minusMonths(1), now, InstructionStatus.ACTIVE));
+        }
+
+        payload = objectMapper.writeValueAsBytes(instructions);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return wire
+                ? writer.writeValueAsBytes(instructions)
+                : objectMapper.writerFor(new TypeReference<List<InstructionDTO>>() {}).writeValueAsBytes(instructions);
+    }
+
+    @Benchmark
+    public List<InstructionDTO> read() throws IOException {
+        return wire
+                ? reader.readValue(payload)
+                : objectMapper.readValue(payload, new TypeReference<List<InstructionDTO>>() {});
+    }
+}
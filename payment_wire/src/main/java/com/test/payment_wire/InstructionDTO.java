@@ -1,11 +1,13 @@
-package com.example.regular_payment.dtos;
-
-import com.example.regular_payment.utils.enums.InstructionStatus;
+package com.test.payment_wire;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 
+/**
+ * An instruction as it travels between the services: PDS returns it from its lookups and {@code /instructions/scheduled},
+ * PBLS passes scheduled pages to the jar, and the jar posts them back to {@code /transactions/batch}.
+ */
 public record InstructionDTO(
         Long id,
         String payerFirstName,
@@ -1,4 +1,4 @@
-package com.test.payment_jar.utils.enums;
+package com.test.payment_wire;
 
 public enum InstructionStatus {
     ACTIVE,
@@ -1,8 +1,5 @@
-package com.test.payment_pbls.utils.enums;
+package com.test.payment_wire;
 
-import lombok.Getter;
-
-@Getter
 public enum TransactionStatus {
 
     ACTIVE("A"),
@@ -15,4 +12,7 @@ public enum TransactionStatus {
         this.statusCode = statusCode;
     }
 
+    public String getStatusCode() {
+        return statusCode;
+    }
 }
@@ -0,0 +1,65 @@
+package com.test.payment_wire;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import java.util.List;
+
+/**
+ * Jackson tuning for the wire model. {@link BlackbirdModule} replaces reflective getter, setter and constructor
+ * calls with generated lambdas, and {@link #preRegister} builds the serializers and deserializers of the wire types
+ * up front, so neither the first request nor any later one introspects them. The services add both to Boot's
+ * {@code ObjectMapper} (their {@code JacksonConfig}); {@link #configure} does the same for a plain mapper.
+ */
+public final class WireJackson {
+
+    public static final JavaType INSTRUCTION = TypeFactory.defaultInstance().constructType(InstructionDTO.class);
+    public static final JavaType INSTRUCTIONS = TypeFactory.defaultInstance().constructCollectionType(List.class, InstructionDTO.class);
+
+    private static final List<JavaType> WIRE_TYPES = List.of(INSTRUCTION, INSTRUCTIONS);
+
+    private WireJackson() {
+    }
+
+    public static BlackbirdModule blackbird() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Resolves the root serializer and deserializer of every wire type, plus any {@code extraTypes}, into the
+     * mapper's caches.
+     */
+    public static void preRegister(ObjectMapper mapper, JavaType... extraTypes) {
+
+        for (JavaType type : WIRE_TYPES) {
+            mapper.writerFor(type);
+            mapper.readerFor(type);
+        }
+
+        for (JavaType type : extraTypes) {
+            mapper.writerFor(type);
+            mapper.readerFor(type);
+        }
+    }
+
+    /**
+     * Boot's Jackson defaults (ISO dates, unknown properties ignored) with the wire tuning, for mappers built
+     * outside Spring.
+     */
+    public static ObjectMapper configure(ObjectMapper mapper) {
+
+        mapper.registerModule(new JavaTimeModule())
+                .registerModule(blackbird())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        preRegister(mapper);
+
+        return mapper;
+    }
+}
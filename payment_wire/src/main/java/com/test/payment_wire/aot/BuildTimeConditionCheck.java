@@ -0,0 +1,52 @@
+package com.test.payment_wire.aot;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+/**
+ * Stops an AOT-processed build from starting when a property asks for a bean the build left out. AOT evaluates
+ * {@code @ConditionalOnProperty} once, in {@code processAot}, so setting such a property at runtime would otherwise
+ * be ignored without a trace. Without AOT the conditions are evaluated at startup and the check does nothing.
+ * With {@code havingValue} null the property counts as set unless it is {@code false}, as for the condition.
+ */
+public class BuildTimeConditionCheck implements BeanFactoryPostProcessor, EnvironmentAware {
+
+    private final String property;
+    private final String havingValue;
+    private final String beanName;
+
+    private Environment environment;
+
+    public BuildTimeConditionCheck(String property, String havingValue, String beanName) {
+        this.property = property;
+        this.havingValue = havingValue;
+        this.beanName = beanName;
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+
+        if (!AotDetector.useGeneratedArtifacts() || !isSet(environment.getProperty(property))) {
+            return;
+        }
+
+        if (!beanFactory.containsBeanDefinition(beanName)) {
+            throw new IllegalStateException(property + " is set, but this build was AOT-processed without it and has no '"
+                    + beanName + "' bean. Build it with the property set, or run it without spring.aot.enabled.");
+        }
+    }
+
+    private boolean isSet(String value) {
+        return havingValue == null
+                ? value != null && !"false".equalsIgnoreCase(value)
+                : havingValue.equalsIgnoreCase(value);
+    }
+}
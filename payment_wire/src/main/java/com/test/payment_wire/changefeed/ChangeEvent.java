@@ -0,0 +1,20 @@
+package com.test.payment_wire.changefeed;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A change published by PDS with {@code pg_notify}. It only carries what consumers key their caches and wake-ups on;
+ * anything else is read back from PDS. For instruction events {@code id} and {@code instructionId} are the same.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChangeEvent(
+        ChangeType type,
+        Long id,
+        Long instructionId,
+        String payerIin,
+        String recipientEdrpou,
+        OffsetDateTime nextExecutionAt
+) {
+}
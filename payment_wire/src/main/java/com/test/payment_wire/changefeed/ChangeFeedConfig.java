@@ -0,0 +1,21 @@
+package com.test.payment_wire.changefeed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ChangeFeedProperties.class)
+public class ChangeFeedConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "application.change-feed.enabled", havingValue = "true")
+    public ChangeFeedListener changeFeedListener(ChangeFeedProperties changeFeedProperties,
+                                                 ObjectMapper objectMapper,
+                                                 ObjectProvider<ChangeFeedSubscriber> subscribers) {
+        return new ChangeFeedListener(changeFeedProperties, objectMapper, subscribers.orderedStream().toList());
+    }
+}
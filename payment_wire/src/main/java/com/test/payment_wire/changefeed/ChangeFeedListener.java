@@ -0,0 +1,152 @@
+package com.test.payment_wire.changefeed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.context.SmartLifecycle;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+/**
+ * Holds a dedicated connection per PDS database, {@code LISTEN}s on the change feed channel and hands every
+ * notification to the {@link ChangeFeedSubscriber}s. Each source is served by its own virtual thread and
+ * reconnects on failure; subscribers get {@link ChangeFeedSubscriber#onResync()} after every (re)connect.
+ * The connections live outside any pool because a pooled connection would lose its {@code LISTEN} on return.
+ */
+@Slf4j
+public class ChangeFeedListener implements SmartLifecycle {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final ChangeFeedProperties properties;
+    private final ObjectMapper objectMapper;
+    private final List<ChangeFeedSubscriber> subscribers;
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+
+    public ChangeFeedListener(ChangeFeedProperties properties,
+                              ObjectMapper objectMapper,
+                              List<ChangeFeedSubscriber> subscribers) {
+
+        if (!CHANNEL_NAME.matcher(properties.getChannel()).matches()) {
+            throw new IllegalArgumentException("Invalid change feed channel: " + properties.getChannel());
+        }
+
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.subscribers = subscribers;
+    }
+
+    /**
+     * Only starts when the feed is enabled at runtime. The bean is normally defined only then, but an AOT-processed
+     * build fixes bean definitions at build time and has it either way.
+     */
+    @Override
+    public boolean isAutoStartup() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public void start() {
+
+        running = true;
+
+        List<ChangeFeedProperties.Source> sources = properties.getSources();
+
+        for (int i = 0; i < sources.size(); i++) {
+            ChangeFeedProperties.Source source = sources.get(i);
+            threads.add(Thread.ofVirtual().name("change-feed-" + i).start(() -> listen(source)));
+        }
+    }
+
+    @Override
+    public void stop() {
+
+        running = false;
+
+        threads.forEach(Thread::interrupt);
+        threads.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen(ChangeFeedProperties.Source source) {
+
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(source.getUrl(), source.getUsername(), source.getPassword())) {
+
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + properties.getChannel());
+                }
+
+                log.info("Listening for changes on {} at {}", properties.getChannel(), source.getUrl());
+
+                subscribers.forEach(ChangeFeedListener::resync);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) properties.getPollTimeout().toMillis());
+
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+
+                log.warn("Change feed connection to {} failed, reconnecting in {}", source.getUrl(), properties.getReconnectDelay(), e);
+
+                try {
+                    Thread.sleep(properties.getReconnectDelay());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    void dispatch(String payload) {
+
+        ChangeEvent event;
+
+        try {
+            event = objectMapper.readValue(payload, ChangeEvent.class);
+        } catch (Exception e) {
+            log.warn("Skipping unreadable change event: {}", payload, e);
+            return;
+        }
+
+        for (ChangeFeedSubscriber subscriber : subscribers) {
+            try {
+                subscriber.onChange(event);
+            } catch (RuntimeException e) {
+                log.error("Change feed subscriber {} failed on {} {}", subscriber.getClass().getSimpleName(), event.type(), event.id(), e);
+            }
+        }
+    }
+
+    private static void resync(ChangeFeedSubscriber subscriber) {
+        try {
+            subscriber.onResync();
+        } catch (RuntimeException e) {
+            log.error("Change feed subscriber {} failed to resync", subscriber.getClass().getSimpleName(), e);
+        }
+    }
+}
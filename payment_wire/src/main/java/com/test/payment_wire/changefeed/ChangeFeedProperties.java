@@ -0,0 +1,34 @@
+package com.test.payment_wire.changefeed;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.change-feed")
+public class ChangeFeedProperties {
+
+    private boolean enabled = false;
+    private String channel = "payment_changes";
+    private Duration pollTimeout = Duration.ofSeconds(10);
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+
+    /**
+     * One entry per PDS database: a sharded PDS notifies on the shard that took the write.
+     */
+    private List<Source> sources = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Source {
+
+        private String url;
+        private String username;
+        private String password;
+    }
+}
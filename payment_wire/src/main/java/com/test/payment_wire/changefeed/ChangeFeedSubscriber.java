@@ -0,0 +1,17 @@
+package com.test.payment_wire.changefeed;
+
+/**
+ * Receives change events from every {@link ChangeFeedListener} source. Callbacks run on the listener's thread,
+ * one event at a time, so they should hand off anything slow.
+ */
+public interface ChangeFeedSubscriber {
+
+    void onChange(ChangeEvent event);
+
+    /**
+     * Called whenever a source (re)connects. Notifications sent while the listener was disconnected are lost,
+     * so anything derived from earlier events should be treated as stale.
+     */
+    default void onResync() {
+    }
+}
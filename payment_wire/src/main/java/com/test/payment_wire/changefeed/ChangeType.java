@@ -0,0 +1,9 @@
+package com.test.payment_wire.changefeed;
+
+public enum ChangeType {
+    INSTRUCTION_CREATED,
+    INSTRUCTION_UPDATED,
+    INSTRUCTION_CANCELLED,
+    TRANSACTION_CREATED,
+    TRANSACTION_REVERSED
+}
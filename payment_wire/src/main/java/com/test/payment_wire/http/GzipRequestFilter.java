@@ -0,0 +1,170 @@
+package com.test.payment_wire.http;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Inflates request bodies sent with {@code Content-Encoding: gzip}. Tomcat only compresses responses, so without
+ * this filter a compressed batch would reach the message converters as raw gzip bytes. The body is inflated up
+ * front, up to {@code maxInflatedSize} bytes: a larger body is answered with 413 and a corrupt or truncated one
+ * with 400 before any controller runs. As the inflated body is held in memory, it can also be read asynchronously.
+ */
+public class GzipRequestFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+
+    private final long maxInflatedSize;
+    private final int readLimit;
+
+    public GzipRequestFilter(long maxInflatedSize) {
+        this.maxInflatedSize = maxInflatedSize;
+        this.readLimit = Math.toIntExact(maxInflatedSize + 1);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !GZIP.equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        byte[] body;
+
+        try (GZIPInputStream gzip = new GZIPInputStream(request.getInputStream())) {
+            body = gzip.readNBytes(readLimit);
+        } catch (ZipException | EOFException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Malformed gzip request body");
+            return;
+        }
+
+        if (body.length > maxInflatedSize) {
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                    "Inflated request body exceeds " + maxInflatedSize + " bytes");
+            return;
+        }
+
+        filterChain.doFilter(new GzipRequestWrapper(request, body), response);
+    }
+
+    private static class GzipRequestWrapper extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+        private ServletInputStream inputStream;
+
+        GzipRequestWrapper(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            if (inputStream == null) {
+                inputStream = new InflatedServletInputStream(body);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() != null ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return isRemoved(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return isRemoved(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(Collections.list(super.getHeaderNames()).stream()
+                    .filter(name -> !isRemoved(name))
+                    .toList());
+        }
+
+        private boolean isRemoved(String name) {
+            return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+        }
+    }
+
+    private static class InflatedServletInputStream extends ServletInputStream {
+
+        private final ByteArrayInputStream delegate;
+
+        InflatedServletInputStream(byte[] body) {
+            this.delegate = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public int read() {
+            return delegate.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            return delegate.read(buffer, offset, length);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            // Everything is already in memory: the data is available at once and can be read without blocking.
+            try {
+                if (!isFinished()) {
+                    readListener.onDataAvailable();
+                }
+                if (isFinished()) {
+                    readListener.onAllDataRead();
+                }
+            } catch (IOException e) {
+                readListener.onError(e);
+            }
+        }
+    }
+}
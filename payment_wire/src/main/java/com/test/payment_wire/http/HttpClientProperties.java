@@ -0,0 +1,35 @@
+package com.test.payment_wire.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.http")
+public class HttpClientProperties {
+
+    private Map<String, Endpoint> clients = new HashMap<>();
+
+    public Endpoint getEndpoint(String name) {
+        return clients.getOrDefault(name, new Endpoint());
+    }
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(30);
+        private HttpClient.Version version = HttpClient.Version.HTTP_2;
+        private boolean compression = false;
+        private DataSize compressionThreshold = DataSize.ofKilobytes(16);
+        private boolean smile = false;
+    }
+}
@@ -0,0 +1,71 @@
+package com.test.payment_wire.http;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+
+/**
+ * Guards every call to one downstream service with a semaphore {@link Bulkhead} and a {@link CircuitBreaker}.
+ * I/O errors and 5xx responses count as failures, 4xx responses do not. Rejected calls fail with
+ * {@link ResourceAccessException}, the same as an unreachable server, so the clients' existing error handling
+ * applies. The permit is held until the response headers arrive, not while a streamed body is read.
+ */
+public class ResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+
+    public ResilienceInterceptor(Bulkhead bulkhead, CircuitBreaker circuitBreaker) {
+        this.bulkhead = bulkhead;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request,
+                                        byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+
+        try {
+            bulkhead.acquirePermission();
+        } catch (BulkheadFullException e) {
+            throw new ResourceAccessException(e.getMessage());
+        }
+
+        try {
+            circuitBreaker.acquirePermission();
+        } catch (CallNotPermittedException e) {
+            bulkhead.onComplete();
+            throw new ResourceAccessException(e.getMessage());
+        }
+
+        long start = circuitBreaker.getCurrentTimestamp();
+
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            long duration = circuitBreaker.getCurrentTimestamp() - start;
+
+            if (response.getStatusCode().is5xxServerError()) {
+                circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(),
+                        new HttpServerErrorException(response.getStatusCode(), request.getURI().getPath()));
+            } else {
+                circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+            }
+
+            return response;
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), e);
+            throw e;
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+}
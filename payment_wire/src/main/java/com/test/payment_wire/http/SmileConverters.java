@@ -0,0 +1,32 @@
+package com.test.payment_wire.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Binary Jackson (Smile) support for the inter-service batch payloads, built from Boot's
+ * {@link Jackson2ObjectMapperBuilder} so it shares modules and {@code spring.jackson.*} settings with the JSON one.
+ * The services expose the converter as a bean: Boot's {@code HttpMessageConverters} then puts it right in front of
+ * Spring's default Smile converter, for Spring MVC and for clients built from Boot's {@code RestClient.Builder} alike,
+ * which keeps it behind the JSON converter, so {@code Accept: *}{@code /*} is still answered with JSON.
+ */
+public final class SmileConverters {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private SmileConverters() {
+    }
+
+    public static MappingJackson2SmileHttpMessageConverter create(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(mapper(builder));
+    }
+
+    public static ObjectMapper mapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.createXmlMapper(false)
+                .factory(new SmileFactory())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.test.payment_wire.tracing;
+
+import com.test.payment_wire.aot.BuildTimeConditionCheck;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spans are exported over OTLP when {@code management.otlp.tracing.endpoint} is set. Without a collector,
+ * {@code application.tracing.log-spans=true} writes every finished span to the log instead.
+ */
+@Configuration
+public class SpanLoggingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "application.tracing.log-spans", havingValue = "true")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+
+    @Bean
+    public static BuildTimeConditionCheck logSpansBuildTimeCheck() {
+        return new BuildTimeConditionCheck("application.tracing.log-spans", "true", "loggingSpanExporter");
+    }
+}
@@ -0,0 +1,52 @@
+package com.test.payment_wire;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WireJacksonTest {
+
+    private final ObjectMapper mapper = WireJackson.configure(new ObjectMapper());
+
+    @Test
+    void instructions_shouldRoundTripWithIsoDatesAndStatusNames() throws Exception {
+
+        List<InstructionDTO> instructions = List.of(instruction(1L), instruction(2L));
+
+        String json = mapper.writerFor(WireJackson.INSTRUCTIONS).writeValueAsString(instructions);
+
+        assertTrue(json.contains("\"nextExecutionAt\":\"2025-12-01T10:00:00+02:00\""), json);
+        assertTrue(json.contains("\"instructionStatus\":\"ACTIVE\""), json);
+        List<InstructionDTO> read = mapper.readerFor(WireJackson.INSTRUCTIONS).readValue(json);
+
+        assertEquals(2, read.size());
+        assertEquals(2L, read.get(1).id());
+        assertEquals(new BigDecimal("100.50"), read.get(1).amount());
+        assertTrue(read.get(1).nextExecutionAt().isEqual(instructions.get(1).nextExecutionAt()));
+    }
+
+    @Test
+    void instruction_shouldIgnoreUnknownProperties() throws Exception {
+
+        InstructionDTO read = mapper.readerFor(WireJackson.INSTRUCTION)
+                .readValue("{\"id\":5,\"transactions\":[],\"periodUnit\":\"MONTHS\",\"instructionStatus\":\"CANCELED\"}");
+
+        assertEquals(5L, read.id());
+        assertEquals(ChronoUnit.MONTHS, read.periodUnit());
+        assertEquals(InstructionStatus.CANCELED, read.instructionStatus());
+    }
+
+    private static InstructionDTO instruction(Long id) {
+        OffsetDateTime next = OffsetDateTime.parse("2025-12-01T10:00:00+02:00");
+        return new InstructionDTO(id, "Taras", "Ivanko", "Tarasovich", "1111111118", "1234567812345678",
+                "UA123456789012345678901234567", "305299", "00000017", "Taras Ivanko", new BigDecimal("100.50"),
+                1, ChronoUnit.MONTHS, next.minusMonths(1), next, InstructionStatus.ACTIVE);
+    }
+}
@@ -0,0 +1,70 @@
+package com.test.payment_wire.aot;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BuildTimeConditionCheckTest {
+
+    private final MockEnvironment environment = new MockEnvironment();
+    private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+    @BeforeEach
+    void setUp() {
+        System.setProperty("spring.aot.enabled", "true");
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty("spring.aot.enabled");
+    }
+
+    @Test
+    void postProcessBeanFactory_shouldFail_WhenPropertySetButBeanLeftOutAtBuildTime() {
+
+        environment.setProperty("application.tracing.log-spans", "true");
+
+        assertThatThrownBy(() -> check("application.tracing.log-spans", "true", "loggingSpanExporter")
+                .postProcessBeanFactory(beanFactory))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("application.tracing.log-spans");
+    }
+
+    @Test
+    void postProcessBeanFactory_shouldPass_WhenBeanWasBuilt() {
+
+        environment.setProperty("application.sharding.shards[0].url", "jdbc:postgresql://shard0/payment_db");
+        beanFactory.registerBeanDefinition("shardDataSources", new RootBeanDefinition(Object.class));
+
+        assertThatCode(() -> check("application.sharding.shards[0].url", null, "shardDataSources")
+                .postProcessBeanFactory(beanFactory))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void postProcessBeanFactory_shouldPass_WhenPropertyNotSetOrNotRunningAot() {
+
+        assertThatCode(() -> check("application.tracing.log-spans", "true", "loggingSpanExporter")
+                .postProcessBeanFactory(beanFactory))
+                .doesNotThrowAnyException();
+
+        System.clearProperty("spring.aot.enabled");
+        environment.setProperty("application.tracing.log-spans", "true");
+
+        assertThatCode(() -> check("application.tracing.log-spans", "true", "loggingSpanExporter")
+                .postProcessBeanFactory(beanFactory))
+                .doesNotThrowAnyException();
+    }
+
+    private BuildTimeConditionCheck check(String property, String havingValue, String beanName) {
+        BuildTimeConditionCheck check = new BuildTimeConditionCheck(property, havingValue, beanName);
+        check.setEnvironment(environment);
+        return check;
+    }
+}
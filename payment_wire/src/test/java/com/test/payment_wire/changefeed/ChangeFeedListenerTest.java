@@ -0,0 +1,80 @@
+package com.test.payment_wire.changefeed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ChangeFeedListenerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Mock
+    private ChangeFeedSubscriber first;
+
+    @Mock
+    private ChangeFeedSubscriber second;
+
+    @Test
+    void dispatch_shouldDeliverEventToEverySubscriberEvenIfOneFails() {
+
+        ChangeFeedListener listener = new ChangeFeedListener(new ChangeFeedProperties(), objectMapper, List.of(first, second));
+        ChangeEvent expected = new ChangeEvent(ChangeType.INSTRUCTION_CREATED, 7L, 7L, "1234567890", "12345678",
+                OffsetDateTime.parse("2025-12-05T10:15:00Z"));
+
+        doThrow(new IllegalStateException("boom")).when(first).onChange(any());
+
+        listener.dispatch("""
+                {"type":"INSTRUCTION_CREATED","id":7,"instructionId":7,"payerIin":"1234567890",\
+                "recipientEdrpou":"12345678","nextExecutionAt":"2025-12-05T10:15:00Z"}""");
+
+        verify(first).onChange(expected);
+        verify(second).onChange(expected);
+    }
+
+    @Test
+    void dispatch_shouldSkipUnreadablePayload() {
+
+        ChangeFeedListener listener = new ChangeFeedListener(new ChangeFeedProperties(), objectMapper, List.of(first));
+
+        listener.dispatch("not json");
+
+        verify(first, never()).onChange(any());
+    }
+
+    @Test
+    void constructor_shouldRejectChannelThatIsNotAnIdentifier() {
+
+        ChangeFeedProperties properties = new ChangeFeedProperties();
+        properties.setChannel("payment_changes; DROP TABLE payment_instruction");
+
+        assertThatThrownBy(() -> new ChangeFeedListener(properties, objectMapper, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void isAutoStartup_shouldFollowEnabledProperty() {
+
+        ChangeFeedProperties properties = new ChangeFeedProperties();
+        ChangeFeedListener listener = new ChangeFeedListener(properties, objectMapper, List.of());
+
+        assertThat(listener.isAutoStartup()).isFalse();
+
+        properties.setEnabled(true);
+
+        assertThat(listener.isAutoStartup()).isTrue();
+    }
+}
@@ -0,0 +1,147 @@
+package com.test.payment_wire.http;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GzipRequestFilterTest {
+
+    private final GzipRequestFilter filter = new GzipRequestFilter(1_000);
+
+    @Test
+    void doFilter_shouldInflateGzipBodyAndDropEncodingHeaders() throws Exception {
+
+        String json = "[{\"payerIin\":\"1111111118\",\"amount\":100.50}]";
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/instructions/batch");
+        request.addHeader("Content-Encoding", "gzip");
+        request.setContentType("application/json");
+        request.setContent(gzip(json));
+
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        HttpServletRequest filtered = (HttpServletRequest) chain.getRequest();
+
+        assertEquals(json, new String(filtered.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+        assertNull(filtered.getHeader("Content-Encoding"));
+        assertEquals(json.length(), filtered.getContentLength());
+    }
+
+    @Test
+    void doFilter_shouldRejectBodyInflatingBeyondLimitWith413() throws Exception {
+
+        MockHttpServletRequest request = gzipRequest(gzip("1".repeat(1_001)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(413, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_shouldRejectCorruptBodyWith400() throws Exception {
+
+        MockHttpServletRequest request = gzipRequest("not gzip at all".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(400, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_shouldRejectTruncatedBodyWith400() throws Exception {
+
+        byte[] gzipped = gzip("1111111118".repeat(50));
+        MockHttpServletRequest request = gzipRequest(Arrays.copyOf(gzipped, gzipped.length / 2));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(400, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_shouldSupportAsyncReadsOfInflatedBody() throws Exception {
+
+        MockHttpServletRequest request = gzipRequest(gzip("[]"));
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        ServletInputStream in = ((HttpServletRequest) chain.getRequest()).getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicBoolean allRead = new AtomicBoolean();
+
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (in.isReady() && !in.isFinished()) {
+                    read.write(in.read());
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allRead.set(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+        });
+
+        assertTrue(allRead.get());
+        assertEquals("[]", read.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void doFilter_shouldPassPlainBodyThrough() throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/instructions/batch");
+        request.setContent("[]".getBytes(StandardCharsets.UTF_8));
+
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertSame(request, chain.getRequest());
+    }
+
+    private static MockHttpServletRequest gzipRequest(byte[] content) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/instructions/batch");
+        request.addHeader("Content-Encoding", "gzip");
+        request.setContentType("application/json");
+        request.setContent(content);
+        return request;
+    }
+
+    private static byte[] gzip(String body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+}
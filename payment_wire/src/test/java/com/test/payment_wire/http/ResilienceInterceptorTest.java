@@ -0,0 +1,116 @@
+package com.test.payment_wire.http;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResilienceInterceptorTest {
+
+    private static final byte[] BODY = new byte[0];
+
+    @Mock
+    private ClientHttpRequestExecution execution;
+
+    private final MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://pds/instructions/scheduled"));
+
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead bulkhead;
+    private ResilienceInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.of("pds", CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build());
+        bulkhead = Bulkhead.of("pds", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        interceptor = new ResilienceInterceptor(bulkhead, circuitBreaker);
+    }
+
+    @Test
+    void intercept_shouldOpenCircuitAfterServerErrors_AndFailFastWithoutCallingServer() throws IOException {
+
+        when(execution.execute(any(), any())).thenAnswer(invocation -> new MockClientHttpResponse(BODY, HttpStatus.SERVICE_UNAVAILABLE));
+
+        for (int i = 0; i < 4; i++) {
+            interceptor.intercept(request, BODY, execution);
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertThrows(ResourceAccessException.class, () -> interceptor.intercept(request, BODY, execution));
+        verify(execution, times(4)).execute(any(), any());
+        assertEquals(1, bulkhead.getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    void intercept_shouldCountIoErrorsAsFailures() throws IOException {
+
+        when(execution.execute(any(), any())).thenThrow(new ConnectException("Connection refused"));
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(ConnectException.class, () -> interceptor.intercept(request, BODY, execution));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void intercept_shouldNotCountClientErrorsAsFailures() throws IOException {
+
+        when(execution.execute(any(), any())).thenAnswer(invocation -> new MockClientHttpResponse(BODY, HttpStatus.NOT_FOUND));
+
+        for (int i = 0; i < 4; i++) {
+            interceptor.intercept(request, BODY, execution);
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(0, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    void intercept_shouldRejectCall_WhenBulkheadIsFull() throws IOException {
+
+        ClientHttpResponse ok = new MockClientHttpResponse(BODY, HttpStatus.OK);
+        when(execution.execute(any(), any())).thenReturn(ok);
+
+        bulkhead.acquirePermission();
+
+        assertThrows(ResourceAccessException.class, () -> interceptor.intercept(request, BODY, execution));
+
+        bulkhead.onComplete();
+
+        assertSame(ok, interceptor.intercept(request, BODY, execution));
+    }
+}
@@ -0,0 +1,174 @@
+package com.test.payment_wire.http;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RestClientFactoryTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private SimpleMeterRegistry meterRegistry;
+    private HttpClientProperties properties;
+    private RestClientFactory factory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/instructions", exchange -> {
+            byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/smile", exchange -> {
+            boolean smile = SmileConverters.APPLICATION_SMILE.toString().equals(exchange.getRequestHeaders().getFirst("Accept"));
+            byte[] body = smile ? Jackson2ObjectMapperBuilder.smile().build().writeValueAsBytes(List.of("1111111118")) : new byte[0];
+            exchange.getResponseHeaders().add("Content-Type", SmileConverters.APPLICATION_SMILE.toString());
+            exchange.sendResponseHeaders(smile ? 200 : 406, smile ? body.length : -1);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/echo", exchange -> {
+            boolean gzipped = "gzip".equals(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+            byte[] request = gzipped
+                    ? new GZIPInputStream(exchange.getRequestBody()).readAllBytes()
+                    : exchange.getRequestBody().readAllBytes();
+            byte[] body = (gzipped + ":" + new String(request, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+            if ("gzip".equals(exchange.getRequestHeaders().getFirst("Accept-Encoding"))) {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+                    out.write(body);
+                }
+                body = compressed.toByteArray();
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            }
+            exchange.getResponseHeaders().add("Content-Type", "text/plain");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        properties = new HttpClientProperties();
+        factory = new RestClientFactory(RestClient.builder().observationRegistry(observationRegistry), properties,
+                CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults());
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    void create_shouldTimeRequestsByUriTemplate() {
+
+        RestClient restClient = factory.create("pds");
+
+        restClient.get().uri(baseUrl + "/instructions/search/iin/{iin}", "1111111118").retrieve().body(String.class);
+        restClient.get().uri(baseUrl + "/instructions/search/iin/{iin}", "1234567899").retrieve().body(String.class);
+
+        Timer timer = meterRegistry.find("http.client.requests")
+                .tag("uri", "/instructions/search/iin/{iin}")
+                .timer();
+
+        assertNotNull(timer);
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void create_shouldReadSmileResponses() {
+
+        RestClient restClient = factory.create("pds");
+
+        List<String> body = restClient.get()
+                .uri(baseUrl + "/smile")
+                .accept(SmileConverters.APPLICATION_SMILE)
+                .retrieve()
+                .body(new ParameterizedTypeReference<>() {});
+
+        assertEquals(List.of("1111111118"), body);
+    }
+
+    @Test
+    void create_shouldGzipRequestsAboveThresholdAndInflateResponses_WhenCompressionEnabled() {
+
+        HttpClientProperties.Endpoint endpoint = new HttpClientProperties.Endpoint();
+        endpoint.setCompression(true);
+        endpoint.setCompressionThreshold(DataSize.ofBytes(1_000));
+        properties.getClients().put("pds", endpoint);
+
+        RestClient restClient = factory.create("pds");
+        String large = "1111111118".repeat(200);
+
+        assertEquals("true:" + large, restClient.post().uri(baseUrl + "/echo").body(large).retrieve().body(String.class));
+        assertEquals("false:small", restClient.post().uri(baseUrl + "/echo").body("small").retrieve().body(String.class));
+    }
+
+    @Test
+    void create_shouldNotCompress_WhenCompressionDisabled() {
+
+        RestClient restClient = factory.create("pds");
+
+        assertEquals("false:" + "1111111118".repeat(200),
+                restClient.post().uri(baseUrl + "/echo").body("1111111118".repeat(200)).retrieve().body(String.class));
+    }
+
+    @Test
+    void create_shouldApplyEndpointReadTimeout() {
+
+        HttpClientProperties.Endpoint endpoint = new HttpClientProperties.Endpoint();
+        endpoint.setReadTimeout(Duration.ofMillis(100));
+        properties.getClients().put("pds", endpoint);
+
+        RestClient restClient = factory.create("pds");
+
+        assertThrows(ResourceAccessException.class,
+                () -> restClient.get().uri(baseUrl + "/slow").retrieve().toBodilessEntity());
+    }
+}